@@ -13,9 +13,7 @@ import com.powsybl.iidm.network.Terminal;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashSet;
-import java.util.Optional;
-import java.util.Set;
+import java.util.*;
 
 /**
  * @author Baptiste Seguinot {@literal <baptiste.seguinot at rte-france.com>}
@@ -25,11 +23,18 @@ public class CountryGraph {
     private static final Logger LOGGER = LoggerFactory.getLogger(CountryGraph.class);
     private final Set<CountryBoundary> boundaries;
 
+    /*
+     Number of boundaries to cross between each pair of connected countries, computed once when
+     the graph is built. Pairs of countries which are not connected are absent from the map.
+     */
+    private final Map<Country, Map<Country, Integer>> distances = new EnumMap<>(Country.class);
+
     /**
      * Constructor based on a set of given CountryBoundary
      */
     public CountryGraph(Set<CountryBoundary> boundaries) {
         this.boundaries = boundaries;
+        computeDistances();
     }
 
     /**
@@ -53,6 +58,37 @@ public class CountryGraph {
                     LOGGER.debug("Countries are not defined in both sides of branch {}", branch.getId());
                 }
             });
+        computeDistances();
+    }
+
+    /**
+     * Computes the distances between all the countries of the graph, with a breadth-first search
+     * from each of them
+     */
+    private void computeDistances() {
+        Map<Country, Set<Country>> adjacentCountries = new EnumMap<>(Country.class);
+        boundaries.forEach(boundary -> {
+            adjacentCountries.computeIfAbsent(boundary.getCountryLeft(), country -> EnumSet.noneOf(Country.class)).add(boundary.getCountryRight());
+            adjacentCountries.computeIfAbsent(boundary.getCountryRight(), country -> EnumSet.noneOf(Country.class)).add(boundary.getCountryLeft());
+        });
+
+        for (Country origin : adjacentCountries.keySet()) {
+            Map<Country, Integer> distancesFromOrigin = new EnumMap<>(Country.class);
+            distancesFromOrigin.put(origin, 0);
+            Deque<Country> countriesToVisit = new ArrayDeque<>();
+            countriesToVisit.add(origin);
+            while (!countriesToVisit.isEmpty()) {
+                Country country = countriesToVisit.poll();
+                int distance = distancesFromOrigin.get(country);
+                for (Country adjacentCountry : adjacentCountries.get(country)) {
+                    if (!distancesFromOrigin.containsKey(adjacentCountry)) {
+                        distancesFromOrigin.put(adjacentCountry, distance + 1);
+                        countriesToVisit.add(adjacentCountry);
+                    }
+                }
+            }
+            distances.put(origin, distancesFromOrigin);
+        }
     }
 
     private Optional<Country> getTerminalCountry(Terminal terminal) {
@@ -75,13 +111,7 @@ public class CountryGraph {
         if (maxNumberOfBoundaries <= 0) {
             return false;
         }
-
-        for (CountryBoundary boundary : boundaries) {
-            if ((boundary.getCountryLeft().equals(country1) && areNeighbors(boundary.getCountryRight(), country2, maxNumberOfBoundaries - 1))
-                || (boundary.getCountryRight().equals(country1) && areNeighbors(boundary.getCountryLeft(), country2, maxNumberOfBoundaries - 1))) {
-                return true;
-            }
-        }
-        return false;
+        Integer distance = distances.getOrDefault(country1, Collections.emptyMap()).get(country2);
+        return distance != null && distance <= maxNumberOfBoundaries;
     }
 }
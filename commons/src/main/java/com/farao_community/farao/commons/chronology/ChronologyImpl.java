@@ -11,15 +11,22 @@ import org.threeten.extra.Interval;
 
 import java.time.*;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 
 /**
+ * Stored intervals are sorted by start, then by end. As they cannot overlap, their ends are then sorted too:
+ * overlap checks and selections only have to look at the neighbours of the searched instant in this order,
+ * which makes them logarithmic in the number of stored intervals.
+ *
  * @param <T> type of the objects stored in the data chronology
  * @author Sebastien Murgey {@literal <sebastien.murgey at rte-france.com>}
  */
 public final class ChronologyImpl<T> implements Chronology<T> {
-    private final Map<Interval, T> storedIntervals = new HashMap<>();
+    private static final Comparator<Interval> INTERVAL_COMPARATOR = Comparator.comparing(Interval::getStart).thenComparing(Interval::getEnd);
+
+    private final NavigableMap<Interval, T> storedIntervals = new TreeMap<>(INTERVAL_COMPARATOR);
 
     public static <T> Chronology<T> create() {
         return new ChronologyImpl<>();
@@ -29,7 +36,11 @@ public final class ChronologyImpl<T> implements Chronology<T> {
     }
 
     private void store(T data, Interval intervalToStore) {
-        if (storedIntervals.keySet().stream().anyMatch(interval -> interval.overlaps(intervalToStore))) {
+        // Among the intervals starting before the end of the new one, the last one has the latest end:
+        // if any of them overlaps the new interval, this one does
+        Interval lastIntervalStartingBefore = storedIntervals.lowerKey(Interval.of(intervalToStore.getEnd(), intervalToStore.getEnd()));
+        if (storedIntervals.containsKey(intervalToStore)
+            || lastIntervalStartingBefore != null && lastIntervalStartingBefore.overlaps(intervalToStore)) {
             throw new FaraoException("A data is already provided for some instant of the interval");
         }
         storedIntervals.put(intervalToStore, data);
@@ -70,25 +81,20 @@ public final class ChronologyImpl<T> implements Chronology<T> {
     public T selectInstant(Instant instant, ReplacementStrategy replacementStrategy) {
         switch (replacementStrategy) {
             case NO_REPLACEMENT:
-                return storedIntervals.entrySet().stream()
-                        .filter(entry -> entry.getKey().contains(instant))
-                        .map(Map.Entry::getValue)
-                        .findFirst()
-                        .orElse(null);
+                // Only the last interval starting at or before the instant may contain it
+                Map.Entry<Interval, T> containingEntry = storedIntervals.floorEntry(Interval.of(instant, Instant.MAX));
+                return containingEntry != null && containingEntry.getKey().contains(instant) ? containingEntry.getValue() : null;
             case DATA_AT_PREVIOUS_INSTANT:
-                return storedIntervals.entrySet().stream()
-                        .filter(entry -> entry.getKey().isBefore(instant))
-                        .sorted((entry1, entry2) -> entry2.getKey().getStart().compareTo(entry1.getKey().getStart()))
-                        .map(Map.Entry::getValue)
-                        .findFirst()
-                        .orElse(null);
+                // Intervals ending at or before the instant are the first ones of the map, and at most one
+                // interval starting before the instant ends after it: the one containing the instant
+                Map.Entry<Interval, T> previousEntry = storedIntervals.lowerEntry(Interval.of(instant, instant));
+                if (previousEntry != null && !previousEntry.getKey().isBefore(instant)) {
+                    previousEntry = storedIntervals.lowerEntry(previousEntry.getKey());
+                }
+                return previousEntry != null ? previousEntry.getValue() : null;
             case DATA_AT_NEXT_INSTANT:
-                return storedIntervals.entrySet().stream()
-                        .filter(entry -> entry.getKey().isAfter(instant))
-                        .sorted(Comparator.comparing(entry -> entry.getKey().getStart()))
-                        .map(Map.Entry::getValue)
-                        .findFirst()
-                        .orElse(null);
+                Map.Entry<Interval, T> nextEntry = storedIntervals.higherEntry(Interval.of(instant, Instant.MAX));
+                return nextEntry != null ? nextEntry.getValue() : null;
             default:
                 throw new AssertionError("Invalid replacement strategy");
         }
@@ -14,6 +14,10 @@ import org.threeten.extra.Interval;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.Period;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
 
 import static org.junit.Assert.*;
 
@@ -150,5 +154,70 @@ public class ChronologyImplTest {
         dataChronology.storeDataAtInstant(2, Instant.parse(instantPlus1Hour), Duration.ofDays(1));
         dataChronology.storeDataAtInstant(2, Instant.parse(instantPlus1Hour1Day));
     }
-}
 
+    @Test
+    public void testLargeChronologyAtQuarterHourResolution() {
+        Chronology<Integer> dataChronology = ChronologyImpl.create();
+        Instant start = Instant.parse("2021-01-01T00:00:00Z");
+        Duration quarterHour = Duration.ofMinutes(15);
+        int nbIntervals = 35040;
+        // Stored in reverse order, every fourth quarter-hour being left empty
+        for (int i = nbIntervals - 1; i >= 0; i--) {
+            if (i % 4 != 3) {
+                dataChronology.storeDataAtInstant(i, start.plus(quarterHour.multipliedBy(i)), quarterHour);
+            }
+        }
+
+        for (int i = 0; i < nbIntervals; i++) {
+            Instant instant = start.plus(quarterHour.multipliedBy(i)).plusSeconds(60);
+            if (i % 4 != 3) {
+                assertEquals(i, dataChronology.selectInstant(instant).intValue());
+                assertEquals(i == 0 ? -1 : i - 1 - (i % 4 == 0 ? 1 : 0), nullToMinusOne(dataChronology.selectInstant(instant, Chronology.ReplacementStrategy.DATA_AT_PREVIOUS_INSTANT)));
+                int next = i + 1 + (i % 4 == 2 ? 1 : 0);
+                assertEquals(next < nbIntervals ? next : -1, nullToMinusOne(dataChronology.selectInstant(instant, Chronology.ReplacementStrategy.DATA_AT_NEXT_INSTANT)));
+            } else {
+                assertNull(dataChronology.selectInstant(instant));
+                assertEquals(i - 1, dataChronology.selectInstant(instant, Chronology.ReplacementStrategy.DATA_AT_PREVIOUS_INSTANT).intValue());
+                assertEquals(i + 1 < nbIntervals ? i + 1 : -1, nullToMinusOne(dataChronology.selectInstant(instant, Chronology.ReplacementStrategy.DATA_AT_NEXT_INSTANT)));
+            }
+        }
+
+        Instant gapStart = start.plus(quarterHour.multipliedBy(3));
+        dataChronology.storeDataAtInstant(-1, gapStart, quarterHour);
+        assertEquals(-1, dataChronology.selectInstant(gapStart).intValue());
+        assertThrows(FaraoException.class, () -> dataChronology.storeDataAtInstant(-2, start.plus(quarterHour.multipliedBy(7)).minusSeconds(1), quarterHour));
+        assertThrows(FaraoException.class, () -> dataChronology.storeDataBetweenInstants(-2, start.plus(quarterHour.multipliedBy(1000)), start.plus(quarterHour.multipliedBy(1100))));
+    }
+
+    @Test
+    public void testSelectionIsConsistentWithIntervalComparisons() {
+        Random random = new Random(0);
+        Instant origin = Instant.parse("2021-01-01T00:00:00Z");
+        Chronology<Integer> dataChronology = ChronologyImpl.create();
+        Map<Interval, Integer> storedIntervals = new HashMap<>();
+        Instant intervalStart = origin;
+        for (int i = 0; i < 1000; i++) {
+            intervalStart = intervalStart.plusSeconds(random.nextInt(3) * 60L);
+            Interval interval = Interval.of(intervalStart, Duration.ofMinutes(1 + random.nextInt(5)));
+            dataChronology.storeDataOnInterval(i, interval);
+            storedIntervals.put(interval, i);
+            intervalStart = interval.getEnd();
+        }
+
+        for (int i = 0; i < 2000; i++) {
+            Instant instant = origin.minusSeconds(600).plusSeconds(random.nextInt(5 * 3600));
+            Integer expectedData = storedIntervals.entrySet().stream().filter(e -> e.getKey().contains(instant)).map(Map.Entry::getValue).findAny().orElse(null);
+            Integer expectedPreviousData = storedIntervals.entrySet().stream().filter(e -> e.getKey().isBefore(instant))
+                .max(Comparator.comparing(e -> e.getKey().getStart())).map(Map.Entry::getValue).orElse(null);
+            Integer expectedNextData = storedIntervals.entrySet().stream().filter(e -> e.getKey().isAfter(instant))
+                .min(Comparator.comparing(e -> e.getKey().getStart())).map(Map.Entry::getValue).orElse(null);
+            assertEquals(expectedData, dataChronology.selectInstant(instant));
+            assertEquals(expectedPreviousData, dataChronology.selectInstant(instant, Chronology.ReplacementStrategy.DATA_AT_PREVIOUS_INSTANT));
+            assertEquals(expectedNextData, dataChronology.selectInstant(instant, Chronology.ReplacementStrategy.DATA_AT_NEXT_INSTANT));
+        }
+    }
+
+    private static int nullToMinusOne(Integer data) {
+        return data == null ? -1 : data;
+    }
+}
@@ -11,6 +11,8 @@ import com.powsybl.iidm.network.Country;
 import com.powsybl.iidm.network.Network;
 import org.junit.Test;
 
+import java.util.Set;
+
 import static junit.framework.TestCase.assertFalse;
 import static junit.framework.TestCase.assertTrue;
 
@@ -46,4 +48,25 @@ public class CountryGraphTest {
         // negative max number of boundaries
         assertFalse(graph.areNeighbors(Country.FR, Country.BE, -10));
     }
+
+    @Test
+    public void testGraphFromBoundaries() {
+        CountryGraph graph = new CountryGraph(Set.of(
+            new CountryBoundary(Country.FR, Country.BE),
+            new CountryBoundary(Country.BE, Country.NL),
+            new CountryBoundary(Country.NL, Country.DE),
+            new CountryBoundary(Country.DE, Country.FR),
+            new CountryBoundary(Country.ES, Country.PT)));
+
+        assertTrue(graph.areNeighbors(Country.FR, Country.DE));
+        assertFalse(graph.areNeighbors(Country.BE, Country.DE, 1));
+        assertTrue(graph.areNeighbors(Country.BE, Country.DE, 2));
+        assertTrue(graph.areNeighbors(Country.DE, Country.BE, 2));
+        assertTrue(graph.areNeighbors(Country.PT, Country.ES, 1));
+
+        // countries which are not connected
+        assertFalse(graph.areNeighbors(Country.FR, Country.ES, 100));
+        assertFalse(graph.areNeighbors(Country.FR, Country.IT, 100));
+        assertTrue(graph.areNeighbors(Country.IT, Country.IT, 0));
+    }
 }
@@ -10,7 +10,9 @@ import com.farao_community.farao.commons.FaraoException;
 import com.farao_community.farao.data.crac_creation.creator.cse.xsd.CRACDocumentType;
 import com.farao_community.farao.data.native_crac_io_api.NativeCracImporter;
 import com.google.auto.service.AutoService;
+import com.google.common.base.Suppliers;
 import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.xml.sax.SAXException;
@@ -18,17 +20,26 @@ import org.xml.sax.SAXException;
 import javax.xml.XMLConstants;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.Source;
 import javax.xml.transform.stream.StreamSource;
 import javax.xml.validation.Schema;
 import javax.xml.validation.SchemaFactory;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
-import java.net.MalformedURLException;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
+ * Schema and JAXB context are compiled once and shared by all the imports, as they are thread-safe
+ * and by far the most expensive part of a small import. Validators and unmarshallers are not thread-safe,
+ * so they are still created for each document.
+ *
  * @author Alexandre Montigny {@literal <alexandre.montigny at rte-france.com>}
  */
 @AutoService(NativeCracImporter.class)
@@ -37,6 +48,12 @@ public class CseCracImporter implements NativeCracImporter<CseCrac> {
     private static final String CRAC_CSE_SCHEMA_FILE_LOCATION = "/com/farao_community/farao/data/crac_creation/creator/cse/xsd/crac-document_4_15.xsd";
     private static final String ETSO_CORE_SCHEMA_FILE_LOCATION = "/com/farao_community/farao/data/crac_creation/creator/cse/xsd/etso-core-cmpts.xsd";
     private static final String ETSO_CODES_SCHEMA_FILE_LOCATION = "/com/farao_community/farao/data/crac_creation/creator/cse/xsd/etso-code-lists.xsd";
+    private static final String ROOT_ELEMENT_NAME = "CRACDocument";
+    private static final int HEADER_MAX_LENGTH = 8192;
+
+    private static final Supplier<Schema> SCHEMA = Suppliers.memoize(CseCracImporter::createSchema)::get;
+    private static final Supplier<JAXBContext> JAXB_CONTEXT = Suppliers.memoize(CseCracImporter::createJaxbContext)::get;
+    private static final Supplier<XMLInputFactory> XML_INPUT_FACTORY = Suppliers.memoize(CseCracImporter::createXmlInputFactory)::get;
 
     @Override
     public String getFormat() {
@@ -47,7 +64,7 @@ public class CseCracImporter implements NativeCracImporter<CseCrac> {
     public CseCrac importNativeCrac(InputStream inputStream) {
         CRACDocumentType cracDocumentType;
         try {
-            cracDocumentType = JAXBContext.newInstance(CRACDocumentType.class)
+            cracDocumentType = JAXB_CONTEXT.get()
                     .createUnmarshaller()
                     .unmarshal(new StreamSource(inputStream), CRACDocumentType.class)
                     .getValue();
@@ -59,22 +76,25 @@ public class CseCracImporter implements NativeCracImporter<CseCrac> {
 
     @Override
     public boolean exists(String s, InputStream inputStream) {
-        Source xmlFile = new StreamSource(inputStream);
-        // The following line triggers sonar issue java:S2755 which prevents us from accessing XSD schema files
-        SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI); //NOSONAR
-
+        if (!FilenameUtils.getExtension(s).equals("xml")) {
+            return false;
+        }
+        // The root element is read from the beginning of the document before any full validation,
+        // so that documents of other formats are rejected without being parsed entirely
+        InputStream markableInputStream = inputStream.markSupported() ? inputStream : new BufferedInputStream(inputStream, HEADER_MAX_LENGTH);
         try {
-            Schema schema = schemaFactory.newSchema(new Source[]{
-                new StreamSource(Objects.requireNonNull(CseCracImporter.class.getResource(ETSO_CODES_SCHEMA_FILE_LOCATION)).toExternalForm()),
-                new StreamSource(Objects.requireNonNull(CseCracImporter.class.getResource(ETSO_CORE_SCHEMA_FILE_LOCATION)).toExternalForm()),
-                new StreamSource(Objects.requireNonNull(CseCracImporter.class.getResource(CRAC_CSE_SCHEMA_FILE_LOCATION)).toExternalForm())
-            });
+            markableInputStream.mark(HEADER_MAX_LENGTH);
+            byte[] header = new byte[HEADER_MAX_LENGTH];
+            int headerLength = IOUtils.read(markableInputStream, header);
+            markableInputStream.reset();
+            if (!hasCseCracRootElement(new ByteArrayInputStream(header, 0, headerLength))) {
+                LOGGER.debug("Document is not a CSE CRAC document: its root element is not {}", ROOT_ELEMENT_NAME);
+                return false;
+            }
 
-            schema.newValidator().validate(xmlFile);
+            SCHEMA.get().newValidator().validate(new StreamSource(markableInputStream));
             LOGGER.info("CSE CRAC document is valid");
-            return FilenameUtils.getExtension(s).equals("xml");
-        } catch (MalformedURLException e) {
-            throw new FaraoException("URL error");
+            return true;
         } catch (SAXException e) {
             LOGGER.debug("CSE CRAC document is NOT valid. Reason: {}", e.getMessage());
             return false;
@@ -82,4 +102,61 @@ public class CseCracImporter implements NativeCracImporter<CseCrac> {
             throw new UncheckedIOException(e);
         }
     }
+
+    private static boolean hasCseCracRootElement(InputStream header) {
+        XMLStreamReader xmlStreamReader = null;
+        try {
+            xmlStreamReader = XML_INPUT_FACTORY.get().createXMLStreamReader(header);
+            while (xmlStreamReader.hasNext()) {
+                if (xmlStreamReader.next() == XMLStreamReader.START_ELEMENT) {
+                    return xmlStreamReader.getLocalName().equals(ROOT_ELEMENT_NAME);
+                }
+            }
+            return false;
+        } catch (XMLStreamException e) {
+            // Not XML, or a root element which does not fit in the header
+            return false;
+        } finally {
+            closeQuietly(xmlStreamReader);
+        }
+    }
+
+    private static void closeQuietly(XMLStreamReader xmlStreamReader) {
+        if (xmlStreamReader != null) {
+            try {
+                xmlStreamReader.close();
+            } catch (XMLStreamException e) {
+                LOGGER.debug("Could not close XML stream reader: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static Schema createSchema() {
+        // The following line triggers sonar issue java:S2755 which prevents us from accessing XSD schema files
+        SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI); //NOSONAR
+        try {
+            return schemaFactory.newSchema(new Source[]{
+                new StreamSource(Objects.requireNonNull(CseCracImporter.class.getResource(ETSO_CODES_SCHEMA_FILE_LOCATION)).toExternalForm()),
+                new StreamSource(Objects.requireNonNull(CseCracImporter.class.getResource(ETSO_CORE_SCHEMA_FILE_LOCATION)).toExternalForm()),
+                new StreamSource(Objects.requireNonNull(CseCracImporter.class.getResource(CRAC_CSE_SCHEMA_FILE_LOCATION)).toExternalForm())
+            });
+        } catch (SAXException e) {
+            throw new FaraoException("CSE CRAC schema could not be compiled", e);
+        }
+    }
+
+    private static JAXBContext createJaxbContext() {
+        try {
+            return JAXBContext.newInstance(CRACDocumentType.class);
+        } catch (JAXBException e) {
+            throw new FaraoException(e);
+        }
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return xmlInputFactory;
+    }
 }
@@ -8,9 +8,12 @@ package com.farao_community.farao.data.crac_creation.creator.cse;
 
 import org.junit.Test;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 
-import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.*;
 
 /**
  * @author Alexandre Montigny {@literal <alexandre.montigny at rte-france.com>}
@@ -31,4 +34,31 @@ public class CseCracImporterTest {
         assertEquals("ruleToBeDefined", cseCrac.getCracDocument().getDocumentIdentification().getV());
     }
 
+    @Test
+    public void existsOnValidDocument() {
+        CseCracImporter importer = new CseCracImporter();
+        assertTrue(importer.exists("cse_crac_valid.xml", getClass().getResourceAsStream("/cracs/cse_crac_valid.xml")));
+        // Schema is compiled once, and reused by later detections
+        assertTrue(new CseCracImporter().exists("cse_crac_valid.xml", new BufferedInputStream(getClass().getResourceAsStream("/cracs/cse_crac_valid.xml"))));
+    }
+
+    @Test
+    public void existsWithWrongExtension() {
+        CseCracImporter importer = new CseCracImporter();
+        assertFalse(importer.exists("cse_crac_1.txt", getClass().getResourceAsStream("/cracs/cse_crac_1.xml")));
+    }
+
+    @Test
+    public void existsOnInvalidDocument() {
+        CseCracImporter importer = new CseCracImporter();
+        assertFalse(importer.exists("cse_crac_1.xml", getClass().getResourceAsStream("/cracs/cse_crac_1.xml")));
+    }
+
+    @Test
+    public void existsOnOtherDocuments() {
+        CseCracImporter importer = new CseCracImporter();
+        assertFalse(importer.exists("crac.xml", new ByteArrayInputStream("{\"id\" : \"cracId\"}".getBytes(StandardCharsets.UTF_8))));
+        assertFalse(importer.exists("crac.xml", new ByteArrayInputStream("<?xml version=\"1.0\"?><GSKDocument/>".getBytes(StandardCharsets.UTF_8))));
+        assertFalse(importer.exists("crac.xml", new ByteArrayInputStream("<CRACDocument DtdVersion=\"4\"></CRACDocument>".getBytes(StandardCharsets.UTF_8))));
+    }
 }
@@ -11,8 +11,11 @@ import com.farao_community.farao.commons.FaraoException;
 import com.farao_community.farao.data.crac_api.Crac;
 import com.google.common.base.Suppliers;
 import com.powsybl.commons.util.ServiceLoaderCache;
+import org.apache.commons.io.IOUtils;
 
 import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.function.Supplier;
@@ -28,49 +31,47 @@ public final class CracImporters {
     private CracImporters() {
     }
 
+    /**
+     * The CRAC file is read once in memory: format detection and import then read the same buffer
+     */
     public static Crac importCrac(Path cracPath) {
-        try (InputStream is = new FileInputStream(cracPath.toFile())) {
-            return importCrac(cracPath.getFileName().toString(), is);
-        } catch (FileNotFoundException e) {
+        try {
+            return importCrac(cracPath.getFileName().toString(), Files.readAllBytes(cracPath));
+        } catch (NoSuchFileException e) {
             throw new FaraoException("File not found.");
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
     }
 
-    private static byte[] getBytesFromInputStream(InputStream inputStream) throws IOException {
-
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        org.apache.commons.io.IOUtils.copy(inputStream, baos);
-        return baos.toByteArray();
-    }
-
     public static Crac importCrac(String fileName, InputStream inputStream) {
-        try {
-            byte[] bytes = getBytesFromInputStream(inputStream);
+        return importCrac(fileName, getBytesFromInputStream(inputStream));
+    }
 
-            CracImporter importer = findImporter(fileName, new ByteArrayInputStream(bytes));
-            if (importer == null) {
-                throw new FaraoException("No importer found for this file");
-            }
-            return importer.importCrac(new ByteArrayInputStream(bytes));
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
+    private static Crac importCrac(String fileName, byte[] bytes) {
+        CracImporter importer = findImporter(fileName, bytes);
+        if (importer == null) {
+            throw new FaraoException("No importer found for this file");
         }
+        return importer.importCrac(new ByteArrayInputStream(bytes));
     }
 
     public static CracImporter findImporter(String fileName, InputStream inputStream) {
-        try {
-            byte[] bytes = getBytesFromInputStream(inputStream);
+        return findImporter(fileName, getBytesFromInputStream(inputStream));
+    }
 
-            for (CracImporter importer : CRAC_IMPORTERS.get()) {
-                ByteArrayInputStream bais = new ByteArrayInputStream(bytes);
-                if (importer.exists(fileName, bais)) {
-                    return importer;
-                }
+    private static CracImporter findImporter(String fileName, byte[] bytes) {
+        for (CracImporter importer : CRAC_IMPORTERS.get()) {
+            if (importer.exists(fileName, new ByteArrayInputStream(bytes))) {
+                return importer;
             }
-            return null;
+        }
+        return null;
+    }
 
+    private static byte[] getBytesFromInputStream(InputStream inputStream) {
+        try {
+            return IOUtils.toByteArray(inputStream);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
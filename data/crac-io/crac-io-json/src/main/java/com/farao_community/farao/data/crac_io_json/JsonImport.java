@@ -11,6 +11,10 @@ import com.farao_community.farao.data.crac_api.Crac;
 import com.farao_community.farao.data.crac_api.CracFactory;
 import com.farao_community.farao.data.crac_io_api.CracImporter;
 import com.farao_community.farao.data.crac_io_json.deserializers.CracDeserializer;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.google.auto.service.AutoService;
@@ -30,6 +34,7 @@ import static com.powsybl.commons.json.JsonUtil.createObjectMapper;
 @AutoService(CracImporter.class)
 public class JsonImport implements CracImporter {
     private static final String JSON_EXTENSION = "json";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory().disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
 
     @Override
     public Crac importCrac(InputStream inputStream, @Nonnull CracFactory cracFactory) {
@@ -51,10 +56,23 @@ public class JsonImport implements CracImporter {
 
     @Override
     public boolean exists(String fileName, InputStream inputStream) {
-        return validCracFile(fileName);
+        return validCracFile(fileName) && startsWithJsonObject(inputStream);
     }
 
     private boolean validCracFile(String fileName) {
         return FilenameUtils.getExtension(fileName).equals(JSON_EXTENSION);
     }
+
+    /**
+     * Only the first token of the document is read: a JSON CRAC is a JSON object
+     */
+    private boolean startsWithJsonObject(InputStream inputStream) {
+        try (JsonParser parser = JSON_FACTORY.createParser(inputStream)) {
+            return parser.nextToken() == JsonToken.START_OBJECT;
+        } catch (JsonParseException e) {
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -21,6 +21,8 @@ import com.farao_community.farao.data.crac_impl.OnFlowConstraintImpl;
 import com.farao_community.farao.data.crac_impl.PstSetpointImpl;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 import static junit.framework.TestCase.assertEquals;
@@ -217,4 +219,14 @@ public class CracImportExportTest {
         assertEquals(Instant.PREVENTIVE, onFlowConstraint2.getInstant());
         assertSame(importedCrac.getCnec("cnec3prevIdBis"), onFlowConstraint2.getFlowCnec());
     }
+
+    @Test
+    public void testExists() {
+        JsonImport jsonImport = new JsonImport();
+        assertTrue(jsonImport.exists("crac.json", new ByteArrayInputStream(" \n{\"id\" : \"cracId\"}".getBytes(StandardCharsets.UTF_8))));
+        assertFalse(jsonImport.exists("crac.xml", new ByteArrayInputStream("{\"id\" : \"cracId\"}".getBytes(StandardCharsets.UTF_8))));
+        assertFalse(jsonImport.exists("crac.json", new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8))));
+        assertFalse(jsonImport.exists("crac.json", new ByteArrayInputStream(new byte[0])));
+        assertFalse(jsonImport.exists("crac.json", getClass().getResourceAsStream("/notAJson.xml")));
+    }
 }
@@ -25,7 +25,7 @@ public abstract class AbstractBranchCnec<T extends BranchCnec<T>> extends Abstra
 
     protected Set<BranchThreshold> thresholds;
     protected final Double[] nominalVoltages = new Double[2];
-    protected BranchBoundsCache bounds = new BranchBoundsCache();
+    protected final BranchBoundsCache bounds = new BranchBoundsCache();
 
     AbstractBranchCnec(String id,
                         String name,
@@ -46,8 +46,11 @@ public abstract class AbstractBranchCnec<T extends BranchCnec<T>> extends Abstra
 
     @Override
     public double computeMargin(double actualValue, Side side, Unit unit) {
-        double marginOnLowerBound = actualValue - getLowerBound(side, unit).orElse(Double.NEGATIVE_INFINITY);
-        double marginOnUpperBound = getUpperBound(side, unit).orElse(Double.POSITIVE_INFINITY) - actualValue;
+        // bounds are read directly from the cache, as computeMargin is called many times during the optimisation
+        double lowerBound = bounds.getLowerBound(side, unit);
+        double upperBound = bounds.getUpperBound(side, unit);
+        double marginOnLowerBound = Double.isNaN(lowerBound) ? Double.POSITIVE_INFINITY : actualValue - lowerBound;
+        double marginOnUpperBound = Double.isNaN(upperBound) ? Double.POSITIVE_INFINITY : upperBound - actualValue;
         return Math.min(marginOnLowerBound, marginOnUpperBound);
     }
 
@@ -12,8 +12,6 @@ import com.farao_community.farao.commons.Unit;
 import com.farao_community.farao.data.crac_api.cnec.Side;
 
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
 
 import static java.lang.String.format;
 
@@ -21,79 +19,95 @@ import static java.lang.String.format;
  * Object that stores bounds of a BranchCnec. It enables to avoid computing these values several times when they are
  * not supposed to change along the optimization.
  *
+ * Bounds are stored in a flat primitive array, indexed by bound, unit and side, in which NaN stands for an unbounded
+ * side. They are meant to be set once, when the BranchCnec is built, so that they can then be read concurrently,
+ * without any boxing nor allocation.
+ *
  * @author Joris Mancini {@literal <joris.mancini at rte-france.com>}
  */
 public class BranchBoundsCache {
 
-    private enum Bound {
-        LOWER,
-        UPPER
-    }
+    private static final int LOWER = 0;
+    private static final int UPPER = 1;
+    private static final int NUMBER_OF_BOUNDS = 8;
 
-    private List<Boolean> boundsComputed = Arrays.asList(false, false, false, false, false, false);
-    private List<Double> boundValues = Arrays.asList(Double.NaN, Double.NaN, Double.NaN, Double.NaN, Double.NaN, Double.NaN);
+    private final double[] boundValues = new double[NUMBER_OF_BOUNDS];
+    private final boolean[] boundsComputed = new boolean[NUMBER_OF_BOUNDS];
+
+    public BranchBoundsCache() {
+        Arrays.fill(boundValues, Double.NaN);
+    }
 
-    private static int getIndex(Side side, Unit unit, Bound bound) {
+    private static int getIndex(Side side, Unit unit, int bound) {
+        int unitIndex;
         if (unit.equals(Unit.AMPERE)) {
-            if (side.equals(Side.LEFT)) {
-                if (bound.equals(Bound.LOWER)) {
-                    return 0;
-                } else {
-                    return 3;
-                }
-            } else if (side.equals(Side.RIGHT)) {
-                if (bound.equals(Bound.LOWER)) {
-                    return 1;
-                } else {
-                    return 4;
-                }
-            } else {
-                throw new UnsupportedOperationException(format("Side %s not supported", side));
-            }
+            unitIndex = 0;
         } else if (unit.equals(Unit.MEGAWATT)) {
-            if (bound.equals(Bound.LOWER)) {
-                return 2;
-            } else {
-                return 5;
-            }
+            unitIndex = 1;
         } else {
             throw new UnsupportedOperationException(format("Unit %s not supported", unit));
         }
+        int sideIndex;
+        if (side.equals(Side.LEFT)) {
+            sideIndex = 0;
+        } else if (side.equals(Side.RIGHT)) {
+            sideIndex = 1;
+        } else {
+            throw new UnsupportedOperationException(format("Side %s not supported", side));
+        }
+        return 4 * bound + 2 * unitIndex + sideIndex;
     }
 
     public boolean isLowerBoundComputed(Side side, Unit unit) {
-        return boundsComputed.get(getIndex(side, unit, Bound.LOWER));
+        return boundsComputed[getIndex(side, unit, LOWER)];
     }
 
     public boolean isUpperBoundComputed(Side side, Unit unit) {
-        return boundsComputed.get(getIndex(side, unit, Bound.UPPER));
+        return boundsComputed[getIndex(side, unit, UPPER)];
     }
 
-    public Double getLowerBound(Side side, Unit unit) {
-        if (!isLowerBoundComputed(side, unit)) {
-            throw new FaraoException("Trying to access not computed bound");
-        }
-        return boundValues.get(getIndex(side, unit, Bound.LOWER));
+    /**
+     * Get the lower bound of the BranchCnec, or NaN if it is not bounded by any minimum
+     */
+    public double getLowerBound(Side side, Unit unit) {
+        return getBound(getIndex(side, unit, LOWER));
     }
 
-    public void setLowerBound(Double lowerBound, Side side, Unit unit) {
-        boundValues.set(getIndex(side, unit, Bound.LOWER), lowerBound);
-        boundsComputed.set(getIndex(side, unit, Bound.LOWER), true);
+    public void setLowerBound(double lowerBound, Side side, Unit unit) {
+        setBound(getIndex(side, unit, LOWER), lowerBound);
     }
 
-    public Double getUpperBound(Side side, Unit unit) {
-        if (!isUpperBoundComputed(side, unit)) {
-            throw new FaraoException("Trying to access not computed bound");
-        }
-        return boundValues.get(getIndex(side, unit, Bound.UPPER));
+    /**
+     * Get the upper bound of the BranchCnec, or NaN if it is not bounded by any maximum
+     */
+    public double getUpperBound(Side side, Unit unit) {
+        return getBound(getIndex(side, unit, UPPER));
     }
 
-    public void setUpperBound(Double upperBound, Side side, Unit unit) {
-        boundValues.set(getIndex(side, unit, Bound.UPPER), upperBound);
-        boundsComputed.set(getIndex(side, unit, Bound.UPPER), true);
+    public void setUpperBound(double upperBound, Side side, Unit unit) {
+        setBound(getIndex(side, unit, UPPER), upperBound);
     }
 
+    /**
+     * @deprecated
+     * bounds are now set once, when the BranchCnec is built. After this reset, reading a bound fails until it is
+     * set again: use {@link FlowCnecImpl#resetBounds()} to recompute them instead
+     */
+    @Deprecated
     public void resetBounds() {
-        Collections.fill(boundsComputed, false);
+        Arrays.fill(boundValues, Double.NaN);
+        Arrays.fill(boundsComputed, false);
+    }
+
+    private double getBound(int index) {
+        if (!boundsComputed[index]) {
+            throw new FaraoException("Trying to access not computed bound");
+        }
+        return boundValues[index];
+    }
+
+    private void setBound(int index, double value) {
+        boundValues[index] = value;
+        boundsComputed[index] = true;
     }
 }
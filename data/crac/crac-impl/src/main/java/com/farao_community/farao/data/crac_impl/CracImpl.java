@@ -20,7 +20,10 @@ import com.farao_community.farao.data.crac_api.usage_rule.OnState;
 import com.farao_community.farao.data.crac_api.usage_rule.UsageMethod;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static java.lang.String.format;
 
@@ -41,6 +44,45 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
     private final Map<String, HvdcRangeAction> hvdcRangeActions = new HashMap<>();
     private final Map<String, NetworkAction> networkActions = new HashMap<>();
 
+    /*
+     FlowCnecs are indexed by their state, and kept in sync when they are added to or removed from the Crac.
+     */
+    private final Map<State, Set<FlowCnec>> flowCnecsPerState = new HashMap<>();
+
+    /*
+     Remedial actions are indexed by state and by usage method. As the usage method of a remedial action can depend
+     on the instant of the state only, the index of a state is computed on its first query, and the whole index is
+     invalidated whenever a remedial action is added to or removed from the Crac. It can be filled concurrently by
+     several threads reading the Crac.
+     */
+    private final Map<State, UsageMethodIndex<RangeAction>> rangeActionsPerState = new ConcurrentHashMap<>();
+    private final Map<State, UsageMethodIndex<NetworkAction>> networkActionsPerState = new ConcurrentHashMap<>();
+
+    /**
+     * Remedial actions of one state, indexed by usage method. The union of the remedial actions of several
+     * usage methods is also cached, on its first query, for each set of usage methods.
+     */
+    private static final class UsageMethodIndex<T extends RemedialAction<?>> {
+        private final Map<UsageMethod, Set<T>> remedialActionsPerUsageMethod = new EnumMap<>(UsageMethod.class);
+        private final Map<Set<UsageMethod>, Set<T>> remedialActionsPerUsageMethods = new ConcurrentHashMap<>();
+
+        private UsageMethodIndex(Stream<? extends T> remedialActions, State state) {
+            remedialActions.forEach(remedialAction -> remedialActionsPerUsageMethod.computeIfAbsent(remedialAction.getUsageMethod(state), usageMethod -> new HashSet<>()).add(remedialAction));
+        }
+
+        private Set<T> getRemedialActions(UsageMethod... usageMethods) {
+            if (usageMethods.length == 1) {
+                return Collections.unmodifiableSet(remedialActionsPerUsageMethod.getOrDefault(usageMethods[0], Collections.emptySet()));
+            }
+            Set<UsageMethod> usageMethodsSet = usageMethods.length == 0 ? EnumSet.noneOf(UsageMethod.class) : EnumSet.of(usageMethods[0], usageMethods);
+            return remedialActionsPerUsageMethods.computeIfAbsent(usageMethodsSet, usageMethodsKey -> {
+                Set<T> remedialActionsSet = new HashSet<>();
+                usageMethodsKey.forEach(usageMethod -> remedialActionsSet.addAll(remedialActionsPerUsageMethod.getOrDefault(usageMethod, Collections.emptySet())));
+                return Collections.unmodifiableSet(remedialActionsSet);
+            });
+        }
+    }
+
     public CracImpl(String id, String name) {
         super(id, name);
     }
@@ -324,9 +366,7 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
 
     @Override
     public Set<FlowCnec> getFlowCnecs(State state) {
-        return flowCnecs.values().stream()
-                .filter(cnec -> cnec.getState().equals(state))
-                .collect(Collectors.toSet());
+        return Collections.unmodifiableSet(flowCnecsPerState.getOrDefault(state, Collections.emptySet()));
     }
 
     @Override
@@ -344,12 +384,27 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
         String neId = flowCnecToRemove.getNetworkElement().getId();
         String stateId = flowCnecToRemove.getState().getId();
         flowCnecs.remove(flowCnecId);
+        removeFromStateIndex(flowCnecToRemove);
         safeRemoveNetworkElements(Collections.singleton(neId));
         safeRemoveStates(Collections.singleton(stateId));
     }
 
     void addFlowCnec(FlowCnec flowCnec) {
-        flowCnecs.put(flowCnec.getId(), flowCnec);
+        FlowCnec replacedFlowCnec = flowCnecs.put(flowCnec.getId(), flowCnec);
+        if (replacedFlowCnec != null) {
+            removeFromStateIndex(replacedFlowCnec);
+        }
+        flowCnecsPerState.computeIfAbsent(flowCnec.getState(), state -> new HashSet<>()).add(flowCnec);
+    }
+
+    private void removeFromStateIndex(FlowCnec flowCnec) {
+        Set<FlowCnec> stateFlowCnecs = flowCnecsPerState.get(flowCnec.getState());
+        if (stateFlowCnecs != null) {
+            stateFlowCnecs.remove(flowCnec);
+            if (stateFlowCnecs.isEmpty()) {
+                flowCnecsPerState.remove(flowCnec.getState());
+            }
+        }
     }
 
     // endregion
@@ -435,15 +490,7 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
     @Override
     public Set<RangeAction> getRangeActions(State state, UsageMethod... usageMethods) {
         // the only implementations of RangeAction are PstRangeAction and HvdcRangeAction
-        Set<RangeAction> pstRangeActionsSet = pstRangeActions.values().stream()
-                .filter(rangeAction -> Arrays.stream(usageMethods).anyMatch(usageMethod -> rangeAction.getUsageMethod(state).equals(usageMethod)))
-                .collect(Collectors.toSet());
-        Set<RangeAction> hvdcRangeActionsSet = hvdcRangeActions.values().stream()
-                .filter(rangeAction -> Arrays.stream(usageMethods).anyMatch(usageMethod -> rangeAction.getUsageMethod(state).equals(usageMethod)))
-                .collect(Collectors.toSet());
-        Set<RangeAction> rangeActionsSet = new HashSet<>(pstRangeActionsSet);
-        rangeActionsSet.addAll(hvdcRangeActionsSet);
-        return rangeActionsSet;
+        return getIndexedRemedialActions(rangeActionsPerState, state, () -> Stream.concat(pstRangeActions.values().stream(), hvdcRangeActions.values().stream()), usageMethods);
     }
 
     @Override
@@ -476,6 +523,7 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
         Set<String> associatedStatesIds = getAssociatedStates(rangeActionToRemove).stream().map(State::getId).collect(Collectors.toSet());
 
         pstRangeActions.remove(id);
+        rangeActionsPerState.clear();
 
         safeRemoveNetworkElements(associatedNetworkElementsIds);
         safeRemoveStates(associatedStatesIds);
@@ -492,6 +540,7 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
         Set<String> associatedStatesIds = getAssociatedStates(rangeActionToRemove).stream().map(State::getId).collect(Collectors.toSet());
 
         hvdcRangeActions.remove(id);
+        rangeActionsPerState.clear();
 
         safeRemoveNetworkElements(associatedNetworkElementsIds);
         safeRemoveStates(associatedStatesIds);
@@ -500,10 +549,12 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
 
     void addPstRangeAction(PstRangeAction pstRangeAction) {
         pstRangeActions.put(pstRangeAction.getId(), pstRangeAction);
+        rangeActionsPerState.clear();
     }
 
     void addHvdcRangeAction(HvdcRangeAction hvdcRangeAction) {
         hvdcRangeActions.put(hvdcRangeAction.getId(), hvdcRangeAction);
+        rangeActionsPerState.clear();
     }
 
     // endregion
@@ -518,9 +569,7 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
 
     @Override
     public Set<NetworkAction> getNetworkActions(State state, UsageMethod... usageMethods) {
-        return networkActions.values().stream()
-            .filter(networkAction -> Arrays.stream(usageMethods).anyMatch(usageMethod -> networkAction.getUsageMethod(state).equals(usageMethod)))
-            .collect(Collectors.toSet());
+        return getIndexedRemedialActions(networkActionsPerState, state, () -> networkActions.values().stream(), usageMethods);
     }
 
     @Override
@@ -544,6 +593,7 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
         Set<String> associatedStatesIds = getAssociatedStates(networkActionToRemove).stream().map(State::getId).collect(Collectors.toSet());
 
         networkActions.remove(id);
+        networkActionsPerState.clear();
 
         safeRemoveNetworkElements(associatedNetworkElementsIds);
         safeRemoveStates(associatedStatesIds);
@@ -551,6 +601,26 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
 
     void addNetworkAction(NetworkAction networkAction) {
         networkActions.put(networkAction.getId(), networkAction);
+        networkActionsPerState.clear();
+    }
+
+    // endregion
+    // ========================================
+    // region Remedial actions indexation
+    // ========================================
+
+    /**
+     * Get the remedial actions of a state which have one of the given usage methods, from the index of the
+     * remedial actions per state. The index of the state is built if it does not exist yet.
+     * The returned set is an unmodifiable view of the index.
+     */
+    private static <T extends RemedialAction<?>> Set<T> getIndexedRemedialActions(Map<State, UsageMethodIndex<T>> index,
+                                                                                  State state,
+                                                                                  Supplier<Stream<? extends T>> remedialActions,
+                                                                                  UsageMethod... usageMethods) {
+        UsageMethodIndex<T> stateIndex = Objects.isNull(state) ? new UsageMethodIndex<>(remedialActions.get(), null)
+            : index.computeIfAbsent(state, s -> new UsageMethodIndex<>(remedialActions.get(), s));
+        return stateIndex.getRemedialActions(usageMethods);
     }
     // endregion
 }
@@ -47,6 +47,7 @@ public class FlowCnecImpl extends AbstractBranchCnec<FlowCnec> implements FlowCn
         super(id, name, networkElement, operator, state, optimized, monitored, thresholds, frm, nominalVLeft, nominalVRight);
         this.iMax[0] = iMaxLeft;
         this.iMax[1] = iMaxRight;
+        computeBounds();
     }
 
     @Override
@@ -58,34 +59,80 @@ public class FlowCnecImpl extends AbstractBranchCnec<FlowCnec> implements FlowCn
         }
     }
 
+    /**
+     * Bounds only depend on the thresholds, the nominal voltages and the iMax of the FlowCnec, which do not change
+     * once it is built: they are all computed here, once, so that they can then be read without any computation.
+     * Bounds in AMPERE cannot be computed when nominal voltages are missing, they are then left uncomputed.
+     */
+    private void computeBounds() {
+        Set<BranchThreshold> minThresholds = thresholds.stream().filter(Threshold::limitsByMin).collect(Collectors.toSet());
+        Set<BranchThreshold> maxThresholds = thresholds.stream().filter(Threshold::limitsByMax).collect(Collectors.toSet());
+        boolean nominalVoltagesDefined = getNominalVoltage(LEFT) != null && getNominalVoltage(RIGHT) != null;
+        for (Side side : Side.values()) {
+            bounds.setLowerBound(computeLowerBound(minThresholds, side, Unit.MEGAWATT), side, Unit.MEGAWATT);
+            bounds.setUpperBound(computeUpperBound(maxThresholds, side, Unit.MEGAWATT), side, Unit.MEGAWATT);
+            if (nominalVoltagesDefined || minThresholds.isEmpty()) {
+                bounds.setLowerBound(computeLowerBound(minThresholds, side, Unit.AMPERE), side, Unit.AMPERE);
+            }
+            if (nominalVoltagesDefined || maxThresholds.isEmpty()) {
+                bounds.setUpperBound(computeUpperBound(maxThresholds, side, Unit.AMPERE), side, Unit.AMPERE);
+            }
+        }
+    }
+
+    /**
+     * @deprecated
+     * bounds are computed when the FlowCnec is built and do not need to be reset. This method recomputes them all,
+     * it must not be called while the FlowCnec is read by other threads
+     */
+    @Deprecated
+    public void resetBounds() {
+        bounds.resetBounds();
+        computeBounds();
+    }
+
+    private double computeLowerBound(Set<BranchThreshold> limitingThresholds, Side side, Unit requestedUnit) {
+        if (limitingThresholds.isEmpty()) {
+            return Double.NaN;
+        }
+        double lowerBound = Double.NEGATIVE_INFINITY;
+        for (BranchThreshold threshold : limitingThresholds) {
+            double currentBound = getRawBound(threshold, threshold.min().orElseThrow());
+            currentBound = changeValueUnit(currentBound, threshold.getUnit(), requestedUnit, threshold.getSide());
+            currentBound = changeValueSide(currentBound, threshold, side, requestedUnit);
+            currentBound += changeValueUnit(frm, Unit.MEGAWATT, requestedUnit, side);
+            if (currentBound > lowerBound) {
+                lowerBound = currentBound;
+            }
+        }
+        return lowerBound;
+    }
+
+    private double computeUpperBound(Set<BranchThreshold> limitingThresholds, Side side, Unit requestedUnit) {
+        if (limitingThresholds.isEmpty()) {
+            return Double.NaN;
+        }
+        double upperBound = Double.POSITIVE_INFINITY;
+        for (BranchThreshold threshold : limitingThresholds) {
+            double currentBound = getRawBound(threshold, threshold.max().orElseThrow());
+            currentBound = changeValueUnit(currentBound, threshold.getUnit(), requestedUnit, threshold.getSide());
+            currentBound = changeValueSide(currentBound, threshold, side, requestedUnit);
+            currentBound -= changeValueUnit(frm, Unit.MEGAWATT, requestedUnit, side);
+            if (currentBound < upperBound) {
+                upperBound = currentBound;
+            }
+        }
+        return upperBound;
+    }
+
     @Override
     public Optional<Double> getLowerBound(Side side, Unit requestedUnit) {
 
         if (!requestedUnit.equals(Unit.AMPERE) && !requestedUnit.equals(Unit.MEGAWATT)) {
             throw new FaraoException("FlowCnec lowerBound can only be requested in AMPERE or MEGAWATT");
         }
-        if (!bounds.isLowerBoundComputed(side, requestedUnit)) {
-            Set<BranchThreshold> limitingThresholds = thresholds.stream()
-                    .filter(Threshold::limitsByMin)
-                    .collect(Collectors.toSet());
-
-            if (!limitingThresholds.isEmpty()) {
-                double lowerBound = Double.NEGATIVE_INFINITY;
-                for (BranchThreshold threshold : limitingThresholds) {
-                    double currentBound = getRawBound(threshold, threshold.min().orElseThrow());
-                    currentBound = changeValueUnit(currentBound, threshold.getUnit(), requestedUnit, threshold.getSide());
-                    currentBound = changeValueSide(currentBound, threshold, side, requestedUnit);
-                    currentBound += changeValueUnit(frm, Unit.MEGAWATT, requestedUnit, side);
-                    if (currentBound > lowerBound) {
-                        lowerBound = currentBound;
-                    }
-                }
-                bounds.setLowerBound(lowerBound, side, requestedUnit);
-            } else {
-                bounds.setLowerBound(null, side, requestedUnit);
-            }
-        }
-        return Optional.ofNullable(bounds.getLowerBound(side, requestedUnit));
+        double lowerBound = bounds.getLowerBound(side, requestedUnit);
+        return Double.isNaN(lowerBound) ? Optional.empty() : Optional.of(lowerBound);
     }
 
     @Override
@@ -96,27 +143,8 @@ public class FlowCnecImpl extends AbstractBranchCnec<FlowCnec> implements FlowCn
         }
 
         requestedUnit.checkPhysicalParameter(getPhysicalParameter());
-        if (!bounds.isUpperBoundComputed(side, requestedUnit)) {
-            Set<BranchThreshold> limitingThresholds = thresholds.stream()
-                    .filter(Threshold::limitsByMax)
-                    .collect(Collectors.toSet());
-            if (!limitingThresholds.isEmpty()) {
-                double upperBound = Double.POSITIVE_INFINITY;
-                for (BranchThreshold threshold : limitingThresholds) {
-                    double currentBound = getRawBound(threshold, threshold.max().orElseThrow());
-                    currentBound = changeValueUnit(currentBound, threshold.getUnit(), requestedUnit, threshold.getSide());
-                    currentBound = changeValueSide(currentBound, threshold, side, requestedUnit);
-                    currentBound -= changeValueUnit(frm, Unit.MEGAWATT, requestedUnit, side);
-                    if (currentBound < upperBound) {
-                        upperBound = currentBound;
-                    }
-                }
-                bounds.setUpperBound(upperBound, side, requestedUnit);
-            } else {
-                bounds.setUpperBound(null, side, requestedUnit);
-            }
-        }
-        return Optional.ofNullable(bounds.getUpperBound(side, requestedUnit));
+        double upperBound = bounds.getUpperBound(side, requestedUnit);
+        return Double.isNaN(upperBound) ? Optional.empty() : Optional.of(upperBound);
     }
 
     private double getRawBound(BranchThreshold threshold, double thresholdValue) {
@@ -14,11 +14,8 @@ import com.farao_community.farao.data.crac_api.range_action.RangeType;
 import com.farao_community.farao.data.crac_api.range_action.TapRange;
 import com.farao_community.farao.data.crac_api.usage_rule.UsageRule;
 import com.powsybl.iidm.network.*;
-import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.*;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Elementary PST range remedial action.
@@ -33,8 +30,30 @@ public final class PstRangeActionImpl extends AbstractRangeAction implements Pst
     private List<TapRange> ranges;
     private int initialTapPosition;
     private Map<Integer, Double> tapToAngleConversionMap;
-    private int lowTapPosition;
-    private int highTapPosition;
+
+    /*
+     Lookup tables built once from the tap to angle conversion map, which is not expected to change afterwards:
+     taps in increasing order with their angles. When angles are strictly monotonic with taps, the same taps are
+     also sorted by increasing angle, so that the closest tap of an angle is found by binary search.
+     */
+    private int[] taps;
+    private double[] angles;
+    private double minAngle;
+    private double maxAngle;
+    private boolean strictlyMonotonicAngles;
+    private int[] tapsSortedByAngle;
+    private double[] sortedAngles;
+
+    /*
+     Tap bounds of the ranges which do not depend on the previous instant, including the physical limits of
+     the PST, and bounds of the ranges relative to the previous instant, which still have to be shifted by the
+     tap of the previous instant.
+     */
+    private int minTap;
+    private int maxTap;
+    private boolean hasRangeRelativeToPreviousInstant;
+    private int relativeToPreviousInstantMinTap;
+    private int relativeToPreviousInstantMaxTap;
 
     PstRangeActionImpl(String id, String name, String operator, List<UsageRule> usageRules, List<TapRange> ranges,
                               NetworkElement networkElement, String groupId, int initialTap, Map<Integer, Double> tapToAngleConversionMap) {
@@ -43,8 +62,53 @@ public final class PstRangeActionImpl extends AbstractRangeAction implements Pst
         this.ranges = ranges;
         this.initialTapPosition = initialTap;
         this.tapToAngleConversionMap = tapToAngleConversionMap;
-        this.lowTapPosition = Collections.min(tapToAngleConversionMap.keySet());
-        this.highTapPosition = Collections.max(tapToAngleConversionMap.keySet());
+        buildLookupTables();
+        computeTapBounds();
+    }
+
+    private void buildLookupTables() {
+        taps = tapToAngleConversionMap.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+        angles = new double[taps.length];
+        for (int i = 0; i < taps.length; i++) {
+            angles[i] = tapToAngleConversionMap.get(taps[i]);
+        }
+
+        boolean increasingAngles = true;
+        boolean decreasingAngles = true;
+        for (int i = 1; i < taps.length; i++) {
+            increasingAngles &= angles[i] > angles[i - 1];
+            decreasingAngles &= angles[i] < angles[i - 1];
+        }
+        strictlyMonotonicAngles = increasingAngles || decreasingAngles;
+        minAngle = Arrays.stream(angles).min().orElseThrow();
+        maxAngle = Arrays.stream(angles).max().orElseThrow();
+
+        if (strictlyMonotonicAngles) {
+            tapsSortedByAngle = new int[taps.length];
+            sortedAngles = new double[taps.length];
+            for (int i = 0; i < taps.length; i++) {
+                int j = increasingAngles ? i : taps.length - 1 - i;
+                tapsSortedByAngle[i] = taps[j];
+                sortedAngles[i] = angles[j];
+            }
+        }
+    }
+
+    private void computeTapBounds() {
+        minTap = taps[0];
+        maxTap = taps[taps.length - 1];
+        relativeToPreviousInstantMinTap = Integer.MIN_VALUE;
+        relativeToPreviousInstantMaxTap = Integer.MAX_VALUE;
+        for (TapRange range : ranges) {
+            if (range.getRangeType() == RangeType.RELATIVE_TO_PREVIOUS_INSTANT) {
+                hasRangeRelativeToPreviousInstant = true;
+                relativeToPreviousInstantMinTap = Math.max(relativeToPreviousInstantMinTap, range.getMinTap());
+                relativeToPreviousInstantMaxTap = Math.min(relativeToPreviousInstantMaxTap, range.getMaxTap());
+            } else {
+                minTap = Math.max(minTap, convertTapToAbsoluteCenteredOnZero(range.getMinTap(), range.getRangeType()));
+                maxTap = Math.min(maxTap, convertTapToAbsoluteCenteredOnZero(range.getMaxTap(), range.getRangeType()));
+            }
+        }
     }
 
     @Override
@@ -77,8 +141,8 @@ public final class PstRangeActionImpl extends AbstractRangeAction implements Pst
      */
     @Override
     public double getMinAdmissibleSetpoint(double previousInstantSetPoint) {
-        Pair<Integer, Integer> minAndMaxTaps = getMinAndMaxTaps(previousInstantSetPoint);
-        return Math.min(convertTapToAngle(minAndMaxTaps.getLeft()), convertTapToAngle(minAndMaxTaps.getRight()));
+        int previousInstantTap = convertAngleToTap(previousInstantSetPoint);
+        return Math.min(convertTapToAngle(getMinAdmissibleTap(previousInstantTap)), convertTapToAngle(getMaxAdmissibleTap(previousInstantTap)));
     }
 
     /**
@@ -86,8 +150,8 @@ public final class PstRangeActionImpl extends AbstractRangeAction implements Pst
      */
     @Override
     public double getMaxAdmissibleSetpoint(double previousInstantSetPoint) {
-        Pair<Integer, Integer> minAndMaxTaps = getMinAndMaxTaps(previousInstantSetPoint);
-        return Math.max(convertTapToAngle(minAndMaxTaps.getLeft()), convertTapToAngle(minAndMaxTaps.getRight()));
+        int previousInstantTap = convertAngleToTap(previousInstantSetPoint);
+        return Math.max(convertTapToAngle(getMinAdmissibleTap(previousInstantTap)), convertTapToAngle(getMaxAdmissibleTap(previousInstantTap)));
     }
 
     @Override
@@ -109,8 +173,9 @@ public final class PstRangeActionImpl extends AbstractRangeAction implements Pst
 
     @Override
     public double convertTapToAngle(int tap) {
-        if (tapToAngleConversionMap.containsKey(tap)) {
-            return tapToAngleConversionMap.get(tap);
+        int index = Arrays.binarySearch(taps, tap);
+        if (index >= 0) {
+            return angles[index];
         } else {
             throw new FaraoException(String.format("Pst of Range Action %s does not have a tap %d", getId(), tap));
         }
@@ -119,58 +184,65 @@ public final class PstRangeActionImpl extends AbstractRangeAction implements Pst
     @Override
     public int convertAngleToTap(double angle) {
 
-        double minAngle = Collections.min(tapToAngleConversionMap.values());
-        double maxAngle = Collections.max(tapToAngleConversionMap.values());
-
         // Modification of the range limitation control allowing the final angle to exceed of an EPSILON value the limitation.
         if (angle < minAngle && Math.abs(angle - minAngle) > EPSILON || angle > maxAngle && Math.abs(angle - maxAngle) > EPSILON) {
             throw new FaraoException(String.format("Angle value %.4f not is the range of minimum and maximum angle values [%.4f,%.4f] of the phase tap changer %s steps", angle, minAngle, maxAngle, networkElement.getId()));
         }
 
-        AtomicReference<Double> smallestAngleDifference = new AtomicReference<>(Double.MAX_VALUE);
-        AtomicInteger approximatedTapPosition = new AtomicInteger(0);
-
-        tapToAngleConversionMap.forEach((tap, alpha) -> {
-            double diff = Math.abs(alpha - angle);
-            if (diff < smallestAngleDifference.get()) {
-                smallestAngleDifference.set(diff);
-                approximatedTapPosition.set(tap);
-            }
-        });
-        return approximatedTapPosition.get();
+        return strictlyMonotonicAngles ? findClosestTapInSortedAngles(angle) : findClosestTap(angle);
     }
 
-    private Pair<Integer, Integer> getMinAndMaxTaps(double previousInstantSetPoint) {
-        int minTap = lowTapPosition;
-        int maxTap = highTapPosition;
-        int previousInstantTap = convertAngleToTap(previousInstantSetPoint);
-
-        for (TapRange range: ranges) {
-            minTap = Math.max(minTap, getRangeMinTapAsAbsoluteCenteredOnZero(range, previousInstantTap));
-            maxTap = Math.min(maxTap, getRangeMaxTapAsAbsoluteCenteredOnZero(range, previousInstantTap));
+    private int findClosestTapInSortedAngles(double angle) {
+        int index = Arrays.binarySearch(sortedAngles, angle);
+        if (index >= 0) {
+            return tapsSortedByAngle[index];
+        }
+        int insertionPoint = -index - 1;
+        if (insertionPoint == 0) {
+            return tapsSortedByAngle[0];
+        } else if (insertionPoint == sortedAngles.length) {
+            return tapsSortedByAngle[sortedAngles.length - 1];
+        }
+        double differenceBelow = angle - sortedAngles[insertionPoint - 1];
+        double differenceAbove = sortedAngles[insertionPoint] - angle;
+        if (differenceBelow < differenceAbove) {
+            return tapsSortedByAngle[insertionPoint - 1];
+        } else if (differenceAbove < differenceBelow) {
+            return tapsSortedByAngle[insertionPoint];
+        } else {
+            // as in findClosestTap, the lowest tap is kept when two taps are equally close
+            return Math.min(tapsSortedByAngle[insertionPoint - 1], tapsSortedByAngle[insertionPoint]);
         }
-
-        return Pair.of(minTap, maxTap);
     }
 
-    private int getRangeMinTapAsAbsoluteCenteredOnZero(TapRange range, int previousInstantTap) {
-        return convertTapToAbsoluteCenteredOnZero(range.getMinTap(), range.getRangeType(), previousInstantTap);
+    private int findClosestTap(double angle) {
+        double smallestAngleDifference = Double.MAX_VALUE;
+        int approximatedTapPosition = 0;
+        for (int i = 0; i < taps.length; i++) {
+            double diff = Math.abs(angles[i] - angle);
+            if (diff < smallestAngleDifference) {
+                smallestAngleDifference = diff;
+                approximatedTapPosition = taps[i];
+            }
+        }
+        return approximatedTapPosition;
+    }
 
+    private int getMinAdmissibleTap(int previousInstantTap) {
+        return hasRangeRelativeToPreviousInstant ? Math.max(minTap, previousInstantTap + relativeToPreviousInstantMinTap) : minTap;
     }
 
-    private int getRangeMaxTapAsAbsoluteCenteredOnZero(TapRange range, int previousInstantTap) {
-        return convertTapToAbsoluteCenteredOnZero(range.getMaxTap(), range.getRangeType(), previousInstantTap);
+    private int getMaxAdmissibleTap(int previousInstantTap) {
+        return hasRangeRelativeToPreviousInstant ? Math.min(maxTap, previousInstantTap + relativeToPreviousInstantMaxTap) : maxTap;
     }
 
-    private int convertTapToAbsoluteCenteredOnZero(int tap, RangeType initialRangeType, int prePerimeterTapPosition) {
+    private int convertTapToAbsoluteCenteredOnZero(int tap, RangeType initialRangeType) {
 
         switch (initialRangeType) {
             case ABSOLUTE:
                 return tap;
             case RELATIVE_TO_INITIAL_NETWORK:
                 return initialTapPosition + tap;
-            case RELATIVE_TO_PREVIOUS_INSTANT:
-                return prePerimeterTapPosition + tap;
             default:
                 throw new FaraoException(String.format("Unknown Range Type %s", initialRangeType));
         }
@@ -20,6 +20,7 @@ import com.farao_community.farao.data.crac_api.range_action.HvdcRangeAction;
 import com.farao_community.farao.data.crac_api.range_action.HvdcRangeActionAdder;
 import com.farao_community.farao.data.crac_api.range_action.PstRangeAction;
 import com.farao_community.farao.data.crac_api.range_action.PstRangeActionAdder;
+import com.farao_community.farao.data.crac_api.range_action.RangeAction;
 import com.farao_community.farao.data.crac_api.threshold.BranchThresholdRule;
 import com.farao_community.farao.data.crac_api.usage_rule.UsageMethod;
 import com.farao_community.farao.data.crac_api.usage_rule.UsageRule;
@@ -519,6 +520,7 @@ public class CracImplTest {
 
         crac.removeCnec("cnec1");
         assertNull(crac.getCnec("cnec1"));
+        assertEquals(Set.of(crac.getFlowCnec("cnec3")), crac.getFlowCnecs(crac.getState("co1", CURATIVE)));
         assertNotNull(crac.getNetworkElement("ne1")); // still used by cnec2
         assertNotNull(crac.getState("co1", CURATIVE)); // state1, still used by cnec3
 
@@ -869,6 +871,86 @@ public class CracImplTest {
         assertEquals(Set.of(ra2, ra4), crac.getNetworkActions(state2, AVAILABLE, FORCED));
     }
 
+    @Test
+    public void testFlowCnecsPerStateAreReadOnly() {
+        crac.newContingency().withId("co1").withNetworkElement("neCo").add();
+        crac.newFlowCnec()
+                .withId("cnec1")
+                .withNetworkElement("ne1")
+                .withInstant(CURATIVE)
+                .withContingency("co1")
+                .newThreshold().withMax(1000.).withUnit(Unit.MEGAWATT).withRule(BranchThresholdRule.ON_LEFT_SIDE).add()
+                .add();
+        State state = crac.getState("co1", CURATIVE);
+
+        Set<FlowCnec> flowCnecs = crac.getFlowCnecs(state);
+        try {
+            flowCnecs.clear();
+            fail();
+        } catch (UnsupportedOperationException e) {
+            // should throw
+        }
+        assertEquals(1, crac.getFlowCnecs(state).size());
+        assertTrue(crac.getFlowCnecs(crac.getPreventiveState()).isEmpty());
+    }
+
+    @Test
+    public void testRemedialActionsPerStateAreUpdated() {
+        crac.newContingency().withId("co1").withNetworkElement("neCo").add();
+        crac.newContingency().withId("co2").withNetworkElement("neCo").add();
+        crac.addState(crac.getContingency("co1"), CURATIVE);
+
+        PstRangeAction ra1 = crac.newPstRangeAction()
+                .withId("ra1")
+                .withNetworkElement("ne1")
+                .newFreeToUseUsageRule().withUsageMethod(AVAILABLE).withInstant(CURATIVE).add()
+                .withInitialTap(0)
+                .withTapToAngleConversionMap(Map.of(-1, -1., 0, 0., 1, 1.))
+                .add();
+        State state1 = crac.getState("co1", CURATIVE);
+        assertEquals(Set.of(ra1), crac.getRangeActions(state1, AVAILABLE));
+        assertTrue(crac.getNetworkActions(state1, AVAILABLE).isEmpty());
+
+        // remedial actions and states added after a first query must be taken into account
+        HvdcRangeAction ra2 = crac.newHvdcRangeAction()
+                .withId("ra2")
+                .withNetworkElement("ne2")
+                .newOnStateUsageRule().withUsageMethod(FORCED).withContingency("co1").withInstant(CURATIVE).add()
+                .newHvdcRange().withMin(-5).withMax(10).add()
+                .add();
+        NetworkAction ra3 = crac.newNetworkAction()
+                .withId("ra3")
+                .newTopologicalAction().withNetworkElement("ne3").withActionType(ActionType.OPEN).add()
+                .newFreeToUseUsageRule().withUsageMethod(AVAILABLE).withInstant(CURATIVE).add()
+                .add();
+        crac.addState(crac.getContingency("co2"), CURATIVE);
+        State state2 = crac.getState("co2", CURATIVE);
+
+        assertEquals(Set.of(ra1), crac.getRangeActions(state1, AVAILABLE));
+        assertEquals(Set.of(ra2), crac.getRangeActions(state1, FORCED));
+        assertEquals(Set.of(ra1, ra2), crac.getRangeActions(state1, AVAILABLE, FORCED));
+        assertEquals(Set.of(ra1), crac.getRangeActions(state2, AVAILABLE, FORCED));
+        assertEquals(Set.of(ra3), crac.getNetworkActions(state1, AVAILABLE));
+        assertEquals(Set.of(ra3), crac.getNetworkActions(state2, AVAILABLE));
+
+        Set<RangeAction> rangeActions = crac.getRangeActions(state1, AVAILABLE, FORCED);
+        // the union of several usage methods is computed once, whatever the order of the usage methods
+        assertSame(rangeActions, crac.getRangeActions(state1, FORCED, AVAILABLE));
+        assertSame(rangeActions, crac.getRangeActions(state1, AVAILABLE, FORCED, AVAILABLE));
+        try {
+            rangeActions.remove(ra1);
+            fail();
+        } catch (UnsupportedOperationException e) {
+            // should throw
+        }
+
+        crac.removePstRangeAction("ra1");
+        crac.removeNetworkAction("ra3");
+        assertEquals(Set.of(ra2), crac.getRangeActions(state1, AVAILABLE, FORCED));
+        assertTrue(crac.getRangeActions(state2, AVAILABLE, FORCED).isEmpty());
+        assertTrue(crac.getNetworkActions(state1, AVAILABLE).isEmpty());
+    }
+
     @Test
     public void testPstRangeActionAdder() {
         PstRangeActionAdder pstRangeActionAdder = crac.newPstRangeAction();
@@ -6,6 +6,7 @@
  */
 package com.farao_community.farao.data.crac_impl;
 
+import com.farao_community.farao.commons.FaraoException;
 import com.farao_community.farao.commons.Unit;
 import com.farao_community.farao.data.crac_api.Crac;
 import com.farao_community.farao.data.crac_api.Instant;
@@ -19,6 +20,7 @@ import org.junit.Test;
 
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 import static com.farao_community.farao.data.crac_api.cnec.Side.LEFT;
 import static com.farao_community.farao.data.crac_api.cnec.Side.RIGHT;
@@ -520,6 +522,53 @@ public class FlowCnecImplTest {
         assertEquals(-300, cnec.computeMargin(800, LEFT, Unit.MEGAWATT), DOUBLE_TOLERANCE);
     }
 
+    @Test
+    public void computeMarginConcurrently() {
+
+        FlowCnec cnec = initPreventiveCnecAdder()
+            .withNominalVoltage(380., Side.LEFT)
+            .withNominalVoltage(220., Side.RIGHT)
+            .withIMax(2000.)
+            .newThreshold().withUnit(Unit.MEGAWATT).withMin(-200.).withMax(500.).withRule(BranchThresholdRule.ON_LEFT_SIDE).add()
+            .newThreshold().withUnit(Unit.PERCENT_IMAX).withMax(0.8).withRule(BranchThresholdRule.ON_RIGHT_SIDE).add()
+            .newThreshold().withUnit(Unit.AMPERE).withMin(-1500.).withRule(BranchThresholdRule.ON_RIGHT_SIDE).add()
+            .add();
+
+        // the CNEC is shared by several threads, as it is when the same CRAC is used for several timestamps
+        assertEquals(50000, IntStream.range(0, 50000).parallel().filter(i -> {
+            double flow = -1000. + i * 0.04;
+            Side side = i % 2 == 0 ? LEFT : RIGHT;
+            Unit unit = i % 3 == 0 ? Unit.AMPERE : Unit.MEGAWATT;
+            double expectedMargin = Math.min(flow - cnec.getLowerBound(side, unit).orElseThrow(), cnec.getUpperBound(side, unit).orElseThrow() - flow);
+            return expectedMargin == cnec.computeMargin(flow, side, unit);
+        }).count());
+    }
+
+    @Test
+    public void testBoundsInAmpereWithoutNominalVoltage() {
+        FlowCnec cnec = initPreventiveCnecAdder()
+            .newThreshold().withUnit(Unit.MEGAWATT).withMax(500.).withRule(BranchThresholdRule.ON_LEFT_SIDE).add()
+            .add();
+
+        assertEquals(500., cnec.getUpperBound(LEFT, Unit.MEGAWATT).orElseThrow(), DOUBLE_TOLERANCE);
+        assertFalse(cnec.getLowerBound(LEFT, Unit.AMPERE).isPresent());
+        assertThrows(FaraoException.class, () -> cnec.getUpperBound(LEFT, Unit.AMPERE));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testResetBounds() {
+        FlowCnecImpl cnec = (FlowCnecImpl) initPreventiveCnecAdder()
+            .withNominalVoltage(380.)
+            .newThreshold().withUnit(Unit.MEGAWATT).withMin(-200.).withMax(500.).withRule(BranchThresholdRule.ON_LEFT_SIDE).add()
+            .add();
+
+        cnec.resetBounds();
+        assertEquals(-200., cnec.getLowerBound(LEFT, Unit.MEGAWATT).orElseThrow(), DOUBLE_TOLERANCE);
+        assertEquals(500. / (0.38 * Math.sqrt(3)), cnec.getUpperBound(RIGHT, Unit.AMPERE).orElseThrow(), DOUBLE_TOLERANCE);
+        assertEquals(100., cnec.computeMargin(400, LEFT, Unit.MEGAWATT), DOUBLE_TOLERANCE);
+    }
+
     // other
 
     @Test
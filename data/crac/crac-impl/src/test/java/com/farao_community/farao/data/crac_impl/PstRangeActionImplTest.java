@@ -218,4 +218,75 @@ public class PstRangeActionImplTest {
         assertNotEquals(pstRa1, pstRa2);
     }
 
+    private static int findClosestTapByScanning(Map<Integer, Double> tapToAngleConversionMap, double angle) {
+        int closestTap = 0;
+        double smallestDifference = Double.MAX_VALUE;
+        for (Map.Entry<Integer, Double> entry : new TreeMap<>(tapToAngleConversionMap).entrySet()) {
+            if (Math.abs(entry.getValue() - angle) < smallestDifference) {
+                smallestDifference = Math.abs(entry.getValue() - angle);
+                closestTap = entry.getKey();
+            }
+        }
+        return closestTap;
+    }
+
+    private void checkConversionsAgainstScanning(PstRangeAction pstRa, Map<Integer, Double> conversionMap) {
+        double minAngle = Collections.min(conversionMap.values());
+        double maxAngle = Collections.max(conversionMap.values());
+        Random random = new Random(0);
+        for (int i = 0; i < 50000; i++) {
+            double angle = minAngle + random.nextDouble() * (maxAngle - minAngle);
+            assertEquals(findClosestTapByScanning(conversionMap, angle), pstRa.convertAngleToTap(angle));
+        }
+        for (Map.Entry<Integer, Double> entry : conversionMap.entrySet()) {
+            assertEquals(findClosestTapByScanning(conversionMap, entry.getValue()), pstRa.convertAngleToTap(entry.getValue()));
+            assertEquals(entry.getValue(), pstRa.convertTapToAngle(entry.getKey()), 0);
+            if (conversionMap.containsKey(entry.getKey() + 1)) {
+                double midAngle = (entry.getValue() + conversionMap.get(entry.getKey() + 1)) / 2;
+                assertEquals(findClosestTapByScanning(conversionMap, midAngle), pstRa.convertAngleToTap(midAngle));
+            }
+        }
+        assertEquals(findClosestTapByScanning(conversionMap, minAngle - 1e-4), pstRa.convertAngleToTap(minAngle - 1e-4));
+        assertEquals(findClosestTapByScanning(conversionMap, maxAngle + 1e-4), pstRa.convertAngleToTap(maxAngle + 1e-4));
+    }
+
+    @Test
+    public void convertAngleToTapWithIncreasingAngles() {
+        Map<Integer, Double> increasingConversionMap = new HashMap<>();
+        tapToAngleConversionMap.forEach((tap, angle) -> increasingConversionMap.put(-tap, angle));
+        checkConversionsAgainstScanning(pstRangeActionAdder.withTapToAngleConversionMap(increasingConversionMap).add(), increasingConversionMap);
+    }
+
+    @Test
+    public void convertAngleToTapWithDecreasingAngles() {
+        checkConversionsAgainstScanning(pstRangeActionAdder.add(), tapToAngleConversionMap);
+    }
+
+    @Test
+    public void convertAngleToTapWithConstantAngles() {
+        Map<Integer, Double> conversionMap = Map.of(-2, -2., -1, 0., 0, 0., 1, 0., 2, 2.);
+        checkConversionsAgainstScanning(pstRangeActionAdder.withTapToAngleConversionMap(conversionMap).add(), conversionMap);
+    }
+
+    @Test (expected = FaraoException.class)
+    public void convertUnknownTapToAngle() {
+        pstRangeActionAdder.add().convertTapToAngle(100);
+    }
+
+    @Test
+    public void pstWithSeveralRangesRelativeToPreviousInstant() {
+        PstRangeAction pstRa = pstRangeActionAdder
+            .newFreeToUseUsageRule().withInstant(Instant.CURATIVE).withUsageMethod(UsageMethod.AVAILABLE).add()
+            .newTapRange().withMinTap(-5).withMaxTap(2).withRangeType(RangeType.RELATIVE_TO_PREVIOUS_INSTANT).add()
+            .newTapRange().withMinTap(-3).withMaxTap(4).withRangeType(RangeType.RELATIVE_TO_PREVIOUS_INSTANT).add()
+            .newTapRange().withMinTap(-14).withMaxTap(14).withRangeType(RangeType.ABSOLUTE).add()
+            .add();
+
+        double previousAngle = pstRa.convertTapToAngle(10);
+        assertEquals(Math.min(pstRa.convertTapToAngle(7), pstRa.convertTapToAngle(12)), pstRa.getMinAdmissibleSetpoint(previousAngle), 0);
+        assertEquals(Math.max(pstRa.convertTapToAngle(7), pstRa.convertTapToAngle(12)), pstRa.getMaxAdmissibleSetpoint(previousAngle), 0);
+        previousAngle = pstRa.convertTapToAngle(13);
+        assertEquals(Math.min(pstRa.convertTapToAngle(10), pstRa.convertTapToAngle(14)), pstRa.getMinAdmissibleSetpoint(previousAngle), 0);
+        assertEquals(Math.max(pstRa.convertTapToAngle(10), pstRa.convertTapToAngle(14)), pstRa.getMaxAdmissibleSetpoint(previousAngle), 0);
+    }
 }
@@ -6,15 +6,18 @@
  */
 package com.farao_community.farao.data.flowbased_domain.json;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.powsybl.commons.json.JsonUtil;
 import com.farao_community.farao.data.flowbased_domain.DataDomain;
+import com.farao_community.farao.data.flowbased_domain.DataPostContingency;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
+import java.util.stream.Stream;
 
 /**
  * Utility class for flowbased domain JSON IO
@@ -36,6 +39,39 @@ public final class JsonFlowbasedDomain {
         }
     }
 
+    /**
+     * Write a flowbased domain whose post-contingency blocks are provided as a stream rather than held by the
+     * domain: each block is written as soon as it is produced, in the encounter order of the stream, so that
+     * the whole list never has to be kept in memory. The dataPostContingency list of the given domain is ignored.
+     * The output is identical to the one of {@link #write(DataDomain, OutputStream)} on the equivalent domain.
+     */
+    public static void write(DataDomain domainHeader, Stream<DataPostContingency> dataPostContingencies, OutputStream os) {
+        try (JsonGenerator generator = createObjectMapper().getFactory().createGenerator(os)) {
+            generator.useDefaultPrettyPrinter();
+            generator.writeStartObject();
+            generator.writeStringField("id", domainHeader.getId());
+            generator.writeStringField("name", domainHeader.getName());
+            generator.writeStringField("sourceFormat", domainHeader.getSourceFormat());
+            generator.writeStringField("description", domainHeader.getDescription());
+            generator.writeObjectField("dataPreContingency", domainHeader.getDataPreContingency());
+            generator.writeArrayFieldStart("dataPostContingency");
+            dataPostContingencies.forEachOrdered(dataPostContingency -> writeObject(generator, dataPostContingency));
+            generator.writeEndArray();
+            generator.writeObjectField("glskData", domainHeader.getGlskData());
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeObject(JsonGenerator generator, Object object) {
+        try {
+            generator.writeObject(object);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     public static DataDomain read(InputStream is) {
         try {
             ObjectMapper objectMapper = createObjectMapper();
@@ -13,12 +13,14 @@ import com.powsybl.commons.AbstractConverterTest;
 import com.farao_community.farao.data.flowbased_domain.DataDomain;
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 
@@ -61,6 +63,20 @@ public class JsonFlowbasedDomainTest extends AbstractConverterTest {
         roundTripTest(create(), JsonFlowbasedDomainTest::write, JsonFlowbasedDomainTest::read, "/dataDomain.json");
     }
 
+    @Test
+    public void testStreamedWriteIsIdenticalToWrite() {
+        DataDomain flowbasedDomain = create();
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        JsonFlowbasedDomain.write(flowbasedDomain, expected);
+
+        DataDomain domainHeader = new DataDomain(flowbasedDomain.getId(), flowbasedDomain.getName(), flowbasedDomain.getSourceFormat(),
+            flowbasedDomain.getDescription(), flowbasedDomain.getDataPreContingency(), Collections.emptyList(), flowbasedDomain.getGlskData());
+        ByteArrayOutputStream streamed = new ByteArrayOutputStream();
+        JsonFlowbasedDomain.write(domainHeader, flowbasedDomain.getDataPostContingency().stream(), streamed);
+
+        assertEquals(expected.toString(), streamed.toString());
+    }
+
     @Test
     public void testUtilityMethods() {
         DataDomain flowbasedDomain = JsonFlowbasedDomainTest.create();
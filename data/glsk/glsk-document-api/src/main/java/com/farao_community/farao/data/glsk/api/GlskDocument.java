@@ -38,7 +38,7 @@ public interface GlskDocument {
      * @return A {@link ZonalData} of {@link LinearGlsk} extracted from the GLSK document.
      */
     default ZonalData<LinearGlsk> getZonalGlsks(Network network) {
-        return new ZonalDataFromGlskDocument<>(this, network, GlskPointLinearGlskConverter::convert);
+        return new ZonalDataFromGlskDocument<>(this, network, GlskPointLinearGlskConverter.CONVERTER);
     }
 
     /**
@@ -50,17 +50,20 @@ public interface GlskDocument {
      * @return A {@link ZonalData} of {@link LinearGlsk} extracted from the GLSK document.
      */
     default ZonalData<LinearGlsk> getZonalGlsks(Network network, Instant instant) {
-        return new ZonalDataFromGlskDocument<>(this, network, GlskPointLinearGlskConverter::convert, instant);
+        return new ZonalDataFromGlskDocument<>(this, network, GlskPointLinearGlskConverter.CONVERTER, instant);
     }
 
     /**
      * This method will produce a time-specific GLSK provider. All time-related data will be extracted.
+     * GLSK points are converted when one of their instants is first selected, see
+     * {@link ZonalDataChronologyFromGlskDocument}: proportional factors then depend on the state of the
+     * network at selection time, and the provider keeps a reference to the network.
      *
      * @param network: Network on which to map GLSK document information.
      * @return A {@link ZonalDataChronology} of {@link LinearGlsk} extracted from the GLSK document.
      */
     default ZonalDataChronology<LinearGlsk> getZonalGlsksChronology(Network network) {
-        return new ZonalDataChronologyFromGlskDocument<>(this, network, GlskPointLinearGlskConverter::convert);
+        return new ZonalDataChronologyFromGlskDocument<>(this, network, GlskPointLinearGlskConverter.CONVERTER);
     }
 
     /**
@@ -72,7 +75,7 @@ public interface GlskDocument {
      * @return A {@link ZonalData} of {@link Scalable} extracted from the GLSK document.
      */
     default ZonalData<Scalable> getZonalScalable(Network network) {
-        return new ZonalDataFromGlskDocument<>(this, network, GlskPointScalableConverter::convert);
+        return new ZonalDataFromGlskDocument<>(this, network, GlskPointScalableConverter.CONVERTER);
     }
 
     /**
@@ -84,16 +87,19 @@ public interface GlskDocument {
      * @return A {@link ZonalData} of {@link Scalable} extracted from the GLSK document.
      */
     default ZonalData<Scalable> getZonalScalable(Network network, Instant instant) {
-        return new ZonalDataFromGlskDocument<>(this, network, GlskPointScalableConverter::convert, instant);
+        return new ZonalDataFromGlskDocument<>(this, network, GlskPointScalableConverter.CONVERTER, instant);
     }
 
     /**
      * This method will produce a time-specific scalable provider. All time-related data will be extracted.
+     * GLSK points are converted when one of their instants is first selected, see
+     * {@link ZonalDataChronologyFromGlskDocument}: proportional factors then depend on the state of the
+     * network at selection time, and the provider keeps a reference to the network.
      *
      * @param network: Network on which to map GLSK document information.
      * @return A {@link ZonalDataChronology} of {@link Scalable} extracted from the GLSK document.
      */
     default ZonalDataChronology<Scalable> getZonalScalableChronology(Network network) {
-        return new ZonalDataChronologyFromGlskDocument<>(this, network, GlskPointScalableConverter::convert);
+        return new ZonalDataChronologyFromGlskDocument<>(this, network, GlskPointScalableConverter.CONVERTER);
     }
 }
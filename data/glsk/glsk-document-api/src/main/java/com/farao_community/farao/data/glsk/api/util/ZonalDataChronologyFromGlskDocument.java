@@ -15,6 +15,7 @@ import com.farao_community.farao.commons.chronology.ChronologyImpl;
 import com.farao_community.farao.data.glsk.api.AbstractGlskPoint;
 import com.farao_community.farao.data.glsk.api.GlskDocument;
 import com.farao_community.farao.data.glsk.api.GlskException;
+import com.farao_community.farao.data.glsk.api.util.converters.CountryInjectionsIndex;
 import com.farao_community.farao.data.glsk.api.util.converters.GlskPointToLinearDataConverter;
 import com.powsybl.iidm.network.Network;
 import org.threeten.extra.Interval;
@@ -23,30 +24,51 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.Period;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
+ * GLSK points are only converted when an instant of their interval is selected, and each point is converted
+ * at most once: selecting one instant of a daily GLSK document does not convert the points of the other hours.
+ *
+ * As a consequence:
+ * <ul>
+ *     <li>a GLSK point is converted against the working variant of the network, and its setpoints, at the time
+ *     one of its instants is first selected, not at the time the chronology is created. Later changes of the
+ *     network do not affect points which have already been converted;</li>
+ *     <li>conversion errors are only raised when the faulty point is first selected;</li>
+ *     <li>the chronology keeps a reference to the network as long as it is used.</li>
+ * </ul>
+ * The GLSK points whose factors must reflect a given state of the network should thus be selected while the
+ * network is in this state.
+ *
  * @author Joris Mancini {@literal <joris.mancini at rte-france.com>}
  */
 public class ZonalDataChronologyFromGlskDocument<I> implements ZonalDataChronology<I> {
 
     private static final String UNMODIFIABLE = "ZonalDataChronologyFromGlskDocument objects are unmodifiable.";
 
-    private final Map<String, Chronology<I>> dataChronologyPerZone;
+    private final Network network;
+    private final GlskPointToLinearDataConverter<I> converter;
+    private final CountryInjectionsIndex countryInjectionsIndex;
+    private final Map<String, Chronology<AbstractGlskPoint>> glskPointChronologyPerZone;
+    private final Map<AbstractGlskPoint, I> convertedData = new ConcurrentHashMap<>();
 
     public ZonalDataChronologyFromGlskDocument(GlskDocument glskDocument, Network network, GlskPointToLinearDataConverter<I> converter) {
-        dataChronologyPerZone = new HashMap<>();
+        this.network = network;
+        this.converter = converter;
+        this.countryInjectionsIndex = new CountryInjectionsIndex(network);
+        glskPointChronologyPerZone = new HashMap<>();
 
         for (String zone : glskDocument.getZones()) {
-            Chronology<I> dataChronology = ChronologyImpl.create();
+            Chronology<AbstractGlskPoint> glskPointChronology = ChronologyImpl.create();
 
             //mapping with DataChronology
             List<AbstractGlskPoint> glskPointList = glskDocument.getGlskPoints(zone);
             for (AbstractGlskPoint point : glskPointList) {
-                I linearData = converter.convert(network, point);
-                dataChronology.storeDataOnInterval(linearData, point.getPointInterval());
+                glskPointChronology.storeDataOnInterval(point, point.getPointInterval());
             }
-            dataChronologyPerZone.put(zone, dataChronology);
+            glskPointChronologyPerZone.put(zone, glskPointChronology);
         }
     }
 
@@ -58,13 +80,20 @@ public class ZonalDataChronologyFromGlskDocument<I> implements ZonalDataChronolo
     @Override
     public ZonalData<I> selectInstant(Instant instant, ReplacementStrategy replacementStrategy) {
         Objects.requireNonNull(instant, "Unable to return data if no instant are selected.");
-        return new ZonalDataImpl<>(dataChronologyPerZone.entrySet().stream()
+        return new ZonalDataImpl<>(glskPointChronologyPerZone.entrySet().stream()
             .collect(Collectors.toMap(
                 Map.Entry::getKey,
-                entry -> entry.getValue().selectInstant(instant, replacementStrategy)
+                entry -> convert(entry.getValue().selectInstant(instant, replacementStrategy))
             )));
     }
 
+    private I convert(AbstractGlskPoint glskPoint) {
+        if (glskPoint == null) {
+            return null;
+        }
+        return convertedData.computeIfAbsent(glskPoint, point -> converter.convert(network, point, countryInjectionsIndex));
+    }
+
     @Override
     public void storeDataAtInstant(ZonalData<I> data, Instant instant) {
         throw new GlskException(UNMODIFIABLE);
@@ -11,6 +11,7 @@ import com.farao_community.farao.commons.ZonalDataImpl;
 import com.farao_community.farao.data.glsk.api.AbstractGlskPoint;
 import com.farao_community.farao.data.glsk.api.GlskDocument;
 import com.farao_community.farao.data.glsk.api.GlskException;
+import com.farao_community.farao.data.glsk.api.util.converters.CountryInjectionsIndex;
 import com.farao_community.farao.data.glsk.api.util.converters.GlskPointToLinearDataConverter;
 import com.powsybl.iidm.network.Network;
 import org.slf4j.Logger;
@@ -29,12 +30,13 @@ public class ZonalDataFromGlskDocument<I> extends ZonalDataImpl<I> {
 
     public ZonalDataFromGlskDocument(GlskDocument glskDocument, Network network, GlskPointToLinearDataConverter<I> converter, Instant instant) {
         super(new HashMap<>());
+        CountryInjectionsIndex countryInjectionsIndex = new CountryInjectionsIndex(network);
         for (String zone : glskDocument.getZones()) {
             List<AbstractGlskPoint> glskPointList = glskDocument.getGlskPoints(zone).stream()
                 .filter(glskPoint -> glskPoint.getPointInterval().contains(instant))
                 .collect(Collectors.toList());
             try {
-                addLinearDataFromList(network, converter, glskPointList, zone);
+                addLinearDataFromList(network, converter, countryInjectionsIndex, glskPointList, zone);
             } catch (GlskException e) {
                 LOGGER.warn(String.format("Could not create linear data for zone %s: %s", zone, e.getMessage()));
             }
@@ -43,17 +45,19 @@ public class ZonalDataFromGlskDocument<I> extends ZonalDataImpl<I> {
 
     public ZonalDataFromGlskDocument(GlskDocument glskDocument, Network network, GlskPointToLinearDataConverter<I> converter) {
         super(new HashMap<>());
+        CountryInjectionsIndex countryInjectionsIndex = new CountryInjectionsIndex(network);
         for (String zone : glskDocument.getZones()) {
             List<AbstractGlskPoint> glskPointList = glskDocument.getGlskPoints(zone);
-            addLinearDataFromList(network, converter, glskPointList, zone);
+            addLinearDataFromList(network, converter, countryInjectionsIndex, glskPointList, zone);
         }
     }
 
-    private void addLinearDataFromList(Network network, GlskPointToLinearDataConverter<I> converter, List<AbstractGlskPoint> glskPointList, String country) {
+    private void addLinearDataFromList(Network network, GlskPointToLinearDataConverter<I> converter, CountryInjectionsIndex countryInjectionsIndex,
+                                       List<AbstractGlskPoint> glskPointList, String country) {
         if (glskPointList.size() > 1) {
             throw new GlskException("Cannot instantiate simple linear data because several glsk point match given instant");
         } else if (!glskPointList.isEmpty()) {
-            I linearData = converter.convert(network, glskPointList.get(0));
+            I linearData = converter.convert(network, glskPointList.get(0), countryInjectionsIndex);
             dataPerZone.put(country, linearData);
         }
     }
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2021, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.data.glsk.api.util.converters;
+
+import com.powsybl.iidm.network.*;
+
+import java.util.*;
+
+/**
+ * Index of the generators and loads of a network by country of their substation.
+ * It enables country proportional GLSK points to be converted without scanning the whole network for each of them.
+ *
+ * Each part of the index is built on first use, with a single pass over the generators or the loads of the network.
+ * Only the location of the injections is indexed: their state (connection, set point) is still read from the
+ * network at conversion time. The index must therefore be rebuilt if injections or substations are added to
+ * or removed from the network.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class CountryInjectionsIndex {
+
+    private final Network network;
+    private Map<Country, List<Generator>> generatorsPerCountry;
+    private Map<Country, List<Load>> loadsPerCountry;
+
+    public CountryInjectionsIndex(Network network) {
+        this.network = Objects.requireNonNull(network);
+    }
+
+    public synchronized List<Generator> getGenerators(Country country) {
+        if (generatorsPerCountry == null) {
+            generatorsPerCountry = new EnumMap<>(Country.class);
+            network.getGeneratorStream().forEach(generator -> indexInjection(generator, generatorsPerCountry));
+        }
+        return Collections.unmodifiableList(generatorsPerCountry.getOrDefault(country, Collections.emptyList()));
+    }
+
+    public synchronized List<Load> getLoads(Country country) {
+        if (loadsPerCountry == null) {
+            loadsPerCountry = new EnumMap<>(Country.class);
+            network.getLoadStream().forEach(load -> indexInjection(load, loadsPerCountry));
+        }
+        return Collections.unmodifiableList(loadsPerCountry.getOrDefault(country, Collections.emptyList()));
+    }
+
+    private static <T extends Injection<T>> void indexInjection(T injection, Map<Country, List<T>> injectionsPerCountry) {
+        injection.getTerminal().getVoltageLevel().getSubstation()
+            .map(Substation::getNullableCountry)
+            .filter(Objects::nonNull)
+            .ifPresent(country -> injectionsPerCountry.computeIfAbsent(country, c -> new ArrayList<>()).add(injection));
+    }
+}
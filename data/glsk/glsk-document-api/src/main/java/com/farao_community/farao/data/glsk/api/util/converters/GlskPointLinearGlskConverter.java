@@ -26,6 +26,21 @@ import java.util.stream.Collectors;
 public final class GlskPointLinearGlskConverter {
     private static final Logger LOGGER = LoggerFactory.getLogger(GlskPointLinearGlskConverter.class);
 
+    /**
+     * Converter sharing the index of the injections per country between the conversions on a network
+     */
+    public static final GlskPointToLinearDataConverter<LinearGlsk> CONVERTER = new GlskPointToLinearDataConverter<>() {
+        @Override
+        public LinearGlsk convert(Network network, AbstractGlskPoint glskPoint) {
+            return GlskPointLinearGlskConverter.convert(network, glskPoint);
+        }
+
+        @Override
+        public LinearGlsk convert(Network network, AbstractGlskPoint glskPoint, CountryInjectionsIndex countryInjectionsIndex) {
+            return GlskPointLinearGlskConverter.convert(network, glskPoint, countryInjectionsIndex);
+        }
+    };
+
     private GlskPointLinearGlskConverter() {
         throw new AssertionError("Utility class should not be instantiated");
     }
@@ -36,6 +51,16 @@ public final class GlskPointLinearGlskConverter {
      * @return farao-core LinearGlsk
      */
     public static LinearGlsk convert(Network network, AbstractGlskPoint glskPoint) {
+        return convert(network, glskPoint, new CountryInjectionsIndex(network));
+    }
+
+    /**
+     * @param network IIDM network
+     * @param glskPoint GLSK Point
+     * @param countryInjectionsIndex index of the injections of the network per country
+     * @return farao-core LinearGlsk
+     */
+    public static LinearGlsk convert(Network network, AbstractGlskPoint glskPoint, CountryInjectionsIndex countryInjectionsIndex) {
 
         Map<String, Float> linearGlskMap = new HashMap<>();
         String linearGlskId = glskPoint.getSubjectDomainmRID() + ":" + glskPoint.getPointInterval().toString();
@@ -57,7 +82,7 @@ public final class GlskPointLinearGlskConverter {
         for (AbstractGlskShiftKey glskShiftKey : glskPoint.getGlskShiftKeys()) {
             if (glskShiftKey.getBusinessType().equals("B42") && glskShiftKey.getRegisteredResourceArrayList().isEmpty()) {
                 LOGGER.debug("GLSK Type B42, empty registered resources list --> country (proportional) GLSK");
-                convertCountryProportional(network, glskShiftKey, linearGlskMap);
+                convertCountryProportional(countryInjectionsIndex, glskShiftKey, linearGlskMap);
             } else if (glskShiftKey.getBusinessType().equals("B42") && !glskShiftKey.getRegisteredResourceArrayList().isEmpty()) {
                 LOGGER.debug("GLSK Type B42, not empty registered resources list --> (explicit/manual) proportional GSK");
                 convertExplicitProportional(network, glskShiftKey, linearGlskMap);
@@ -77,17 +102,16 @@ public final class GlskPointLinearGlskConverter {
     }
 
     /**
-     * @param network iidm network
+     * @param countryInjectionsIndex index of the injections of the iidm network per country
      * @param glskShiftKey country type shiftkey
      * @param linearGlskMap linearGlsk to be filled
      */
-    private static void convertCountryProportional(Network network, AbstractGlskShiftKey glskShiftKey, Map<String, Float> linearGlskMap) {
+    private static void convertCountryProportional(CountryInjectionsIndex countryInjectionsIndex, AbstractGlskShiftKey glskShiftKey, Map<String, Float> linearGlskMap) {
         Country country = new CountryEICode(glskShiftKey.getSubjectDomainmRID()).getCountry();
         //Generator A04 or Load A05
         if (glskShiftKey.getPsrType().equals("A04")) {
             //Generator A04
-            List<Generator> generators = network.getGeneratorStream()
-                    .filter(generator -> country.equals(getSubstationNullableCountry(generator.getTerminal().getVoltageLevel().getSubstation())))
+            List<Generator> generators = countryInjectionsIndex.getGenerators(country).stream()
                     .filter(NetworkUtil::isCorrectGenerator)
                     .collect(Collectors.toList());
             //calculate sum P of country's generators
@@ -96,8 +120,7 @@ public final class GlskPointLinearGlskConverter {
             generators.forEach(generator -> linearGlskMap.put(generator.getId(), glskShiftKey.getQuantity().floatValue() * (float) NetworkUtil.pseudoTargetP(generator) / (float) totalCountryP));
         } else if (glskShiftKey.getPsrType().equals("A05")) {
             //Load A05
-            List<Load> loads = network.getLoadStream()
-                    .filter(load -> country.equals(getSubstationNullableCountry(load.getTerminal().getVoltageLevel().getSubstation())))
+            List<Load> loads = countryInjectionsIndex.getLoads(country).stream()
                     .filter(NetworkUtil::isCorrectLoad)
                     .collect(Collectors.toList());
             double totalCountryLoad = loads.stream().mapToDouble(NetworkUtil::pseudoP0).sum();
@@ -175,12 +198,4 @@ public final class GlskPointLinearGlskConverter {
             throw new GlskException("convertParticipationFactor PsrType not supported");
         }
     }
-
-    private static Country getSubstationNullableCountry(Optional<Substation> substation) {
-        if (substation.isPresent()) {
-            return substation.get().getNullableCountry();
-        } else {
-            return null;
-        }
-    }
 }
@@ -27,6 +27,21 @@ import java.util.stream.Collectors;
 public final class GlskPointScalableConverter {
     private static final Logger LOGGER = LoggerFactory.getLogger(GlskPointScalableConverter.class);
 
+    /**
+     * Converter sharing the index of the injections per country between the conversions on a network
+     */
+    public static final GlskPointToLinearDataConverter<Scalable> CONVERTER = new GlskPointToLinearDataConverter<>() {
+        @Override
+        public Scalable convert(Network network, AbstractGlskPoint glskPoint) {
+            return GlskPointScalableConverter.convert(network, glskPoint);
+        }
+
+        @Override
+        public Scalable convert(Network network, AbstractGlskPoint glskPoint, CountryInjectionsIndex countryInjectionsIndex) {
+            return GlskPointScalableConverter.convert(network, glskPoint, countryInjectionsIndex);
+        }
+    };
+
     private GlskPointScalableConverter() {
         throw new AssertionError("Utility class should not be instantiated");
     }
@@ -37,6 +52,16 @@ public final class GlskPointScalableConverter {
      * @return powsybl-core Scalable
      */
     public static Scalable convert(Network network, AbstractGlskPoint glskPoint) {
+        return convert(network, glskPoint, new CountryInjectionsIndex(network));
+    }
+
+    /**
+     * @param network IIDM network
+     * @param glskPoint GLSK Point
+     * @param countryInjectionsIndex index of the injections of the network per country
+     * @return powsybl-core Scalable
+     */
+    public static Scalable convert(Network network, AbstractGlskPoint glskPoint, CountryInjectionsIndex countryInjectionsIndex) {
         Objects.requireNonNull(glskPoint.getGlskShiftKeys());
         if (!glskPoint.getGlskShiftKeys().get(0).getBusinessType().equals("B45")) {
             //B42 and B43 proportional
@@ -46,7 +71,7 @@ public final class GlskPointScalableConverter {
             for (AbstractGlskShiftKey glskShiftKey : glskPoint.getGlskShiftKeys()) {
                 if (glskShiftKey.getBusinessType().equals("B42") && glskShiftKey.getRegisteredResourceArrayList().isEmpty()) {
                     //B42 country
-                    convertCountryProportional(network, glskShiftKey, percentages, scalables);
+                    convertCountryProportional(countryInjectionsIndex, glskShiftKey, percentages, scalables);
                 } else if (glskShiftKey.getBusinessType().equals("B42") && !glskShiftKey.getRegisteredResourceArrayList().isEmpty()) {
                     //B42 explicit
                     convertExplicitProportional(network, glskShiftKey, percentages, scalables);
@@ -157,18 +182,17 @@ public final class GlskPointScalableConverter {
 
     /**
      * convert country proportional glsk point to scalable
-     * @param network iidm network
+     * @param countryInjectionsIndex index of the injections of the iidm network per country
      * @param glskShiftKey shift key
      * @param percentages list of percentage factor of scalable
      * @param scalables list of scalable
      */
-    private static void convertCountryProportional(Network network, AbstractGlskShiftKey glskShiftKey, List<Float> percentages, List<Scalable> scalables) {
+    private static void convertCountryProportional(CountryInjectionsIndex countryInjectionsIndex, AbstractGlskShiftKey glskShiftKey, List<Float> percentages, List<Scalable> scalables) {
         Country country = new CountryEICode(glskShiftKey.getSubjectDomainmRID()).getCountry();
 
         if (glskShiftKey.getPsrType().equals("A04")) {
             LOGGER.debug("GLSK Type B42, empty registered resources list --> country (proportional) GSK");
-            List<Generator> generators = network.getGeneratorStream()
-                    .filter(generator -> country.equals(getSubstationNullableCountry(generator.getTerminal().getVoltageLevel().getSubstation())))
+            List<Generator> generators = countryInjectionsIndex.getGenerators(country).stream()
                     .filter(NetworkUtil::isCorrectGenerator)
                     .collect(Collectors.toList());
             //calculate sum P of country's generators
@@ -178,8 +202,7 @@ public final class GlskPointScalableConverter {
             generators.forEach(generator -> scalables.add(Scalable.onGenerator(generator.getId())));
         } else if (glskShiftKey.getPsrType().equals("A05")) {
             LOGGER.debug("GLSK Type B42, empty registered resources list --> country (proportional) LSK");
-            List<Load> loads = network.getLoadStream()
-                    .filter(load -> country.equals(getSubstationNullableCountry(load.getTerminal().getVoltageLevel().getSubstation())))
+            List<Load> loads = countryInjectionsIndex.getLoads(country).stream()
                     .filter(NetworkUtil::isCorrectLoad)
                     .collect(Collectors.toList());
             //calculate sum P of country's loads
@@ -259,12 +282,4 @@ public final class GlskPointScalableConverter {
             loadResources.forEach(loadResource -> scalables.add(Scalable.onLoad(loadResource.getLoadId(), -Double.MAX_VALUE, Double.MAX_VALUE)));
         }
     }
-
-    private static Country getSubstationNullableCountry(Optional<Substation> substation) {
-        if (substation.isPresent()) {
-            return substation.get().getNullableCountry();
-        } else {
-            return null;
-        }
-    }
 }
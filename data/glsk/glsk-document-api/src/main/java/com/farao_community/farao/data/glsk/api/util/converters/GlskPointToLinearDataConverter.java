@@ -16,4 +16,16 @@ import com.powsybl.iidm.network.Network;
 public interface GlskPointToLinearDataConverter<I> {
 
     I convert(Network network, AbstractGlskPoint glskPoint);
+
+    /**
+     * Converters which can use an index of the injections of the network per country should override this method,
+     * by default the index is ignored.
+     *
+     * @param network IIDM network
+     * @param glskPoint GLSK point to convert
+     * @param countryInjectionsIndex index of the injections of the network per country, shared by the conversions on this network
+     */
+    default I convert(Network network, AbstractGlskPoint glskPoint, CountryInjectionsIndex countryInjectionsIndex) {
+        return convert(network, glskPoint);
+    }
 }
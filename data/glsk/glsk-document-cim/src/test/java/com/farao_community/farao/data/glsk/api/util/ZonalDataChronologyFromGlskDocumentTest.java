@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2021, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.data.glsk.api.util;
+
+import com.farao_community.farao.commons.ZonalData;
+import com.farao_community.farao.data.glsk.api.GlskDocument;
+import com.farao_community.farao.data.glsk.api.util.converters.GlskPointLinearGlskConverter;
+import com.farao_community.farao.data.glsk.cim.CimGlskDocument;
+import com.powsybl.iidm.import_.Importers;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.sensitivity.factors.variables.LinearGlsk;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+public class ZonalDataChronologyFromGlskDocumentTest {
+    private static final String FRANCE = "10YFR-RTE------C";
+
+    private Network network;
+    private GlskDocument glskDocument;
+    private AtomicInteger conversionsCount;
+    private ZonalDataChronologyFromGlskDocument<LinearGlsk> glskChronology;
+
+    @Before
+    public void setUp() {
+        network = Importers.loadNetwork("testCase.xiidm", getClass().getResourceAsStream("/testCase.xiidm"));
+        glskDocument = CimGlskDocument.importGlsk(getClass().getResourceAsStream("/GlskMultiPoints.xml"));
+        conversionsCount = new AtomicInteger();
+        glskChronology = new ZonalDataChronologyFromGlskDocument<>(glskDocument, network, (n, glskPoint) -> {
+            conversionsCount.incrementAndGet();
+            return GlskPointLinearGlskConverter.convert(n, glskPoint);
+        });
+    }
+
+    @Test
+    public void testGlskPointsAreConvertedLazilyAndOnlyOnce() {
+        assertEquals(0, conversionsCount.get());
+
+        LinearGlsk firstDayGlsk = glskChronology.getData(FRANCE, Instant.parse("2019-01-01T12:00:00Z"));
+        assertEquals(1, conversionsCount.get());
+        assertSame(firstDayGlsk, glskChronology.getData(FRANCE, Instant.parse("2019-01-01T18:00:00Z")));
+        assertEquals(1, conversionsCount.get());
+
+        glskChronology.selectInstant(Instant.parse("2019-01-04T12:00:00Z"));
+        assertEquals(2, conversionsCount.get());
+    }
+
+    @Test
+    public void testLazyConversionMatchesDirectConversion() {
+        Instant instant = Instant.parse("2019-01-01T12:00:00Z");
+        ZonalData<LinearGlsk> expectedGlsks = glskDocument.getZonalGlsks(network, instant);
+        LinearGlsk expectedGlsk = expectedGlsks.getData(FRANCE);
+        LinearGlsk glsk = glskChronology.getData(FRANCE, instant);
+
+        assertEquals(expectedGlsk.getId(), glsk.getId());
+        assertEquals(expectedGlsk.getGLSKs(), glsk.getGLSKs());
+        assertFalse(glsk.getGLSKs().isEmpty());
+    }
+
+    @Test
+    public void testProportionalGlskIsConvertedAgainstNetworkAtSelection() {
+        Instant instant = Instant.parse("2019-01-01T12:00:00Z");
+        Map<String, Float> factorsAtConstruction = glskDocument.getZonalGlsks(network, instant).getData(FRANCE).getGLSKs();
+
+        network.getGenerator("FFR1AA1 _generator").setTargetP(6000.);
+        LinearGlsk glsk = glskChronology.getData(FRANCE, instant);
+
+        assertNotEquals(factorsAtConstruction, glsk.getGLSKs());
+        assertEquals(glskDocument.getZonalGlsks(network, instant).getData(FRANCE).getGLSKs(), glsk.getGLSKs());
+
+        // points which have already been converted are not affected by later changes
+        network.getGenerator("FFR1AA1 _generator").setTargetP(2000.);
+        assertSame(glsk, glskChronology.getData(FRANCE, instant));
+    }
+}
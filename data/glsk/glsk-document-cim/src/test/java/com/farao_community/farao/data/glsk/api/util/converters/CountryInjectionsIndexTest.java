@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2021, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.data.glsk.api.util.converters;
+
+import com.powsybl.iidm.import_.Importers;
+import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.Generator;
+import com.powsybl.iidm.network.Load;
+import com.powsybl.iidm.network.Network;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+public class CountryInjectionsIndexTest {
+
+    @Test
+    public void testIndexMatchesNetworkScan() {
+        Network network = Importers.loadNetwork("testCase.xiidm", getClass().getResourceAsStream("/testCase.xiidm"));
+        CountryInjectionsIndex countryInjectionsIndex = new CountryInjectionsIndex(network);
+
+        for (Country country : List.of(Country.FR, Country.BE, Country.DE, Country.NL)) {
+            List<Generator> expectedGenerators = network.getGeneratorStream()
+                .filter(generator -> generator.getTerminal().getVoltageLevel().getSubstation().map(s -> country.equals(s.getNullableCountry())).orElse(false))
+                .collect(Collectors.toList());
+            List<Load> expectedLoads = network.getLoadStream()
+                .filter(load -> load.getTerminal().getVoltageLevel().getSubstation().map(s -> country.equals(s.getNullableCountry())).orElse(false))
+                .collect(Collectors.toList());
+            assertEquals(expectedGenerators, countryInjectionsIndex.getGenerators(country));
+            assertEquals(expectedLoads, countryInjectionsIndex.getLoads(country));
+        }
+        assertTrue(countryInjectionsIndex.getGenerators(Country.ES).isEmpty());
+    }
+}
@@ -11,11 +11,17 @@ import com.farao_community.farao.data.glsk.api.AbstractGlskRegisteredResource;
 import com.farao_community.farao.data.glsk.ucte.UcteGlskPoint;
 import com.powsybl.iidm.network.*;
 
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
+ * Quality check of the GLSK points of a UCTE GLSK document against a network.
+ *
+ * The network is only modified, and read, before the GLSK points are checked: missing injections of the
+ * manual GSKs are created, then the buses and the injections of the network are indexed once. The GLSK
+ * points of the different TSOs are then checked in parallel against this index only.
+ *
  * @author Marc Erkol {@literal <marc.erkol at rte-france.com>}
  */
 class GlskQualityCheck {
@@ -24,7 +30,40 @@ class GlskQualityCheck {
 
     private static final String LOAD = "A05";
 
-    private final QualityReport qualityReport = new QualityReport();
+    private static final String GENERATOR_SUFFIX = "_generator";
+
+    private static final String LOAD_SUFFIX = "_load";
+
+    /**
+     * Index of the bus-breaker buses of a network, and of its generators and loads, stating for each
+     * injection whether it is connected to the main synchronous component. As network lookups do, elements
+     * are found by their id or by any of their aliases.
+     */
+    private static final class NetworkIndex {
+        private final Set<String> busIds = new HashSet<>();
+        private final Map<String, Boolean> generatorsInMainSynchronousComponent = new HashMap<>();
+        private final Map<String, Boolean> loadsInMainSynchronousComponent = new HashMap<>();
+
+        private NetworkIndex(Network network) {
+            network.getVoltageLevelStream().forEach(voltageLevel -> voltageLevel.getBusBreakerView().getBuses().forEach(bus -> {
+                busIds.add(bus.getId());
+                busIds.addAll(bus.getAliases());
+            }));
+            network.getGeneratorStream().forEach(generator -> index(generator, generatorsInMainSynchronousComponent));
+            network.getLoadStream().forEach(load -> index(load, loadsInMainSynchronousComponent));
+        }
+
+        private static void index(Injection<?> injection, Map<String, Boolean> injectionsInMainSynchronousComponent) {
+            boolean inMainSynchronousComponent = isInMainSynchronousComponent(injection);
+            injectionsInMainSynchronousComponent.put(injection.getId(), inMainSynchronousComponent);
+            injection.getAliases().forEach(alias -> injectionsInMainSynchronousComponent.put(alias, inMainSynchronousComponent));
+        }
+
+        private static boolean isInMainSynchronousComponent(Injection<?> injection) {
+            return injection.getTerminal().isConnected()
+                    && injection.getTerminal().getBusBreakerView().getBus().isInMainSynchronousComponent();
+        }
+    }
 
     public static QualityReport gskQualityCheck(GlskQualityCheckInput input) {
         return new GlskQualityCheck().generateReport(input);
@@ -32,42 +71,63 @@ class GlskQualityCheck {
 
     private QualityReport generateReport(GlskQualityCheckInput input) {
         Map<String, UcteGlskPoint> glskPointMap = input.getUcteGlskDocument().getGlskPointsForInstant(input.getInstant());
-        glskPointMap.forEach((country, glskPoint) -> checkGlskPoint(glskPoint, input.getNetwork(), country));
+        Network network = input.getNetwork();
+        createMissingInjections(glskPointMap.values(), network);
+        NetworkIndex networkIndex = new NetworkIndex(network);
+
+        // each TSO is checked in its own report, which are then merged in the order of the TSOs
+        QualityReport qualityReport = new QualityReport();
+        new TreeMap<>(glskPointMap).entrySet().parallelStream()
+                .map(entry -> checkGlskPoint(entry.getValue(), networkIndex, entry.getKey()))
+                .collect(Collectors.toList())
+                .forEach(qualityReport::addAll);
         return qualityReport;
     }
 
-    private void checkGlskPoint(AbstractGlskPoint glskPoint, Network network, String tso) {
-        List<String> manualGskGenerators =  glskPoint.getGlskShiftKeys().stream()
-                .filter(gskShiftKey -> gskShiftKey.getPsrType().equals(GENERATOR) && gskShiftKey.getBusinessType().equals("B43"))
-                .flatMap(gskShiftKey -> gskShiftKey.getRegisteredResourceArrayList().stream())
-                .map(AbstractGlskRegisteredResource::getGeneratorId).collect(Collectors.toList());
-        List<String> manualGskLoads =  glskPoint.getGlskShiftKeys().stream()
-                .filter(gskShiftKey -> gskShiftKey.getPsrType().equals(LOAD) && gskShiftKey.getBusinessType().equals("B43"))
-                .flatMap(gskShiftKey -> gskShiftKey.getRegisteredResourceArrayList().stream())
-                .map(AbstractGlskRegisteredResource::getLoadId).collect(Collectors.toList());
+    private void createMissingInjections(Collection<UcteGlskPoint> glskPoints, Network network) {
+        Set<String> manualGskGenerators = new HashSet<>();
+        Set<String> manualGskLoads = new HashSet<>();
+        glskPoints.forEach(glskPoint -> {
+            manualGskGenerators.addAll(getManualGskResources(glskPoint, GENERATOR, AbstractGlskRegisteredResource::getGeneratorId));
+            manualGskLoads.addAll(getManualGskResources(glskPoint, LOAD, AbstractGlskRegisteredResource::getLoadId));
+        });
+        if (manualGskGenerators.isEmpty() && manualGskLoads.isEmpty()) {
+            return;
+        }
 
         network.getVoltageLevelStream().forEach(voltageLevel -> voltageLevel.getBusBreakerView().getBuses().forEach(bus -> {
-            if (manualGskGenerators.contains(bus.getId() + "_generator")) {
+            if (manualGskGenerators.contains(bus.getId() + GENERATOR_SUFFIX)) {
                 createMissingGenerator(network, voltageLevel, bus.getId());
             }
-            if (manualGskLoads.contains(bus.getId() + "_load")) {
+            if (manualGskLoads.contains(bus.getId() + LOAD_SUFFIX)) {
                 createMissingLoad(network, voltageLevel, bus.getId());
             }
         }));
+    }
 
+    private static List<String> getManualGskResources(AbstractGlskPoint glskPoint, String psrType, Function<AbstractGlskRegisteredResource, String> idGetter) {
+        return glskPoint.getGlskShiftKeys().stream()
+                .filter(gskShiftKey -> gskShiftKey.getPsrType().equals(psrType) && gskShiftKey.getBusinessType().equals("B43"))
+                .flatMap(gskShiftKey -> gskShiftKey.getRegisteredResourceArrayList().stream())
+                .map(idGetter).collect(Collectors.toList());
+    }
+
+    private QualityReport checkGlskPoint(AbstractGlskPoint glskPoint, NetworkIndex networkIndex, String tso) {
+        QualityReport qualityReport = new QualityReport();
         glskPoint.getGlskShiftKeys().forEach(glskShiftKey -> {
             if (glskShiftKey.getPsrType().equals(GENERATOR)) {
                 glskShiftKey.getRegisteredResourceArrayList()
-                        .forEach(resource -> checkResource(resource, network.getGenerator(resource.getGeneratorId()), "Generator", network, tso));
+                        .forEach(resource -> checkResource(resource, networkIndex.generatorsInMainSynchronousComponent.get(resource.getGeneratorId()), "Generator", networkIndex, tso, qualityReport));
             } else if (glskShiftKey.getPsrType().equals(LOAD)) {
                 glskShiftKey.getRegisteredResourceArrayList()
-                        .forEach(resource -> checkResource(resource, network.getLoad(resource.getLoadId()), "Load", network, tso));
+                        .forEach(resource -> checkResource(resource, networkIndex.loadsInMainSynchronousComponent.get(resource.getLoadId()), "Load", networkIndex, tso, qualityReport));
             }
         });
+        return qualityReport;
     }
 
     private void createMissingGenerator(Network network, VoltageLevel voltageLevel, String busId) {
-        String generatorId = busId + "_generator";
+        String generatorId = busId + GENERATOR_SUFFIX;
         if (network.getGenerator(generatorId) == null) {
             voltageLevel.newGenerator()
                     .setBus(busId)
@@ -86,7 +146,7 @@ class GlskQualityCheck {
     }
 
     private void createMissingLoad(Network network, VoltageLevel voltageLevel, String busId) {
-        String loadId = busId + "_load";
+        String loadId = busId + LOAD_SUFFIX;
         if (network.getLoad(loadId) == null) {
             voltageLevel.newLoad()
                     .setBus(busId)
@@ -99,10 +159,14 @@ class GlskQualityCheck {
         }
     }
 
-    private void checkResource(AbstractGlskRegisteredResource registeredResource, Injection<?> injection, String type, Network network, String tso) {
-        if (injection == null) {
+    /**
+     * @param injectionInMainSynchronousComponent null if the injection of the resource does not exist in the network
+     */
+    private void checkResource(AbstractGlskRegisteredResource registeredResource, Boolean injectionInMainSynchronousComponent, String type,
+                               NetworkIndex networkIndex, String tso, QualityReport qualityReport) {
+        if (injectionInMainSynchronousComponent == null) {
 
-            if (network.getBusBreakerView().getBus(registeredResource.getmRID()) == null) {
+            if (!networkIndex.busIds.contains(registeredResource.getmRID())) {
                 qualityReport.warn("1",
                         registeredResource.getmRID(),
                         type,
@@ -116,8 +180,7 @@ class GlskQualityCheck {
                         "GLSK node is present but has no running Generator or Load");
             }
         } else {
-            if (!injection.getTerminal().isConnected()
-                    || !injection.getTerminal().getBusBreakerView().getBus().isInMainSynchronousComponent()) {
+            if (!injectionInMainSynchronousComponent) {
                 qualityReport.warn(
                         "3",
                         registeredResource.getmRID(),
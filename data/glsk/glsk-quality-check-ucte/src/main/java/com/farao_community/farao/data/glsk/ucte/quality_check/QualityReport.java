@@ -36,6 +36,10 @@ public class QualityReport {
         qualityLogsByTso.get(tso).add(new QualityLog(checkId, nodeId, type, tso, severity, message));
     }
 
+    void addAll(QualityReport qualityReport) {
+        qualityReport.qualityLogsByTso.forEach((tso, qualityLogs) -> qualityLogsByTso.computeIfAbsent(tso, t -> new ArrayList<>()).addAll(qualityLogs));
+    }
+
     public List<QualityLog> getAllQualityLogs() {
         return qualityLogsByTso.values().stream().flatMap(Collection::stream).collect(Collectors.toList());
     }
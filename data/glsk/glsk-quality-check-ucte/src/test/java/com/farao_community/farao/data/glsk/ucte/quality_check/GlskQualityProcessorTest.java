@@ -11,8 +11,12 @@ import com.powsybl.iidm.import_.Importers;
 import com.powsybl.iidm.network.Network;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.junit.Assert.*;
 
@@ -64,6 +68,22 @@ public class GlskQualityProcessorTest {
         assertEquals("10YFR-RTE------C", qualityReport.getAllQualityLogs().get(0).getTso());
     }
 
+    @Test
+    public void qualityCheckWithAliasedLoad() {
+        UcteGlskDocument ucteGlskDocument = UcteGlskDocument.importGlsk(getResourceAsInputStream(COUNTRYTEST));
+        Network network = Importers.loadNetwork("testCase_error_2.xiidm", getClass().getResourceAsStream("/testCase_error_2.xiidm"));
+        network.getVoltageLevel("FFR1AA1").newLoad()
+            .setId("FFR2AA1 _other_load")
+            .setBus("FFR2AA1 ")
+            .setP0(0)
+            .setQ0(0)
+            .add()
+            .addAlias("FFR2AA1 _load");
+        QualityReport qualityReport = GlskQualityProcessor.process(ucteGlskDocument, network, Instant.parse("2016-07-28T23:30:00Z"));
+
+        assertTrue(qualityReport.getQualityLogsByTso().isEmpty());
+    }
+
     @Test
     public void qualityCheckWithError3() {
         UcteGlskDocument ucteGlskDocument = UcteGlskDocument.importGlsk(getResourceAsInputStream(COUNTRYTEST));
@@ -88,4 +108,61 @@ public class GlskQualityProcessorTest {
         assertEquals("10YFR-RTE------C", qualityReport.getAllQualityLogs().get(0).getTso());
     }
 
+    private static String getAreaCode(int area) {
+        return String.format("10Y-AREA-%06d-", area);
+    }
+
+    /**
+     * GLSK document with one manual and one auto GSK per area: the manual GSK is on FFR2AA1, which has
+     * no generator in testCase_error_2, and the auto GSK is on FFR1AA1 and on one node of the area which
+     * does not exist in the network
+     */
+    private static UcteGlskDocument createGlskDocument(int numberOfAreas) {
+        StringBuilder document = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n")
+            .append("<GSKDocument DtdVersion=\"1\" DtdRelease=\"0\">\n")
+            .append("<GSKTimeInterval v=\"2016-07-28T22:00Z/2016-07-29T22:00Z\"/>\n");
+        for (int area = 0; area < numberOfAreas; area++) {
+            document.append("<GSKSeries><TimeSeriesIdentification v=\"").append(area).append("\"/><BusinessType v=\"Z02\" share=\"50\"/>")
+                .append("<Area v=\"").append(getAreaCode(area)).append("\" codingScheme=\"A01\"/>")
+                .append("<ManualGSK_Block><GSK_Name v=\"MANUAL\"/><TimeInterval v=\"2016-07-28T22:00Z/2016-07-29T22:00Z\"/>")
+                .append("<ManualNodes><NodeName v=\"FFR2AA1 \"/><Factor v=\"1\"/></ManualNodes></ManualGSK_Block></GSKSeries>\n")
+                .append("<GSKSeries><TimeSeriesIdentification v=\"").append(area).append("\"/><BusinessType v=\"Z02\" share=\"50\"/>")
+                .append("<Area v=\"").append(getAreaCode(area)).append("\" codingScheme=\"A01\"/>")
+                .append("<AutoGSK_Block><GSK_Name v=\"AUTO\"/><TimeInterval v=\"2016-07-28T22:00Z/2016-07-29T22:00Z\"/>")
+                .append("<AutoNodes><NodeName v=\"FFR1AA1 \"/></AutoNodes>")
+                .append("<AutoNodes><NodeName v=\"").append(String.format("X%06d", area)).append("\"/></AutoNodes></AutoGSK_Block></GSKSeries>\n");
+        }
+        document.append("</GSKDocument>\n");
+        return UcteGlskDocument.importGlsk(new ByteArrayInputStream(document.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static List<String> describeLogs(QualityReport qualityReport) {
+        return qualityReport.getAllQualityLogs().stream()
+            .map(log -> String.join("|", log.getCheckId(), log.getNodeId(), log.getType(), log.getTso(), log.getMessage()))
+            .collect(Collectors.toList());
+    }
+
+    @Test
+    public void qualityCheckWithManyAreas() {
+        for (int numberOfAreas : new int[] {1, 10, 40}) {
+            UcteGlskDocument ucteGlskDocument = createGlskDocument(numberOfAreas);
+            Network network = Importers.loadNetwork("testCase_error_2.xiidm", getClass().getResourceAsStream("/testCase_error_2.xiidm"));
+            QualityReport qualityReport = GlskQualityProcessor.process(ucteGlskDocument, network, Instant.parse("2016-07-28T23:30:00Z"));
+
+            // the missing generator of the manual GSK is created once, so that only the unknown nodes are reported
+            assertNotNull(network.getGenerator("FFR2AA1 _generator"));
+            assertEquals(numberOfAreas, qualityReport.getQualityLogsByTso().size());
+            assertEquals(numberOfAreas, qualityReport.getAllQualityLogs().size());
+            for (int area = 0; area < numberOfAreas; area++) {
+                List<QualityLog> areaLogs = qualityReport.getQualityLogs(getAreaCode(area));
+                assertEquals(1, areaLogs.size());
+                assertEquals("GLSK node is not found in CGM", areaLogs.get(0).getMessage());
+                assertEquals(String.format("X%06d", area), areaLogs.get(0).getNodeId());
+            }
+
+            // areas are checked in parallel, but the report does not depend on their scheduling
+            Network otherNetwork = Importers.loadNetwork("testCase_error_2.xiidm", getClass().getResourceAsStream("/testCase_error_2.xiidm"));
+            assertEquals(describeLogs(qualityReport), describeLogs(GlskQualityProcessor.process(ucteGlskDocument, otherNetwork, Instant.parse("2016-07-28T23:30:00Z"))));
+        }
+    }
 }
@@ -11,8 +11,11 @@ import com.farao_community.farao.commons.FaraoException;
 import com.farao_community.farao.data.native_crac_api.NativeCrac;
 import com.google.common.base.Suppliers;
 import com.powsybl.commons.util.ServiceLoaderCache;
+import org.apache.commons.io.IOUtils;
 
 import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.function.Supplier;
@@ -36,9 +39,9 @@ public final class NativeCracImporters {
      * @param nativeCracPath {@link Path} of the native CRAC file
      */
     public static NativeCrac importData(Path nativeCracPath) {
-        try (InputStream is = new FileInputStream(nativeCracPath.toFile())) {
-            return importData(nativeCracPath.getFileName().toString(), is);
-        } catch (FileNotFoundException e) {
+        try {
+            return importData(nativeCracPath.getFileName().toString(), Files.readAllBytes(nativeCracPath));
+        } catch (NoSuchFileException e) {
             throw new FaraoException("File not found.");
         } catch (IOException e) {
             throw new UncheckedIOException(e);
@@ -51,17 +54,18 @@ public final class NativeCracImporters {
      * @param inputStream input stream of the native CRAC file
      */
     public static NativeCrac importData(String fileName, InputStream inputStream) {
-        try {
-            byte[] bytes = getBytesFromInputStream(inputStream);
+        return importData(fileName, getBytesFromInputStream(inputStream));
+    }
 
-            NativeCracImporter importer = findImporter(fileName, new ByteArrayInputStream(bytes));
-            if (importer == null) {
-                throw new FaraoException("No importer found for this file");
-            }
-            return importer.importNativeCrac(new ByteArrayInputStream(bytes));
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
+    /**
+     * The same buffer is read by format detection and by import, without being copied
+     */
+    private static NativeCrac importData(String fileName, byte[] bytes) {
+        NativeCracImporter importer = findImporter(fileName, bytes);
+        if (importer == null) {
+            throw new FaraoException("No importer found for this file");
         }
+        return importer.importNativeCrac(new ByteArrayInputStream(bytes));
     }
 
     /**
@@ -71,20 +75,16 @@ public final class NativeCracImporters {
      * @return the importer if one exists for the given file or <code>null</code> otherwise.
      */
     public static NativeCracImporter findImporter(String fileName, InputStream inputStream) {
-        try {
-            byte[] bytes = getBytesFromInputStream(inputStream);
+        return findImporter(fileName, getBytesFromInputStream(inputStream));
+    }
 
-            for (NativeCracImporter importer : NATIVE_CRAC_IMPORTERS.get()) {
-                ByteArrayInputStream bais = new ByteArrayInputStream(bytes);
-                if (importer.exists(fileName, bais)) {
-                    return importer;
-                }
+    private static NativeCracImporter findImporter(String fileName, byte[] bytes) {
+        for (NativeCracImporter importer : NATIVE_CRAC_IMPORTERS.get()) {
+            if (importer.exists(fileName, new ByteArrayInputStream(bytes))) {
+                return importer;
             }
-            return null;
-
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
         }
+        return null;
     }
 
     /**
@@ -106,10 +106,11 @@ public final class NativeCracImporters {
         }
     }
 
-    private static byte[] getBytesFromInputStream(InputStream inputStream) throws IOException {
-
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        org.apache.commons.io.IOUtils.copy(inputStream, baos);
-        return baos.toByteArray();
+    private static byte[] getBytesFromInputStream(InputStream inputStream) {
+        try {
+            return IOUtils.toByteArray(inputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
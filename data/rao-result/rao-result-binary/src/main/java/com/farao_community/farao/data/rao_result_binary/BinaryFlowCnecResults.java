@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2021, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.data.rao_result_binary;
+
+import com.farao_community.farao.commons.FaraoException;
+import com.farao_community.farao.commons.Unit;
+import com.farao_community.farao.data.rao_result_api.ComputationStatus;
+import com.farao_community.farao.data.rao_result_api.OptimizationState;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static com.farao_community.farao.data.rao_result_binary.RaoResultBinaryConstants.*;
+
+/**
+ * FlowCnec results read from the binary RAO result format.
+ *
+ * Only the header and the FlowCnec ids are read when the results are imported. Values are read from
+ * the underlying buffer, usually a memory-mapped file, when they are queried: reading the results of
+ * one FlowCnec or one column only loads the corresponding pages of the file.
+ *
+ * FlowCnecs are identified by their ids, so that the results can be read without the CRAC they were
+ * computed on. Missing values are returned as NaN.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class BinaryFlowCnecResults {
+
+    private final ComputationStatus computationStatus;
+    private final List<String> flowCnecIds;
+    private final Map<String, Integer> flowCnecIndices;
+    private final ByteBuffer buffer;
+    private final int valuesOffset;
+
+    BinaryFlowCnecResults(ByteBuffer buffer) {
+        this.buffer = buffer;
+        try {
+            if (buffer.getInt(0) != MAGIC_NUMBER) {
+                throw new FaraoException("Not a binary RAO result");
+            }
+            int version = buffer.getInt(Integer.BYTES);
+            if (version != VERSION) {
+                throw new FaraoException(String.format("Unsupported binary RAO result version %d", version));
+            }
+            ByteBuffer header = buffer.duplicate();
+            header.position(2 * Integer.BYTES);
+            this.computationStatus = deserializeStatus(header.get());
+            int numberOfFlowCnecs = header.getInt();
+            int numberOfColumns = header.getInt();
+            if (numberOfColumns != NUMBER_OF_COLUMNS) {
+                throw new FaraoException(String.format("Unexpected number of columns %d in binary RAO result", numberOfColumns));
+            }
+            String[] ids = new String[numberOfFlowCnecs];
+            this.flowCnecIndices = new HashMap<>();
+            for (int i = 0; i < numberOfFlowCnecs; i++) {
+                byte[] id = new byte[header.getInt()];
+                header.get(id);
+                ids[i] = new String(id, StandardCharsets.UTF_8);
+                flowCnecIndices.put(ids[i], i);
+            }
+            this.flowCnecIds = Collections.unmodifiableList(Arrays.asList(ids));
+            this.valuesOffset = (header.position() + Double.BYTES - 1) / Double.BYTES * Double.BYTES;
+            if ((long) valuesOffset + (long) NUMBER_OF_COLUMNS * numberOfFlowCnecs * Double.BYTES > buffer.limit()) {
+                throw new FaraoException("Binary RAO result is truncated");
+            }
+        } catch (IndexOutOfBoundsException | BufferUnderflowException e) {
+            throw new FaraoException("Binary RAO result is truncated", e);
+        }
+    }
+
+    public ComputationStatus getComputationStatus() {
+        return computationStatus;
+    }
+
+    /**
+     * Sorted ids of the FlowCnecs. Columns returned by this class are in the same order.
+     */
+    public List<String> getFlowCnecIds() {
+        return flowCnecIds;
+    }
+
+    public boolean containsFlowCnec(String flowCnecId) {
+        return flowCnecIndices.containsKey(flowCnecId);
+    }
+
+    public double getFlow(OptimizationState optimizationState, String flowCnecId, Unit unit) {
+        return getValue(columnIndex(optimizationState, unit, FLOW), flowCnecId);
+    }
+
+    public double getMargin(OptimizationState optimizationState, String flowCnecId, Unit unit) {
+        return getValue(columnIndex(optimizationState, unit, MARGIN), flowCnecId);
+    }
+
+    public double getRelativeMargin(OptimizationState optimizationState, String flowCnecId, Unit unit) {
+        return getValue(columnIndex(optimizationState, unit, RELATIVE_MARGIN), flowCnecId);
+    }
+
+    public double getLoopFlow(OptimizationState optimizationState, String flowCnecId, Unit unit) {
+        return getValue(columnIndex(optimizationState, unit, LOOP_FLOW), flowCnecId);
+    }
+
+    public double getCommercialFlow(OptimizationState optimizationState, String flowCnecId, Unit unit) {
+        return getValue(columnIndex(optimizationState, unit, COMMERCIAL_FLOW), flowCnecId);
+    }
+
+    public double getPtdfZonalSum(OptimizationState optimizationState, String flowCnecId) {
+        return getValue(ptdfZonalSumColumnIndex(optimizationState), flowCnecId);
+    }
+
+    public double[] getFlows(OptimizationState optimizationState, Unit unit) {
+        return getColumn(columnIndex(optimizationState, unit, FLOW));
+    }
+
+    public double[] getMargins(OptimizationState optimizationState, Unit unit) {
+        return getColumn(columnIndex(optimizationState, unit, MARGIN));
+    }
+
+    public double[] getRelativeMargins(OptimizationState optimizationState, Unit unit) {
+        return getColumn(columnIndex(optimizationState, unit, RELATIVE_MARGIN));
+    }
+
+    public double[] getLoopFlows(OptimizationState optimizationState, Unit unit) {
+        return getColumn(columnIndex(optimizationState, unit, LOOP_FLOW));
+    }
+
+    public double[] getCommercialFlows(OptimizationState optimizationState, Unit unit) {
+        return getColumn(columnIndex(optimizationState, unit, COMMERCIAL_FLOW));
+    }
+
+    public double[] getPtdfZonalSums(OptimizationState optimizationState) {
+        return getColumn(ptdfZonalSumColumnIndex(optimizationState));
+    }
+
+    private double getValue(int columnIndex, String flowCnecId) {
+        Integer flowCnecIndex = flowCnecIndices.get(flowCnecId);
+        if (flowCnecIndex == null) {
+            throw new FaraoException(String.format("No result for FlowCnec %s", flowCnecId));
+        }
+        return buffer.getDouble(valueOffset(columnIndex, flowCnecIndex));
+    }
+
+    private double[] getColumn(int columnIndex) {
+        double[] column = new double[flowCnecIds.size()];
+        ByteBuffer columnBuffer = buffer.duplicate();
+        columnBuffer.position(valueOffset(columnIndex, 0));
+        columnBuffer.asDoubleBuffer().get(column);
+        return column;
+    }
+
+    private int valueOffset(int columnIndex, int flowCnecIndex) {
+        return valuesOffset + (columnIndex * flowCnecIds.size() + flowCnecIndex) * Double.BYTES;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2021, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.data.rao_result_binary;
+
+import com.farao_community.farao.commons.FaraoException;
+import com.farao_community.farao.commons.Unit;
+import com.farao_community.farao.data.rao_result_api.ComputationStatus;
+import com.farao_community.farao.data.rao_result_api.OptimizationState;
+
+/**
+ * Layout of the binary RAO result format. All the values are big-endian.
+ *
+ * <pre>
+ * int      magic number
+ * int      format version
+ * byte     computation status
+ * int      number of FlowCnecs n
+ * int      number of columns c
+ * n times  int length + UTF-8 bytes of a FlowCnec id, ids being sorted
+ * padding  zero bytes, up to a multiple of 8 bytes
+ * c times  n doubles, the values of one column for all the FlowCnecs, NaN when there is no value
+ * </pre>
+ *
+ * The first columns hold flows, margins, relative margins, loop flows and commercial flows, for each
+ * optimization state and each unit. The last ones hold the zonal PTDF sums of each optimization state.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class RaoResultBinaryConstants {
+
+    static final int MAGIC_NUMBER = 0x46524252; // "FRBR"
+    static final int VERSION = 1;
+
+    static final OptimizationState[] OPTIMIZATION_STATES = {OptimizationState.INITIAL, OptimizationState.AFTER_PRA, OptimizationState.AFTER_ARA, OptimizationState.AFTER_CRA};
+    static final Unit[] UNITS = {Unit.MEGAWATT, Unit.AMPERE};
+
+    static final int FLOW = 0;
+    static final int MARGIN = 1;
+    static final int RELATIVE_MARGIN = 2;
+    static final int LOOP_FLOW = 3;
+    static final int COMMERCIAL_FLOW = 4;
+    static final int NUMBER_OF_QUANTITIES = 5;
+
+    static final int NUMBER_OF_COLUMNS = OPTIMIZATION_STATES.length * UNITS.length * NUMBER_OF_QUANTITIES + OPTIMIZATION_STATES.length;
+
+    private RaoResultBinaryConstants() {
+    }
+
+    static int columnIndex(OptimizationState optimizationState, Unit unit, int quantity) {
+        return (optimizationStateIndex(optimizationState) * UNITS.length + unitIndex(unit)) * NUMBER_OF_QUANTITIES + quantity;
+    }
+
+    static int ptdfZonalSumColumnIndex(OptimizationState optimizationState) {
+        return OPTIMIZATION_STATES.length * UNITS.length * NUMBER_OF_QUANTITIES + optimizationStateIndex(optimizationState);
+    }
+
+    private static int optimizationStateIndex(OptimizationState optimizationState) {
+        for (int i = 0; i < OPTIMIZATION_STATES.length; i++) {
+            if (OPTIMIZATION_STATES[i] == optimizationState) {
+                return i;
+            }
+        }
+        throw new FaraoException(String.format("Unsupported optimization state %s", optimizationState));
+    }
+
+    private static int unitIndex(Unit unit) {
+        for (int i = 0; i < UNITS.length; i++) {
+            if (UNITS[i] == unit) {
+                return i;
+            }
+        }
+        throw new FaraoException(String.format("Unsupported unit %s", unit));
+    }
+
+    static byte serializeStatus(ComputationStatus computationStatus) {
+        switch (computationStatus) {
+            case DEFAULT:
+                return 0;
+            case FALLBACK:
+                return 1;
+            case FAILURE:
+                return 2;
+            default:
+                throw new FaraoException(String.format("Unsupported computation status %s", computationStatus));
+        }
+    }
+
+    static ComputationStatus deserializeStatus(byte byteValue) {
+        switch (byteValue) {
+            case 0:
+                return ComputationStatus.DEFAULT;
+            case 1:
+                return ComputationStatus.FALLBACK;
+            case 2:
+                return ComputationStatus.FAILURE;
+            default:
+                throw new FaraoException(String.format("Unrecognized computation status %d", byteValue));
+        }
+    }
+}
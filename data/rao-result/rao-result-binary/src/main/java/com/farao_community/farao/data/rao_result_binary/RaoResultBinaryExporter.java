@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2021, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.data.rao_result_binary;
+
+import com.farao_community.farao.commons.FaraoException;
+import com.farao_community.farao.commons.Unit;
+import com.farao_community.farao.data.crac_api.Crac;
+import com.farao_community.farao.data.crac_api.cnec.FlowCnec;
+import com.farao_community.farao.data.rao_result_api.ComputationStatus;
+import com.farao_community.farao.data.rao_result_api.OptimizationState;
+import com.farao_community.farao.data.rao_result_api.RaoResult;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.farao_community.farao.data.rao_result_binary.RaoResultBinaryConstants.*;
+
+/**
+ * Exports the FlowCnec results of a RaoResult in the binary format described in {@link RaoResultBinaryConstants}.
+ * The file is written column after column, each value of the RaoResult being read once.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class RaoResultBinaryExporter {
+
+    @FunctionalInterface
+    private interface FlowCnecValueGetter {
+        double get(FlowCnec flowCnec);
+    }
+
+    public void export(RaoResult raoResult, Crac crac, OutputStream outputStream) {
+        List<FlowCnec> sortedListOfFlowCnecs = crac.getFlowCnecs().stream()
+            .sorted(Comparator.comparing(FlowCnec::getId))
+            .collect(Collectors.toList());
+        ComputationStatus computationStatus = raoResult.getComputationStatus();
+        try {
+            DataOutputStream dataOutputStream = new DataOutputStream(new BufferedOutputStream(outputStream));
+            dataOutputStream.writeInt(MAGIC_NUMBER);
+            dataOutputStream.writeInt(VERSION);
+            dataOutputStream.writeByte(serializeStatus(computationStatus));
+            dataOutputStream.writeInt(sortedListOfFlowCnecs.size());
+            dataOutputStream.writeInt(NUMBER_OF_COLUMNS);
+            for (FlowCnec flowCnec : sortedListOfFlowCnecs) {
+                byte[] id = flowCnec.getId().getBytes(StandardCharsets.UTF_8);
+                dataOutputStream.writeInt(id.length);
+                dataOutputStream.write(id);
+            }
+            while (dataOutputStream.size() % Double.BYTES != 0) {
+                dataOutputStream.writeByte(0);
+            }
+
+            boolean hasResults = computationStatus != ComputationStatus.FAILURE;
+            for (OptimizationState optState : OPTIMIZATION_STATES) {
+                for (Unit unit : UNITS) {
+                    writeColumn(sortedListOfFlowCnecs, optState, hasResults, flowCnec -> raoResult.getFlow(optState, flowCnec, unit), dataOutputStream);
+                    writeColumn(sortedListOfFlowCnecs, optState, hasResults, flowCnec -> raoResult.getMargin(optState, flowCnec, unit), dataOutputStream);
+                    writeColumn(sortedListOfFlowCnecs, optState, hasResults, flowCnec -> raoResult.getRelativeMargin(optState, flowCnec, unit), dataOutputStream);
+                    writeColumn(sortedListOfFlowCnecs, optState, hasResults, flowCnec -> raoResult.getLoopFlow(optState, flowCnec, unit), dataOutputStream);
+                    writeColumn(sortedListOfFlowCnecs, optState, hasResults, flowCnec -> raoResult.getCommercialFlow(optState, flowCnec, unit), dataOutputStream);
+                }
+            }
+            for (OptimizationState optState : OPTIMIZATION_STATES) {
+                writeColumn(sortedListOfFlowCnecs, optState, hasResults, flowCnec -> raoResult.getPtdfZonalSum(optState, flowCnec), dataOutputStream);
+            }
+            dataOutputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeColumn(List<FlowCnec> sortedListOfFlowCnecs, OptimizationState optState, boolean hasResults,
+                                    FlowCnecValueGetter valueGetter, DataOutputStream dataOutputStream) throws IOException {
+        for (FlowCnec flowCnec : sortedListOfFlowCnecs) {
+            // as in the JSON export, results after automatons and curative actions are not written for preventive FlowCnecs
+            boolean isExported = hasResults && (!flowCnec.getState().isPreventive()
+                || optState == OptimizationState.INITIAL || optState == OptimizationState.AFTER_PRA);
+            dataOutputStream.writeDouble(isExported ? safeGet(valueGetter, flowCnec) : Double.NaN);
+        }
+    }
+
+    private static double safeGet(FlowCnecValueGetter valueGetter, FlowCnec flowCnec) {
+        // RaoResult getters can throw an exception if the RAO is executed on one state only, or
+        // if loop flows and commercial flows are queried in AMPERE
+        try {
+            return valueGetter.get(flowCnec);
+        } catch (FaraoException e) {
+            return Double.NaN;
+        }
+    }
+}
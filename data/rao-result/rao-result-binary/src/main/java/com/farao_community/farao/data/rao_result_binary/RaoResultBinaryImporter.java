@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2021, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.data.rao_result_binary;
+
+import org.apache.commons.io.IOUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Imports FlowCnec results written by the {@link RaoResultBinaryExporter}.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class RaoResultBinaryImporter {
+
+    /**
+     * The file is memory-mapped: values are only read from the disk when they are queried.
+     */
+    public BinaryFlowCnecResults importFlowCnecResults(Path path) {
+        try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // the mapping remains valid once the channel is closed
+            return new BinaryFlowCnecResults(fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public BinaryFlowCnecResults importFlowCnecResults(InputStream inputStream) {
+        try {
+            return new BinaryFlowCnecResults(ByteBuffer.wrap(IOUtils.toByteArray(inputStream)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
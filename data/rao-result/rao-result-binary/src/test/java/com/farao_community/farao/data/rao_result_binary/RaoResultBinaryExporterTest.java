@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2021, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.data.rao_result_binary;
+
+import com.farao_community.farao.commons.FaraoException;
+import com.farao_community.farao.data.crac_api.Crac;
+import com.farao_community.farao.data.crac_api.cnec.FlowCnec;
+import com.farao_community.farao.data.crac_impl.utils.CommonCracCreation;
+import com.farao_community.farao.data.rao_result_api.ComputationStatus;
+import com.farao_community.farao.data.rao_result_impl.ElementaryFlowCnecResult;
+import com.farao_community.farao.data.rao_result_impl.FlowCnecResult;
+import com.farao_community.farao.data.rao_result_impl.RaoResultImpl;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static com.farao_community.farao.commons.Unit.AMPERE;
+import static com.farao_community.farao.commons.Unit.MEGAWATT;
+import static com.farao_community.farao.data.rao_result_api.OptimizationState.*;
+import static org.junit.Assert.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+public class RaoResultBinaryExporterTest {
+    private static final double DOUBLE_TOLERANCE = 1e-6;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Crac crac;
+    private RaoResultImpl raoResult;
+    private FlowCnec preventiveCnec;
+    private FlowCnec curativeCnec;
+
+    @Before
+    public void setUp() {
+        crac = CommonCracCreation.createWithCurativePstRange();
+        preventiveCnec = crac.getFlowCnec("cnec1basecase");
+        curativeCnec = crac.getFlowCnec("cnec1stateCurativeContingency1");
+
+        raoResult = new RaoResultImpl();
+        raoResult.setComputationStatus(ComputationStatus.FALLBACK);
+
+        ElementaryFlowCnecResult result = raoResult.getAndCreateIfAbsentFlowCnecResult(preventiveCnec).getAndCreateIfAbsentResultForOptimizationState(INITIAL);
+        result.setFlow(100., MEGAWATT);
+        result.setMargin(101., MEGAWATT);
+        result.setRelativeMargin(102., MEGAWATT);
+        result.setLoopFlow(103., MEGAWATT);
+        result.setCommercialFlow(104., MEGAWATT);
+        result.setFlow(110., AMPERE);
+        result.setPtdfZonalSum(0.1);
+
+        FlowCnecResult curativeCnecResult = raoResult.getAndCreateIfAbsentFlowCnecResult(curativeCnec);
+        result = curativeCnecResult.getAndCreateIfAbsentResultForOptimizationState(AFTER_ARA);
+        result.setFlow(200., MEGAWATT);
+        result.setMargin(201., AMPERE);
+        result = curativeCnecResult.getAndCreateIfAbsentResultForOptimizationState(AFTER_CRA);
+        result.setFlow(300., MEGAWATT);
+        result.setLoopFlow(303., MEGAWATT);
+        result.setPtdfZonalSum(0.3);
+    }
+
+    private byte[] export() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        new RaoResultBinaryExporter().export(raoResult, crac, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private void checkResults(BinaryFlowCnecResults results) {
+        assertEquals(ComputationStatus.FALLBACK, results.getComputationStatus());
+        assertEquals(crac.getFlowCnecs().size(), results.getFlowCnecIds().size());
+        assertTrue(results.containsFlowCnec("cnec1basecase"));
+
+        assertEquals(100., results.getFlow(INITIAL, "cnec1basecase", MEGAWATT), DOUBLE_TOLERANCE);
+        assertEquals(101., results.getMargin(INITIAL, "cnec1basecase", MEGAWATT), DOUBLE_TOLERANCE);
+        assertEquals(102., results.getRelativeMargin(INITIAL, "cnec1basecase", MEGAWATT), DOUBLE_TOLERANCE);
+        assertEquals(103., results.getLoopFlow(INITIAL, "cnec1basecase", MEGAWATT), DOUBLE_TOLERANCE);
+        assertEquals(104., results.getCommercialFlow(INITIAL, "cnec1basecase", MEGAWATT), DOUBLE_TOLERANCE);
+        assertEquals(110., results.getFlow(INITIAL, "cnec1basecase", AMPERE), DOUBLE_TOLERANCE);
+        assertTrue(Double.isNaN(results.getMargin(INITIAL, "cnec1basecase", AMPERE)));
+        assertEquals(0.1, results.getPtdfZonalSum(INITIAL, "cnec1basecase"), DOUBLE_TOLERANCE);
+        assertTrue(Double.isNaN(results.getFlow(AFTER_CRA, "cnec1basecase", MEGAWATT)));
+
+        assertEquals(200., results.getFlow(AFTER_ARA, "cnec1stateCurativeContingency1", MEGAWATT), DOUBLE_TOLERANCE);
+        assertEquals(201., results.getMargin(AFTER_ARA, "cnec1stateCurativeContingency1", AMPERE), DOUBLE_TOLERANCE);
+        assertEquals(300., results.getFlow(AFTER_CRA, "cnec1stateCurativeContingency1", MEGAWATT), DOUBLE_TOLERANCE);
+        assertEquals(303., results.getLoopFlow(AFTER_CRA, "cnec1stateCurativeContingency1", MEGAWATT), DOUBLE_TOLERANCE);
+        assertEquals(0.3, results.getPtdfZonalSum(AFTER_CRA, "cnec1stateCurativeContingency1"), DOUBLE_TOLERANCE);
+        assertTrue(Double.isNaN(results.getFlow(INITIAL, "cnec1stateCurativeContingency1", MEGAWATT)));
+
+        int curativeCnecIndex = results.getFlowCnecIds().indexOf("cnec1stateCurativeContingency1");
+        double[] flows = results.getFlows(AFTER_CRA, MEGAWATT);
+        assertEquals(results.getFlowCnecIds().size(), flows.length);
+        assertEquals(300., flows[curativeCnecIndex], DOUBLE_TOLERANCE);
+        assertEquals(1, Arrays.stream(flows).filter(flow -> !Double.isNaN(flow)).count());
+        assertEquals(201., results.getMargins(AFTER_ARA, AMPERE)[curativeCnecIndex], DOUBLE_TOLERANCE);
+        assertEquals(303., results.getLoopFlows(AFTER_CRA, MEGAWATT)[curativeCnecIndex], DOUBLE_TOLERANCE);
+        assertEquals(0.3, results.getPtdfZonalSums(AFTER_CRA)[curativeCnecIndex], DOUBLE_TOLERANCE);
+
+        int preventiveCnecIndex = results.getFlowCnecIds().indexOf("cnec1basecase");
+        assertEquals(102., results.getRelativeMargins(INITIAL, MEGAWATT)[preventiveCnecIndex], DOUBLE_TOLERANCE);
+        assertEquals(104., results.getCommercialFlows(INITIAL, MEGAWATT)[preventiveCnecIndex], DOUBLE_TOLERANCE);
+        assertTrue(Double.isNaN(results.getCommercialFlows(INITIAL, MEGAWATT)[curativeCnecIndex]));
+    }
+
+    @Test
+    public void testRoundTripInMemory() {
+        checkResults(new RaoResultBinaryImporter().importFlowCnecResults(new ByteArrayInputStream(export())));
+    }
+
+    @Test
+    public void testRoundTripWithMemoryMappedFile() throws IOException {
+        Path path = temporaryFolder.newFile("raoResult.bin").toPath();
+        try (OutputStream outputStream = Files.newOutputStream(path)) {
+            new RaoResultBinaryExporter().export(raoResult, crac, outputStream);
+        }
+        checkResults(new RaoResultBinaryImporter().importFlowCnecResults(path));
+    }
+
+    @Test
+    public void testFailedRaoResult() {
+        raoResult.setComputationStatus(ComputationStatus.FAILURE);
+        BinaryFlowCnecResults results = new RaoResultBinaryImporter().importFlowCnecResults(new ByteArrayInputStream(export()));
+        assertEquals(ComputationStatus.FAILURE, results.getComputationStatus());
+        assertTrue(Double.isNaN(results.getFlow(INITIAL, "cnec1basecase", MEGAWATT)));
+    }
+
+    @Test(expected = FaraoException.class)
+    public void testUnknownFlowCnec() {
+        new RaoResultBinaryImporter().importFlowCnecResults(new ByteArrayInputStream(export())).getFlow(INITIAL, "unknownCnec", MEGAWATT);
+    }
+
+    @Test(expected = FaraoException.class)
+    public void testWrongFormat() {
+        new RaoResultBinaryImporter().importFlowCnecResults(new ByteArrayInputStream("{\"computationStatus\" : \"default\"}".getBytes()));
+    }
+
+    @Test(expected = FaraoException.class)
+    public void testTruncatedFile() {
+        byte[] bytes = export();
+        new RaoResultBinaryImporter().importFlowCnecResults(new ByteArrayInputStream(Arrays.copyOf(bytes, bytes.length - 1)));
+    }
+}
@@ -18,19 +18,39 @@ import com.fasterxml.jackson.databind.module.SimpleModule;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
 
 /**
+ * The RaoResult is streamed to the output: with gzip compression enabled, it is compressed on the fly,
+ * and can be read back directly by the {@link RaoResultImporter}.
+ *
  * @author Baptiste Seguinot {@literal <baptiste.seguinot at rte-france.com>}
  */
 public class RaoResultExporter {
 
+    private boolean parallelPrefetch = false;
+    private boolean gzipCompression = false;
+
+    /**
+     * Fetch the results of the FlowCnecs in parallel. The exported RaoResult must then support concurrent reads.
+     */
+    public RaoResultExporter withParallelPrefetch(boolean parallelPrefetch) {
+        this.parallelPrefetch = parallelPrefetch;
+        return this;
+    }
+
+    public RaoResultExporter withGzipCompression(boolean gzipCompression) {
+        this.gzipCompression = gzipCompression;
+        return this;
+    }
+
     public void export(RaoResult raoResult, Crac crac, OutputStream outputStream) {
         try {
             ObjectMapper objectMapper = JsonUtil.createObjectMapper();
-            SimpleModule module = new RaoResultJsonSerializerModule(crac);
+            SimpleModule module = new RaoResultJsonSerializerModule(crac, parallelPrefetch);
             objectMapper.registerModule(module);
             ObjectWriter writer = objectMapper.writerWithDefaultPrettyPrinter();
-            writer.writeValue(outputStream, raoResult);
+            writer.writeValue(gzipCompression ? new GZIPOutputStream(outputStream) : outputStream, raoResult);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
@@ -14,25 +14,41 @@ import com.fasterxml.jackson.databind.module.SimpleModule;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.PushbackInputStream;
 import java.io.UncheckedIOException;
+import java.util.zip.GZIPInputStream;
 
 import static com.powsybl.commons.json.JsonUtil.createObjectMapper;
 
 /**
+ * Gzip compressed RaoResults, as written by the {@link RaoResultExporter} with gzip compression enabled,
+ * are detected from their first bytes and decompressed on the fly.
+ *
  * @author Baptiste Seguinot {@literal <baptiste.seguinot at rte-france.com>}
  */
 public class RaoResultImporter {
 
+    private static final int GZIP_MAGIC_LENGTH = 2;
+
     public RaoResult importRaoResult(InputStream inputStream, Crac crac) {
         try {
             ObjectMapper objectMapper = createObjectMapper();
             SimpleModule module = new SimpleModule();
             module.addDeserializer(RaoResult.class, new RaoResultDeserializer(crac));
             objectMapper.registerModule(module);
-            return objectMapper.readValue(inputStream, RaoResult.class);
+            return objectMapper.readValue(decompressIfGzipped(inputStream), RaoResult.class);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
     }
 
+    private static InputStream decompressIfGzipped(InputStream inputStream) throws IOException {
+        PushbackInputStream pushbackInputStream = new PushbackInputStream(inputStream, GZIP_MAGIC_LENGTH);
+        byte[] header = new byte[GZIP_MAGIC_LENGTH];
+        int headerLength = pushbackInputStream.readNBytes(header, 0, GZIP_MAGIC_LENGTH);
+        pushbackInputStream.unread(header, 0, headerLength);
+        boolean isGzipped = headerLength == GZIP_MAGIC_LENGTH
+            && ((header[0] & 0xff) | ((header[1] & 0xff) << 8)) == GZIPInputStream.GZIP_MAGIC;
+        return isGzipped ? new GZIPInputStream(pushbackInputStream) : pushbackInputStream;
+    }
 }
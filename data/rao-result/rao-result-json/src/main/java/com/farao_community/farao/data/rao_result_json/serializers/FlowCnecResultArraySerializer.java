@@ -25,50 +25,145 @@ import static com.farao_community.farao.data.rao_result_json.RaoResultJsonConsta
 import static com.farao_community.farao.data.rao_result_json.RaoResultJsonConstants.COMMERCIAL_FLOW;
 
 /**
+ * Each value of the RaoResult is fetched once per FlowCnec, optimization state and unit, and kept in a
+ * {@link FlowCnecResultValues} from which both the emptiness checks and the serialization are done.
+ * Values are fetched by batches of FlowCnecs, possibly in parallel, and always written in the order of the
+ * FlowCnec ids, so that the memory footprint of an export does not depend on the size of the CRAC.
+ *
  * @author Baptiste Seguinot {@literal <baptiste.seguinot at rte-france.com>}
  */
 final class FlowCnecResultArraySerializer {
 
+    private static final int PREFETCH_BATCH_SIZE = 1000;
+
+    private static final OptimizationState[] PREVENTIVE_OPTIMIZATION_STATES = {OptimizationState.INITIAL, OptimizationState.AFTER_PRA};
+    private static final OptimizationState[] OPTIMIZATION_STATES = {OptimizationState.INITIAL, OptimizationState.AFTER_PRA, OptimizationState.AFTER_ARA, OptimizationState.AFTER_CRA};
+    private static final Unit[] UNITS = {MEGAWATT, AMPERE};
+
+    private static final int FLOW_INDEX = 0;
+    private static final int MARGIN_INDEX = 1;
+    private static final int RELATIVE_MARGIN_INDEX = 2;
+    private static final int LOOP_FLOW_INDEX = 3;
+    private static final int COMMERCIAL_FLOW_INDEX = 4;
+    private static final int NUMBER_OF_VALUES = 5;
+
     private FlowCnecResultArraySerializer() {
     }
 
-    static void serialize(RaoResult raoResult, Crac crac, JsonGenerator jsonGenerator) throws IOException {
+    /**
+     * All the results of a FlowCnec, in primitive arrays indexed by optimization state, unit and type of value.
+     * Missing results are stored as NaN.
+     */
+    private static final class FlowCnecResultValues {
+        private final FlowCnec flowCnec;
+        private final OptimizationState[] optimizationStates;
+        private final double[] values;
+        private final double[] ptdfZonalSums;
+
+        private FlowCnecResultValues(FlowCnec flowCnec, OptimizationState[] optimizationStates) {
+            this.flowCnec = flowCnec;
+            this.optimizationStates = optimizationStates;
+            this.values = new double[optimizationStates.length * UNITS.length * NUMBER_OF_VALUES];
+            this.ptdfZonalSums = new double[optimizationStates.length];
+        }
+
+        private static int index(int stateIndex, int unitIndex, int valueIndex) {
+            return (stateIndex * UNITS.length + unitIndex) * NUMBER_OF_VALUES + valueIndex;
+        }
+
+        private double get(int stateIndex, int unitIndex, int valueIndex) {
+            return values[index(stateIndex, unitIndex, valueIndex)];
+        }
+
+        private boolean containsAnyResult() {
+            for (int stateIndex = 0; stateIndex < optimizationStates.length; stateIndex++) {
+                if (containsAnyResult(stateIndex)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean containsAnyResult(int stateIndex) {
+            if (!Double.isNaN(ptdfZonalSums[stateIndex])) {
+                return true;
+            }
+            for (int unitIndex = 0; unitIndex < UNITS.length; unitIndex++) {
+                if (containsAnyResult(stateIndex, unitIndex)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean containsAnyResult(int stateIndex, int unitIndex) {
+            for (int valueIndex = 0; valueIndex < NUMBER_OF_VALUES; valueIndex++) {
+                if (!Double.isNaN(get(stateIndex, unitIndex, valueIndex))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    static void serialize(RaoResult raoResult, Crac crac, boolean parallelPrefetch, JsonGenerator jsonGenerator) throws IOException {
 
         List<FlowCnec> sortedListOfFlowCnecs = crac.getFlowCnecs().stream()
             .sorted(Comparator.comparing(FlowCnec::getId))
             .collect(Collectors.toList());
 
         jsonGenerator.writeArrayFieldStart(FLOWCNEC_RESULTS);
-        for (FlowCnec flowCnec : sortedListOfFlowCnecs) {
-            serializeFlowCnecResult(flowCnec, raoResult, jsonGenerator);
+        for (int batchStart = 0; batchStart < sortedListOfFlowCnecs.size(); batchStart += PREFETCH_BATCH_SIZE) {
+            List<FlowCnec> batch = sortedListOfFlowCnecs.subList(batchStart, Math.min(batchStart + PREFETCH_BATCH_SIZE, sortedListOfFlowCnecs.size()));
+            List<FlowCnecResultValues> batchValues = (parallelPrefetch ? batch.parallelStream() : batch.stream())
+                .map(flowCnec -> fetchFlowCnecResultValues(raoResult, flowCnec))
+                .collect(Collectors.toList());
+            for (FlowCnecResultValues flowCnecResultValues : batchValues) {
+                serializeFlowCnecResult(flowCnecResultValues, jsonGenerator);
+            }
         }
         jsonGenerator.writeEndArray();
     }
 
-    private static void serializeFlowCnecResult(FlowCnec flowCnec, RaoResult raoResult, JsonGenerator jsonGenerator) throws IOException {
-
-        if (containsAnyResultForFlowCnec(raoResult, flowCnec)) {
-            jsonGenerator.writeStartObject();
-            jsonGenerator.writeStringField(FLOWCNEC_ID, flowCnec.getId());
+    private static FlowCnecResultValues fetchFlowCnecResultValues(RaoResult raoResult, FlowCnec flowCnec) {
+        FlowCnecResultValues flowCnecResultValues = new FlowCnecResultValues(flowCnec,
+            flowCnec.getState().isPreventive() ? PREVENTIVE_OPTIMIZATION_STATES : OPTIMIZATION_STATES);
+        double[] values = flowCnecResultValues.values;
+        for (int stateIndex = 0; stateIndex < flowCnecResultValues.optimizationStates.length; stateIndex++) {
+            OptimizationState optState = flowCnecResultValues.optimizationStates[stateIndex];
+            for (int unitIndex = 0; unitIndex < UNITS.length; unitIndex++) {
+                Unit unit = UNITS[unitIndex];
+                values[FlowCnecResultValues.index(stateIndex, unitIndex, FLOW_INDEX)] = safeGetFlow(raoResult, flowCnec, optState, unit);
+                values[FlowCnecResultValues.index(stateIndex, unitIndex, MARGIN_INDEX)] = safeGetMargin(raoResult, flowCnec, optState, unit);
+                values[FlowCnecResultValues.index(stateIndex, unitIndex, RELATIVE_MARGIN_INDEX)] = safeGetRelativeMargin(raoResult, flowCnec, optState, unit);
+                values[FlowCnecResultValues.index(stateIndex, unitIndex, LOOP_FLOW_INDEX)] = safeGetLoopFlow(raoResult, flowCnec, optState, unit);
+                values[FlowCnecResultValues.index(stateIndex, unitIndex, COMMERCIAL_FLOW_INDEX)] = safeGetCommercialFlow(raoResult, flowCnec, optState, unit);
+            }
+            flowCnecResultValues.ptdfZonalSums[stateIndex] = safeGetPtdfZonalSum(raoResult, flowCnec, optState);
+        }
+        return flowCnecResultValues;
+    }
 
-            serializeFlowCnecResultForOptimizationState(OptimizationState.INITIAL, flowCnec, raoResult, jsonGenerator);
-            serializeFlowCnecResultForOptimizationState(OptimizationState.AFTER_PRA, flowCnec, raoResult, jsonGenerator);
+    private static void serializeFlowCnecResult(FlowCnecResultValues flowCnecResultValues, JsonGenerator jsonGenerator) throws IOException {
 
-            if (!flowCnec.getState().isPreventive()) {
-                serializeFlowCnecResultForOptimizationState(OptimizationState.AFTER_ARA, flowCnec, raoResult, jsonGenerator);
-                serializeFlowCnecResultForOptimizationState(OptimizationState.AFTER_CRA, flowCnec, raoResult, jsonGenerator);
+        if (flowCnecResultValues.containsAnyResult()) {
+            jsonGenerator.writeStartObject();
+            jsonGenerator.writeStringField(FLOWCNEC_ID, flowCnecResultValues.flowCnec.getId());
+            for (int stateIndex = 0; stateIndex < flowCnecResultValues.optimizationStates.length; stateIndex++) {
+                serializeFlowCnecResultForOptimizationState(flowCnecResultValues, stateIndex, jsonGenerator);
             }
             jsonGenerator.writeEndObject();
         }
     }
 
-    private static void serializeFlowCnecResultForOptimizationState(OptimizationState optState, FlowCnec flowCnec, RaoResult raoResult, JsonGenerator jsonGenerator) throws IOException {
+    private static void serializeFlowCnecResultForOptimizationState(FlowCnecResultValues flowCnecResultValues, int stateIndex, JsonGenerator jsonGenerator) throws IOException {
 
-        if (containsAnyResultForOptimizationState(raoResult, flowCnec, optState)) {
-            jsonGenerator.writeObjectFieldStart(serializeOptimizationState(optState));
-            serializeFlowCnecResultForOptimizationStateAndUnit(optState, MEGAWATT, flowCnec, raoResult, jsonGenerator);
-            serializeFlowCnecResultForOptimizationStateAndUnit(optState, AMPERE, flowCnec, raoResult, jsonGenerator);
-            double ptdfZonalSum = safeGetPtdfZonalSum(raoResult, flowCnec, optState);
+        if (flowCnecResultValues.containsAnyResult(stateIndex)) {
+            jsonGenerator.writeObjectFieldStart(serializeOptimizationState(flowCnecResultValues.optimizationStates[stateIndex]));
+            for (int unitIndex = 0; unitIndex < UNITS.length; unitIndex++) {
+                serializeFlowCnecResultForOptimizationStateAndUnit(flowCnecResultValues, stateIndex, unitIndex, jsonGenerator);
+            }
+            double ptdfZonalSum = flowCnecResultValues.ptdfZonalSums[stateIndex];
             if (!Double.isNaN(ptdfZonalSum)) {
                 jsonGenerator.writeNumberField(ZONAL_PTDF_SUM, ptdfZonalSum);
             }
@@ -76,64 +171,27 @@ final class FlowCnecResultArraySerializer {
         }
     }
 
-    private static void serializeFlowCnecResultForOptimizationStateAndUnit(OptimizationState optState, Unit unit, FlowCnec flowCnec, RaoResult raoResult, JsonGenerator jsonGenerator) throws IOException {
+    private static void serializeFlowCnecResultForOptimizationStateAndUnit(FlowCnecResultValues flowCnecResultValues, int stateIndex, int unitIndex, JsonGenerator jsonGenerator) throws IOException {
 
-        double flow = safeGetFlow(raoResult, flowCnec, optState, unit);
-        double margin = safeGetMargin(raoResult, flowCnec, optState, unit);
-        double relativeMargin = safeGetRelativeMargin(raoResult, flowCnec, optState, unit);
-        double loopFlow = safeGetLoopFlow(raoResult, flowCnec, optState, unit);
-        double commercialFlow = safeGetCommercialFlow(raoResult, flowCnec, optState, unit);
-
-        if (Double.isNaN(flow) && Double.isNaN(margin) && Double.isNaN(relativeMargin) && Double.isNaN(loopFlow) && Double.isNaN(commercialFlow)) {
+        if (!flowCnecResultValues.containsAnyResult(stateIndex, unitIndex)) {
             return;
         }
 
-        jsonGenerator.writeObjectFieldStart(serializeUnit(unit));
-        if (!Double.isNaN(flow)) {
-            jsonGenerator.writeNumberField(FLOW, flow);
-        }
-        if (!Double.isNaN(margin)) {
-            jsonGenerator.writeNumberField(MARGIN, margin);
-        }
-        if (!Double.isNaN(relativeMargin)) {
-            jsonGenerator.writeNumberField(RELATIVE_MARGIN, relativeMargin);
-        }
-        if (!Double.isNaN(loopFlow)) {
-            jsonGenerator.writeNumberField(LOOP_FLOW, loopFlow);
-        }
-        if (!Double.isNaN(commercialFlow)) {
-            jsonGenerator.writeNumberField(COMMERCIAL_FLOW, commercialFlow);
-        }
+        jsonGenerator.writeObjectFieldStart(serializeUnit(UNITS[unitIndex]));
+        writeNumberFieldIfDefined(FLOW, flowCnecResultValues.get(stateIndex, unitIndex, FLOW_INDEX), jsonGenerator);
+        writeNumberFieldIfDefined(MARGIN, flowCnecResultValues.get(stateIndex, unitIndex, MARGIN_INDEX), jsonGenerator);
+        writeNumberFieldIfDefined(RELATIVE_MARGIN, flowCnecResultValues.get(stateIndex, unitIndex, RELATIVE_MARGIN_INDEX), jsonGenerator);
+        writeNumberFieldIfDefined(LOOP_FLOW, flowCnecResultValues.get(stateIndex, unitIndex, LOOP_FLOW_INDEX), jsonGenerator);
+        writeNumberFieldIfDefined(COMMERCIAL_FLOW, flowCnecResultValues.get(stateIndex, unitIndex, COMMERCIAL_FLOW_INDEX), jsonGenerator);
         jsonGenerator.writeEndObject();
     }
 
-    private static boolean containsAnyResultForFlowCnec(RaoResult raoResult, FlowCnec flowCnec) {
-
-        if (flowCnec.getState().isPreventive()) {
-            return containsAnyResultForOptimizationState(raoResult, flowCnec, OptimizationState.INITIAL) ||
-                containsAnyResultForOptimizationState(raoResult, flowCnec, OptimizationState.AFTER_PRA);
-        } else {
-            return containsAnyResultForOptimizationState(raoResult, flowCnec, OptimizationState.INITIAL) ||
-                containsAnyResultForOptimizationState(raoResult, flowCnec, OptimizationState.AFTER_PRA) ||
-                containsAnyResultForOptimizationState(raoResult, flowCnec, OptimizationState.AFTER_ARA) ||
-                containsAnyResultForOptimizationState(raoResult, flowCnec, OptimizationState.AFTER_CRA);
+    private static void writeNumberFieldIfDefined(String fieldName, double value, JsonGenerator jsonGenerator) throws IOException {
+        if (!Double.isNaN(value)) {
+            jsonGenerator.writeNumberField(fieldName, value);
         }
     }
 
-    private static boolean containsAnyResultForOptimizationState(RaoResult raoResult, FlowCnec flowCnec, OptimizationState optState) {
-        return !Double.isNaN(safeGetFlow(raoResult, flowCnec, optState, MEGAWATT)) ||
-            !Double.isNaN(safeGetFlow(raoResult, flowCnec, optState, AMPERE)) ||
-            !Double.isNaN(safeGetMargin(raoResult, flowCnec, optState, MEGAWATT)) ||
-            !Double.isNaN(safeGetMargin(raoResult, flowCnec, optState, AMPERE)) ||
-            !Double.isNaN(safeGetRelativeMargin(raoResult, flowCnec, optState, MEGAWATT)) ||
-            !Double.isNaN(safeGetRelativeMargin(raoResult, flowCnec, optState, AMPERE)) ||
-            !Double.isNaN(safeGetLoopFlow(raoResult, flowCnec, optState, MEGAWATT)) ||
-            !Double.isNaN(safeGetLoopFlow(raoResult, flowCnec, optState, AMPERE)) ||
-            !Double.isNaN(safeGetCommercialFlow(raoResult, flowCnec, optState, MEGAWATT)) ||
-            !Double.isNaN(safeGetCommercialFlow(raoResult, flowCnec, optState, AMPERE)) ||
-            !Double.isNaN(safeGetPtdfZonalSum(raoResult, flowCnec, optState));
-    }
-
     private static double safeGetFlow(RaoResult raoResult, FlowCnec flowCnec, OptimizationState optState, Unit unit) {
         // methods getFlow can return an exception if RAO is executed on one state only
         try {
@@ -17,7 +17,15 @@ import com.fasterxml.jackson.databind.module.SimpleModule;
 public class RaoResultJsonSerializerModule extends SimpleModule {
 
     public RaoResultJsonSerializerModule(Crac crac) {
+        this(crac, false);
+    }
+
+    /**
+     * @param parallelPrefetch if true, the results of the FlowCnecs are fetched from the RaoResult in parallel
+     *                         before being written. The RaoResult must then support concurrent reads.
+     */
+    public RaoResultJsonSerializerModule(Crac crac, boolean parallelPrefetch) {
         super();
-        this.addSerializer(RaoResult.class, new RaoResultSerializer(crac));
+        this.addSerializer(RaoResult.class, new RaoResultSerializer(crac, parallelPrefetch));
     }
 }
@@ -22,9 +22,11 @@ import static com.farao_community.farao.data.rao_result_json.RaoResultJsonConsta
 class RaoResultSerializer extends AbstractJsonSerializer<RaoResult> {
 
     private Crac crac;
+    private boolean parallelPrefetch;
 
-    RaoResultSerializer(Crac crac) {
+    RaoResultSerializer(Crac crac, boolean parallelPrefetch) {
         this.crac = crac;
+        this.parallelPrefetch = parallelPrefetch;
     }
 
     @Override
@@ -41,7 +43,7 @@ class RaoResultSerializer extends AbstractJsonSerializer<RaoResult> {
         }
 
         CostResultMapSerializer.serialize(raoResult, jsonGenerator);
-        FlowCnecResultArraySerializer.serialize(raoResult, crac, jsonGenerator);
+        FlowCnecResultArraySerializer.serialize(raoResult, crac, parallelPrefetch, jsonGenerator);
         NetworkActionResultArraySerializer.serialize(raoResult, crac, jsonGenerator);
         PstRangeActionResultArraySerializer.serialize(raoResult, crac, jsonGenerator);
         HvdcRangeActionResultArraySerializer.serialize(raoResult, crac, jsonGenerator);
@@ -14,6 +14,7 @@ import com.farao_community.farao.data.crac_api.network_action.ActionType;
 import com.farao_community.farao.data.crac_api.network_action.NetworkAction;
 import com.farao_community.farao.data.crac_api.range_action.HvdcRangeAction;
 import com.farao_community.farao.data.crac_api.range_action.PstRangeAction;
+import com.farao_community.farao.data.crac_api.threshold.BranchThresholdRule;
 import com.farao_community.farao.data.crac_api.usage_rule.UsageMethod;
 import com.farao_community.farao.data.crac_impl.utils.CommonCracCreation;
 import com.farao_community.farao.data.rao_result_api.ComputationStatus;
@@ -327,4 +328,68 @@ public class RaoResultExporterTest {
 
         assertEquals(ComputationStatus.DEFAULT, importedRaoResult.getComputationStatus());
     }
+
+    @Test
+    public void testGzipCompressedExport() {
+        setUp("cnec1stateCurativeContingency1");
+        RaoResult raoResult = importedRaoResult;
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        new RaoResultExporter().withGzipCompression(true).export(raoResult, crac, outputStream);
+        byte[] compressedBytes = outputStream.toByteArray();
+        assertEquals((byte) 0x1f, compressedBytes[0]);
+        assertEquals((byte) 0x8b, compressedBytes[1]);
+
+        importedRaoResult = new RaoResultImporter().importRaoResult(new ByteArrayInputStream(compressedBytes), crac);
+        checkInitialCnecResults();
+        assertEquals(300., importedRaoResult.getFlow(AFTER_CRA, cnec, MEGAWATT), DOUBLE_TOLERANCE);
+        assertEquals(-7, importedRaoResult.getOptimizedTapOnState(crac.getPreventiveState(), pst));
+    }
+
+    @Test
+    public void testExportOfLargeResult() {
+        crac = CommonCracCreation.create();
+        RaoResultImpl raoResult = new RaoResultImpl();
+        raoResult.setComputationStatus(ComputationStatus.DEFAULT);
+        int nbCnecs = 10000;
+        for (int i = 0; i < nbCnecs; i++) {
+            boolean isPreventive = i % 2 == 0;
+            FlowCnec flowCnec = crac.newFlowCnec()
+                .withId("cnec" + i)
+                .withNetworkElement("BBE2AA1  FFR3AA1  1")
+                .withInstant(isPreventive ? Instant.PREVENTIVE : Instant.CURATIVE)
+                .withContingency(isPreventive ? null : "Contingency FR1 FR3")
+                .withOptimized()
+                .newThreshold().withRule(BranchThresholdRule.ON_LEFT_SIDE).withUnit(MEGAWATT).withMax(1000.).add()
+                .add();
+            FlowCnecResult flowCnecResult = raoResult.getAndCreateIfAbsentFlowCnecResult(flowCnec);
+            ElementaryFlowCnecResult initialResult = flowCnecResult.getAndCreateIfAbsentResultForOptimizationState(INITIAL);
+            initialResult.setFlow(i, MEGAWATT);
+            initialResult.setMargin(1000. - i, MEGAWATT);
+            initialResult.setFlow(i * 1.5, AMPERE);
+            if (!isPreventive) {
+                ElementaryFlowCnecResult afterCraResult = flowCnecResult.getAndCreateIfAbsentResultForOptimizationState(AFTER_CRA);
+                afterCraResult.setFlow(i / 2., MEGAWATT);
+                afterCraResult.setPtdfZonalSum(0.5);
+            }
+        }
+
+        ByteArrayOutputStream sequentialOutputStream = new ByteArrayOutputStream();
+        new RaoResultExporter().export(raoResult, crac, sequentialOutputStream);
+        ByteArrayOutputStream parallelOutputStream = new ByteArrayOutputStream();
+        new RaoResultExporter().withParallelPrefetch(true).export(raoResult, crac, parallelOutputStream);
+        assertArrayEquals(sequentialOutputStream.toByteArray(), parallelOutputStream.toByteArray());
+
+        ByteArrayOutputStream compressedOutputStream = new ByteArrayOutputStream();
+        new RaoResultExporter().withParallelPrefetch(true).withGzipCompression(true).export(raoResult, crac, compressedOutputStream);
+        assertTrue(compressedOutputStream.size() < sequentialOutputStream.size());
+
+        importedRaoResult = new RaoResultImporter().importRaoResult(new ByteArrayInputStream(compressedOutputStream.toByteArray()), crac);
+        FlowCnec lastCnec = crac.getFlowCnec("cnec" + (nbCnecs - 1));
+        assertEquals(nbCnecs - 1., importedRaoResult.getFlow(INITIAL, lastCnec, MEGAWATT), DOUBLE_TOLERANCE);
+        assertEquals(1001. - nbCnecs, importedRaoResult.getMargin(INITIAL, lastCnec, MEGAWATT), DOUBLE_TOLERANCE);
+        assertEquals((nbCnecs - 1) / 2., importedRaoResult.getFlow(AFTER_CRA, lastCnec, MEGAWATT), DOUBLE_TOLERANCE);
+        assertEquals(0.5, importedRaoResult.getPtdfZonalSum(AFTER_CRA, lastCnec), DOUBLE_TOLERANCE);
+        assertTrue(Double.isNaN(importedRaoResult.getFlow(AFTER_CRA, crac.getFlowCnec("cnec0"), MEGAWATT)));
+    }
 }
@@ -7,12 +7,10 @@
 package com.farao_community.farao.data.refprog.reference_program;
 
 import com.farao_community.farao.commons.EICode;
-import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.Network;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 
 /**
  * @author Peter Mitri {@literal <peter.mitri at rte-france.com>}
@@ -20,12 +18,21 @@ import java.util.Optional;
 public class CountryNetPositionComputation {
 
     private Network network;
+    private CrossBorderElementsIndex crossBorderElementsIndex;
     private Map<EICode, Double> netPositions;
 
     public CountryNetPositionComputation(Network network) {
         this.network = network;
     }
 
+    /**
+     * Net positions are computed on the working variant of the network of the given index, which can
+     * be shared by several computations
+     */
+    public CountryNetPositionComputation(CrossBorderElementsIndex crossBorderElementsIndex) {
+        this.crossBorderElementsIndex = crossBorderElementsIndex;
+    }
+
     public Map<EICode, Double> getNetPositions() {
         if (Objects.isNull(netPositions)) {
             computeNetPositions();
@@ -34,88 +41,9 @@ public class CountryNetPositionComputation {
     }
 
     private void computeNetPositions() {
-        netPositions = new HashMap<>();
-
-        network.getDanglingLineStream().forEach(danglingLine -> {
-            EICode area = new EICode(getSubstationNullableCountry(danglingLine.getTerminal().getVoltageLevel().getSubstation()));
-            addLeavingFlow(danglingLine, area);
-        });
-
-        network.getLineStream().forEach(line -> {
-            EICode areaSide1 = new EICode(getSubstationNullableCountry(line.getTerminal1().getVoltageLevel().getSubstation()));
-            EICode areaSide2 = new EICode(getSubstationNullableCountry(line.getTerminal2().getVoltageLevel().getSubstation()));
-            if (areaSide1.equals(areaSide2)) {
-                return;
-            }
-            addLeavingFlow(line, areaSide1);
-            addLeavingFlow(line, areaSide2);
-        });
-
-        network.getHvdcLineStream().forEach(hvdcLine -> {
-            EICode areaSide1 = new EICode(getSubstationNullableCountry(hvdcLine.getConverterStation1().getTerminal().getVoltageLevel().getSubstation()));
-            EICode areaSide2 = new EICode(getSubstationNullableCountry(hvdcLine.getConverterStation2().getTerminal().getVoltageLevel().getSubstation()));
-            if (areaSide1.equals(areaSide2)) {
-                return;
-            }
-            addLeavingFlow(hvdcLine, areaSide1);
-            addLeavingFlow(hvdcLine, areaSide2);
-        });
-    }
-
-    private Country getSubstationNullableCountry(Optional<Substation> substation) {
-        if (substation.isPresent()) {
-            return substation.get().getNullableCountry();
-        } else {
-            return null;
-        }
-    }
-
-    private void addLeavingFlow(DanglingLine danglingLine, EICode area) {
-        Double previousValue = getPreviousValue(area);
-        if (!Objects.isNull(area)) {
-            netPositions.put(area, previousValue + getLeavingFlow(danglingLine));
-        }
-    }
-
-    private Double getPreviousValue(EICode area) {
-        Double previousValue;
-        if (netPositions.get(area) != null) {
-            previousValue = netPositions.get(area);
-        } else {
-            previousValue = (double) 0;
+        if (Objects.isNull(crossBorderElementsIndex)) {
+            crossBorderElementsIndex = new CrossBorderElementsIndex(network);
         }
-        return previousValue;
-    }
-
-    private void addLeavingFlow(Line line, EICode area) {
-        Double previousValue = getPreviousValue(area);
-        if (!Objects.isNull(area)) {
-            netPositions.put(area, previousValue + getLeavingFlow(line, area));
-        }
-    }
-
-    private void addLeavingFlow(HvdcLine hvdcLine, EICode area) {
-        Double previousValue = getPreviousValue(area);
-        if (!Objects.isNull(area)) {
-            netPositions.put(area, previousValue + getLeavingFlow(hvdcLine, area));
-        }
-    }
-
-    private double getLeavingFlow(DanglingLine danglingLine) {
-        return danglingLine.getTerminal().isConnected() && !Double.isNaN(danglingLine.getTerminal().getP()) ? danglingLine.getTerminal().getP() : 0;
-    }
-
-    private double getLeavingFlow(Line line, EICode area) {
-        double flowSide1 = line.getTerminal1().isConnected() && !Double.isNaN(line.getTerminal1().getP()) ? line.getTerminal1().getP() : 0;
-        double flowSide2 = line.getTerminal2().isConnected() && !Double.isNaN(line.getTerminal2().getP()) ? line.getTerminal2().getP() : 0;
-        double directFlow = (flowSide1 - flowSide2) / 2;
-        return area.equals(new EICode(getSubstationNullableCountry(line.getTerminal1().getVoltageLevel().getSubstation()))) ? directFlow : -directFlow;
-    }
-
-    private double getLeavingFlow(HvdcLine hvdcLine, EICode area) {
-        double flowSide1 = hvdcLine.getConverterStation1().getTerminal().isConnected() && !Double.isNaN(hvdcLine.getConverterStation1().getTerminal().getP()) ? hvdcLine.getConverterStation1().getTerminal().getP() : 0;
-        double flowSide2 = hvdcLine.getConverterStation2().getTerminal().isConnected() && !Double.isNaN(hvdcLine.getConverterStation2().getTerminal().getP()) ? hvdcLine.getConverterStation2().getTerminal().getP() : 0;
-        double directFlow = (flowSide1 - flowSide2) / 2;
-        return area.equals(new EICode(getSubstationNullableCountry(hvdcLine.getConverterStation1().getTerminal().getVoltageLevel().getSubstation()))) ? directFlow : -directFlow;
+        netPositions = crossBorderElementsIndex.computeNetPositions();
     }
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2021, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.data.refprog.reference_program;
+
+import com.farao_community.farao.commons.EICode;
+import com.farao_community.farao.commons.FaraoException;
+import com.powsybl.iidm.network.*;
+
+import java.util.*;
+
+/**
+ * Index of the elements of a network which cross the border between two areas: dangling lines, and
+ * lines and HVDC lines whose two sides are in different countries.
+ *
+ * The elements and the areas of their sides are classified once, with a single pass over the network.
+ * Net positions can then be computed from the flows of the indexed elements only, for any variant of
+ * the network, so the same index can be shared by all the computations made on a given network
+ * (reference program, loop-flows, flow-based domains). It must be rebuilt if the topology of the
+ * network changes.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class CrossBorderElementsIndex {
+
+    private static final int NO_AREA = -1;
+
+    private final List<EICode> areas = new ArrayList<>();
+    private final Map<Country, Integer> areaIndexPerCountry = new EnumMap<>(Country.class);
+
+    /*
+     For the i-th indexed element: terminals of its two sides, and indices in areas of the areas of its two sides.
+     Dangling lines only have a side 1, their side 2 terminal is null.
+     */
+    private final Terminal[] terminalsSide1;
+    private final Terminal[] terminalsSide2;
+    private final int[] areaIndicesSide1;
+    private final int[] areaIndicesSide2;
+
+    public CrossBorderElementsIndex(Network network) {
+        Objects.requireNonNull(network);
+        List<Terminal> terminals1 = new ArrayList<>();
+        List<Terminal> terminals2 = new ArrayList<>();
+        List<Integer> areaIndices1 = new ArrayList<>();
+        List<Integer> areaIndices2 = new ArrayList<>();
+
+        network.getDanglingLineStream().forEach(danglingLine -> {
+            terminals1.add(danglingLine.getTerminal());
+            areaIndices1.add(getAreaIndex(getCountry(danglingLine.getTerminal())));
+            terminals2.add(null);
+            areaIndices2.add(NO_AREA);
+        });
+
+        network.getLineStream().forEach(line -> {
+            Country countrySide1 = getCountry(line.getTerminal1());
+            Country countrySide2 = getCountry(line.getTerminal2());
+            if (countrySide1 != countrySide2) {
+                terminals1.add(line.getTerminal1());
+                areaIndices1.add(getAreaIndex(countrySide1));
+                terminals2.add(line.getTerminal2());
+                areaIndices2.add(getAreaIndex(countrySide2));
+            }
+        });
+
+        network.getHvdcLineStream().forEach(hvdcLine -> {
+            Terminal terminalSide1 = hvdcLine.getConverterStation1().getTerminal();
+            Terminal terminalSide2 = hvdcLine.getConverterStation2().getTerminal();
+            Country countrySide1 = getCountry(terminalSide1);
+            Country countrySide2 = getCountry(terminalSide2);
+            if (countrySide1 != countrySide2) {
+                terminals1.add(terminalSide1);
+                areaIndices1.add(getAreaIndex(countrySide1));
+                terminals2.add(terminalSide2);
+                areaIndices2.add(getAreaIndex(countrySide2));
+            }
+        });
+
+        terminalsSide1 = terminals1.toArray(new Terminal[0]);
+        terminalsSide2 = terminals2.toArray(new Terminal[0]);
+        areaIndicesSide1 = areaIndices1.stream().mapToInt(Integer::intValue).toArray();
+        areaIndicesSide2 = areaIndices2.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static Country getCountry(Terminal terminal) {
+        Country country = terminal.getVoltageLevel().getSubstation().map(Substation::getNullableCountry).orElse(null);
+        if (country == null) {
+            throw new FaraoException(String.format("Element %s is not located in any country, the net positions of its network cannot be computed", terminal.getConnectable().getId()));
+        }
+        return country;
+    }
+
+    /*
+     Areas are only registered for the sides of indexed elements, so that countries which are not at the border
+     of any cross-border element do not get a net position.
+     */
+    private int getAreaIndex(Country country) {
+        return areaIndexPerCountry.computeIfAbsent(country, c -> areaIndexOf(new EICode(c)));
+    }
+
+    private int areaIndexOf(EICode area) {
+        int index = areas.indexOf(area);
+        if (index == NO_AREA) {
+            areas.add(area);
+            return areas.size() - 1;
+        }
+        return index;
+    }
+
+    /**
+     * Get the areas which are at the border of at least one indexed element
+     */
+    public Set<EICode> getAreas() {
+        return new HashSet<>(areas);
+    }
+
+    /**
+     * Get the number of indexed cross-border elements
+     */
+    public int getNumberOfElements() {
+        return terminalsSide1.length;
+    }
+
+    /**
+     * Compute the net position of each area, from the flows of the working variant of the network.
+     *
+     * The flow leaving an area through a dangling line is the active power at its terminal. The flow leaving
+     * an area through a line or an HVDC line is the mean of the active powers at its two sides, counted
+     * positively on its side 1 and negatively on its side 2.
+     */
+    public Map<EICode, Double> computeNetPositions() {
+        double[] netPositions = new double[areas.size()];
+        for (int i = 0; i < terminalsSide1.length; i++) {
+            double flowSide1 = getFlow(terminalsSide1[i]);
+            if (terminalsSide2[i] == null) {
+                netPositions[areaIndicesSide1[i]] += flowSide1;
+            } else {
+                double directFlow = (flowSide1 - getFlow(terminalsSide2[i])) / 2;
+                netPositions[areaIndicesSide1[i]] += directFlow;
+                netPositions[areaIndicesSide2[i]] -= directFlow;
+            }
+        }
+
+        Map<EICode, Double> netPositionPerArea = new HashMap<>();
+        for (int areaIndex = 0; areaIndex < areas.size(); areaIndex++) {
+            netPositionPerArea.put(areas.get(areaIndex), netPositions[areaIndex]);
+        }
+        return netPositionPerArea;
+    }
+
+    private static double getFlow(Terminal terminal) {
+        return terminal.isConnected() && !Double.isNaN(terminal.getP()) ? terminal.getP() : 0;
+    }
+}
@@ -45,8 +45,24 @@ public final class ReferenceProgramBuilder {
     }
 
     public static ReferenceProgram buildReferenceProgram(Network network, LoadFlowParameters loadFlowParameters) {
+        return buildReferenceProgram(network, loadFlowParameters, new CrossBorderElementsIndex(network));
+    }
+
+    /**
+     * Build the reference program of the working variant of the network, re-using an index of its cross-border
+     * elements, so that several reference programs can be built on the same network without indexing it again
+     */
+    public static ReferenceProgram buildReferenceProgram(Network network, LoadFlowParameters loadFlowParameters, CrossBorderElementsIndex crossBorderElementsIndex) {
         computeRefFlowOnCurrentNetwork(network, loadFlowParameters);
-        Map<EICode, Double> netPositions = (new CountryNetPositionComputation(network)).getNetPositions();
+        return buildReferenceProgram(crossBorderElementsIndex);
+    }
+
+    /**
+     * Build the reference program from the flows already computed on the working variant of the network
+     * of the index, without running a load flow
+     */
+    public static ReferenceProgram buildReferenceProgram(CrossBorderElementsIndex crossBorderElementsIndex) {
+        Map<EICode, Double> netPositions = (new CountryNetPositionComputation(crossBorderElementsIndex)).getNetPositions();
         List<ReferenceExchangeData> referenceExchangeDataList = new ArrayList<>();
 
         // warning: only the net positions are properly filled. With the use of the "null" in the
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2021, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.data.refprog.reference_program;
+
+import com.farao_community.farao.commons.EICode;
+import com.powsybl.iidm.import_.Importers;
+import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.Line;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.Substation;
+import com.powsybl.iidm.network.TopologyKind;
+import com.powsybl.iidm.network.VoltageLevel;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+public class CrossBorderElementsIndexTest {
+    private static final double DOUBLE_TOLERANCE = 1e-3;
+
+    @Test
+    public void testIndexedElements() {
+        Network network = Importers.loadNetwork("testCase.xiidm", getClass().getResourceAsStream("/testCase.xiidm"));
+        CrossBorderElementsIndex index = new CrossBorderElementsIndex(network);
+        assertEquals(4, index.getNumberOfElements());
+        assertEquals(Set.of(new EICode(Country.FR), new EICode(Country.BE), new EICode(Country.NL), new EICode(Country.DE)), index.getAreas());
+    }
+
+    @Test
+    public void testIndexReusedOnSeveralVariants() {
+        Network network = Importers.loadNetwork("testCase.xiidm", getClass().getResourceAsStream("/testCase.xiidm"));
+        CrossBorderElementsIndex index = new CrossBorderElementsIndex(network);
+        String initialVariantId = network.getVariantManager().getWorkingVariantId();
+        network.getVariantManager().cloneVariant(initialVariantId, "otherVariant");
+        network.getVariantManager().setWorkingVariant("otherVariant");
+        Line frDeLine = network.getLine("FFR2AA1  DDE3AA1  1");
+        frDeLine.getTerminal1().setP(frDeLine.getTerminal1().getP() + 100);
+        frDeLine.getTerminal2().setP(frDeLine.getTerminal2().getP() - 100);
+
+        Map<EICode, Double> netPositions = index.computeNetPositions();
+        assertEquals(1100.0, netPositions.get(new EICode(Country.FR)), DOUBLE_TOLERANCE);
+        assertEquals(1500.0, netPositions.get(new EICode(Country.BE)), DOUBLE_TOLERANCE);
+        assertEquals(0.0, netPositions.get(new EICode(Country.NL)), DOUBLE_TOLERANCE);
+        assertEquals(-2600.0, netPositions.get(new EICode(Country.DE)), DOUBLE_TOLERANCE);
+
+        network.getVariantManager().setWorkingVariant(initialVariantId);
+        netPositions = index.computeNetPositions();
+        assertEquals(1000.0, netPositions.get(new EICode(Country.FR)), DOUBLE_TOLERANCE);
+        assertEquals(-2500.0, netPositions.get(new EICode(Country.DE)), DOUBLE_TOLERANCE);
+    }
+
+    @Test
+    public void testInternalLinesDoNotRegisterTheirCountry() {
+        Network network = Importers.loadNetwork("testCase.xiidm", getClass().getResourceAsStream("/testCase.xiidm"));
+        Substation substation = network.newSubstation().setId("ES_SUBSTATION").setCountry(Country.ES).add();
+        VoltageLevel voltageLevel = substation.newVoltageLevel()
+            .setId("ES_VOLTAGE_LEVEL")
+            .setNominalV(400.)
+            .setTopologyKind(TopologyKind.BUS_BREAKER)
+            .add();
+        voltageLevel.getBusBreakerView().newBus().setId("ES_BUS_1").add();
+        voltageLevel.getBusBreakerView().newBus().setId("ES_BUS_2").add();
+        network.newLine()
+            .setId("ES_INTERNAL_LINE")
+            .setVoltageLevel1("ES_VOLTAGE_LEVEL")
+            .setBus1("ES_BUS_1")
+            .setVoltageLevel2("ES_VOLTAGE_LEVEL")
+            .setBus2("ES_BUS_2")
+            .setR(1.)
+            .setX(10.)
+            .setG1(0.)
+            .setB1(0.)
+            .setG2(0.)
+            .setB2(0.)
+            .add();
+
+        CrossBorderElementsIndex index = new CrossBorderElementsIndex(network);
+        assertEquals(4, index.getNumberOfElements());
+        assertEquals(Set.of(new EICode(Country.FR), new EICode(Country.BE), new EICode(Country.NL), new EICode(Country.DE)), index.getAreas());
+        assertFalse(index.computeNetPositions().containsKey(new EICode(Country.ES)));
+    }
+}
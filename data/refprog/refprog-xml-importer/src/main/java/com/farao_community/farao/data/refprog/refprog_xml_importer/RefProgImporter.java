@@ -7,33 +7,74 @@
 package com.farao_community.farao.data.refprog.refprog_xml_importer;
 
 import com.farao_community.farao.commons.FaraoException;
+import com.farao_community.farao.commons.chronology.Chronology;
+import com.farao_community.farao.commons.chronology.ChronologyImpl;
 import com.farao_community.farao.data.refprog.reference_program.ReferenceExchangeData;
 import com.farao_community.farao.data.refprog.reference_program.ReferenceProgram;
 import com.farao_community.farao.commons.EICode;
+import com.google.common.base.Suppliers;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
  * RefProg xml file importer
  *
+ * A RefProg file can either be imported for one given date, or entirely: the latter reads the file once,
+ * with a streaming parser, and gives the reference program of every instant of its publication interval.
+ * It should be preferred when the reference programs of several instants of the same file are needed.
+ *
  * @author Peter Mitri {@literal <peter.mitri at rte-france.com>}
  */
 public final class RefProgImporter {
     private static final Logger LOGGER = LoggerFactory.getLogger(RefProgImporter.class);
+    private static final String VALUE_ATTRIBUTE = "v";
+
+    private static final Supplier<JAXBContext> JAXB_CONTEXT = Suppliers.memoize(RefProgImporter::createJaxbContext)::get;
+    private static final Supplier<XMLInputFactory> XML_INPUT_FACTORY = Suppliers.memoize(RefProgImporter::createXmlInputFactory)::get;
+
+    /**
+     * Flows of a PublicationTimeSeries, indexed by the start of their interval. As in the import for one
+     * given date, only the first period of the time series is read, and the first value of an interval is kept.
+     */
+    private static final class TimeSeriesFlows {
+        private EICode outArea;
+        private EICode inArea;
+        private Instant start;
+        private Duration resolution;
+        private final NavigableMap<Instant, Double> flowPerIntervalStart = new TreeMap<>();
+
+        private void addFlow(int position, double flow) {
+            flowPerIntervalStart.putIfAbsent(start.plus(resolution.multipliedBy(position - 1L)), flow);
+        }
+
+        private double getFlow(Instant instant) {
+            Map.Entry<Instant, Double> interval = flowPerIntervalStart.floorEntry(instant);
+            if (interval != null && instant.isBefore(interval.getKey().plus(resolution))) {
+                return interval.getValue();
+            }
+            LOGGER.warn("Flow value between {} and {} is not found for this date {}", outArea.getAreaCode(), inArea.getAreaCode(), instant);
+            return 0;
+        }
+    }
 
     private RefProgImporter() {
     }
@@ -65,23 +106,176 @@ public final class RefProgImporter {
         }
     }
 
+    /**
+     * Import the reference programs of all the instants of the publication interval of a RefProg file.
+     * The reference program of an instant contains one exchange per PublicationTimeSeries of the file,
+     * with a flow of 0 if the time series has no value at that instant.
+     */
+    public static Chronology<ReferenceProgram> importRefProgChronology(InputStream inputStream) {
+        XMLStreamReader xmlStreamReader = null;
+        try {
+            xmlStreamReader = XML_INPUT_FACTORY.get().createXMLStreamReader(new BufferedInputStream(inputStream));
+            Chronology<ReferenceProgram> chronology = readRefProgChronology(xmlStreamReader);
+            LOGGER.info("RefProg file was imported");
+            return chronology;
+        } catch (XMLStreamException e) {
+            throw new FaraoException(e);
+        } finally {
+            closeQuietly(xmlStreamReader);
+        }
+    }
+
+    public static Chronology<ReferenceProgram> importRefProgChronology(Path inputPath) {
+        try (InputStream inputStream = new FileInputStream(inputPath.toFile())) {
+            return importRefProgChronology(inputStream);
+        } catch (IOException e) {
+            throw new FaraoException(e);
+        }
+    }
+
+    private static Chronology<ReferenceProgram> readRefProgChronology(XMLStreamReader xmlStreamReader) throws XMLStreamException {
+        String publicationTimeInterval = null;
+        List<TimeSeriesFlows> timeSeriesFlowsList = new ArrayList<>();
+        TimeSeriesFlows timeSeriesFlows = null;
+        int periodCount = 0;
+        // position and flow of the current interval, null until they are read
+        Integer position = null;
+        Double flow = null;
+
+        while (xmlStreamReader.hasNext()) {
+            int event = xmlStreamReader.next();
+            if (event == XMLStreamReader.START_ELEMENT) {
+                String value = xmlStreamReader.getAttributeValue(null, VALUE_ATTRIBUTE);
+                switch (xmlStreamReader.getLocalName()) {
+                    case "PublicationTimeInterval":
+                        publicationTimeInterval = value;
+                        break;
+                    case "PublicationTimeSeries":
+                        timeSeriesFlows = new TimeSeriesFlows();
+                        periodCount = 0;
+                        break;
+                    case "OutArea":
+                        Objects.requireNonNull(timeSeriesFlows).outArea = new EICode(value);
+                        break;
+                    case "InArea":
+                        Objects.requireNonNull(timeSeriesFlows).inArea = new EICode(value);
+                        break;
+                    case "Period":
+                        periodCount++;
+                        break;
+                    case "TimeInterval":
+                        if (periodCount == 1) {
+                            Objects.requireNonNull(timeSeriesFlows).start = parseInterval(value)[0].toInstant();
+                        }
+                        break;
+                    case "Resolution":
+                        if (periodCount == 1) {
+                            Objects.requireNonNull(timeSeriesFlows).resolution = Duration.parse(value);
+                        }
+                        break;
+                    case "Interval":
+                        position = null;
+                        flow = null;
+                        break;
+                    case "Pos":
+                        position = Integer.parseInt(value);
+                        break;
+                    case "Qty":
+                        flow = Double.parseDouble(value);
+                        break;
+                    default:
+                        break;
+                }
+            } else if (event == XMLStreamReader.END_ELEMENT) {
+                // an interval without position or quantity gives no flow, so its time series has a flow of 0 on it
+                if (xmlStreamReader.getLocalName().equals("Interval") && periodCount == 1 && position != null && flow != null) {
+                    Objects.requireNonNull(timeSeriesFlows).addFlow(position, flow);
+                } else if (xmlStreamReader.getLocalName().equals("PublicationTimeSeries")) {
+                    timeSeriesFlowsList.add(timeSeriesFlows);
+                }
+            }
+        }
+
+        if (publicationTimeInterval == null) {
+            LOGGER.error("Cannot import RefProg file because its publication time interval is unknown");
+            throw new FaraoException("Cannot import RefProg file because its publication time interval is unknown");
+        }
+        OffsetDateTime[] publicationInterval = parseInterval(publicationTimeInterval);
+        return buildChronology(publicationInterval[0].toInstant(), publicationInterval[1].toInstant(), timeSeriesFlowsList);
+    }
+
+    /**
+     * The publication interval is split at every start and end of an interval of a time series, so that
+     * flows are constant within each part. One reference program is then built per part.
+     */
+    private static Chronology<ReferenceProgram> buildChronology(Instant publicationStart, Instant publicationEnd, List<TimeSeriesFlows> timeSeriesFlowsList) {
+        NavigableSet<Instant> boundaries = new TreeSet<>();
+        boundaries.add(publicationStart);
+        boundaries.add(publicationEnd);
+        timeSeriesFlowsList.forEach(timeSeriesFlows -> timeSeriesFlows.flowPerIntervalStart.keySet().forEach(intervalStart -> {
+            boundaries.add(intervalStart);
+            boundaries.add(intervalStart.plus(timeSeriesFlows.resolution));
+        }));
+
+        Chronology<ReferenceProgram> chronology = ChronologyImpl.create();
+        Instant partStart = publicationStart;
+        for (Instant partEnd : boundaries.subSet(publicationStart, false, publicationEnd, true)) {
+            List<ReferenceExchangeData> exchangeDataList = new ArrayList<>();
+            for (TimeSeriesFlows timeSeriesFlows : timeSeriesFlowsList) {
+                exchangeDataList.add(new ReferenceExchangeData(timeSeriesFlows.outArea, timeSeriesFlows.inArea, timeSeriesFlows.getFlow(partStart)));
+            }
+            chronology.storeDataBetweenInstants(new ReferenceProgram(exchangeDataList), partStart, partEnd);
+            partStart = partEnd;
+        }
+        return chronology;
+    }
+
+    private static OffsetDateTime[] parseInterval(String interval) {
+        int sepPosition = interval.indexOf("/");
+        return new OffsetDateTime[] {
+            OffsetDateTime.parse(interval.substring(0, sepPosition), DateTimeFormatter.ISO_DATE_TIME),
+            OffsetDateTime.parse(interval.substring(sepPosition + 1), DateTimeFormatter.ISO_DATE_TIME)
+        };
+    }
+
+    private static void closeQuietly(XMLStreamReader xmlStreamReader) {
+        if (xmlStreamReader != null) {
+            try {
+                xmlStreamReader.close();
+            } catch (XMLStreamException e) {
+                LOGGER.debug("Could not close XML stream reader: {}", e.getMessage());
+            }
+        }
+    }
+
     private static PublicationDocument importXmlDocument(InputStream inputStream) {
         try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(PublicationDocument.class);
-            Unmarshaller jaxbUnmarshaller = jaxbContext.createUnmarshaller();
+            Unmarshaller jaxbUnmarshaller = JAXB_CONTEXT.get().createUnmarshaller();
             return (PublicationDocument) jaxbUnmarshaller.unmarshal(inputStream);
         } catch (JAXBException e) {
             throw new FaraoException(e);
         }
     }
 
+    private static JAXBContext createJaxbContext() {
+        try {
+            return JAXBContext.newInstance(PublicationDocument.class);
+        } catch (JAXBException e) {
+            throw new FaraoException(e);
+        }
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return xmlInputFactory;
+    }
+
     private static boolean isValidDocumentInterval(PublicationDocument document, OffsetDateTime dateTime) {
         if (document.getPublicationTimeInterval() != null) {
-            String interval = document.getPublicationTimeInterval().getV();
-            int sepPosition = interval.indexOf("/");
-            OffsetDateTime startDateTime = OffsetDateTime.parse(interval.substring(0, sepPosition), DateTimeFormatter.ISO_DATE_TIME);
-            OffsetDateTime endDateTime = OffsetDateTime.parse(interval.substring(sepPosition + 1), DateTimeFormatter.ISO_DATE_TIME);
-            return !dateTime.isBefore(startDateTime) && dateTime.isBefore(endDateTime);
+            OffsetDateTime[] interval = parseInterval(document.getPublicationTimeInterval().getV());
+            return !dateTime.isBefore(interval[0]) && dateTime.isBefore(interval[1]);
         } else {
             LOGGER.error("Cannot import RefProg file because its publication time interval is unknown");
             throw new FaraoException("Cannot import RefProg file because its publication time interval is unknown");
@@ -7,16 +7,20 @@
 package com.farao_community.farao.data.refprog.refprog_xml_importer;
 
 import com.farao_community.farao.commons.FaraoException;
+import com.farao_community.farao.commons.chronology.Chronology;
 import com.farao_community.farao.data.refprog.reference_program.ReferenceProgram;
 import com.farao_community.farao.commons.EICode;
 import com.powsybl.iidm.network.Country;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.List;
 
-import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.*;
 
 /**
  * @author Peter Mitri {@literal <peter.mitri at rte-france.com>}
@@ -112,4 +116,104 @@ public class RefProgImporterTest {
         assertEquals(-4249, referenceProgram.getGlobalNetPosition(areaEs), DOUBLE_TOLERANCE);
         assertEquals(11366, referenceProgram.getGlobalNetPosition(areaFr), DOUBLE_TOLERANCE);
     }
+
+    private void checkSameReferenceProgram(ReferenceProgram expectedReferenceProgram, ReferenceProgram referenceProgram) {
+        assertEquals(expectedReferenceProgram.getListOfAreas(), referenceProgram.getListOfAreas());
+        assertEquals(expectedReferenceProgram.getReferenceExchangeDataList().size(), referenceProgram.getReferenceExchangeDataList().size());
+        for (int i = 0; i < expectedReferenceProgram.getReferenceExchangeDataList().size(); i++) {
+            assertEquals(expectedReferenceProgram.getReferenceExchangeDataList().get(i).getFlow(), referenceProgram.getReferenceExchangeDataList().get(i).getFlow(), DOUBLE_TOLERANCE);
+        }
+        expectedReferenceProgram.getAllGlobalNetPositions().forEach((area, netPosition) -> assertEquals(netPosition, referenceProgram.getGlobalNetPosition(area), DOUBLE_TOLERANCE));
+    }
+
+    private void checkChronologyAgainstImportOfEachInstant(String fileName, OffsetDateTime publicationStart, int numberOfHours) {
+        Chronology<ReferenceProgram> chronology = RefProgImporter.importRefProgChronology(getClass().getResourceAsStream(fileName));
+        for (int i = 0; i < numberOfHours; i++) {
+            OffsetDateTime dateTime = publicationStart.plusHours(i);
+            checkSameReferenceProgram(RefProgImporter.importRefProg(getClass().getResourceAsStream(fileName), dateTime), chronology.selectInstant(dateTime.toInstant()));
+        }
+        assertNull(chronology.selectInstant(publicationStart.minusMinutes(1).toInstant()));
+        assertNull(chronology.selectInstant(publicationStart.plusHours(numberOfHours).toInstant()));
+    }
+
+    @Test
+    public void testImportChronologyOfSimpleFile() {
+        checkChronologyAgainstImportOfEachInstant("/refProg_12nodes.xml", OffsetDateTime.of(2020, 1, 5, 23, 0, 0, 0, ZoneOffset.UTC), 24);
+    }
+
+    @Test
+    public void testImportChronologyOfLargeFile() {
+        checkChronologyAgainstImportOfEachInstant("/large_refProg.xml", OffsetDateTime.of(2015, 1, 10, 23, 0, 0, 0, ZoneOffset.UTC), 24);
+
+        Chronology<ReferenceProgram> chronology = RefProgImporter.importRefProgChronology(getClass().getResourceAsStream("/large_refProg.xml"));
+        ReferenceProgram referenceProgram = chronology.selectInstant(OffsetDateTime.of(2015, 1, 11, 6, 30, 0, 0, ZoneOffset.UTC).toInstant());
+        assertEquals(77, referenceProgram.getReferenceExchangeDataList().size());
+        assertEquals(191, referenceProgram.getExchange("10YFR-RTE------C", "10YCB-GERMANY--8"), DOUBLE_TOLERANCE);
+        assertEquals(10198, referenceProgram.getGlobalNetPosition("10YFR-RTE------C"), DOUBLE_TOLERANCE);
+    }
+
+    @Test(expected = FaraoException.class)
+    public void testImportChronologyOfRefProgWithoutInterval() {
+        RefProgImporter.importRefProgChronology(getClass().getResourceAsStream("/refProg_noInterval.xml"));
+    }
+
+    @Test(expected = FaraoException.class)
+    public void testImportChronologyOfUnexistantFile() {
+        RefProgImporter.importRefProgChronology(Paths.get("/refProg_12nodes_doesntexist.xml"));
+    }
+
+    @Test
+    public void testImportChronologyOfWeekLongFile() {
+        // one week of quarter-hourly values, on all the borders between four areas
+        List<String> areas = List.of("10YBE----------2", "10YFR-RTE------C", "10YCB-GERMANY--8", "10YNL----------L");
+        int numberOfQuarterHours = 7 * 96;
+        StringBuilder document = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<PublicationDocument DtdRelease=\"1\" DtdVersion=\"0\">\n")
+            .append("<PublicationTimeInterval v=\"2020-01-05T23:00Z/2020-01-12T23:00Z\"/>\n");
+        for (int out = 0; out < areas.size(); out++) {
+            for (int in = out + 1; in < areas.size(); in++) {
+                document.append("<PublicationTimeSeries><InArea v=\"").append(areas.get(in)).append("\"/><OutArea v=\"").append(areas.get(out)).append("\"/>")
+                    .append("<Period><TimeInterval v=\"2020-01-05T23:00Z/2020-01-12T23:00Z\"/><Resolution v=\"PT15M\"/>\n");
+                for (int pos = 1; pos <= numberOfQuarterHours; pos++) {
+                    document.append("<Interval><Pos v=\"").append(pos).append("\"/><Qty v=\"").append(100 * out + 10 * in + pos).append("\"/></Interval>\n");
+                }
+                document.append("</Period></PublicationTimeSeries>\n");
+            }
+        }
+        document.append("</PublicationDocument>\n");
+        byte[] bytes = document.toString().getBytes(StandardCharsets.UTF_8);
+
+        Chronology<ReferenceProgram> chronology = RefProgImporter.importRefProgChronology(new ByteArrayInputStream(bytes));
+        OffsetDateTime publicationStart = OffsetDateTime.of(2020, 1, 5, 23, 0, 0, 0, ZoneOffset.UTC);
+        for (int i = 0; i < numberOfQuarterHours; i++) {
+            OffsetDateTime dateTime = publicationStart.plusMinutes(15L * i + 7);
+            ReferenceProgram referenceProgram = chronology.selectInstant(dateTime.toInstant());
+            assertEquals(6, referenceProgram.getReferenceExchangeDataList().size());
+            assertEquals(120. + i + 1, referenceProgram.getExchange(areas.get(1), areas.get(2)), DOUBLE_TOLERANCE);
+            assertEquals(-(230. + i + 1), referenceProgram.getExchange(areas.get(3), areas.get(2)), DOUBLE_TOLERANCE);
+            if (i % 96 == 0) {
+                checkSameReferenceProgram(RefProgImporter.importRefProg(new ByteArrayInputStream(bytes), dateTime), referenceProgram);
+            }
+        }
+    }
+
+    @Test
+    public void testImportChronologyOfIntervalsWithoutPositionOrQuantity() {
+        String document = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<PublicationDocument DtdRelease=\"1\" DtdVersion=\"0\">\n"
+            + "<PublicationTimeInterval v=\"2020-01-05T23:00Z/2020-01-06T03:00Z\"/>\n"
+            + "<PublicationTimeSeries><InArea v=\"10YBE----------2\"/><OutArea v=\"10YFR-RTE------C\"/>"
+            + "<Period><TimeInterval v=\"2020-01-05T23:00Z/2020-01-06T03:00Z\"/><Resolution v=\"PT60M\"/>\n"
+            + "<Interval><Pos v=\"1\"/><Qty v=\"100\"/></Interval>\n"
+            + "<Interval><Pos v=\"2\"/></Interval>\n"
+            + "<Interval><Qty v=\"999\"/></Interval>\n"
+            + "<Interval><Pos v=\"4\"/><Qty v=\"400\"/></Interval>\n"
+            + "</Period></PublicationTimeSeries>\n</PublicationDocument>\n";
+
+        // the incomplete intervals must neither reuse the position nor the quantity of the previous one
+        Chronology<ReferenceProgram> chronology = RefProgImporter.importRefProgChronology(new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8)));
+        OffsetDateTime publicationStart = OffsetDateTime.of(2020, 1, 5, 23, 0, 0, 0, ZoneOffset.UTC);
+        assertEquals(100, chronology.selectInstant(publicationStart.toInstant()).getExchange("10YFR-RTE------C", "10YBE----------2"), DOUBLE_TOLERANCE);
+        assertEquals(0, chronology.selectInstant(publicationStart.plusHours(1).toInstant()).getExchange("10YFR-RTE------C", "10YBE----------2"), DOUBLE_TOLERANCE);
+        assertEquals(0, chronology.selectInstant(publicationStart.plusHours(2).toInstant()).getExchange("10YFR-RTE------C", "10YBE----------2"), DOUBLE_TOLERANCE);
+        assertEquals(400, chronology.selectInstant(publicationStart.plusHours(3).toInstant()).getExchange("10YFR-RTE------C", "10YBE----------2"), DOUBLE_TOLERANCE);
+    }
 }
@@ -8,6 +8,7 @@ package com.farao_community.farao.flowbased_computation;
 
 import com.farao_community.farao.commons.FaraoException;
 import com.farao_community.farao.commons.ZonalData;
+import com.farao_community.farao.commons.ZonalDataChronology;
 import com.farao_community.farao.data.crac_api.Crac;
 import com.farao_community.farao.data.rao_result_api.RaoResult;
 import com.powsybl.commons.Versionable;
@@ -16,8 +17,16 @@ import com.powsybl.commons.config.PlatformConfigNamedProvider;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.sensitivity.factors.variables.LinearGlsk;
 
-import java.util.Objects;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
 
 /**
  * FlowBased main API. It is a utility class (so with only static methods) used as an entry point for running
@@ -67,6 +76,132 @@ public final class FlowbasedComputation {
             return run(network, crac, glsk, raoResult, FlowbasedComputationParameters.load());
         }
 
+        public FlowbasedComputationResult.Status runAndWrite(Network network, Crac crac, ZonalData<LinearGlsk> glsk, RaoResult raoResult, FlowbasedComputationParameters parameters, OutputStream os) {
+            Objects.requireNonNull(network);
+            Objects.requireNonNull(crac);
+            Objects.requireNonNull(glsk);
+            Objects.requireNonNull(parameters);
+            Objects.requireNonNull(os);
+            return provider.runAndWrite(network, crac, raoResult, glsk, parameters, os).join();
+        }
+
+        /**
+         * Run the computation on several instants, each of them with its own network. The CRAC and the GLSK
+         * chronology are shared by all the instants, and at most {@code parallelism} instants are computed
+         * at the same time. The domain of each instant is written in the output stream given by
+         * {@code outputProvider} as soon as the instant is computed, and this stream is then closed.
+         *
+         * @return the status of the computation of each instant, ordered by instant
+         */
+        public SortedMap<Instant, FlowbasedComputationResult.Status> runBatch(Map<Instant, Network> networks, Crac crac, ZonalDataChronology<LinearGlsk> glskChronology,
+                                                                              FlowbasedComputationParameters parameters, int parallelism, Function<Instant, OutputStream> outputProvider) {
+            Objects.requireNonNull(networks);
+            return runBatch(networks, crac, selectGlsks(networks.keySet(), glskChronology), parameters, parallelism, outputProvider);
+        }
+
+        /**
+         * Run the computation on several instants, each of them with its own network and its own GLSK, which
+         * should have been converted against the network of its instant. At most {@code parallelism} instants
+         * are computed at the same time, and the domain of each instant is written as in
+         * {@link #runBatch(Map, Crac, ZonalDataChronology, FlowbasedComputationParameters, int, Function)}.
+         *
+         * @return the status of the computation of each instant, ordered by instant
+         */
+        public SortedMap<Instant, FlowbasedComputationResult.Status> runBatch(Map<Instant, Network> networks, Crac crac, Map<Instant, ZonalData<LinearGlsk>> glsks,
+                                                                              FlowbasedComputationParameters parameters, int parallelism, Function<Instant, OutputStream> outputProvider) {
+            Objects.requireNonNull(networks);
+            Objects.requireNonNull(glsks);
+            Objects.requireNonNull(crac);
+            Objects.requireNonNull(parameters);
+            Objects.requireNonNull(outputProvider);
+            if (parallelism < 1) {
+                throw new FaraoException(String.format("Parallelism of a flowbased computation batch must be strictly positive, got %d", parallelism));
+            }
+            Set<Network> distinctNetworks = Collections.newSetFromMap(new IdentityHashMap<>());
+            distinctNetworks.addAll(networks.values());
+            if (distinctNetworks.size() != networks.size()) {
+                throw new FaraoException("Each instant of a flowbased computation batch must have its own network, use variants of a single network instead");
+            }
+            networks.keySet().forEach(instant -> {
+                if (glsks.get(instant) == null) {
+                    throw new FaraoException(String.format("No GLSK available at instant %s", instant));
+                }
+            });
+
+            SortedMap<Instant, FlowbasedComputationResult.Status> statuses = new TreeMap<>();
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                Map<Instant, ForkJoinTask<FlowbasedComputationResult.Status>> tasks = new TreeMap<>();
+                networks.forEach((instant, network) -> tasks.put(instant, pool.submit(() ->
+                    runAndWrite(network, crac, glsks.get(instant), null, parameters, instant, outputProvider))));
+                for (Map.Entry<Instant, ForkJoinTask<FlowbasedComputationResult.Status>> task : tasks.entrySet()) {
+                    statuses.put(task.getKey(), task.getValue().get());
+                }
+            } catch (ExecutionException e) {
+                throw new FaraoException("Flowbased computation batch failed", e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new FaraoException("Flowbased computation batch was interrupted", e);
+            } finally {
+                pool.shutdownNow();
+            }
+            return statuses;
+        }
+
+        /**
+         * Run the computation on several instants, each of them described by a variant of the same network.
+         * As variants of a network cannot be created and removed concurrently, the instants are computed
+         * one after another. The CRAC and the GLSK chronology are shared by all the instants, and the domain
+         * of each instant is written in the output stream given by {@code outputProvider} as soon as the
+         * instant is computed, and this stream is then closed. The initial working variant of the network
+         * is restored at the end of the batch.
+         *
+         * @return the status of the computation of each instant, ordered by instant
+         */
+        public SortedMap<Instant, FlowbasedComputationResult.Status> runBatch(Network network, Map<Instant, String> variantIds, Crac crac, ZonalDataChronology<LinearGlsk> glskChronology,
+                                                                              FlowbasedComputationParameters parameters, Function<Instant, OutputStream> outputProvider) {
+            Objects.requireNonNull(network);
+            Objects.requireNonNull(variantIds);
+            Objects.requireNonNull(crac);
+            Objects.requireNonNull(parameters);
+            Objects.requireNonNull(outputProvider);
+            Map<Instant, ZonalData<LinearGlsk>> glsks = selectGlsks(variantIds.keySet(), glskChronology);
+
+            SortedMap<Instant, FlowbasedComputationResult.Status> statuses = new TreeMap<>();
+            String initialVariantId = network.getVariantManager().getWorkingVariantId();
+            try {
+                new TreeMap<>(variantIds).forEach((instant, variantId) -> {
+                    network.getVariantManager().setWorkingVariant(variantId);
+                    statuses.put(instant, runAndWrite(network, crac, glsks.get(instant), null, parameters, instant, outputProvider));
+                });
+            } finally {
+                network.getVariantManager().setWorkingVariant(initialVariantId);
+            }
+            return statuses;
+        }
+
+        private static Map<Instant, ZonalData<LinearGlsk>> selectGlsks(Set<Instant> instants, ZonalDataChronology<LinearGlsk> glskChronology) {
+            Objects.requireNonNull(glskChronology);
+            Map<Instant, ZonalData<LinearGlsk>> glsks = new HashMap<>();
+            instants.forEach(instant -> {
+                ZonalData<LinearGlsk> glsk = glskChronology.selectInstant(instant);
+                if (glsk == null) {
+                    throw new FaraoException(String.format("No GLSK available at instant %s", instant));
+                }
+                glsks.put(instant, glsk);
+            });
+            return glsks;
+        }
+
+        private FlowbasedComputationResult.Status runAndWrite(Network network, Crac crac, ZonalData<LinearGlsk> glsk, RaoResult raoResult, FlowbasedComputationParameters parameters,
+                                                             Instant instant, Function<Instant, OutputStream> outputProvider) {
+            try (OutputStream os = outputProvider.apply(instant)) {
+                return runAndWrite(network, crac, glsk, raoResult, parameters, os);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
         @Override
         public String getName() {
             return provider.getName();
@@ -115,4 +250,23 @@ public final class FlowbasedComputation {
     public static FlowbasedComputationResult run(Network network, Crac crac, ZonalData<LinearGlsk> glsk, RaoResult raoResult) {
         return find().run(network, crac, raoResult, glsk);
     }
+
+    public static FlowbasedComputationResult.Status runAndWrite(Network network, Crac crac, RaoResult raoResult, ZonalData<LinearGlsk> glsk, FlowbasedComputationParameters parameters, OutputStream os) {
+        return find().runAndWrite(network, crac, glsk, raoResult, parameters, os);
+    }
+
+    public static SortedMap<Instant, FlowbasedComputationResult.Status> runBatch(Map<Instant, Network> networks, Crac crac, ZonalDataChronology<LinearGlsk> glskChronology,
+                                                                                 FlowbasedComputationParameters parameters, int parallelism, Function<Instant, OutputStream> outputProvider) {
+        return find().runBatch(networks, crac, glskChronology, parameters, parallelism, outputProvider);
+    }
+
+    public static SortedMap<Instant, FlowbasedComputationResult.Status> runBatch(Map<Instant, Network> networks, Crac crac, Map<Instant, ZonalData<LinearGlsk>> glsks,
+                                                                                 FlowbasedComputationParameters parameters, int parallelism, Function<Instant, OutputStream> outputProvider) {
+        return find().runBatch(networks, crac, glsks, parameters, parallelism, outputProvider);
+    }
+
+    public static SortedMap<Instant, FlowbasedComputationResult.Status> runBatch(Network network, Map<Instant, String> variantIds, Crac crac, ZonalDataChronology<LinearGlsk> glskChronology,
+                                                                                 FlowbasedComputationParameters parameters, Function<Instant, OutputStream> outputProvider) {
+        return find().runBatch(network, variantIds, crac, glskChronology, parameters, outputProvider);
+    }
 }
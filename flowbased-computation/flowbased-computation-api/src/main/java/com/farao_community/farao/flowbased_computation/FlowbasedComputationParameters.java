@@ -34,15 +34,21 @@ public class FlowbasedComputationParameters extends AbstractExtendable<Flowbased
     public interface ConfigLoader<E extends Extension<FlowbasedComputationParameters>> extends ExtensionConfigLoader<FlowbasedComputationParameters, E> {
     }
 
-    public static final String VERSION = "1.0";
+    public static final String VERSION = "1.1";
+
+    static final String MODULE_NAME = "fb-computation-parameters";
+
+    static final boolean DEFAULT_PARALLEL_POST_CONTINGENCIES = false;
 
     private static final Supplier<ExtensionProviders<ConfigLoader>> SUPPLIER =
-            Suppliers.memoize(() -> ExtensionProviders.createProvider(ConfigLoader.class, "fb-computation-parameters"));
+            Suppliers.memoize(() -> ExtensionProviders.createProvider(ConfigLoader.class, MODULE_NAME));
 
     private LoadFlowParameters loadFlowParameters = new LoadFlowParameters();
 
     private SensitivityAnalysisParameters sensitivityAnalysisParameters = new SensitivityAnalysisParameters();
 
+    private boolean parallelPostContingencies = DEFAULT_PARALLEL_POST_CONTINGENCIES;
+
     public static FlowbasedComputationParameters load() {
         return load(PlatformConfig.defaultConfig());
     }
@@ -51,6 +57,8 @@ public class FlowbasedComputationParameters extends AbstractExtendable<Flowbased
         Objects.requireNonNull(platformConfig);
 
         FlowbasedComputationParameters parameters = new FlowbasedComputationParameters();
+        platformConfig.getOptionalModuleConfig(MODULE_NAME)
+            .ifPresent(config -> parameters.setParallelPostContingencies(config.getBooleanProperty("parallel-post-contingencies", DEFAULT_PARALLEL_POST_CONTINGENCIES)));
         parameters.readExtensions(platformConfig);
 
         parameters.setLoadFlowParameters(LoadFlowParameters.load(platformConfig));
@@ -82,4 +90,17 @@ public class FlowbasedComputationParameters extends AbstractExtendable<Flowbased
         this.sensitivityAnalysisParameters = Objects.requireNonNull(sensitivityAnalysisParameters);
         return this;
     }
+
+    /**
+     * If true, the post-contingency blocks of the flowbased domain are built in parallel,
+     * their order in the domain remaining the order of the contingencies of the CRAC.
+     */
+    public boolean isParallelPostContingencies() {
+        return parallelPostContingencies;
+    }
+
+    public FlowbasedComputationParameters setParallelPostContingencies(boolean parallelPostContingencies) {
+        this.parallelPostContingencies = parallelPostContingencies;
+        return this;
+    }
 }
@@ -8,12 +8,14 @@ package com.farao_community.farao.flowbased_computation;
 
 import com.farao_community.farao.commons.ZonalData;
 import com.farao_community.farao.data.crac_api.Crac;
+import com.farao_community.farao.data.flowbased_domain.json.JsonFlowbasedDomain;
 import com.farao_community.farao.data.rao_result_api.RaoResult;
 import com.powsybl.commons.Versionable;
 import com.powsybl.commons.config.PlatformConfigNamedProvider;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.sensitivity.factors.variables.LinearGlsk;
 
+import java.io.OutputStream;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -21,4 +23,15 @@ import java.util.concurrent.CompletableFuture;
  */
 public interface FlowbasedComputationProvider extends Versionable, PlatformConfigNamedProvider {
     CompletableFuture<FlowbasedComputationResult> run(Network network, Crac crac, RaoResult raoResult, ZonalData<LinearGlsk> glsk, FlowbasedComputationParameters parameters);
+
+    /**
+     * Run the computation and write the resulting flowbased domain as JSON in the given output stream.
+     * Implementations may override it to write the domain while building it, without holding it entirely in memory.
+     */
+    default CompletableFuture<FlowbasedComputationResult.Status> runAndWrite(Network network, Crac crac, RaoResult raoResult, ZonalData<LinearGlsk> glsk, FlowbasedComputationParameters parameters, OutputStream os) {
+        return run(network, crac, raoResult, glsk, parameters).thenApply(result -> {
+            JsonFlowbasedDomain.write(result.getFlowBasedDomain(), os);
+            return result.getStatus();
+        });
+    }
 }
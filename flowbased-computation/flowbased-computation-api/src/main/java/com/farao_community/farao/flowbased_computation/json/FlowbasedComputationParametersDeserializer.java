@@ -49,6 +49,11 @@ public class FlowbasedComputationParametersDeserializer extends StdDeserializer<
                     JsonLoadFlowParameters.deserialize(parser, deserializationContext, parameters.getLoadFlowParameters());
                     break;
 
+                case "parallel-post-contingencies":
+                    parser.nextToken();
+                    parameters.setParallelPostContingencies(parser.getBooleanValue());
+                    break;
+
                 case "extensions":
                     parser.nextToken();
                     extensions = JsonUtil.readExtensions(parser, deserializationContext, JsonFlowbasedComputationParameters.getExtensionSerializers());
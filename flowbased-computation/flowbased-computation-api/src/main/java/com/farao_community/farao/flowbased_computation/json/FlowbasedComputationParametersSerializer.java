@@ -34,6 +34,8 @@ public class FlowbasedComputationParametersSerializer extends StdSerializer<Flow
         jsonGenerator.writeFieldName("load-flow-parameters");
         JsonLoadFlowParameters.serialize(parameters.getLoadFlowParameters(), jsonGenerator, serializerProvider);
 
+        jsonGenerator.writeBooleanField("parallel-post-contingencies", parameters.isParallelPostContingencies());
+
         JsonUtil.writeExtensions(parameters, jsonGenerator, serializerProvider, JsonFlowbasedComputationParameters.getExtensionSerializers());
 
         jsonGenerator.writeEndObject();
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2021, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.flowbased_computation.tools;
+
+import com.farao_community.farao.commons.FaraoException;
+import com.farao_community.farao.commons.ZonalData;
+import com.farao_community.farao.commons.ZonalDataChronology;
+import com.farao_community.farao.data.crac_api.Crac;
+import com.farao_community.farao.data.crac_io_api.CracImporters;
+import com.farao_community.farao.data.crac_util.CracAliasesCreator;
+import com.farao_community.farao.data.crac_util.CracCleaner;
+import com.farao_community.farao.data.crac_util.CracCleaningFeature;
+import com.farao_community.farao.data.crac_util.UcteNodeMatchingRule;
+import com.farao_community.farao.data.glsk.api.GlskDocument;
+import com.farao_community.farao.data.glsk.api.io.GlskDocumentImporters;
+import com.farao_community.farao.flowbased_computation.FlowbasedComputation;
+import com.farao_community.farao.flowbased_computation.FlowbasedComputationParameters;
+import com.farao_community.farao.flowbased_computation.FlowbasedComputationResult;
+import com.farao_community.farao.flowbased_computation.json.JsonFlowbasedComputationParameters;
+import com.google.auto.service.AutoService;
+import com.powsybl.iidm.import_.Importers;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.sensitivity.factors.variables.LinearGlsk;
+import com.powsybl.tools.Command;
+import com.powsybl.tools.Tool;
+import com.powsybl.tools.ToolRunningContext;
+import com.powsybl.ucte.util.UcteAliasesCreation;
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * FlowBased Computation Batch Tool
+ * computing the flowbased domains of several instants, typically the hours of a business day,
+ * with a single CRAC and GLSK document
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@AutoService(Tool.class)
+public class FlowbasedComputationBatchTool implements Tool {
+
+    private static final String CASE_FILES_OPTION = "case-files";
+    private static final String CRAC_FILE_OPTION = "crac-file";
+    private static final String GLSK_FILE_OPTION = "glsk-file";
+    private static final String DEFINE_ALIASES = "define-aliases";
+    private static final String OUTPUT_DIRECTORY_OPTION = "output-directory";
+    private static final String PARAMETERS_FILE = "parameters-file";
+    private static final String INSTANTS = "instants";
+    private static final String PARALLELISM = "parallelism";
+
+    private static final String LIST_SEPARATOR = ",";
+    private static final DateTimeFormatter OUTPUT_FILE_NAME_FORMATTER = DateTimeFormatter.ofPattern("'flowbased-domain_'yyyyMMdd'T'HHmm'Z.json'").withZone(ZoneOffset.UTC);
+
+    /**
+     * @return Command to run a batch of flow based computations
+     */
+    @Override
+    public Command getCommand() {
+        return new Command() {
+
+            @Override
+            public String getName() {
+                return "flowbased-computation-batch";
+            }
+
+            @Override
+            public String getTheme() {
+                return "Computation";
+            }
+
+            @Override
+            public String getDescription() {
+                return "Run modular FlowBased computation on several instants";
+            }
+
+            @Override
+            public Options getOptions() {
+
+                Options options = new Options();
+
+                options.addOption(Option
+                        .builder()
+                        .longOpt(CASE_FILES_OPTION)
+                        .desc("the comma separated case paths, one per instant, or a single case path used for all the instants")
+                        .hasArg()
+                        .argName("FILES")
+                        .required()
+                        .build());
+                options.addOption(Option
+                        .builder()
+                        .longOpt(CRAC_FILE_OPTION)
+                        .desc("the CRAC file path")
+                        .hasArg()
+                        .argName("FILE")
+                        .required()
+                        .build());
+                options.addOption(Option
+                        .builder()
+                        .longOpt(GLSK_FILE_OPTION)
+                        .desc("the CIM GlSK file path")
+                        .hasArg()
+                        .argName("FILE")
+                        .required()
+                        .build());
+                options.addOption(Option
+                        .builder()
+                        .longOpt(PARAMETERS_FILE)
+                        .desc("the FlowBased computation parameters as JSON file")
+                        .hasArg()
+                        .argName("FILE")
+                        .build());
+                options.addOption(Option.builder().longOpt(DEFINE_ALIASES)
+                    .desc("try to fix import if crac and network data slightly differ")
+                    .build());
+                options.addOption(Option
+                        .builder()
+                        .longOpt(INSTANTS)
+                        .desc("the comma separated instants of FlowBased computation")
+                        .hasArg()
+                        .argName("INSTANTS")
+                        .required()
+                        .build());
+                options.addOption(Option
+                        .builder()
+                        .longOpt(PARALLELISM)
+                        .desc("the maximum number of instants computed at the same time, when each instant has its own case")
+                        .hasArg()
+                        .argName("INT")
+                        .build());
+                options.addOption(Option
+                        .builder()
+                        .longOpt(OUTPUT_DIRECTORY_OPTION)
+                        .desc("the directory in which the FlowBased domain of each instant is written")
+                        .hasArg()
+                        .argName("DIR")
+                        .required()
+                        .build());
+                return options;
+            }
+
+            @Override
+            public String getUsageFooter() {
+                return null;
+            }
+        };
+    }
+
+    /**
+     * @param line command line
+     * @param context running environment
+     */
+    @Override
+    public void run(CommandLine line, ToolRunningContext context) throws IOException {
+        List<Instant> instants = new ArrayList<>();
+        for (String instantValue : line.getOptionValue(INSTANTS).split(LIST_SEPARATOR)) {
+            Instant instant = Instant.parse(instantValue.trim());
+            if (instants.contains(instant)) {
+                throw new FaraoException(String.format("Instant %s is given several times", instant));
+            }
+            instants.add(instant);
+        }
+        List<Path> caseFiles = new ArrayList<>();
+        for (String caseFile : line.getOptionValue(CASE_FILES_OPTION).split(LIST_SEPARATOR)) {
+            caseFiles.add(context.getFileSystem().getPath(caseFile.trim()));
+        }
+        if (caseFiles.size() != 1 && caseFiles.size() != instants.size()) {
+            throw new FaraoException(String.format("%d case files given for %d instants: expected one case file per instant, or a single one", caseFiles.size(), instants.size()));
+        }
+        Path cracFile = context.getFileSystem().getPath(line.getOptionValue(CRAC_FILE_OPTION));
+        Path glskFile = context.getFileSystem().getPath(line.getOptionValue(GLSK_FILE_OPTION));
+        Path outputDirectory = context.getFileSystem().getPath(line.getOptionValue(OUTPUT_DIRECTORY_OPTION));
+        Files.createDirectories(outputDirectory);
+
+        // CRAC and GLSK documents are parsed once, and shared by all the instants
+        Crac crac = CracImporters.importCrac(cracFile);
+        GlskDocument glskDocument = GlskDocumentImporters.importGlsk(glskFile);
+        FlowbasedComputationParameters parameters = FlowbasedComputationParameters.load();
+        if (line.hasOption(PARAMETERS_FILE)) {
+            JsonFlowbasedComputationParameters.update(parameters, context.getFileSystem().getPath(line.getOptionValue(PARAMETERS_FILE)));
+        }
+
+        List<Network> networks = new ArrayList<>();
+        for (Path caseFile : caseFiles) {
+            context.getOutputStream().println("Loading network '" + caseFile + "'");
+            Network network = Importers.loadNetwork(caseFile);
+            if (line.hasOption(DEFINE_ALIASES)) {
+                UcteAliasesCreation.createAliases(network);
+                new CracAliasesCreator().createAliases(crac, network, UcteNodeMatchingRule.FIRST_7_CHARACTER_EQUAL);
+            }
+            networks.add(network);
+        }
+        if (line.hasOption(DEFINE_ALIASES)) {
+            CracCleaner cracCleaner = new CracCleaner();
+            cracCleaner.disableFeature(CracCleaningFeature.CHECK_CNEC_MNEC);
+            cracCleaner.enableFeature(CracCleaningFeature.REMOVE_UNHANDLED_CONTINGENCIES);
+            cracCleaner.cleanCrac(crac, networks.get(0));
+        }
+
+        Function<Instant, OutputStream> outputProvider = instant -> {
+            try {
+                return Files.newOutputStream(outputDirectory.resolve(OUTPUT_FILE_NAME_FORMATTER.format(instant)));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+        SortedMap<Instant, FlowbasedComputationResult.Status> statuses;
+        if (networks.size() == 1) {
+            // All the instants share the same case, only their GLSK differ
+            Network network = networks.get(0);
+            Map<Instant, String> variantIds = new HashMap<>();
+            instants.forEach(instant -> variantIds.put(instant, network.getVariantManager().getWorkingVariantId()));
+            ZonalDataChronology<LinearGlsk> glskChronology = glskDocument.getZonalGlsksChronology(network);
+            statuses = FlowbasedComputation.runBatch(network, variantIds, crac, glskChronology, parameters, outputProvider);
+        } else {
+            // the GLSK of each instant is converted against the case of this instant
+            Map<Instant, Network> networkPerInstant = new HashMap<>();
+            Map<Instant, ZonalData<LinearGlsk>> glskPerInstant = new HashMap<>();
+            for (int i = 0; i < instants.size(); i++) {
+                networkPerInstant.put(instants.get(i), networks.get(i));
+                glskPerInstant.put(instants.get(i), glskDocument.getZonalGlsksChronology(networks.get(i)).selectInstant(instants.get(i)));
+            }
+            int parallelism = line.hasOption(PARALLELISM) ? Integer.parseInt(line.getOptionValue(PARALLELISM))
+                : Math.min(instants.size(), Runtime.getRuntime().availableProcessors());
+            statuses = FlowbasedComputation.runBatch(networkPerInstant, crac, glskPerInstant, parameters, parallelism, outputProvider);
+        }
+        statuses.forEach((instant, status) -> context.getOutputStream().println("Instant " + instant + ": " + status));
+    }
+}
@@ -13,11 +13,9 @@ import com.farao_community.farao.data.crac_util.CracAliasesCreator;
 import com.farao_community.farao.data.crac_util.CracCleaner;
 import com.farao_community.farao.data.crac_util.CracCleaningFeature;
 import com.farao_community.farao.data.crac_util.UcteNodeMatchingRule;
-import com.farao_community.farao.data.flowbased_domain.json.JsonFlowbasedDomain;
 import com.farao_community.farao.data.glsk.api.io.GlskDocumentImporters;
 import com.farao_community.farao.flowbased_computation.FlowbasedComputation;
 import com.farao_community.farao.flowbased_computation.FlowbasedComputationParameters;
-import com.farao_community.farao.flowbased_computation.FlowbasedComputationResult;
 import com.farao_community.farao.flowbased_computation.json.JsonFlowbasedComputationParameters;
 
 import com.google.auto.service.AutoService;
@@ -35,6 +33,7 @@ import org.apache.commons.cli.Option;
 import org.apache.commons.cli.Options;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
@@ -174,9 +173,12 @@ public class FlowbasedComputationTool implements Tool {
             JsonFlowbasedComputationParameters.update(parameters, context.getFileSystem().getPath(line.getOptionValue(PARAMETERS_FILE)));
         }
 
-        FlowbasedComputationResult result = FlowbasedComputation.run(network, crac, null, cimGlsk, parameters);
         if (outputFile != null) {
-            JsonFlowbasedDomain.write(result.getFlowBasedDomain(), Files.newOutputStream(outputFile));
+            try (OutputStream os = Files.newOutputStream(outputFile)) {
+                FlowbasedComputation.runAndWrite(network, crac, null, cimGlsk, parameters, os);
+            }
+        } else {
+            FlowbasedComputation.run(network, crac, null, cimGlsk, parameters);
         }
     }
 }
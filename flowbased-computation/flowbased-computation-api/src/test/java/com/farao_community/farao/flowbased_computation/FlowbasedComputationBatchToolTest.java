@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2021, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.flowbased_computation;
+
+import com.farao_community.farao.commons.AbstractToolTest;
+import com.farao_community.farao.flowbased_computation.tools.FlowbasedComputationBatchTool;
+import com.powsybl.tools.Tool;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+
+/**
+ * FlowBased Computation Batch Tool Test
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class FlowbasedComputationBatchToolTest extends AbstractToolTest {
+
+    // ~/farao/bin/itools flowbased-computation-batch
+    // --case-files case-00h.uct,case-01h.uct
+    // --crac-file crac.json
+    // --glsk-file glsk.xml
+    // --instants 2018-08-28T22:00:00Z,2018-08-28T23:00:00Z
+    // --parallelism 2
+    // --output-directory /tmp/flowbased-domains
+
+    private static final String COMMAND_NAME = "flowbased-computation-batch";
+    private final FlowbasedComputationBatchTool tool = new FlowbasedComputationBatchTool();
+
+    @Override
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+        createFile("testCase.xiidm", "");
+        createFile("fakeCrac.json", "");
+        createFile("GlskCountry.xml", "");
+    }
+
+    protected Iterable<Tool> getTools() {
+        return Collections.singleton(tool);
+    }
+
+    @Override
+    public void assertCommand() {
+        assertCommand(tool.getCommand(), COMMAND_NAME, 8, 5);
+        assertOption(tool.getCommand().getOptions(), "case-files", true, true);
+        assertOption(tool.getCommand().getOptions(), "crac-file", true, true);
+        assertOption(tool.getCommand().getOptions(), "glsk-file", true, true);
+        assertOption(tool.getCommand().getOptions(), "parameters-file", false, true);
+        assertOption(tool.getCommand().getOptions(), "define-aliases", false, false);
+        assertOption(tool.getCommand().getOptions(), "instants", true, true);
+        assertOption(tool.getCommand().getOptions(), "parallelism", false, true);
+        assertOption(tool.getCommand().getOptions(), "output-directory", true, true);
+
+        Assert.assertEquals("Computation", tool.getCommand().getTheme());
+        Assert.assertEquals("Run modular FlowBased computation on several instants", tool.getCommand().getDescription());
+    }
+
+    @Test
+    public void checkCommandFail() throws IOException {
+        assertCommand(new String[] {
+            COMMAND_NAME,
+            "--case-files", "testCase.xiidm",
+            "--crac-file", "fakeCrac.json",
+            "--glsk-file", "GlskCountry.xml"
+        }, 2, "", "");
+    }
+
+    @Test
+    public void checkCommandFailsWithMismatchingCaseFiles() throws IOException {
+        assertCommand(new String[] {
+            COMMAND_NAME,
+            "--case-files", "testCase.xiidm,testCase.xiidm",
+            "--crac-file", "fakeCrac.json",
+            "--glsk-file", "GlskCountry.xml",
+            "--instants", "2018-08-28T22:00:00Z,2018-08-28T23:00:00Z,2018-08-29T00:00:00Z",
+            "--output-directory", "domains"
+        }, 3, "", "");
+    }
+
+    @Test
+    public void checkCommandFailsWithDuplicatedInstants() throws IOException {
+        assertCommand(new String[] {
+            COMMAND_NAME,
+            "--case-files", "testCase.xiidm,testCase.xiidm",
+            "--crac-file", "fakeCrac.json",
+            "--glsk-file", "GlskCountry.xml",
+            "--instants", "2018-08-28T22:00:00Z,2018-08-28T22:00:00Z",
+            "--output-directory", "domains"
+        }, 3, "", "Instant 2018-08-28T22:00:00Z is given several times");
+    }
+}
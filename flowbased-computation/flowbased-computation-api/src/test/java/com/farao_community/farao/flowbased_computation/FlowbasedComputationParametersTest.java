@@ -7,13 +7,18 @@
 package com.farao_community.farao.flowbased_computation;
 
 import com.google.auto.service.AutoService;
+import com.powsybl.commons.config.ModuleConfig;
 import com.powsybl.commons.config.PlatformConfig;
 import com.powsybl.commons.extensions.AbstractExtension;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import java.util.Optional;
+
 import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
 
 /**
  * @author Di Gallo Luc  {@literal <luc.di-gallo at rte-france.com>}
@@ -58,6 +63,17 @@ public class FlowbasedComputationParametersTest {
         assertNotNull(parameters.getExtension(DummyExtension.class));
     }
 
+    @Test
+    public void testParallelPostContingenciesFromConfig() {
+        assertFalse(FlowbasedComputationParameters.load(config).isParallelPostContingencies());
+
+        ModuleConfig moduleConfig = Mockito.mock(ModuleConfig.class);
+        Mockito.when(moduleConfig.getBooleanProperty(eq("parallel-post-contingencies"), anyBoolean())).thenReturn(true);
+        Mockito.when(config.getOptionalModuleConfig("fb-computation-parameters")).thenReturn(Optional.of(moduleConfig));
+
+        assertTrue(FlowbasedComputationParameters.load(config).isParallelPostContingencies());
+    }
+
     private static class DummyExtension extends AbstractExtension<FlowbasedComputationParameters> {
 
         @Override
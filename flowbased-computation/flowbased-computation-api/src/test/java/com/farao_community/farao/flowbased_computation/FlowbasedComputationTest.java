@@ -6,16 +6,29 @@
  */
 package com.farao_community.farao.flowbased_computation;
 
+import com.farao_community.farao.commons.FaraoException;
 import com.farao_community.farao.commons.ZonalData;
+import com.farao_community.farao.commons.ZonalDataChronology;
 import com.farao_community.farao.commons.ZonalDataImpl;
 import com.farao_community.farao.data.crac_api.Crac;
+import com.farao_community.farao.data.flowbased_domain.DataDomain;
+import com.farao_community.farao.data.flowbased_domain.DataPreContingency;
+import com.farao_community.farao.data.flowbased_domain.json.JsonFlowbasedDomain;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
 import com.powsybl.sensitivity.factors.variables.LinearGlsk;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 
-import java.util.HashMap;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.junit.Assert.*;
 
@@ -49,6 +62,121 @@ public class FlowbasedComputationTest {
         assertNotNull(resultAsync);
     }
 
+    @Test
+    public void testDefaultRunAndWrite() {
+        FlowbasedComputationParameters parameters = FlowbasedComputationParameters.load();
+        FlowbasedComputationProvider provider = mockProviderWritingDomains(parameters);
+
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        FlowbasedComputationResult.Status status = new FlowbasedComputation.Runner(provider).runAndWrite(network, crac, glsk, null, parameters, os);
+
+        assertEquals(FlowbasedComputationResult.Status.SUCCESS, status);
+        DataDomain writtenDomain = JsonFlowbasedDomain.read(new ByteArrayInputStream(os.toByteArray()));
+        assertEquals("id", writtenDomain.getId());
+        assertTrue(writtenDomain.getDataPostContingency().isEmpty());
+    }
+
+    @Test
+    public void testRunBatchWritesEachInstant() {
+        FlowbasedComputationParameters parameters = FlowbasedComputationParameters.load();
+        FlowbasedComputationProvider provider = mockProviderWritingDomains(parameters);
+        ZonalDataChronology<LinearGlsk> glskChronology = mockGlskChronology();
+        Mockito.when(glskChronology.selectInstant(Mockito.any())).thenReturn(glsk);
+
+        Map<Instant, Network> networks = new HashMap<>();
+        Map<Instant, ByteArrayOutputStream> outputs = new ConcurrentHashMap<>();
+        for (int hour = 0; hour < 4; hour++) {
+            networks.put(Instant.parse("2021-01-01T00:00:00Z").plus(hour, ChronoUnit.HOURS), Mockito.mock(Network.class));
+        }
+
+        SortedMap<Instant, FlowbasedComputationResult.Status> statuses = new FlowbasedComputation.Runner(provider).runBatch(networks, crac, glskChronology, parameters, 2,
+            instant -> outputs.computeIfAbsent(instant, i -> new ByteArrayOutputStream()));
+
+        assertEquals(new ArrayList<>(new TreeSet<>(networks.keySet())), new ArrayList<>(statuses.keySet()));
+        statuses.values().forEach(status -> assertEquals(FlowbasedComputationResult.Status.SUCCESS, status));
+        assertEquals(networks.keySet(), outputs.keySet());
+        outputs.values().forEach(os -> assertEquals("id", JsonFlowbasedDomain.read(new ByteArrayInputStream(os.toByteArray())).getId()));
+        networks.values().forEach(network -> Mockito.verify(provider).run(network, crac, null, glsk, parameters));
+    }
+
+    @Test(expected = FaraoException.class)
+    public void testRunBatchFailsWithSharedNetwork() {
+        FlowbasedComputationParameters parameters = FlowbasedComputationParameters.load();
+        ZonalDataChronology<LinearGlsk> glskChronology = mockGlskChronology();
+        Mockito.when(glskChronology.selectInstant(Mockito.any())).thenReturn(glsk);
+        Map<Instant, Network> networks = Map.of(Instant.parse("2021-01-01T00:00:00Z"), network, Instant.parse("2021-01-01T01:00:00Z"), network);
+        new FlowbasedComputation.Runner(mockProviderWritingDomains(parameters)).runBatch(networks, crac, glskChronology, parameters, 2, instant -> new ByteArrayOutputStream());
+    }
+
+    @Test(expected = FaraoException.class)
+    public void testRunBatchFailsWithoutGlsk() {
+        FlowbasedComputationParameters parameters = FlowbasedComputationParameters.load();
+        ZonalDataChronology<LinearGlsk> glskChronology = mockGlskChronology();
+        new FlowbasedComputation.Runner(mockProviderWritingDomains(parameters))
+            .runBatch(Map.of(Instant.parse("2021-01-01T00:00:00Z"), network), crac, glskChronology, parameters, 1, instant -> new ByteArrayOutputStream());
+    }
+
+    @Test
+    public void testRunBatchWithGlskPerInstant() {
+        FlowbasedComputationParameters parameters = FlowbasedComputationParameters.load();
+        FlowbasedComputationProvider provider = mockProviderWritingDomains(parameters);
+        Map<Instant, Network> networks = new HashMap<>();
+        Map<Instant, ZonalData<LinearGlsk>> glsks = new HashMap<>();
+        for (int hour = 0; hour < 3; hour++) {
+            Instant instant = Instant.parse("2021-01-01T00:00:00Z").plus(hour, ChronoUnit.HOURS);
+            networks.put(instant, Mockito.mock(Network.class));
+            glsks.put(instant, glskProvider());
+        }
+
+        SortedMap<Instant, FlowbasedComputationResult.Status> statuses = new FlowbasedComputation.Runner(provider)
+            .runBatch(networks, crac, glsks, parameters, 2, instant -> new ByteArrayOutputStream());
+
+        assertEquals(3, statuses.size());
+        networks.forEach((instant, instantNetwork) -> Mockito.verify(provider).run(instantNetwork, crac, null, glsks.get(instant), parameters));
+    }
+
+    @Test(expected = FaraoException.class)
+    public void testRunBatchFailsWithoutGlskForAnInstant() {
+        FlowbasedComputationParameters parameters = FlowbasedComputationParameters.load();
+        Map<Instant, Network> networks = Map.of(Instant.parse("2021-01-01T00:00:00Z"), network, Instant.parse("2021-01-01T01:00:00Z"), Mockito.mock(Network.class));
+        Map<Instant, ZonalData<LinearGlsk>> glsks = Map.of(Instant.parse("2021-01-01T00:00:00Z"), glsk);
+        new FlowbasedComputation.Runner(mockProviderWritingDomains(parameters)).runBatch(networks, crac, glsks, parameters, 2, instant -> new ByteArrayOutputStream());
+    }
+
+    @Test
+    public void testRunBatchOnVariants() {
+        FlowbasedComputationParameters parameters = FlowbasedComputationParameters.load();
+        FlowbasedComputationProvider provider = mockProviderWritingDomains(parameters);
+        ZonalDataChronology<LinearGlsk> glskChronology = mockGlskChronology();
+        Mockito.when(glskChronology.selectInstant(Mockito.any())).thenReturn(glsk);
+        VariantManager variantManager = Mockito.mock(VariantManager.class);
+        Mockito.when(variantManager.getWorkingVariantId()).thenReturn("initial");
+        Mockito.when(network.getVariantManager()).thenReturn(variantManager);
+
+        Map<Instant, String> variantIds = Map.of(Instant.parse("2021-01-01T01:00:00Z"), "hour-1", Instant.parse("2021-01-01T00:00:00Z"), "hour-0");
+        SortedMap<Instant, FlowbasedComputationResult.Status> statuses = new FlowbasedComputation.Runner(provider)
+            .runBatch(network, variantIds, crac, glskChronology, parameters, instant -> new ByteArrayOutputStream());
+
+        assertEquals(2, statuses.size());
+        InOrder inOrder = Mockito.inOrder(variantManager);
+        inOrder.verify(variantManager).setWorkingVariant("hour-0");
+        inOrder.verify(variantManager).setWorkingVariant("hour-1");
+        inOrder.verify(variantManager).setWorkingVariant("initial");
+    }
+
+    private FlowbasedComputationProvider mockProviderWritingDomains(FlowbasedComputationParameters parameters) {
+        DataDomain dataDomain = new DataDomain("id", "name", "code", "", new DataPreContingency(Collections.emptyList()), Collections.emptyList(), Collections.emptyList());
+        FlowbasedComputationProvider provider = Mockito.mock(FlowbasedComputationProvider.class, Mockito.CALLS_REAL_METHODS);
+        Mockito.doReturn(CompletableFuture.completedFuture(new FlowbasedComputationResultImpl(FlowbasedComputationResult.Status.SUCCESS, dataDomain)))
+            .when(provider).run(Mockito.any(), Mockito.eq(crac), Mockito.isNull(), Mockito.any(), Mockito.eq(parameters));
+        return provider;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ZonalDataChronology<LinearGlsk> mockGlskChronology() {
+        return Mockito.mock(ZonalDataChronology.class);
+    }
+
     static ZonalData<LinearGlsk> glskProvider() {
         return new ZonalDataImpl<>(new HashMap<>());
     }
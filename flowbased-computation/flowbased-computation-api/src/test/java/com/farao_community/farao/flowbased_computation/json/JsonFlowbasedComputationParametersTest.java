@@ -10,7 +10,12 @@ import com.farao_community.farao.flowbased_computation.FlowbasedComputationParam
 import com.powsybl.commons.AbstractConverterTest;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Sebastien Murgey {@literal <sebastien.murgey at rte-france.com>}
@@ -21,4 +26,21 @@ public class JsonFlowbasedComputationParametersTest extends AbstractConverterTes
         FlowbasedComputationParameters parameters = new FlowbasedComputationParameters();
         roundTripTest(parameters, JsonFlowbasedComputationParameters::write, JsonFlowbasedComputationParameters::read, "/FlowbasedComputationParameters.json");
     }
+
+    @Test
+    public void readParallelPostContingencies() {
+        FlowbasedComputationParameters parameters = new FlowbasedComputationParameters();
+        assertFalse(parameters.isParallelPostContingencies());
+        String json = "{\"version\" : \"1.1\", \"parallel-post-contingencies\" : true}";
+        JsonFlowbasedComputationParameters.update(parameters, new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        assertTrue(parameters.isParallelPostContingencies());
+    }
+
+    @Test
+    public void readVersion10() {
+        String json = "{\"version\" : \"1.0\", \"load-flow-parameters\" : {\"version\" : \"1.5\", \"dc\" : true}}";
+        FlowbasedComputationParameters parameters = JsonFlowbasedComputationParameters.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        assertTrue(parameters.getLoadFlowParameters().isDc());
+        assertFalse(parameters.isParallelPostContingencies());
+    }
 }
@@ -15,6 +15,7 @@ import com.farao_community.farao.data.crac_api.network_action.NetworkAction;
 import com.farao_community.farao.data.crac_api.range_action.RangeAction;
 import com.farao_community.farao.data.crac_api.usage_rule.UsageMethod;
 import com.farao_community.farao.data.flowbased_domain.*;
+import com.farao_community.farao.data.flowbased_domain.json.JsonFlowbasedDomain;
 import com.farao_community.farao.data.rao_result_api.RaoResult;
 import com.farao_community.farao.flowbased_computation.*;
 import com.farao_community.farao.commons.RandomizedString;
@@ -27,9 +28,11 @@ import com.powsybl.sensitivity.factors.variables.LinearGlsk;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.OutputStream;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Flowbased computation implementation
@@ -54,6 +57,24 @@ public class FlowbasedComputationImpl implements FlowbasedComputationProvider {
 
     @Override
     public CompletableFuture<FlowbasedComputationResult> run(Network network, Crac crac, RaoResult raoResult, ZonalData<LinearGlsk> glsk, FlowbasedComputationParameters parameters) {
+        SystematicSensitivityResult result = runSensitivityAnalysis(network, crac, raoResult, glsk, parameters);
+        return CompletableFuture.completedFuture(new FlowbasedComputationResultImpl(FlowbasedComputationResult.Status.SUCCESS,
+            buildFlowbasedDomain(crac, glsk, result, buildDataPostContingencies(crac, glsk, result, parameters).collect(Collectors.toList()))));
+    }
+
+    /**
+     * The post-contingency blocks of the domain are written as soon as they are built, so that the complete
+     * flowbased domain is never held in memory.
+     */
+    @Override
+    public CompletableFuture<FlowbasedComputationResult.Status> runAndWrite(Network network, Crac crac, RaoResult raoResult, ZonalData<LinearGlsk> glsk, FlowbasedComputationParameters parameters, OutputStream os) {
+        Objects.requireNonNull(os);
+        SystematicSensitivityResult result = runSensitivityAnalysis(network, crac, raoResult, glsk, parameters);
+        JsonFlowbasedDomain.write(buildFlowbasedDomain(crac, glsk, result, Collections.emptyList()), buildDataPostContingencies(crac, glsk, result, parameters), os);
+        return CompletableFuture.completedFuture(FlowbasedComputationResult.Status.SUCCESS);
+    }
+
+    private SystematicSensitivityResult runSensitivityAnalysis(Network network, Crac crac, RaoResult raoResult, ZonalData<LinearGlsk> glsk, FlowbasedComputationParameters parameters) {
         Objects.requireNonNull(network);
         Objects.requireNonNull(crac);
         Objects.requireNonNull(glsk);
@@ -90,13 +111,12 @@ public class FlowbasedComputationImpl implements FlowbasedComputationProvider {
         network.getVariantManager().setWorkingVariant(INITIAL_STATE_WITH_PRA);
         applyPreventiveRemedialActions(raoResult, crac, network);
         SystematicSensitivityResult result = systematicSensitivityInterface.run(network);
-        FlowbasedComputationResult flowBasedComputationResult = new FlowbasedComputationResultImpl(FlowbasedComputationResult.Status.SUCCESS, buildFlowbasedDomain(crac, glsk, result));
 
         // Restore initial variant at the end of the computation
         network.getVariantManager().setWorkingVariant(initialNetworkId);
         network.getVariantManager().removeVariant(INITIAL_STATE_WITH_PRA);
 
-        return CompletableFuture.completedFuture(flowBasedComputationResult);
+        return result;
     }
 
     private void applyPreventiveRemedialActions(RaoResult raoResult, Crac crac, Network network) {
@@ -128,50 +148,67 @@ public class FlowbasedComputationImpl implements FlowbasedComputationProvider {
         }
     }
 
-    private DataDomain buildFlowbasedDomain(Crac crac, ZonalData<LinearGlsk> glsk, SystematicSensitivityResult result) {
+    private DataDomain buildFlowbasedDomain(Crac crac, ZonalData<LinearGlsk> glsk, SystematicSensitivityResult result, List<DataPostContingency> dataPostContingencies) {
         return DataDomain.builder()
                 .id(RandomizedString.getRandomizedString())
                 .name("FlowBased results")
                 .description("")
                 .sourceFormat("code")
-                .dataPreContingency(buildDataPreContingency(crac, glsk, result))
-                .dataPostContingency(buildDataPostContingencies(crac, glsk, result))
+                .dataPreContingency(buildDataPreContingency(crac, getGlskIds(glsk), result))
+                .dataPostContingency(dataPostContingencies)
                 .glskData(buildDataGlskFactors(glsk))
                 .build();
     }
 
+    private static List<String> getGlskIds(ZonalData<LinearGlsk> glsk) {
+        return glsk.getDataPerZone().values().stream().map(LinearGlsk::getId).collect(Collectors.toList());
+    }
+
     private List<DataGlskFactors> buildDataGlskFactors(ZonalData<LinearGlsk> glsk) {
         List<DataGlskFactors> glskFactors = new ArrayList<>();
         glsk.getDataPerZone().forEach((s, linearGlsk) -> glskFactors.add(new DataGlskFactors(s, linearGlsk.getGLSKs())));
         return glskFactors;
     }
 
-    private List<DataPostContingency> buildDataPostContingencies(Crac crac, ZonalData<LinearGlsk> glsk, SystematicSensitivityResult result) {
-        List<DataPostContingency> postContingencyList = new ArrayList<>();
-        crac.getContingencies().forEach(contingency -> postContingencyList.add(buildDataPostContingency(crac, contingency, glsk, result)));
-        return postContingencyList;
+    /**
+     * Post-contingency blocks, in the order of the contingencies of the CRAC. If requested in the parameters,
+     * they are built in parallel: each block only reads the sensitivity result and the CNECs of its own
+     * contingency, so that blocks can safely be built concurrently.
+     */
+    private Stream<DataPostContingency> buildDataPostContingencies(Crac crac, ZonalData<LinearGlsk> glsk, SystematicSensitivityResult result, FlowbasedComputationParameters parameters) {
+        List<String> glskIds = getGlskIds(glsk);
+        Map<String, SortedSet<State>> statesPerContingency = new HashMap<>();
+        crac.getStates().forEach(state -> state.getContingency().ifPresent(contingency ->
+            statesPerContingency.computeIfAbsent(contingency.getId(), id -> new TreeSet<>()).add(state)));
+
+        Stream<Contingency> contingencies = crac.getContingencies().stream();
+        if (parameters.isParallelPostContingencies()) {
+            contingencies = contingencies.parallel();
+        }
+        return contingencies.map(contingency -> buildDataPostContingency(crac, contingency,
+            statesPerContingency.getOrDefault(contingency.getId(), Collections.emptySortedSet()), glskIds, result));
     }
 
-    private DataPostContingency buildDataPostContingency(Crac crac, Contingency contingency, ZonalData<LinearGlsk> glsk, SystematicSensitivityResult result) {
+    private DataPostContingency buildDataPostContingency(Crac crac, Contingency contingency, Set<State> states, List<String> glskIds, SystematicSensitivityResult result) {
         return DataPostContingency.builder()
                 .contingencyId(contingency.getId())
-                .dataMonitoredBranches(buildDataMonitoredBranches(crac, crac.getStates(contingency), glsk, result))
+                .dataMonitoredBranches(buildDataMonitoredBranches(crac, states, glskIds, result))
                 .build();
     }
 
-    private DataPreContingency buildDataPreContingency(Crac crac, ZonalData<LinearGlsk> glsk, SystematicSensitivityResult result) {
+    private DataPreContingency buildDataPreContingency(Crac crac, List<String> glskIds, SystematicSensitivityResult result) {
         return DataPreContingency.builder()
-                .dataMonitoredBranches(buildDataMonitoredBranches(crac, Set.of(crac.getPreventiveState()), glsk, result))
+                .dataMonitoredBranches(buildDataMonitoredBranches(crac, Set.of(crac.getPreventiveState()), glskIds, result))
                 .build();
     }
 
-    private List<DataMonitoredBranch> buildDataMonitoredBranches(Crac crac, Set<State> states, ZonalData<LinearGlsk> glsk, SystematicSensitivityResult result) {
+    private List<DataMonitoredBranch> buildDataMonitoredBranches(Crac crac, Set<State> states, List<String> glskIds, SystematicSensitivityResult result) {
         List<DataMonitoredBranch> branchResultList = new ArrayList<>();
-        states.forEach(state -> crac.getFlowCnecs(state).forEach(cnec -> branchResultList.add(buildDataMonitoredBranch(cnec, glsk, result))));
+        states.forEach(state -> crac.getFlowCnecs(state).forEach(cnec -> branchResultList.add(buildDataMonitoredBranch(cnec, glskIds, result))));
         return branchResultList;
     }
 
-    private DataMonitoredBranch buildDataMonitoredBranch(FlowCnec cnec, ZonalData<LinearGlsk> glsk, SystematicSensitivityResult result) {
+    private DataMonitoredBranch buildDataMonitoredBranch(FlowCnec cnec, List<String> glskIds, SystematicSensitivityResult result) {
         double maxThreshold = cnec.getUpperBound(Side.LEFT, Unit.MEGAWATT).orElse(Double.POSITIVE_INFINITY);
         double minThreshold = cnec.getLowerBound(Side.LEFT, Unit.MEGAWATT).orElse(Double.NEGATIVE_INFINITY);
         return new DataMonitoredBranch(
@@ -182,19 +219,14 @@ public class FlowbasedComputationImpl implements FlowbasedComputationProvider {
                 minThreshold,
                 maxThreshold,
                 zeroIfNaN(result.getReferenceFlow(cnec)),
-                buildDataPtdfPerCountry(cnec, glsk, result)
+                buildDataPtdfPerCountry(cnec, glskIds, result)
         );
     }
 
-    private List<DataPtdfPerCountry> buildDataPtdfPerCountry(FlowCnec cnec, ZonalData<LinearGlsk> glskProvider, SystematicSensitivityResult result) {
-        Map<String, LinearGlsk> glsks = glskProvider.getDataPerZone();
-        return glsks.values().stream()
-                .map(glsk ->
-                        new DataPtdfPerCountry(
-                                glsk.getId(),
-                                zeroIfNaN(result.getSensitivityOnFlow(glsk.getId(), cnec))
-                        )
-                ).collect(Collectors.toList());
+    private List<DataPtdfPerCountry> buildDataPtdfPerCountry(FlowCnec cnec, List<String> glskIds, SystematicSensitivityResult result) {
+        List<DataPtdfPerCountry> ptdfs = new ArrayList<>(glskIds.size());
+        glskIds.forEach(glskId -> ptdfs.add(new DataPtdfPerCountry(glskId, zeroIfNaN(result.getSensitivityOnFlow(glskId, cnec)))));
+        return ptdfs;
     }
 
     /**
@@ -7,17 +7,21 @@
 package com.farao_community.farao.flowbased_computation.impl;
 
 import com.farao_community.farao.commons.ZonalData;
+import com.farao_community.farao.commons.ZonalDataChronology;
 import com.farao_community.farao.data.crac_api.Crac;
 import com.farao_community.farao.data.crac_api.Instant;
 import com.farao_community.farao.data.crac_api.cnec.FlowCnec;
 import com.farao_community.farao.data.crac_api.network_action.NetworkAction;
+import com.farao_community.farao.data.flowbased_domain.DataDomain;
 import com.farao_community.farao.data.flowbased_domain.DataMonitoredBranch;
 import com.farao_community.farao.data.flowbased_domain.DataPtdfPerCountry;
+import com.farao_community.farao.data.flowbased_domain.json.JsonFlowbasedDomain;
 import com.farao_community.farao.data.rao_result_api.ComputationStatus;
 import com.farao_community.farao.data.rao_result_api.RaoResult;
 import com.farao_community.farao.data.rao_result_impl.ElementaryFlowCnecResult;
 import com.farao_community.farao.data.rao_result_impl.FlowCnecResult;
 import com.farao_community.farao.data.rao_result_impl.RaoResultImpl;
+import com.farao_community.farao.flowbased_computation.FlowbasedComputation;
 import com.farao_community.farao.flowbased_computation.FlowbasedComputationParameters;
 import com.farao_community.farao.flowbased_computation.FlowbasedComputationProvider;
 import com.farao_community.farao.flowbased_computation.FlowbasedComputationResult;
@@ -25,9 +29,13 @@ import com.powsybl.iidm.network.Network;
 import com.powsybl.sensitivity.factors.variables.LinearGlsk;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.Mockito;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static com.farao_community.farao.commons.Unit.AMPERE;
@@ -100,6 +108,55 @@ public class FlowbasedComputationImplTest {
         checkAssertions(result);
     }
 
+    @Test
+    public void testRunWithParallelPostContingencies() {
+        crac = ExampleGenerator.crac("crac.json");
+        FlowbasedComputationResult sequentialResult = flowBasedComputationProvider.run(network, crac, null, glsk, parameters).join();
+        parameters.setParallelPostContingencies(true);
+        FlowbasedComputationResult parallelResult = flowBasedComputationProvider.run(network, crac, null, glsk, parameters).join();
+        checkAssertions(parallelResult);
+        checkCurativeAssertions(parallelResult);
+        assertEquals(sequentialResult.getFlowBasedDomain().getDataPostContingency(), parallelResult.getFlowBasedDomain().getDataPostContingency());
+    }
+
+    @Test
+    public void testRunAndWriteStreamsTheSameDomain() {
+        crac = ExampleGenerator.crac("crac.json");
+        FlowbasedComputationResult result = flowBasedComputationProvider.run(network, crac, null, glsk, parameters).join();
+
+        parameters.setParallelPostContingencies(true);
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        FlowbasedComputationResult.Status status = flowBasedComputationProvider.runAndWrite(network, crac, null, glsk, parameters, os).join();
+        assertEquals(FlowbasedComputationResult.Status.SUCCESS, status);
+
+        DataDomain writtenDomain = JsonFlowbasedDomain.read(new ByteArrayInputStream(os.toByteArray()));
+        assertEquals(result.getFlowBasedDomain().getDataPreContingency(), writtenDomain.getDataPreContingency());
+        assertEquals(result.getFlowBasedDomain().getDataPostContingency(), writtenDomain.getDataPostContingency());
+        assertEquals(result.getFlowBasedDomain().getGlskData().size(), writtenDomain.getGlskData().size());
+        assertEquals("N-1 FR-BE", writtenDomain.getDataPostContingency().get(0).getContingencyId());
+    }
+
+    @Test
+    public void testRunBatchWithSharedCrac() {
+        crac = ExampleGenerator.crac("crac.json");
+        ZonalDataChronology<LinearGlsk> glskChronology = Mockito.mock(ZonalDataChronology.class);
+        Mockito.when(glskChronology.selectInstant(Mockito.any())).thenReturn(glsk);
+        java.time.Instant firstHour = java.time.Instant.parse("2021-01-01T00:00:00Z");
+        java.time.Instant secondHour = java.time.Instant.parse("2021-01-01T01:00:00Z");
+        Map<java.time.Instant, ByteArrayOutputStream> outputs = new ConcurrentHashMap<>();
+
+        Map<java.time.Instant, FlowbasedComputationResult.Status> statuses = new FlowbasedComputation.Runner(flowBasedComputationProvider).runBatch(
+            Map.of(firstHour, network, secondHour, ExampleGenerator.network()), crac, glskChronology, parameters, 2,
+            instant -> outputs.computeIfAbsent(instant, i -> new ByteArrayOutputStream()));
+
+        assertEquals(Map.of(firstHour, FlowbasedComputationResult.Status.SUCCESS, secondHour, FlowbasedComputationResult.Status.SUCCESS), statuses);
+        DataDomain firstDomain = JsonFlowbasedDomain.read(new ByteArrayInputStream(outputs.get(firstHour).toByteArray()));
+        DataDomain secondDomain = JsonFlowbasedDomain.read(new ByteArrayInputStream(outputs.get(secondHour).toByteArray()));
+        assertEquals(firstDomain.getDataPreContingency(), secondDomain.getDataPreContingency());
+        assertEquals(firstDomain.getDataPostContingency(), secondDomain.getDataPostContingency());
+        assertEquals(0.375, firstDomain.getDataPreContingency().findMonitoredBranchById("FR-BE - N - preventive").findPtdfByCountry("10YFR-RTE------C").getPtdf(), EPSILON);
+    }
+
     private void checkAssertions(FlowbasedComputationResult result) {
         assertEquals(FlowbasedComputationResult.Status.SUCCESS, result.getStatus());
 
@@ -11,22 +11,19 @@ import com.farao_community.farao.commons.FaraoException;
 import com.farao_community.farao.commons.Unit;
 import com.farao_community.farao.commons.ZonalData;
 import com.farao_community.farao.data.crac_api.cnec.FlowCnec;
+import com.farao_community.farao.data.refprog.reference_program.CrossBorderElementsIndex;
 import com.farao_community.farao.data.refprog.reference_program.ReferenceProgram;
+import com.farao_community.farao.data.refprog.reference_program.ReferenceProgramBuilder;
 import com.farao_community.farao.sensitivity_analysis.SystematicSensitivityInterface;
 import com.farao_community.farao.sensitivity_analysis.SystematicSensitivityResult;
-import com.powsybl.iidm.network.Generator;
-import com.powsybl.iidm.network.Load;
-import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.*;
 import com.powsybl.sensitivity.SensitivityAnalysisParameters;
 import com.powsybl.sensitivity.factors.variables.LinearGlsk;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Set;
-import java.util.stream.Stream;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Objects.requireNonNull;
 
@@ -42,11 +39,42 @@ public class LoopFlowComputationImpl implements LoopFlowComputation {
     protected Network network;
     protected Map<EICode, LinearGlsk> glskMap;
 
+    /*
+     The areas of the reference program which have a GLSK are stored in arrays, aligned with their GLSK and their
+     global net position, so that the commercial flow on a cnec is the dot product of its PTDFs with the net positions.
+     */
+    private final LinearGlsk[] areaGlsks;
+    private final double[] areaNetPositions;
+
+    /*
+     The injections of the GLSKs are only looked up once per network, the main connected component of their buses
+     is then read at each computation, as it depends on the topology of the network. As the injections of a network
+     do not depend on its variant, computations run in parallel on several variants share the same lookup.
+     */
+    private final Map<Network, Map<LinearGlsk, List<Injection<?>>>> glskInjectionsPerNetwork = new ConcurrentHashMap<>();
+
     public LoopFlowComputationImpl(ZonalData<LinearGlsk> glsk, ReferenceProgram referenceProgram, Network network) {
         this.glsk = requireNonNull(glsk, "glskProvider should not be null");
         this.referenceProgram = requireNonNull(referenceProgram, "referenceProgram should not be null");
         this.network = network;
         this.glskMap = buildRefProgGlskMap();
+
+        this.areaGlsks = new LinearGlsk[glskMap.size()];
+        this.areaNetPositions = new double[glskMap.size()];
+        int areaIndex = 0;
+        for (Map.Entry<EICode, LinearGlsk> entry : glskMap.entrySet()) {
+            areaGlsks[areaIndex] = entry.getValue();
+            areaNetPositions[areaIndex] = referenceProgram.getGlobalNetPosition(entry.getKey());
+            areaIndex++;
+        }
+    }
+
+    /**
+     * The reference program is built from the net positions of the areas of the index, computed with the flows
+     * of the working variant of the network, so that several loop-flow computations can share the same index
+     */
+    public LoopFlowComputationImpl(ZonalData<LinearGlsk> glsk, CrossBorderElementsIndex crossBorderElementsIndex, Network network) {
+        this(glsk, ReferenceProgramBuilder.buildReferenceProgram(requireNonNull(crossBorderElementsIndex, "crossBorderElementsIndex should not be null")), network);
     }
 
     @Override
@@ -66,46 +94,70 @@ public class LoopFlowComputationImpl implements LoopFlowComputation {
     @Override
     public LoopFlowResult buildLoopFlowsFromReferenceFlowAndPtdf(SystematicSensitivityResult alreadyCalculatedPtdfAndFlows, Set<FlowCnec> flowCnecs) {
         LoopFlowResult results = new LoopFlowResult();
-        Map<LinearGlsk, Boolean> isInMainComponentMap = computeIsInMainComponentMap();
+        boolean[] isInMainComponent = computeIsInMainComponentMask();
         for (FlowCnec flowCnec : flowCnecs) {
             double refFlow = alreadyCalculatedPtdfAndFlows.getReferenceFlow(flowCnec);
-            double commercialFLow = getGlskStream(flowCnec).filter(entry -> isInMainComponentMap.get(entry.getValue()))
-                .mapToDouble(entry -> alreadyCalculatedPtdfAndFlows.getSensitivityOnFlow(entry.getValue(), flowCnec) * referenceProgram.getGlobalNetPosition(entry.getKey()))
-                .sum();
+            double commercialFLow = 0;
+            for (int areaIndex = 0; areaIndex < areaGlsks.length; areaIndex++) {
+                if (isInMainComponent[areaIndex] && isLinearGlskValidForCnec(flowCnec, areaGlsks[areaIndex])) {
+                    commercialFLow += alreadyCalculatedPtdfAndFlows.getSensitivityOnFlow(areaGlsks[areaIndex], flowCnec) * areaNetPositions[areaIndex];
+                }
+            }
             results.addCnecResult(flowCnec, refFlow - commercialFLow, commercialFLow, refFlow);
         }
         return results;
     }
 
-    private Map<LinearGlsk, Boolean> computeIsInMainComponentMap() {
-        Map<LinearGlsk, Boolean> map = new HashMap<>();
-        glskMap.values().forEach(linearGlsk -> map.putIfAbsent(linearGlsk, isInMainComponent(linearGlsk, network)));
-        return map;
+    private boolean[] computeIsInMainComponentMask() {
+        Map<LinearGlsk, List<Injection<?>>> glskInjections = glskInjectionsPerNetwork.computeIfAbsent(network, this::getGlskInjections);
+        Map<LinearGlsk, Boolean> isInMainComponentPerGlsk = new HashMap<>();
+        boolean[] isInMainComponent = new boolean[areaGlsks.length];
+        for (int areaIndex = 0; areaIndex < areaGlsks.length; areaIndex++) {
+            isInMainComponent[areaIndex] = isInMainComponentPerGlsk.computeIfAbsent(areaGlsks[areaIndex], linearGlsk -> isInMainComponent(glskInjections.get(linearGlsk)));
+        }
+        return isInMainComponent;
+    }
+
+    private Map<LinearGlsk, List<Injection<?>>> getGlskInjections(Network network) {
+        Map<LinearGlsk, List<Injection<?>>> glskInjections = new HashMap<>();
+        Arrays.stream(areaGlsks).forEach(linearGlsk -> glskInjections.computeIfAbsent(linearGlsk, lg -> getInjections(lg, network)));
+        return glskInjections;
     }
 
     static boolean isInMainComponent(LinearGlsk linearGlsk, Network network) {
-        boolean atLeastOneGlskConnected = false;
+        return isInMainComponent(getInjections(linearGlsk, network));
+    }
+
+    private static boolean isInMainComponent(List<Injection<?>> injections) {
+        for (Injection<?> injection : injections) {
+            // If bus is disconnected, then powsybl returns a null bus
+            Bus bus = injection.getTerminal().getBusView().getBus();
+            if (bus != null && bus.isInMainConnectedComponent()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<Injection<?>> getInjections(LinearGlsk linearGlsk, Network network) {
+        List<Injection<?>> injections = new ArrayList<>();
         for (String glsk : linearGlsk.getGLSKs().keySet()) {
             Generator generator = network.getGenerator(glsk);
             if (generator != null) {
-                // If bus is disconnected, then powsybl returns a null bus
-                if (generator.getTerminal().getBusView().getBus() != null && generator.getTerminal().getBusView().getBus().isInMainConnectedComponent()) {
-                    atLeastOneGlskConnected = true;
-                }
+                injections.add(generator);
             } else {
                 Load load = network.getLoad(glsk);
                 if (load == null) {
                     throw new FaraoException(String.format("%s is neither a generator nor a load in the network. It is not a valid GLSK.", glsk));
-                } else if (load.getTerminal().getBusView().getBus() != null && load.getTerminal().getBusView().getBus().isInMainConnectedComponent()) {
-                    atLeastOneGlskConnected = true;
                 }
+                injections.add(load);
             }
         }
-        return atLeastOneGlskConnected;
+        return injections;
     }
 
-    protected Stream<Map.Entry<EICode, LinearGlsk>> getGlskStream(FlowCnec flowCnec) {
-        return glskMap.entrySet().stream();
+    protected boolean isLinearGlskValidForCnec(FlowCnec flowCnec, LinearGlsk linearGlsk) {
+        return true;
     }
 
     protected Map<EICode, LinearGlsk> buildRefProgGlskMap() {
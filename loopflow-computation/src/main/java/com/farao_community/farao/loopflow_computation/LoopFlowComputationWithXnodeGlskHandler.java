@@ -7,16 +7,13 @@
 
 package com.farao_community.farao.loopflow_computation;
 
-import com.farao_community.farao.commons.EICode;
 import com.farao_community.farao.commons.ZonalData;
 import com.farao_community.farao.data.crac_api.Contingency;
 import com.farao_community.farao.data.crac_api.cnec.FlowCnec;
 import com.farao_community.farao.data.refprog.reference_program.ReferenceProgram;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.sensitivity.factors.variables.LinearGlsk;
-import java.util.Map;
 import java.util.Set;
-import java.util.stream.Stream;
 
 /**
  * @author Joris Mancini {@literal <joris.mancini at rte-france.com>}
@@ -30,14 +27,13 @@ public class LoopFlowComputationWithXnodeGlskHandler extends LoopFlowComputation
         xnodeGlskHandler = new XnodeGlskHandler(glsk, contingencies, network);
     }
 
-    LoopFlowComputationWithXnodeGlskHandler(ZonalData<LinearGlsk> glsk, ReferenceProgram referenceProgram, XnodeGlskHandler xnodeGlskHandler) {
+    public LoopFlowComputationWithXnodeGlskHandler(ZonalData<LinearGlsk> glsk, ReferenceProgram referenceProgram, XnodeGlskHandler xnodeGlskHandler) {
         super(glsk, referenceProgram, xnodeGlskHandler.getNetwork());
         this.xnodeGlskHandler = xnodeGlskHandler;
     }
 
     @Override
-    protected Stream<Map.Entry<EICode, LinearGlsk>> getGlskStream(FlowCnec flowCnec) {
-        return super.getGlskStream(flowCnec)
-                .filter(entry -> xnodeGlskHandler.isLinearGlskValidForCnec(flowCnec, entry.getValue()));
+    protected boolean isLinearGlskValidForCnec(FlowCnec flowCnec, LinearGlsk linearGlsk) {
+        return xnodeGlskHandler.isLinearGlskValidForCnec(flowCnec, linearGlsk);
     }
 }
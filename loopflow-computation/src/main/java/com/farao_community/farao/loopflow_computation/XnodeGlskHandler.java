@@ -49,7 +49,7 @@ public class XnodeGlskHandler {
     private static final Logger LOGGER = LoggerFactory.getLogger(XnodeGlskHandler.class);
     private static final int N_CHARACTERS_IN_UCTE_NODE = 8;
 
-    private Map<Contingency, List<String>> invalidGlskPerContingency;
+    private Map<Contingency, Set<String>> invalidGlskPerContingency;
     private ZonalData<LinearGlsk> glskZonalData;
     private Set<Contingency> contingencies;
     private Network network;
@@ -71,21 +71,21 @@ public class XnodeGlskHandler {
         if (optContingency.isEmpty()) {
             return true;
         }
-        return !invalidGlskPerContingency.get(optContingency.get()).contains(linearGlsk.getId());
+        return !invalidGlskPerContingency.getOrDefault(optContingency.get(), Collections.emptySet()).contains(linearGlsk.getId());
     }
 
-    private Map<Contingency, List<String>> buildInvalidGlskPerContingency() {
+    private Map<Contingency, Set<String>> buildInvalidGlskPerContingency() {
 
-        Map<Contingency, List<String>> outputMap = new HashMap<>();
+        Map<Contingency, Set<String>> outputMap = new HashMap<>();
 
         contingencies.forEach(contingency -> outputMap.put(contingency, getInvalidGlsksForContingency(contingency)));
 
         return outputMap;
     }
 
-    private List<String> getInvalidGlsksForContingency(Contingency contingency) {
+    private Set<String> getInvalidGlsksForContingency(Contingency contingency) {
         List<String> xNodesInContingency = getXNodeInContingency(contingency);
-        List<String> invalidGlsk = new ArrayList<>();
+        Set<String> invalidGlsk = new HashSet<>();
 
         glskZonalData.getDataPerZone().forEach((k, linearGlsk) -> {
             if (!isGlskValid(linearGlsk, xNodesInContingency)) {
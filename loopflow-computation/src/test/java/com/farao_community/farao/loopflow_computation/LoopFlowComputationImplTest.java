@@ -10,6 +10,7 @@ import com.farao_community.farao.commons.FaraoException;
 import com.farao_community.farao.commons.ZonalData;
 import com.farao_community.farao.data.crac_api.Crac;
 import com.farao_community.farao.data.crac_loopflow_extension.LoopFlowThresholdImpl;
+import com.farao_community.farao.data.refprog.reference_program.CrossBorderElementsIndex;
 import com.farao_community.farao.data.refprog.reference_program.ReferenceProgram;
 import com.farao_community.farao.sensitivity_analysis.SystematicSensitivityResult;
 import com.powsybl.iidm.network.*;
@@ -19,6 +20,7 @@ import org.junit.Test;
 import org.mockito.Mockito;
 
 import java.util.Map;
+import java.util.stream.IntStream;
 
 import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -90,6 +92,55 @@ public class LoopFlowComputationImplTest {
         assertEquals(170., loopFlowResult.getReferenceFlow(crac.getFlowCnec("DE-NL")), DOUBLE_TOLERANCE);
     }
 
+    @Test
+    public void calculateLoopFlowWithCrossBorderElementsIndexTest() {
+        ZonalData<LinearGlsk> glsk = ExampleGenerator.glskProvider();
+        SystematicSensitivityResult ptdfsAndFlows = ExampleGenerator.systematicSensitivityResult(crac, glsk);
+
+        Network network = ExampleGenerator.network();
+        for (String lineId : new String[] {"FR-BE1", "FR-DE", "BE2-NL", "DE-NL"}) {
+            network.getLine(lineId).getTerminal1().setP(50.);
+            network.getLine(lineId).getTerminal2().setP(-50.);
+        }
+
+        LoopFlowComputation loopFlowComputation = new LoopFlowComputationImpl(glsk, new CrossBorderElementsIndex(network), network);
+        LoopFlowResult loopFlowResult = loopFlowComputation.buildLoopFlowsFromReferenceFlowAndPtdf(ptdfsAndFlows, crac.getFlowCnecs());
+
+        assertEquals(-50., loopFlowResult.getLoopFlow(crac.getFlowCnec("FR-BE1")), DOUBLE_TOLERANCE);
+        assertEquals(200., loopFlowResult.getLoopFlow(crac.getFlowCnec("BE1-BE2")), DOUBLE_TOLERANCE);
+        assertEquals(-50., loopFlowResult.getLoopFlow(crac.getFlowCnec("BE2-NL")), DOUBLE_TOLERANCE);
+        assertEquals(50., loopFlowResult.getLoopFlow(crac.getFlowCnec("FR-DE")), DOUBLE_TOLERANCE);
+        assertEquals(50., loopFlowResult.getLoopFlow(crac.getFlowCnec("DE-NL")), DOUBLE_TOLERANCE);
+    }
+
+    @Test
+    public void testGlskInjectionsAreOnlyLookedUpOnce() {
+        ZonalData<LinearGlsk> glsk = ExampleGenerator.glskProvider();
+        ReferenceProgram referenceProgram = ExampleGenerator.referenceProgram();
+        SystematicSensitivityResult ptdfsAndFlows = ExampleGenerator.systematicSensitivityResult(crac, glsk);
+
+        Network network = Mockito.mock(Network.class);
+        Generator gen = Mockito.mock(Generator.class);
+        Mockito.when(network.getGenerator(any())).thenReturn(gen);
+        Mockito.doReturn(mockInjection(true)).when(gen).getTerminal();
+
+        LoopFlowComputation loopFlowComputation = new LoopFlowComputationImpl(glsk, referenceProgram, network);
+        LoopFlowResult loopFlowResult = loopFlowComputation.buildLoopFlowsFromReferenceFlowAndPtdf(ptdfsAndFlows, crac.getFlowCnecs());
+        assertEquals(80, loopFlowResult.getCommercialFlow(crac.getFlowCnec("FR-BE1")), DOUBLE_TOLERANCE);
+        int numberOfLookUps = Mockito.mockingDetails(network).getInvocations().size();
+
+        // the main connected component is still read at each computation
+        Mockito.doReturn(mockInjection(false)).when(gen).getTerminal();
+        loopFlowResult = loopFlowComputation.buildLoopFlowsFromReferenceFlowAndPtdf(ptdfsAndFlows, crac.getFlowCnecs());
+        assertEquals(0, loopFlowResult.getCommercialFlow(crac.getFlowCnec("FR-BE1")), DOUBLE_TOLERANCE);
+        assertEquals(numberOfLookUps, Mockito.mockingDetails(network).getInvocations().size());
+
+        // computations run in parallel share the same lookup
+        IntStream.range(0, 50).parallel().forEach(i -> assertEquals(0, loopFlowComputation.buildLoopFlowsFromReferenceFlowAndPtdf(ptdfsAndFlows, crac.getFlowCnecs())
+            .getCommercialFlow(crac.getFlowCnec("FR-BE1")), DOUBLE_TOLERANCE));
+        assertEquals(numberOfLookUps, Mockito.mockingDetails(network).getInvocations().size());
+    }
+
     @Test
     public void testIsInMainComponent() {
         LinearGlsk linearGlsk = Mockito.mock(LinearGlsk.class);
@@ -166,6 +166,14 @@ public class RaoParametersDeserializer extends StdDeserializer<RaoParameters> {
                     parser.nextToken();
                     parameters.setForbidCostIncrease(parser.getBooleanValue());
                     break;
+                case "solver-warm-start":
+                    parser.nextToken();
+                    parameters.setSolverWarmStart(parser.getBooleanValue());
+                    break;
+                case "sensitivity-update-tolerance":
+                    parser.nextToken();
+                    parameters.setSensitivityUpdateTolerance(parser.getDoubleValue());
+                    break;
                 case "extensions":
                     parser.nextToken();
                     if (parameters.getExtensions().isEmpty()) {
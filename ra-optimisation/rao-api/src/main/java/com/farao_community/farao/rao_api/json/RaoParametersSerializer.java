@@ -68,6 +68,8 @@ public class RaoParametersSerializer extends StdSerializer<RaoParameters> {
         jsonGenerator.writeStringField("solver-specific-parameters", parameters.getSolverSpecificParameters());
         jsonGenerator.writeObjectField("pst-optimization-approximation", parameters.getPstOptimizationApproximation());
         jsonGenerator.writeBooleanField("forbid-cost-increase", parameters.getForbidCostIncrease());
+        jsonGenerator.writeBooleanField("solver-warm-start", parameters.getSolverWarmStart());
+        jsonGenerator.writeNumberField("sensitivity-update-tolerance", parameters.getSensitivityUpdateTolerance());
         jsonGenerator.writeFieldName("sensitivity-parameters");
         JsonSensitivityAnalysisParameters.serialize(parameters.getDefaultSensitivityAnalysisParameters(), jsonGenerator, serializerProvider);
         if (parameters.getFallbackSensitivityAnalysisParameters() != null) {
@@ -26,6 +26,7 @@ public final class LinearOptimizerParameters {
     private double relativeMipGap;
     private String solverSpecificParameters;
     private RaoParameters.PstOptimizationApproximation pstOptimizationApproximation;
+    private double sensitivityUpdateTolerance;
 
     private LinearOptimizerParameters() {
         // Can be instantiated only by builder
@@ -48,6 +49,7 @@ public final class LinearOptimizerParameters {
         private double relativeMipGap;
         private String solverSpecificParameters;
         private RaoParameters.PstOptimizationApproximation pstOptimizationApproximation;
+        private double sensitivityUpdateTolerance = 0;
 
         public LinearOptimizerParametersBuilder withObjectiveFunction(RaoParameters.ObjectiveFunction objectiveFunction) {
             this.objectiveFunction = objectiveFunction;
@@ -109,10 +111,18 @@ public final class LinearOptimizerParameters {
             return this;
         }
 
+        public LinearOptimizerParametersBuilder withSensitivityUpdateTolerance(double sensitivityUpdateTolerance) {
+            this.sensitivityUpdateTolerance = sensitivityUpdateTolerance;
+            return this;
+        }
+
         public LinearOptimizerParameters build() {
             if (objectiveFunction == null || pstSensitivityThreshold == null || hvdcSensitivityThreshold == null) {
                 throw new FaraoException("Objective function, pst sensitivity threshold and hvdc sensitivity threshold are mandatory parameters.");
             }
+            if (sensitivityUpdateTolerance < 0) {
+                throw new FaraoException("Sensitivity update tolerance must be positive.");
+            }
             if (objectiveFunction.relativePositiveMargins() && maxMinRelativeMarginParameters == null) {
                 throw new FaraoException("An objective function with relative margins requires parameters on relative margins.");
             }
@@ -132,6 +142,7 @@ public final class LinearOptimizerParameters {
             linearOptimizerParameters.relativeMipGap = relativeMipGap;
             linearOptimizerParameters.solverSpecificParameters = solverSpecificParameters;
             linearOptimizerParameters.pstOptimizationApproximation = pstOptimizationApproximation;
+            linearOptimizerParameters.sensitivityUpdateTolerance = sensitivityUpdateTolerance;
             return linearOptimizerParameters;
         }
     }
@@ -204,4 +215,8 @@ public final class LinearOptimizerParameters {
     public RaoParameters.PstOptimizationApproximation getPstOptimizationApproximation() {
         return pstOptimizationApproximation;
     }
+
+    public double getSensitivityUpdateTolerance() {
+        return sensitivityUpdateTolerance;
+    }
 }
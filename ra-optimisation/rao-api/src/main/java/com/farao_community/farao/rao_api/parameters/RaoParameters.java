@@ -109,6 +109,8 @@ public class RaoParameters extends AbstractExtendable<RaoParameters> {
     public static final String DEFAULT_SOLVER_SPECIFIC_PARAMETERS = null;
     public static final PstOptimizationApproximation DEFAULT_PST_OPTIMIZATION_APPROXIMATION = PstOptimizationApproximation.CONTINUOUS;
     public static final boolean DEFAULT_FORBID_COST_INCREASE = false;
+    public static final boolean DEFAULT_SOLVER_WARM_START = false;
+    public static final double DEFAULT_SENSITIVITY_UPDATE_TOLERANCE = 0.0;
 
     private ObjectiveFunction objectiveFunction = DEFAULT_OBJECTIVE_FUNCTION;
     private int maxIterations = DEFAULT_MAX_ITERATIONS;
@@ -139,6 +141,8 @@ public class RaoParameters extends AbstractExtendable<RaoParameters> {
     private String solverSpecificParameters = DEFAULT_SOLVER_SPECIFIC_PARAMETERS;
     private PstOptimizationApproximation pstOptimizationApproximation = DEFAULT_PST_OPTIMIZATION_APPROXIMATION;
     private boolean forbidCostIncrease = DEFAULT_FORBID_COST_INCREASE; // fallback to initial solution if RAO caused cost to increase (ie in curative)
+    private boolean solverWarmStart = DEFAULT_SOLVER_WARM_START; // give the previous range action set points to the solver as a hint
+    private double sensitivityUpdateTolerance = DEFAULT_SENSITIVITY_UPDATE_TOLERANCE; // sensitivity changes below this value do not update the linear problem
 
     public ObjectiveFunction getObjectiveFunction() {
         return objectiveFunction;
@@ -399,6 +403,22 @@ public class RaoParameters extends AbstractExtendable<RaoParameters> {
         this.forbidCostIncrease = forbidCostIncrease;
     }
 
+    public boolean getSolverWarmStart() {
+        return solverWarmStart;
+    }
+
+    public void setSolverWarmStart(boolean solverWarmStart) {
+        this.solverWarmStart = solverWarmStart;
+    }
+
+    public double getSensitivityUpdateTolerance() {
+        return sensitivityUpdateTolerance;
+    }
+
+    public void setSensitivityUpdateTolerance(double sensitivityUpdateTolerance) {
+        this.sensitivityUpdateTolerance = sensitivityUpdateTolerance;
+    }
+
     public String getSolverSpecificParameters() {
         return solverSpecificParameters;
     }
@@ -472,6 +492,8 @@ public class RaoParameters extends AbstractExtendable<RaoParameters> {
                 parameters.setSolverSpecificParameters(config.getStringProperty("solver-specific-parameters", DEFAULT_SOLVER_SPECIFIC_PARAMETERS));
                 parameters.setPstOptimizationApproximation(config.getEnumProperty("pst-optimization-approximation", PstOptimizationApproximation.class, DEFAULT_PST_OPTIMIZATION_APPROXIMATION));
                 parameters.setForbidCostIncrease(config.getBooleanProperty("forbid-cost-increase", DEFAULT_FORBID_COST_INCREASE));
+                parameters.setSolverWarmStart(config.getBooleanProperty("solver-warm-start", DEFAULT_SOLVER_WARM_START));
+                parameters.setSensitivityUpdateTolerance(config.getDoubleProperty("sensitivity-update-tolerance", DEFAULT_SENSITIVITY_UPDATE_TOLERANCE));
             });
 
         // NB: Only the default sensitivity parameters are loaded, not the fallback ones...
@@ -74,6 +74,8 @@ public class RaoParametersTest {
         moduleConfig.setStringProperty("loop-flow-constraint-adjustment-coefficient", Objects.toString(15.0));
         moduleConfig.setStringProperty("loop-flow-violation-cost", Objects.toString(10.0));
         moduleConfig.setStringProperty("forbid-cost-increase", Boolean.toString(true));
+        moduleConfig.setStringProperty("solver-warm-start", Boolean.toString(true));
+        moduleConfig.setStringProperty("sensitivity-update-tolerance", Objects.toString(1e-3));
 
         RaoParameters parameters = new RaoParameters();
         RaoParameters.load(parameters, platformCfg);
@@ -83,6 +85,8 @@ public class RaoParametersTest {
         assertEquals(15., parameters.getLoopFlowConstraintAdjustmentCoefficient(), 1e-6);
         assertEquals(10., parameters.getLoopFlowViolationCost(), 1e-6);
         assertTrue(parameters.getForbidCostIncrease());
+        assertTrue(parameters.getSolverWarmStart());
+        assertEquals(1e-3, parameters.getSensitivityUpdateTolerance(), 1e-9);
     }
 
     @Test
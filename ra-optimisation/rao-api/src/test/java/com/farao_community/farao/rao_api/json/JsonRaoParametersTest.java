@@ -78,6 +78,8 @@ public class JsonRaoParametersTest extends AbstractConverterTest {
         parameters.setRelativeMipGap(1e-5);
         parameters.setPstOptimizationApproximation(RaoParameters.PstOptimizationApproximation.APPROXIMATED_INTEGERS);
         parameters.setForbidCostIncrease(true);
+        parameters.setSolverWarmStart(true);
+        parameters.setSensitivityUpdateTolerance(1e-3);
         roundTripTest(parameters, JsonRaoParameters::write, JsonRaoParameters::read, "/RaoParametersSet.json");
     }
 
@@ -28,59 +28,98 @@ import java.util.stream.Collectors;
  */
 public class AbsolutePtdfSumsComputation {
     private final ZonalData<LinearGlsk> glskProvider;
-    private final List<ZoneToZonePtdfDefinition> zTozPtdfs;
     private final Network network;
 
+    /*
+     The zones used in the boundaries are indexed once, with their GLSK. Each boundary is then described by the
+     indices and the weights of its zones, so that the PTDF sums of a cnec are computed on primitive arrays.
+     Boundaries with a zone absent from the GLSK provider are ignored.
+     */
+    private final LinearGlsk[] zoneGlsks;
+    private final List<int[]> boundaryZoneIndices = new ArrayList<>();
+    private final List<double[]> boundaryZoneWeights = new ArrayList<>();
+
+    private XnodeGlskHandler xnodeGlskHandler;
+    private final Set<Contingency> xnodeGlskHandlerContingencies = new HashSet<>();
+    private boolean isXnodeGlskHandlerShared = false;
+
     public AbsolutePtdfSumsComputation(ZonalData<LinearGlsk> glskProvider, List<ZoneToZonePtdfDefinition> zTozPtdfs, Network network) {
         this.glskProvider = glskProvider;
-        this.zTozPtdfs = zTozPtdfs;
         this.network = network;
+
+        Map<EICode, Integer> zoneIndices = new HashMap<>();
+        List<LinearGlsk> glsks = new ArrayList<>();
+        zTozPtdfs.stream().flatMap(zToz -> zToz.getEiCodes().stream()).forEach(eiCode -> zoneIndices.computeIfAbsent(eiCode, code -> {
+            glsks.add(glskProvider.getData(code.getAreaCode()));
+            return glsks.size() - 1;
+        }));
+        this.zoneGlsks = glsks.toArray(new LinearGlsk[0]);
+
+        for (ZoneToZonePtdfDefinition zToz : zTozPtdfs) {
+            List<ZoneToZonePtdfDefinition.WeightedZoneToSlackPtdf> zoneToSlackPtdfs = zToz.getZoneToSlackPtdfs();
+            // If one zone is missing its GLSK, ignore the boundary
+            if (zoneToSlackPtdfs.stream().allMatch(zToS -> zoneGlsks[zoneIndices.get(zToS.getEiCode())] != null)) {
+                boundaryZoneIndices.add(zoneToSlackPtdfs.stream().mapToInt(zToS -> zoneIndices.get(zToS.getEiCode())).toArray());
+                boundaryZoneWeights.add(zoneToSlackPtdfs.stream().mapToDouble(ZoneToZonePtdfDefinition.WeightedZoneToSlackPtdf::getWeight).toArray());
+            }
+        }
     }
 
-    public Map<FlowCnec, Double> computeAbsolutePtdfSums(Set<FlowCnec> flowCnecs, SystematicSensitivityResult sensitivityResult) {
+    /**
+     * Constructor sharing an already built XnodeGlskHandler, which must have been built on the same GLSK
+     * provider and on all the contingencies of the cnecs whose PTDF sums will be computed
+     */
+    public AbsolutePtdfSumsComputation(ZonalData<LinearGlsk> glskProvider, List<ZoneToZonePtdfDefinition> zTozPtdfs, XnodeGlskHandler xnodeGlskHandler) {
+        this(glskProvider, zTozPtdfs, xnodeGlskHandler.getNetwork());
+        this.xnodeGlskHandler = xnodeGlskHandler;
+        this.isXnodeGlskHandlerShared = true;
+    }
 
-        Set<Contingency> contingencies = flowCnecs.stream()
-                .filter(cnec -> cnec.getState().getContingency().isPresent())
-                .map(cnec -> cnec.getState().getContingency().get())
-                .collect(Collectors.toSet());
-        XnodeGlskHandler xnodeGlskHandler = new XnodeGlskHandler(glskProvider, contingencies, network);
+    public Map<FlowCnec, Double> computeAbsolutePtdfSums(Set<FlowCnec> flowCnecs, SystematicSensitivityResult sensitivityResult) {
+        XnodeGlskHandler handler = getXnodeGlskHandler(flowCnecs);
 
         Map<FlowCnec, Double> ptdfSums = new HashMap<>();
-        List<EICode> eiCodesInPtdfs = zTozPtdfs.stream().flatMap(zToz -> zToz.getEiCodes().stream()).collect(Collectors.toList());
-
+        double[] zoneToSlackPtdfs = new double[zoneGlsks.length];
         for (FlowCnec flowCnec : flowCnecs) {
-            Map<EICode, Double> ptdfMap = buildZoneToSlackPtdfMap(flowCnec, glskProvider, eiCodesInPtdfs, sensitivityResult, xnodeGlskHandler);
-            double sumOfZToZPtdf = zTozPtdfs.stream().mapToDouble(zToz -> Math.abs(computeZToZPtdf(zToz, ptdfMap))).sum();
-            ptdfSums.put(flowCnec, sumOfZToZPtdf);
-        }
-        return ptdfSums;
-    }
-
-    private Map<EICode, Double> buildZoneToSlackPtdfMap(FlowCnec flowCnec, ZonalData<LinearGlsk> glsks, List<EICode> eiCodesInBoundaries, SystematicSensitivityResult sensitivityResult, XnodeGlskHandler xnodeGlskHandler) {
-        Map<EICode, Double> ptdfs = new HashMap<>();
-        for (EICode eiCode : eiCodesInBoundaries) {
-            LinearGlsk linearGlsk = glsks.getData(eiCode.getAreaCode());
-            if (linearGlsk != null) {
-                double ptdfValue;
-                if (xnodeGlskHandler.isLinearGlskValidForCnec(flowCnec, linearGlsk)) {
-                    ptdfValue = sensitivityResult.getSensitivityOnFlow(linearGlsk, flowCnec);
+            for (int zoneIndex = 0; zoneIndex < zoneGlsks.length; zoneIndex++) {
+                LinearGlsk linearGlsk = zoneGlsks[zoneIndex];
+                if (linearGlsk != null && handler.isLinearGlskValidForCnec(flowCnec, linearGlsk)) {
+                    zoneToSlackPtdfs[zoneIndex] = sensitivityResult.getSensitivityOnFlow(linearGlsk, flowCnec);
                 } else {
-                    ptdfValue = 0;
+                    zoneToSlackPtdfs[zoneIndex] = 0;
                 }
-                ptdfs.put(eiCode, ptdfValue);
             }
+            double sumOfZToZPtdf = 0;
+            for (int boundaryIndex = 0; boundaryIndex < boundaryZoneIndices.size(); boundaryIndex++) {
+                int[] zoneIndices = boundaryZoneIndices.get(boundaryIndex);
+                double[] zoneWeights = boundaryZoneWeights.get(boundaryIndex);
+                double zToZPtdf = 0;
+                for (int i = 0; i < zoneIndices.length; i++) {
+                    zToZPtdf += zoneWeights[i] * zoneToSlackPtdfs[zoneIndices[i]];
+                }
+                sumOfZToZPtdf += Math.abs(zToZPtdf);
+            }
+            ptdfSums.put(flowCnec, sumOfZToZPtdf);
         }
-        return ptdfs;
+        return ptdfSums;
     }
 
-    private double computeZToZPtdf(ZoneToZonePtdfDefinition zToz, Map<EICode, Double> zToSlackPtdfMap) {
-        if (zToz.getZoneToSlackPtdfs().stream().anyMatch(zToS -> !zToSlackPtdfMap.containsKey(zToS.getEiCode()))) {
-            // If one zone is missing its PTDF, ignore the boundary
-            return 0;
+    /**
+     * The XnodeGlskHandler only depends on the contingencies, it is built once and only rebuilt if cnecs
+     * with new contingencies are given
+     */
+    private synchronized XnodeGlskHandler getXnodeGlskHandler(Set<FlowCnec> flowCnecs) {
+        if (isXnodeGlskHandlerShared) {
+            return xnodeGlskHandler;
         }
-
-        return zToz.getZoneToSlackPtdfs().stream()
-            .mapToDouble(zToS -> zToS.getWeight() * zToSlackPtdfMap.get(zToS.getEiCode()))
-            .sum();
+        Set<Contingency> contingencies = flowCnecs.stream()
+                .filter(cnec -> cnec.getState().getContingency().isPresent())
+                .map(cnec -> cnec.getState().getContingency().get())
+                .collect(Collectors.toSet());
+        if (xnodeGlskHandler == null || !xnodeGlskHandlerContingencies.containsAll(contingencies)) {
+            xnodeGlskHandlerContingencies.addAll(contingencies);
+            xnodeGlskHandler = new XnodeGlskHandler(glskProvider, new HashSet<>(xnodeGlskHandlerContingencies), network);
+        }
+        return xnodeGlskHandler;
     }
 }
@@ -23,6 +23,13 @@ public class FaraoMPSolver extends MPSolver {
         super(name, problemType);
     }
 
+    /**
+     * Round a value with the precision used for the coefficients and bounds of the problem
+     */
+    public static double round(double value) {
+        return Math.round(value * PRECISION) / PRECISION;
+    }
+
     @Override
     public MPVariable makeNumVar(double lb, double ub, String name) {
         long cPtr = mainJNI.MPSolver_makeNumVar(getCPtr(this), this, lb, ub, name);
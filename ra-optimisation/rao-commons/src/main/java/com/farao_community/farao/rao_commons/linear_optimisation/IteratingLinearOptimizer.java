@@ -37,11 +37,17 @@ public class IteratingLinearOptimizer {
     private final ObjectiveFunction objectiveFunction;
     private final int maxIterations;
     private final RaoParameters.PstOptimizationApproximation pstOptimizationApproximation;
+    private final boolean solverWarmStart;
 
     public IteratingLinearOptimizer(ObjectiveFunction objectiveFunction, int maxIterations, RaoParameters.PstOptimizationApproximation pstOptimizationApproximation) {
+        this(objectiveFunction, maxIterations, pstOptimizationApproximation, RaoParameters.DEFAULT_SOLVER_WARM_START);
+    }
+
+    public IteratingLinearOptimizer(ObjectiveFunction objectiveFunction, int maxIterations, RaoParameters.PstOptimizationApproximation pstOptimizationApproximation, boolean solverWarmStart) {
         this.objectiveFunction = objectiveFunction;
         this.maxIterations = maxIterations;
         this.pstOptimizationApproximation = pstOptimizationApproximation;
+        this.solverWarmStart = solverWarmStart;
     }
 
     public LinearOptimizationResult optimize(LinearProblem linearProblem,
@@ -51,6 +57,8 @@ public class IteratingLinearOptimizer {
                                              RangeActionResult preOptimRangeActionResult,
                                              SensitivityComputer sensitivityComputer) {
         IteratingLinearOptimizerResult bestResult = createResult(preOptimFlowResult, preOptimSensitivityResult, preOptimRangeActionResult, 0);
+        // the pre-optim set points are the ones of the parent leaf, close to the solutions of the sibling leaves
+        giveSolutionHint(linearProblem, preOptimRangeActionResult);
 
         for (int iteration = 1; iteration <= maxIterations; iteration++) {
             solveLinearProblem(linearProblem, iteration);
@@ -82,6 +90,7 @@ public class IteratingLinearOptimizer {
                         filler.update(linearProblem, preOptimFlowResult, preOptimSensitivityResult, currentRangeActionResult);
                     }
                 }
+                giveSolutionHint(linearProblem, currentRangeActionResult);
 
                 solveLinearProblem(linearProblem, iteration);
                 if (linearProblem.getStatus() == LinearProblemStatus.OPTIMAL || linearProblem.getStatus() == LinearProblemStatus.FEASIBLE) {
@@ -118,6 +127,7 @@ public class IteratingLinearOptimizer {
             logBetterResult(iteration, currentResult);
             bestResult = currentResult;
             linearProblem.update(bestResult.getBranchResult(), bestResult.getSensitivityResult(), bestResult.getRangeActionResult());
+            giveSolutionHint(linearProblem, bestResult.getRangeActionResult());
         }
         bestResult.setStatus(LinearProblemStatus.MAX_ITERATION_REACHED);
         return bestResult;
@@ -125,8 +135,15 @@ public class IteratingLinearOptimizer {
 
     private static void solveLinearProblem(LinearProblem linearProblem, int iteration) {
         LOGGER.debug("Iteration {} - linear optimization [start]", iteration);
+        long startTime = System.currentTimeMillis();
         linearProblem.solve();
-        LOGGER.debug("Iteration {} - linear optimization [end]", iteration);
+        LOGGER.debug("Iteration {} - linear optimization [end], solved in {} ms", iteration, System.currentTimeMillis() - startTime);
+    }
+
+    private void giveSolutionHint(LinearProblem linearProblem, RangeActionResult rangeActionResult) {
+        if (solverWarmStart) {
+            linearProblem.setSolutionHint(rangeActionResult);
+        }
     }
 
     static boolean hasRemedialActionsChanged(RangeActionResult newRangeActionResult, RangeActionResult oldRangeActionResult) {
@@ -68,6 +68,38 @@ public final class LinearProblem {
     private final Set<FlowCnec> cnecs = new HashSet<>();
     private final Set<RangeAction> rangeActions = new HashSet<>();
     private final MPSolver solver;
+
+    /*
+     Variables and constraints are registered on the Java side, indexed by the object they are defined on,
+     so that the fillers can retrieve them without building their String ids and without looking them
+     up through the JNI binding of the solver. The String ids are only given to the solver for debugging
+     and export purposes.
+     */
+    private final Map<FlowCnec, MPVariable> flowVariables = new HashMap<>();
+    private final Map<FlowCnec, MPConstraint> flowConstraints = new HashMap<>();
+    private final Map<RangeAction, MPVariable> rangeActionSetpointVariables = new HashMap<>();
+    private final Map<VariationExtension, Map<PstRangeAction, MPVariable>> pstTapVariationVariables = extendedRegistry(VariationExtension.class);
+    private final Map<VariationExtension, Map<PstRangeAction, MPVariable>> pstTapVariationBinaries = extendedRegistry(VariationExtension.class);
+    private final Map<PstRangeAction, MPConstraint> tapToAngleConversionConstraints = new HashMap<>();
+    private final Map<PstRangeAction, MPConstraint> upOrDownPstVariationConstraints = new HashMap<>();
+    private final Map<VariationExtension, Map<PstRangeAction, MPConstraint>> isVariationInDirectionConstraints = extendedRegistry(VariationExtension.class);
+    private final Map<String, MPVariable> rangeActionGroupSetpointVariables = new HashMap<>();
+    private final Map<String, MPVariable> pstGroupTapVariables = new HashMap<>();
+    private final Map<RangeAction, MPConstraint> rangeActionGroupSetpointConstraints = new HashMap<>();
+    private final Map<PstRangeAction, MPConstraint> pstGroupTapConstraints = new HashMap<>();
+    private final Map<RangeAction, MPVariable> absoluteRangeActionVariationVariables = new HashMap<>();
+    private final Map<AbsExtension, Map<RangeAction, MPConstraint>> absoluteRangeActionVariationConstraints = extendedRegistry(AbsExtension.class);
+    private final Map<MarginExtension, Map<FlowCnec, MPConstraint>> minimumMarginConstraints = extendedRegistry(MarginExtension.class);
+    private final Map<MarginExtension, Map<FlowCnec, MPConstraint>> minimumRelativeMarginConstraints = extendedRegistry(MarginExtension.class);
+    private final Map<BoundExtension, Map<FlowCnec, MPConstraint>> maxLoopFlowConstraints = extendedRegistry(BoundExtension.class);
+    private final Map<FlowCnec, MPVariable> loopflowViolationVariables = new HashMap<>();
+    private final Map<FlowCnec, MPVariable> mnecViolationVariables = new HashMap<>();
+    private final Map<MarginExtension, Map<FlowCnec, MPConstraint>> mnecFlowConstraints = extendedRegistry(MarginExtension.class);
+    private final Map<FlowCnec, MPVariable> marginDecreaseBinaryVariables = new HashMap<>();
+    private final Map<MarginExtension, Map<FlowCnec, MPConstraint>> marginDecreaseConstraints = extendedRegistry(MarginExtension.class);
+    private MPVariable minimumMarginVariable;
+    private MPVariable minimumRelativeMarginVariable;
+
     private final double relativeMipGap;
     private final String solverSpecificParameters;
     private LinearProblemStatus status;
@@ -103,6 +135,13 @@ public final class LinearProblem {
         this.solverSpecificParameters = solverSpecificParameters;
     }
 
+    /**
+     * Release the native memory of the solver: the linear problem must not be used afterwards
+     */
+    public void release() {
+        solver.delete();
+    }
+
     final List<ProblemFiller> getFillers() {
         return Collections.unmodifiableList(fillers);
     }
@@ -152,202 +191,217 @@ public final class LinearProblem {
 
     public MPVariable addFlowVariable(double lb, double ub, FlowCnec cnec) {
         cnecs.add(cnec);
-        return solver.makeNumVar(lb, ub, flowVariableId(cnec));
+        return register(flowVariables, cnec, solver.makeNumVar(lb, ub, flowVariableId(cnec)));
     }
 
     public MPVariable getFlowVariable(FlowCnec cnec) {
-        return solver.lookupVariableOrNull(flowVariableId(cnec));
+        return flowVariables.get(cnec);
     }
 
     public MPConstraint addFlowConstraint(double lb, double ub, FlowCnec cnec) {
-        return solver.makeConstraint(lb, ub, flowConstraintId(cnec));
+        return register(flowConstraints, cnec, solver.makeConstraint(lb, ub, flowConstraintId(cnec)));
     }
 
     public MPConstraint getFlowConstraint(FlowCnec cnec) {
-        return solver.lookupConstraintOrNull(flowConstraintId(cnec));
+        return flowConstraints.get(cnec);
     }
 
     public MPVariable addRangeActionSetpointVariable(double lb, double ub, RangeAction rangeAction) {
         rangeActions.add(rangeAction);
-        return solver.makeNumVar(lb, ub, rangeActionSetpointVariableId(rangeAction));
+        return register(rangeActionSetpointVariables, rangeAction, solver.makeNumVar(lb, ub, rangeActionSetpointVariableId(rangeAction)));
     }
 
     public MPVariable getRangeActionSetpointVariable(RangeAction rangeAction) {
-        return solver.lookupVariableOrNull(rangeActionSetpointVariableId(rangeAction));
+        return rangeActionSetpointVariables.get(rangeAction);
     }
 
     public MPVariable addPstTapVariationVariable(double lb, double ub, PstRangeAction rangeAction, VariationExtension variation) {
         rangeActions.add(rangeAction);
-        return solver.makeIntVar(lb, ub, pstTapVariableVariationId(rangeAction, variation));
+        return register(pstTapVariationVariables.get(variation), rangeAction, solver.makeIntVar(lb, ub, pstTapVariableVariationId(rangeAction, variation)));
     }
 
     public MPVariable getPstTapVariationVariable(PstRangeAction rangeAction, VariationExtension variation) {
-        return solver.lookupVariableOrNull(pstTapVariableVariationId(rangeAction, variation));
+        return pstTapVariationVariables.get(variation).get(rangeAction);
     }
 
     public MPVariable addPstTapVariationBinary(PstRangeAction rangeAction, VariationExtension variation) {
         rangeActions.add(rangeAction);
-        return solver.makeBoolVar(pstTapBinaryVariationId(rangeAction, variation));
+        return register(pstTapVariationBinaries.get(variation), rangeAction, solver.makeBoolVar(pstTapBinaryVariationId(rangeAction, variation)));
     }
 
     public MPVariable getPstTapVariationBinary(PstRangeAction rangeAction, VariationExtension variation) {
-        return solver.lookupVariableOrNull(pstTapBinaryVariationId(rangeAction, variation));
+        return pstTapVariationBinaries.get(variation).get(rangeAction);
     }
 
     public MPConstraint addTapToAngleConversionConstraint(double lb, double ub, PstRangeAction rangeAction) {
         rangeActions.add(rangeAction);
-        return solver.makeConstraint(lb, ub, tapToAngleConversionConstraintId(rangeAction));
+        return register(tapToAngleConversionConstraints, rangeAction, solver.makeConstraint(lb, ub, tapToAngleConversionConstraintId(rangeAction)));
     }
 
     public MPConstraint getTapToAngleConversionConstraint(PstRangeAction rangeAction) {
-        return solver.lookupConstraintOrNull(tapToAngleConversionConstraintId(rangeAction));
+        return tapToAngleConversionConstraints.get(rangeAction);
     }
 
     public MPConstraint addUpOrDownPstVariationConstraint(PstRangeAction rangeAction) {
         rangeActions.add(rangeAction);
-        return solver.makeConstraint(upOrDownPstVariationConstraintId(rangeAction));
+        return register(upOrDownPstVariationConstraints, rangeAction, solver.makeConstraint(upOrDownPstVariationConstraintId(rangeAction)));
     }
 
     public MPConstraint getUpOrDownPstVariationConstraint(PstRangeAction rangeAction) {
-        return solver.lookupConstraintOrNull(upOrDownPstVariationConstraintId(rangeAction));
+        return upOrDownPstVariationConstraints.get(rangeAction);
     }
 
     public MPConstraint addIsVariationInDirectionConstraint(PstRangeAction rangeAction, VariationExtension variation) {
         rangeActions.add(rangeAction);
-        return solver.makeConstraint(isVariationInDirectionConstraintId(rangeAction, variation));
+        return register(isVariationInDirectionConstraints.get(variation), rangeAction, solver.makeConstraint(isVariationInDirectionConstraintId(rangeAction, variation)));
     }
 
     public MPConstraint getIsVariationInDirectionConstraint(PstRangeAction rangeAction, VariationExtension variation) {
-        return solver.lookupConstraintOrNull(isVariationInDirectionConstraintId(rangeAction, variation));
+        return isVariationInDirectionConstraints.get(variation).get(rangeAction);
     }
 
     public MPVariable addRangeActionGroupSetpointVariable(double lb, double ub, String rangeActionGroupId) {
-        return solver.makeNumVar(lb, ub, rangeActionGroupSetpointVariableId(rangeActionGroupId));
+        return register(rangeActionGroupSetpointVariables, rangeActionGroupId, solver.makeNumVar(lb, ub, rangeActionGroupSetpointVariableId(rangeActionGroupId)));
     }
 
     public MPVariable getRangeActionGroupSetpointVariable(String rangeActionGroupId) {
-        return solver.lookupVariableOrNull(rangeActionGroupSetpointVariableId(rangeActionGroupId));
+        return rangeActionGroupSetpointVariables.get(rangeActionGroupId);
     }
 
     public MPVariable addPstGroupTapVariable(double lb, double ub, String rangeActionGroupId) {
-        return solver.makeNumVar(lb, ub, pstGroupTapVariableId(rangeActionGroupId));
+        return register(pstGroupTapVariables, rangeActionGroupId, solver.makeNumVar(lb, ub, pstGroupTapVariableId(rangeActionGroupId)));
     }
 
     public MPVariable getPstGroupTapVariable(String rangeActionGroupId) {
-        return solver.lookupVariableOrNull(pstGroupTapVariableId(rangeActionGroupId));
+        return pstGroupTapVariables.get(rangeActionGroupId);
     }
 
     public MPConstraint addRangeActionGroupSetpointConstraint(double lb, double ub, RangeAction rangeAction) {
-        return solver.makeConstraint(lb, ub, rangeActionGroupSetpointConstraintId(rangeAction));
+        return register(rangeActionGroupSetpointConstraints, rangeAction, solver.makeConstraint(lb, ub, rangeActionGroupSetpointConstraintId(rangeAction)));
     }
 
     public MPConstraint getRangeActionGroupSetpointConstraint(RangeAction rangeAction) {
-        return solver.lookupConstraintOrNull(rangeActionGroupSetpointConstraintId(rangeAction));
+        return rangeActionGroupSetpointConstraints.get(rangeAction);
     }
 
     public MPConstraint addPstGroupTapConstraint(double lb, double ub, PstRangeAction rangeAction) {
-        return solver.makeConstraint(lb, ub, pstGroupTapConstraintId(rangeAction));
+        return register(pstGroupTapConstraints, rangeAction, solver.makeConstraint(lb, ub, pstGroupTapConstraintId(rangeAction)));
     }
 
     public MPConstraint getPstGroupTapConstraint(PstRangeAction rangeAction) {
-        return solver.lookupConstraintOrNull(pstGroupTapConstraintId(rangeAction));
+        return pstGroupTapConstraints.get(rangeAction);
     }
 
     public MPVariable addAbsoluteRangeActionVariationVariable(double lb, double ub, RangeAction rangeAction) {
-        return solver.makeNumVar(lb, ub, absoluteRangeActionVariationVariableId(rangeAction));
+        return register(absoluteRangeActionVariationVariables, rangeAction, solver.makeNumVar(lb, ub, absoluteRangeActionVariationVariableId(rangeAction)));
     }
 
     public MPVariable getAbsoluteRangeActionVariationVariable(RangeAction rangeAction) {
-        return solver.lookupVariableOrNull(absoluteRangeActionVariationVariableId(rangeAction));
+        return absoluteRangeActionVariationVariables.get(rangeAction);
     }
 
     public MPConstraint addAbsoluteRangeActionVariationConstraint(double lb, double ub, RangeAction rangeAction, AbsExtension positiveOrNegative) {
-        return solver.makeConstraint(lb, ub, absoluteRangeActionVariationConstraintId(rangeAction, positiveOrNegative));
+        return register(absoluteRangeActionVariationConstraints.get(positiveOrNegative), rangeAction, solver.makeConstraint(lb, ub, absoluteRangeActionVariationConstraintId(rangeAction, positiveOrNegative)));
     }
 
     public MPConstraint getAbsoluteRangeActionVariationConstraint(RangeAction rangeAction, AbsExtension positiveOrNegative) {
-        return solver.lookupConstraintOrNull(absoluteRangeActionVariationConstraintId(rangeAction, positiveOrNegative));
+        return absoluteRangeActionVariationConstraints.get(positiveOrNegative).get(rangeAction);
     }
 
     public MPConstraint addMinimumMarginConstraint(double lb, double ub, FlowCnec cnec, MarginExtension belowOrAboveThreshold) {
-        return solver.makeConstraint(lb, ub, minimumMarginConstraintId(cnec, belowOrAboveThreshold));
+        return register(minimumMarginConstraints.get(belowOrAboveThreshold), cnec, solver.makeConstraint(lb, ub, minimumMarginConstraintId(cnec, belowOrAboveThreshold)));
     }
 
     public MPConstraint getMinimumMarginConstraint(FlowCnec cnec, MarginExtension belowOrAboveThreshold) {
-        return solver.lookupConstraintOrNull(minimumMarginConstraintId(cnec, belowOrAboveThreshold));
+        return minimumMarginConstraints.get(belowOrAboveThreshold).get(cnec);
     }
 
     public MPConstraint addMinimumRelativeMarginConstraint(double lb, double ub, FlowCnec cnec, MarginExtension belowOrAboveThreshold) {
-        return solver.makeConstraint(lb, ub, minimumRelativeMarginConstraintId(cnec, belowOrAboveThreshold));
+        return register(minimumRelativeMarginConstraints.get(belowOrAboveThreshold), cnec, solver.makeConstraint(lb, ub, minimumRelativeMarginConstraintId(cnec, belowOrAboveThreshold)));
     }
 
     public MPConstraint getMinimumRelativeMarginConstraint(FlowCnec cnec, MarginExtension belowOrAboveThreshold) {
-        return solver.lookupConstraintOrNull(minimumRelativeMarginConstraintId(cnec, belowOrAboveThreshold));
+        return minimumRelativeMarginConstraints.get(belowOrAboveThreshold).get(cnec);
     }
 
     public MPVariable addMinimumMarginVariable(double lb, double ub) {
-        return solver.makeNumVar(lb, ub, minimumMarginVariableId());
+        minimumMarginVariable = solver.makeNumVar(lb, ub, minimumMarginVariableId());
+        return minimumMarginVariable;
     }
 
     public MPVariable getMinimumMarginVariable() {
-        return solver.lookupVariableOrNull(minimumMarginVariableId());
+        return minimumMarginVariable;
     }
 
     public MPVariable addMinimumRelativeMarginVariable(double lb, double ub) {
-        return solver.makeNumVar(lb, ub, minimumRelativeMarginVariableId());
+        minimumRelativeMarginVariable = solver.makeNumVar(lb, ub, minimumRelativeMarginVariableId());
+        return minimumRelativeMarginVariable;
     }
 
     public MPVariable getMinimumRelativeMarginVariable() {
-        return solver.lookupVariableOrNull(minimumRelativeMarginVariableId());
+        return minimumRelativeMarginVariable;
     }
 
     //Begin MaxLoopFlowFiller section
     public MPConstraint addMaxLoopFlowConstraint(double lb, double ub, FlowCnec cnec, BoundExtension lbOrUb) {
-        return solver.makeConstraint(lb, ub, maxLoopFlowConstraintId(cnec, lbOrUb));
+        return register(maxLoopFlowConstraints.get(lbOrUb), cnec, solver.makeConstraint(lb, ub, maxLoopFlowConstraintId(cnec, lbOrUb)));
     }
 
     public MPConstraint getMaxLoopFlowConstraint(FlowCnec cnec, BoundExtension lbOrUb) {
-        return solver.lookupConstraintOrNull(maxLoopFlowConstraintId(cnec, lbOrUb));
+        return maxLoopFlowConstraints.get(lbOrUb).get(cnec);
     }
 
     public MPVariable addLoopflowViolationVariable(double lb, double ub, FlowCnec cnec) {
-        return solver.makeNumVar(lb, ub, loopflowViolationVariableId(cnec));
+        return register(loopflowViolationVariables, cnec, solver.makeNumVar(lb, ub, loopflowViolationVariableId(cnec)));
     }
 
     public MPVariable getLoopflowViolationVariable(FlowCnec cnec) {
-        return solver.lookupVariableOrNull(loopflowViolationVariableId(cnec));
+        return loopflowViolationVariables.get(cnec);
     }
 
     public MPVariable addMnecViolationVariable(double lb, double ub, FlowCnec mnec) {
-        return solver.makeNumVar(lb, ub, mnecViolationVariableId(mnec));
+        return register(mnecViolationVariables, mnec, solver.makeNumVar(lb, ub, mnecViolationVariableId(mnec)));
     }
 
     public MPVariable getMnecViolationVariable(FlowCnec mnec) {
-        return solver.lookupVariableOrNull(mnecViolationVariableId(mnec));
+        return mnecViolationVariables.get(mnec);
     }
 
     public MPConstraint addMnecFlowConstraint(double lb, double ub, FlowCnec mnec, MarginExtension belowOrAboveThreshold) {
-        return solver.makeConstraint(lb, ub, mnecFlowConstraintId(mnec, belowOrAboveThreshold));
+        return register(mnecFlowConstraints.get(belowOrAboveThreshold), mnec, solver.makeConstraint(lb, ub, mnecFlowConstraintId(mnec, belowOrAboveThreshold)));
     }
 
     public MPConstraint getMnecFlowConstraint(FlowCnec mnec, MarginExtension belowOrAboveThreshold) {
-        return solver.lookupConstraintOrNull(mnecFlowConstraintId(mnec, belowOrAboveThreshold));
+        return mnecFlowConstraints.get(belowOrAboveThreshold).get(mnec);
     }
 
     public MPVariable addMarginDecreaseBinaryVariable(FlowCnec cnec) {
-        return solver.makeIntVar(0, 1, marginDecreaseVariableId(cnec));
+        return register(marginDecreaseBinaryVariables, cnec, solver.makeIntVar(0, 1, marginDecreaseVariableId(cnec)));
     }
 
     public MPVariable getMarginDecreaseBinaryVariable(FlowCnec cnec) {
-        return solver.lookupVariableOrNull(marginDecreaseVariableId(cnec));
+        return marginDecreaseBinaryVariables.get(cnec);
     }
 
     public MPConstraint addMarginDecreaseConstraint(double lb, double ub, FlowCnec cnec, MarginExtension belowOrAboveThreshold) {
-        return solver.makeConstraint(lb, ub, marginDecreaseConstraintId(cnec, belowOrAboveThreshold));
+        return register(marginDecreaseConstraints.get(belowOrAboveThreshold), cnec, solver.makeConstraint(lb, ub, marginDecreaseConstraintId(cnec, belowOrAboveThreshold)));
     }
 
     public MPConstraint getMarginDecreaseConstraint(FlowCnec cnec, MarginExtension belowOrAboveThreshold) {
-        return solver.lookupConstraintOrNull(marginDecreaseConstraintId(cnec, belowOrAboveThreshold));
+        return marginDecreaseConstraints.get(belowOrAboveThreshold).get(cnec);
+    }
+
+    private static <K, E> E register(Map<K, E> registry, K key, E element) {
+        registry.put(key, element);
+        return element;
+    }
+
+    private static <X extends Enum<X>, K, E> Map<X, Map<K, E>> extendedRegistry(Class<X> extensionClass) {
+        Map<X, Map<K, E>> registry = new EnumMap<>(extensionClass);
+        for (X extension : extensionClass.getEnumConstants()) {
+            registry.put(extension, new HashMap<>());
+        }
+        return registry;
     }
 
     public static double infinity() {
@@ -365,6 +419,24 @@ public final class LinearProblem {
         return status;
     }
 
+    /**
+     * Give the set points of a previous solution to the solver, as a hint for the next solve.
+     * Only the set point variables of the range actions of the given result are hinted.
+     */
+    public void setSolutionHint(RangeActionResult rangeActionResult) {
+        List<MPVariable> hintedVariables = new ArrayList<>();
+        List<Double> hintedValues = new ArrayList<>();
+        rangeActionSetpointVariables.forEach((rangeAction, setPointVariable) -> {
+            if (rangeActionResult.getRangeActions().contains(rangeAction)) {
+                hintedVariables.add(setPointVariable);
+                hintedValues.add(rangeActionResult.getOptimizedSetPoint(rangeAction));
+            }
+        });
+        if (!hintedVariables.isEmpty()) {
+            solver.setHint(hintedVariables.toArray(new MPVariable[0]), hintedValues.stream().mapToDouble(Double::doubleValue).toArray());
+        }
+    }
+
     public RangeActionResult getResults() {
         return new LinearProblemResult(this);
     }
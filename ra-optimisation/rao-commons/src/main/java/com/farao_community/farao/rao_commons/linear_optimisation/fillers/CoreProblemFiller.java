@@ -14,6 +14,7 @@ import com.farao_community.farao.data.crac_api.cnec.FlowCnec;
 import com.farao_community.farao.data.crac_api.range_action.HvdcRangeAction;
 import com.farao_community.farao.data.crac_api.range_action.PstRangeAction;
 import com.farao_community.farao.data.crac_api.range_action.RangeAction;
+import com.farao_community.farao.rao_commons.linear_optimisation.FaraoMPSolver;
 import com.farao_community.farao.rao_commons.linear_optimisation.LinearProblem;
 import com.farao_community.farao.rao_commons.result_api.FlowResult;
 import com.farao_community.farao.rao_commons.result_api.RangeActionResult;
@@ -21,6 +22,8 @@ import com.farao_community.farao.rao_commons.result_api.SensitivityResult;
 import com.google.ortools.linearsolver.MPConstraint;
 import com.google.ortools.linearsolver.MPVariable;
 import com.powsybl.iidm.network.Network;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.*;
 
@@ -31,6 +34,7 @@ import static java.lang.String.format;
  * @author Baptiste Seguinot {@literal <baptiste.seguinot at rte-france.com>}
  */
 public class CoreProblemFiller implements ProblemFiller {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CoreProblemFiller.class);
     private final Network network;
     private final Set<FlowCnec> flowCnecs;
     private final Set<RangeAction> rangeActions;
@@ -38,6 +42,13 @@ public class CoreProblemFiller implements ProblemFiller {
     private final double pstSensitivityThreshold;
     private final double hvdcSensitivityThreshold;
     private final boolean relativePositiveMargins;
+    private final double sensitivityUpdateTolerance;
+
+    // last values written in the flow constraints, indexed by cnec, then by range action
+    private double[] flowConstraintBounds;
+    private double[][] flowConstraintCoefficients;
+    private int updatedCoefficientsCount;
+    private int updatedBoundsCount;
 
     public CoreProblemFiller(Network network,
                              Set<FlowCnec> flowCnecs,
@@ -46,6 +57,17 @@ public class CoreProblemFiller implements ProblemFiller {
                              double pstSensitivityThreshold,
                              double hvdcSensitivityThreshold,
                              boolean relativePositiveMargins) {
+        this(network, flowCnecs, rangeActions, prePerimeterRangeActionResult, pstSensitivityThreshold, hvdcSensitivityThreshold, relativePositiveMargins, 0);
+    }
+
+    public CoreProblemFiller(Network network,
+                             Set<FlowCnec> flowCnecs,
+                             Set<RangeAction> rangeActions,
+                             RangeActionResult prePerimeterRangeActionResult,
+                             double pstSensitivityThreshold,
+                             double hvdcSensitivityThreshold,
+                             boolean relativePositiveMargins,
+                             double sensitivityUpdateTolerance) {
         this.network = network;
         this.flowCnecs = new TreeSet<>(Comparator.comparing(Identifiable::getId));
         this.flowCnecs.addAll(flowCnecs);
@@ -55,6 +77,7 @@ public class CoreProblemFiller implements ProblemFiller {
         this.pstSensitivityThreshold = pstSensitivityThreshold;
         this.hvdcSensitivityThreshold = hvdcSensitivityThreshold;
         this.relativePositiveMargins = relativePositiveMargins;
+        this.sensitivityUpdateTolerance = sensitivityUpdateTolerance;
     }
 
     private Set<RangeAction> getRangeActions() {
@@ -133,7 +156,10 @@ public class CoreProblemFiller implements ProblemFiller {
      * F[c] = f_ref[c] + sum{r in RangeAction} sensitivity[c,r] * (S[r] - currentSetPoint[r])
      */
     private void buildFlowConstraints(LinearProblem linearProblem, FlowResult flowResult, SensitivityResult sensitivityResult) {
-        flowCnecs.forEach(cnec -> {
+        flowConstraintBounds = new double[flowCnecs.size()];
+        flowConstraintCoefficients = new double[flowCnecs.size()][getRangeActions().size()];
+        int cnecIndex = 0;
+        for (FlowCnec cnec : flowCnecs) {
             // create constraint
             double referenceFlow = flowResult.getFlow(cnec, Unit.MEGAWATT);
             MPConstraint flowConstraint = linearProblem.addFlowConstraint(referenceFlow, referenceFlow, cnec);
@@ -146,33 +172,36 @@ public class CoreProblemFiller implements ProblemFiller {
             flowConstraint.setCoefficient(flowVariable, 1);
 
             // add sensitivity coefficients
-            addImpactOfRangeActionOnCnec(linearProblem, sensitivityResult, flowResult, cnec);
-        });
+            setImpactOfRangeActionsOnCnec(linearProblem, sensitivityResult, flowResult, cnec, cnecIndex, true);
+            cnecIndex++;
+        }
     }
 
     /**
      * Update the flow constraints, with the new reference flows and new sensitivities
      *
      * F[c] = f_ref[c] + sum{r in RangeAction} sensitivity[c,r] * (S[r] - currentSetPoint[r])
+     *
+     * Only the coefficients and bounds whose rounded value has changed since the last time they were written
+     * in the problem are updated. A coefficient is not updated either if its variation does not exceed the
+     * sensitivity update tolerance.
      */
     private void updateFlowConstraints(LinearProblem linearProblem, FlowResult flowResult, SensitivityResult sensitivityResult) {
-        flowCnecs.forEach(cnec -> {
-            double referenceFlow = flowResult.getFlow(cnec, Unit.MEGAWATT);
-            MPConstraint flowConstraint = linearProblem.getFlowConstraint(cnec);
-            if (flowConstraint == null) {
-                throw new FaraoException(format("Flow constraint on %s has not been defined yet.", cnec.getId()));
-            }
-
-            //reset bounds
-            flowConstraint.setUb(referenceFlow);
-            flowConstraint.setLb(referenceFlow);
-
-            //reset sensitivity coefficients
-            addImpactOfRangeActionOnCnec(linearProblem, sensitivityResult, flowResult, cnec);
-        });
+        if (flowConstraintBounds == null) {
+            throw new FaraoException("Flow constraints have not been defined yet.");
+        }
+        updatedCoefficientsCount = 0;
+        updatedBoundsCount = 0;
+        int cnecIndex = 0;
+        for (FlowCnec cnec : flowCnecs) {
+            setImpactOfRangeActionsOnCnec(linearProblem, sensitivityResult, flowResult, cnec, cnecIndex, false);
+            cnecIndex++;
+        }
+        LOGGER.debug("Flow constraints updated: {} coefficients out of {} and {} bounds out of {}",
+            updatedCoefficientsCount, flowCnecs.size() * getRangeActions().size(), updatedBoundsCount, flowCnecs.size());
     }
 
-    private void addImpactOfRangeActionOnCnec(LinearProblem linearProblem, SensitivityResult sensitivityResult, FlowResult flowResult, FlowCnec cnec) {
+    private void setImpactOfRangeActionsOnCnec(LinearProblem linearProblem, SensitivityResult sensitivityResult, FlowResult flowResult, FlowCnec cnec, int cnecIndex, boolean forceUpdate) {
         MPVariable flowVariable = linearProblem.getFlowVariable(cnec);
         MPConstraint flowConstraint = linearProblem.getFlowConstraint(cnec);
 
@@ -180,40 +209,74 @@ public class CoreProblemFiller implements ProblemFiller {
             throw new FaraoException(format("Flow variable and/or constraint on %s has not been defined yet.", cnec.getId()));
         }
 
-        getRangeActions().forEach(rangeAction -> {
-            if (rangeAction instanceof PstRangeAction || rangeAction instanceof HvdcRangeAction) {
-                addImpactOfRangeActionOnCnec(linearProblem, sensitivityResult, flowResult, rangeAction, cnec, flowConstraint);
-            } else {
+        double bound = flowResult.getFlow(cnec, Unit.MEGAWATT);
+        double[] coefficients = flowConstraintCoefficients[cnecIndex];
+        int rangeActionIndex = 0;
+        for (RangeAction rangeAction : getRangeActions()) {
+            if (!(rangeAction instanceof PstRangeAction) && !(rangeAction instanceof HvdcRangeAction)) {
                 throw new FaraoException("Type of RangeAction not yet handled by the LinearRao.");
             }
-        });
+            double coefficient = FaraoMPSolver.round(computeRangeActionCoefficient(sensitivityResult, flowResult, rangeAction, cnec));
+            if (forceUpdate || Math.abs(coefficient - coefficients[rangeActionIndex]) > sensitivityUpdateTolerance) {
+                flowConstraint.setCoefficient(getRangeActionSetpointVariable(linearProblem, rangeAction), coefficient);
+                coefficients[rangeActionIndex] = coefficient;
+                updatedCoefficientsCount++;
+            }
+            if (coefficients[rangeActionIndex] != 0) {
+                // care : might not be robust as getCurrentValue get the current setPoint from a network variant
+                //        we need to be sure that this variant has been properly set
+                bound += coefficients[rangeActionIndex] * rangeAction.getCurrentSetpoint(network);
+            }
+            rangeActionIndex++;
+        }
+
+        bound = FaraoMPSolver.round(bound);
+        if (forceUpdate || bound != flowConstraintBounds[cnecIndex]) {
+            flowConstraint.setBounds(bound, bound);
+            flowConstraintBounds[cnecIndex] = bound;
+            updatedBoundsCount++;
+        }
     }
 
-    private void addImpactOfRangeActionOnCnec(LinearProblem linearProblem, SensitivityResult sensitivityResult, FlowResult flowResult, RangeAction rangeAction, FlowCnec cnec, MPConstraint flowConstraint) {
+    private MPVariable getRangeActionSetpointVariable(LinearProblem linearProblem, RangeAction rangeAction) {
         MPVariable setPointVariable = linearProblem.getRangeActionSetpointVariable(rangeAction);
         if (setPointVariable == null) {
             throw new FaraoException(format("Range action variable for %s has not been defined yet.", rangeAction.getId()));
         }
+        return setPointVariable;
+    }
 
+    /**
+     * Coefficient of the set point variable of the range action in the flow constraint of the cnec,
+     * equal to the opposite of the sensitivity, or to zero if the sensitivity is below the threshold.
+     */
+    private double computeRangeActionCoefficient(SensitivityResult sensitivityResult, FlowResult flowResult, RangeAction rangeAction, FlowCnec cnec) {
         double sensitivity = sensitivityResult.getSensitivityValue(cnec, rangeAction, Unit.MEGAWATT);
 
         // If objective function uses relative positive margins, and if the margin on the cnec is positive,
         // the sensi should be divided by the absolute PTDF sum
         double sensiDivider = (relativePositiveMargins && flowResult.getMargin(cnec, Unit.MEGAWATT) > 0) ? flowResult.getPtdfZonalSum(cnec) : 1;
         if (isRangeActionSensitivityAboveThreshold(rangeAction, Math.abs(sensitivity / sensiDivider))) {
-            double currentSetPoint = rangeAction.getCurrentSetpoint(network);
-            // care : might not be robust as getCurrentValue get the current setPoint from a network variant
-            //        we need to be sure that this variant has been properly set
-            flowConstraint.setLb(flowConstraint.lb() - sensitivity * currentSetPoint);
-            flowConstraint.setUb(flowConstraint.ub() - sensitivity * currentSetPoint);
-
-            flowConstraint.setCoefficient(setPointVariable, -sensitivity);
+            return -sensitivity;
         } else {
-            // We need to do this in case of an update
-            flowConstraint.setCoefficient(setPointVariable, 0);
+            return 0;
         }
     }
 
+    /**
+     * Number of range action coefficients of the flow constraints which have been modified during the last update
+     */
+    public int getUpdatedCoefficientsCount() {
+        return updatedCoefficientsCount;
+    }
+
+    /**
+     * Number of flow constraints whose bounds have been modified during the last update
+     */
+    public int getUpdatedBoundsCount() {
+        return updatedBoundsCount;
+    }
+
     private boolean isRangeActionSensitivityAboveThreshold(RangeAction rangeAction, double sensitivity) {
         if (rangeAction instanceof PstRangeAction) {
             return sensitivity >= pstSensitivityThreshold;
@@ -41,4 +41,22 @@ public interface CostEvaluator {
      * @return The ordered list of the n first costly elements.
      */
     List<FlowCnec> getCostlyElements(FlowResult flowResult, int numberOfElements);
+
+    /**
+     * Evaluates both the cost and the costly elements of a FlowResult. Implementations can override it
+     * so that the computations shared by the cost and the costly elements are only made once.
+     */
+    default CostEvaluatorResult evaluate(FlowResult flowResult, ComputationStatus sensitivityStatus) {
+        return new CostEvaluatorResult() {
+            @Override
+            public double getCost() {
+                return computeCost(flowResult, sensitivityStatus);
+            }
+
+            @Override
+            public List<FlowCnec> getCostlyElements(int numberOfElements) {
+                return CostEvaluator.this.getCostlyElements(flowResult, numberOfElements);
+            }
+        };
+    }
 }
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2021, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.farao_community.farao.rao_commons.objective_function_evaluator;
+
+import com.farao_community.farao.data.crac_api.cnec.FlowCnec;
+
+import java.util.List;
+
+/**
+ * Evaluation of a {@link CostEvaluator} on a given FlowResult.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public interface CostEvaluatorResult {
+
+    double getCost();
+
+    /**
+     * Gets the most costly elements, ordered from most to least costly.
+     *
+     * @param numberOfElements: The number of costly elements to be retrieved.
+     * @return The ordered list of the n first costly elements.
+     */
+    List<FlowCnec> getCostlyElements(int numberOfElements);
+}
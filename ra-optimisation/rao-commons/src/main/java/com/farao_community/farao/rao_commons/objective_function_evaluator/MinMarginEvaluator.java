@@ -20,12 +20,12 @@ import java.util.stream.Collectors;
  * @author Joris Mancini {@literal <joris.mancini at rte-france.com>}
  */
 public class MinMarginEvaluator implements CostEvaluator {
-    private final Set<FlowCnec> flowCnecs;
+    private final List<FlowCnec> optimizedFlowCnecs;
     private final Unit unit;
     private final MarginEvaluator marginEvaluator;
 
     public MinMarginEvaluator(Set<FlowCnec> flowCnecs, Unit unit, MarginEvaluator marginEvaluator) {
-        this.flowCnecs = flowCnecs;
+        this.optimizedFlowCnecs = flowCnecs.stream().filter(Cnec::isOptimized).collect(Collectors.toList());
         this.unit = unit;
         this.marginEvaluator = marginEvaluator;
     }
@@ -42,32 +42,100 @@ public class MinMarginEvaluator implements CostEvaluator {
 
     @Override
     public List<FlowCnec> getCostlyElements(FlowResult flowResult, int numberOfElements) {
-        Map<FlowCnec, Double> margins = new HashMap<>();
-
-        flowCnecs.stream().filter(Cnec::isOptimized).forEach(flowCnec -> margins.put(flowCnec, marginEvaluator.getMargin(flowResult, flowCnec, unit)));
-
-        List<FlowCnec> sortedElements = flowCnecs.stream()
-            .filter(Cnec::isOptimized)
-            .sorted(Comparator.comparing(margins::get))
-            .collect(Collectors.toList());
-
-        return sortedElements.subList(0, Math.min(sortedElements.size(), numberOfElements));
+        return new ArrayList<>(evaluate(flowResult).getCostlyElements(numberOfElements));
     }
 
     public FlowCnec getMostLimitingElement(FlowResult flowResult) {
-        List<FlowCnec> costlyElements = getCostlyElements(flowResult, 1);
-        if (costlyElements.isEmpty()) {
-            return null;
-        }
-        return costlyElements.get(0);
+        return evaluate(flowResult).getMostLimitingElement();
     }
 
     @Override
     public double computeCost(FlowResult flowResult, ComputationStatus sensitivityStatus) {
-        FlowCnec limitingElement = getMostLimitingElement(flowResult);
-        if (limitingElement == null) {
-            return 0;
+        return evaluate(flowResult).getCost();
+    }
+
+    @Override
+    public CostEvaluatorResult evaluate(FlowResult flowResult, ComputationStatus sensitivityStatus) {
+        return evaluate(flowResult);
+    }
+
+    private MarginRanking evaluate(FlowResult flowResult) {
+        return new MarginRanking(flowResult);
+    }
+
+    /**
+     * Margins of the optimized cnecs for one FlowResult. The margins are computed once, and the cost, the most
+     * limiting element and the most limiting elements are all derived from them.
+     *
+     * Only the requested number of elements is ranked: the most limiting elements are selected with a bounded
+     * heap instead of sorting all the optimized cnecs, and the ranking is kept for the largest number of elements
+     * requested so far.
+     */
+    private final class MarginRanking implements CostEvaluatorResult {
+        private final double[] margins;
+        private final Comparator<Integer> marginComparator;
+        private final int mostLimitingIndex;
+        private List<FlowCnec> mostLimitingElements;
+        private boolean isRankingComplete;
+
+        private MarginRanking(FlowResult flowResult) {
+            margins = new double[optimizedFlowCnecs.size()];
+            for (int index = 0; index < margins.length; index++) {
+                margins[index] = marginEvaluator.getMargin(flowResult, optimizedFlowCnecs.get(index), unit);
+            }
+            // ties are broken on the index of the cnecs, so that the ranking is deterministic
+            marginComparator = Comparator.<Integer>comparingDouble(index -> margins[index]).thenComparingInt(index -> index);
+
+            int minIndex = margins.length == 0 ? -1 : 0;
+            for (int index = 1; index < margins.length; index++) {
+                if (Double.compare(margins[index], margins[minIndex]) < 0) {
+                    minIndex = index;
+                }
+            }
+            mostLimitingIndex = minIndex;
+        }
+
+        @Override
+        public double getCost() {
+            return mostLimitingIndex < 0 ? 0 : -margins[mostLimitingIndex];
+        }
+
+        private FlowCnec getMostLimitingElement() {
+            return mostLimitingIndex < 0 ? null : optimizedFlowCnecs.get(mostLimitingIndex);
+        }
+
+        @Override
+        public synchronized List<FlowCnec> getCostlyElements(int numberOfElements) {
+            if (numberOfElements <= 0) {
+                return Collections.emptyList();
+            }
+            if (mostLimitingElements == null || (numberOfElements > mostLimitingElements.size() && !isRankingComplete)) {
+                mostLimitingElements = rank(Math.min(margins.length, numberOfElements));
+                // all the cnecs are ranked as soon as at least as many elements as cnecs are requested
+                isRankingComplete = margins.length <= numberOfElements;
+            }
+            return Collections.unmodifiableList(mostLimitingElements.subList(0, Math.min(numberOfElements, mostLimitingElements.size())));
+        }
+
+        private List<FlowCnec> rank(int numberOfSelectedElements) {
+            if (numberOfSelectedElements == 0) {
+                return Collections.emptyList();
+            }
+            PriorityQueue<Integer> mostLimitingIndices = new PriorityQueue<>(numberOfSelectedElements, marginComparator.reversed());
+            for (int index = 0; index < margins.length; index++) {
+                if (mostLimitingIndices.size() < numberOfSelectedElements) {
+                    mostLimitingIndices.add(index);
+                } else if (marginComparator.compare(index, mostLimitingIndices.peek()) < 0) {
+                    mostLimitingIndices.poll();
+                    mostLimitingIndices.add(index);
+                }
+            }
+
+            FlowCnec[] sortedElements = new FlowCnec[mostLimitingIndices.size()];
+            for (int rank = sortedElements.length - 1; rank >= 0; rank--) {
+                sortedElements[rank] = optimizedFlowCnecs.get(mostLimitingIndices.poll());
+            }
+            return Arrays.asList(sortedElements);
         }
-        return -marginEvaluator.getMargin(flowResult, limitingElement, unit);
     }
 }
@@ -43,6 +43,10 @@ public final class ObjectiveFunction {
         return functionalCostEvaluator.getCostlyElements(flowResult, number);
     }
 
+    public CostEvaluatorResult evaluateFunctionalCost(FlowResult flowResult, ComputationStatus sensitivityStatus) {
+        return functionalCostEvaluator.evaluate(flowResult, sensitivityStatus);
+    }
+
     public double getVirtualCost(FlowResult flowResult, ComputationStatus sensitivityStatus) {
         return virtualCostEvaluators.stream()
                 .mapToDouble(costEvaluator -> costEvaluator.computeCost(flowResult, sensitivityStatus))
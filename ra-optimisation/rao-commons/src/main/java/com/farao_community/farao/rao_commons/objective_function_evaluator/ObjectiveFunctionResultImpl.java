@@ -12,6 +12,7 @@ import com.farao_community.farao.data.rao_result_api.ComputationStatus;
 import com.farao_community.farao.rao_commons.result_api.FlowResult;
 import com.farao_community.farao.rao_commons.result_api.ObjectiveFunctionResult;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -27,6 +28,7 @@ public class ObjectiveFunctionResultImpl implements ObjectiveFunctionResult {
     private boolean areCostComputed;
     private Double functionalCost;
     private Map<String, Double> virtualCosts;
+    private CostEvaluatorResult functionalCostResult;
 
     public ObjectiveFunctionResultImpl(ObjectiveFunction objectiveFunction,
                                        FlowResult flowResult,
@@ -47,7 +49,7 @@ public class ObjectiveFunctionResultImpl implements ObjectiveFunctionResult {
 
     @Override
     public List<FlowCnec> getMostLimitingElements(int number) {
-        return objectiveFunction.getMostLimitingElements(flowResult, number);
+        return Collections.unmodifiableList(getFunctionalCostResult().getCostlyElements(number));
     }
 
     @Override
@@ -79,8 +81,19 @@ public class ObjectiveFunctionResultImpl implements ObjectiveFunctionResult {
         return objectiveFunction.getCostlyElements(flowResult, virtualCostName, number);
     }
 
+    /**
+     * The functional cost and the most limiting elements are both read from a single evaluation
+     * of the functional cost, made on the first query.
+     */
+    private synchronized CostEvaluatorResult getFunctionalCostResult() {
+        if (functionalCostResult == null) {
+            functionalCostResult = objectiveFunction.evaluateFunctionalCost(flowResult, sensitivityStatus);
+        }
+        return functionalCostResult;
+    }
+
     private void computeCosts() {
-        functionalCost = objectiveFunction.getFunctionalCost(flowResult, sensitivityStatus);
+        functionalCost = getFunctionalCostResult().getCost();
         virtualCosts = new HashMap<>();
         getVirtualCostNames().forEach(vcn -> virtualCosts.put(vcn, objectiveFunction.getVirtualCost(flowResult, sensitivityStatus, vcn)));
         areCostComputed = true;
@@ -16,6 +16,7 @@ import com.farao_community.farao.data.crac_api.threshold.BranchThresholdRule;
 import com.farao_community.farao.data.crac_impl.utils.CommonCracCreation;
 import com.farao_community.farao.data.crac_impl.utils.NetworkImportsUtil;
 import com.farao_community.farao.data.glsk.ucte.UcteGlskDocument;
+import com.farao_community.farao.loopflow_computation.XnodeGlskHandler;
 import com.farao_community.farao.rao_api.ZoneToZonePtdfDefinition;
 import com.farao_community.farao.sensitivity_analysis.SystematicSensitivityResult;
 import com.powsybl.iidm.import_.Importers;
@@ -31,6 +32,7 @@ import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static com.farao_community.farao.data.crac_api.Instant.CURATIVE;
 import static com.farao_community.farao.data.crac_api.Instant.PREVENTIVE;
@@ -193,5 +195,20 @@ public class AbsolutePtdfSumsComputationTest {
         assertEquals(0.1, ptdfSums.get(crac.getFlowCnec("cnec1-in-basecase")), DOUBLE_TOLERANCE); // abs(0.2 - 0.1)
         assertEquals(0.1, ptdfSums.get(crac.getFlowCnec("cnec1-after-internal-contingency")), DOUBLE_TOLERANCE); // abs(0.2 - 0.1)
         assertEquals(0.2, ptdfSums.get(crac.getFlowCnec("cnec1-after-contingency-on-xNode")), DOUBLE_TOLERANCE); // abs(0.2 - 0.0) PTDF of virtual hub is now 0
+
+        // same results with a XnodeGlskHandler shared with the loop-flow computation
+        XnodeGlskHandler xnodeGlskHandler = new XnodeGlskHandler(glskProvider, crac.getContingencies(), network);
+        absolutePtdfSumsComputation = new AbsolutePtdfSumsComputation(glskProvider, boundaries, xnodeGlskHandler);
+        ptdfSums = absolutePtdfSumsComputation.computeAbsolutePtdfSums(crac.getFlowCnecs(), systematicSensitivityResult);
+        assertEquals(0.1, ptdfSums.get(crac.getFlowCnec("cnec1-in-basecase")), DOUBLE_TOLERANCE);
+        assertEquals(0.1, ptdfSums.get(crac.getFlowCnec("cnec1-after-internal-contingency")), DOUBLE_TOLERANCE);
+        assertEquals(0.2, ptdfSums.get(crac.getFlowCnec("cnec1-after-contingency-on-xNode")), DOUBLE_TOLERANCE);
+
+        // the handler built for a subset of the cnecs is completed when cnecs with new contingencies are given
+        absolutePtdfSumsComputation = new AbsolutePtdfSumsComputation(glskProvider, boundaries, network);
+        ptdfSums = absolutePtdfSumsComputation.computeAbsolutePtdfSums(Set.of(crac.getFlowCnec("cnec1-after-internal-contingency")), systematicSensitivityResult);
+        assertEquals(0.1, ptdfSums.get(crac.getFlowCnec("cnec1-after-internal-contingency")), DOUBLE_TOLERANCE);
+        ptdfSums = absolutePtdfSumsComputation.computeAbsolutePtdfSums(crac.getFlowCnecs(), systematicSensitivityResult);
+        assertEquals(0.2, ptdfSums.get(crac.getFlowCnec("cnec1-after-contingency-on-xNode")), DOUBLE_TOLERANCE);
     }
 }
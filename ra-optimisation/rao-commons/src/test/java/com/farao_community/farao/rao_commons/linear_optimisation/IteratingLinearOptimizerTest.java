@@ -36,8 +36,7 @@ import java.util.Map;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doAnswer;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 /**
  * @author Joris Mancini {@literal <joris.mancini at rte-france.com>}
@@ -251,4 +250,31 @@ public class IteratingLinearOptimizerTest {
         );
         assertEquals(0, network.getTwoWindingsTransformer("BBE2AA1  BBE3AA1  1").getPhaseTapChanger().getTapPosition());
     }
+
+    @Test
+    public void warmStartGivesPreviousSetPointsAsHint() {
+        optimizer = new IteratingLinearOptimizer(
+            objectiveFunction,
+            5,
+            RaoParameters.PstOptimizationApproximation.CONTINUOUS,
+            true
+        );
+        mockLinearProblem(Collections.nCopies(2, LinearProblemStatus.OPTIMAL), List.of(1., 1.));
+        mockFunctionalCost(100., 50.);
+
+        optimize();
+
+        verify(linearProblem, times(1)).setSolutionHint(rangeActionResult);
+        verify(linearProblem, times(2)).setSolutionHint(any());
+    }
+
+    @Test
+    public void noHintWithoutWarmStart() {
+        mockLinearProblem(Collections.nCopies(2, LinearProblemStatus.OPTIMAL), List.of(1., 1.));
+        mockFunctionalCost(100., 50.);
+
+        optimize();
+
+        verify(linearProblem, never()).setSolutionHint(any());
+    }
 }
@@ -10,12 +10,15 @@ package com.farao_community.farao.rao_commons.linear_optimisation;
 import com.farao_community.farao.data.crac_api.cnec.FlowCnec;
 import com.farao_community.farao.data.crac_api.range_action.PstRangeAction;
 import com.farao_community.farao.rao_commons.linear_optimisation.mocks.MPSolverMock;
-import com.google.ortools.linearsolver.MPSolver;
+import com.farao_community.farao.rao_commons.result.RangeActionResultImpl;
+import com.google.ortools.linearsolver.MPConstraint;
+import com.google.ortools.linearsolver.MPVariable;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 
 import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.farao_community.farao.rao_commons.linear_optimisation.LinearProblem.VariationExtension.DOWNWARD;
@@ -36,13 +39,14 @@ public class LinearProblemTest {
     private static final String RANGE_ACTION_ID = "rangeaction_id";
     private static final String GROUP_ID = "group_id";
 
+    private MPSolverMock solver;
     private LinearProblem linearProblem;
     private FlowCnec cnec;
     private PstRangeAction rangeAction;
 
     @Before
     public void setUp() {
-        MPSolver solver = new MPSolverMock();
+        solver = new MPSolverMock();
         linearProblem = new LinearProblem(Collections.emptyList(), solver);
 
         rangeAction = Mockito.mock(PstRangeAction.class);
@@ -186,8 +190,39 @@ public class LinearProblemTest {
         assertEquals(UB, linearProblem.getMaxLoopFlowConstraint(cnec, LinearProblem.BoundExtension.UPPER_BOUND).ub(), DOUBLE_TOLERANCE);
     }
 
+    @Test
+    public void registryIsIndexedByObjectTest() {
+        MPVariable flowVariable = linearProblem.addFlowVariable(LB, UB, cnec);
+        MPConstraint flowConstraint = linearProblem.addFlowConstraint(LB, UB, cnec);
+        MPVariable setpointVariable = linearProblem.addRangeActionSetpointVariable(LB, UB, rangeAction);
+        MPVariable upwardTapVariable = linearProblem.addPstTapVariationVariable(LB, UB, rangeAction, UPWARD);
+
+        assertSame(flowVariable, linearProblem.getFlowVariable(cnec));
+        assertSame(flowConstraint, linearProblem.getFlowConstraint(cnec));
+        assertSame(setpointVariable, linearProblem.getRangeActionSetpointVariable(rangeAction));
+        assertSame(upwardTapVariable, linearProblem.getPstTapVariationVariable(rangeAction, UPWARD));
+        assertNull(linearProblem.getPstTapVariationVariable(rangeAction, DOWNWARD));
+
+        // the String ids are still given to the solver, for debugging and export purposes
+        assertEquals(LinearProblemIdGenerator.flowVariableId(cnec), flowVariable.name());
+        assertEquals(LinearProblemIdGenerator.flowConstraintId(cnec), flowConstraint.name());
+    }
+
     @Test
     public void objectiveTest() {
         assertNotNull(linearProblem.getObjective());
     }
+
+    @Test
+    public void solutionHintTest() {
+        PstRangeAction otherRangeAction = Mockito.mock(PstRangeAction.class);
+        Mockito.when(otherRangeAction.getId()).thenReturn("other_rangeaction_id");
+        linearProblem.addRangeActionSetpointVariable(LB, UB, rangeAction);
+        linearProblem.addRangeActionSetpointVariable(LB, UB, otherRangeAction);
+
+        linearProblem.setSolutionHint(new RangeActionResultImpl(Map.of(rangeAction, 3.)));
+
+        assertEquals(1, solver.getHint().size());
+        assertEquals(3., solver.getHint().get(linearProblem.getRangeActionSetpointVariable(rangeAction)), DOUBLE_TOLERANCE);
+    }
 }
@@ -460,4 +460,57 @@ public class CoreProblemFillerTest extends AbstractFillerTest {
         rangeActionSetpoint = linearProblem.getRangeActionSetpointVariable(pstRangeAction);
         assertEquals(0, flowConstraint.getCoefficient(rangeActionSetpoint), DOUBLE_TOLERANCE);
     }
+
+    @Test
+    public void updateOnlyChangedValuesTest() {
+        initializeForPreventive(0, 0);
+
+        // same sensitivity and same reference flow: nothing to update
+        linearProblem.update(flowResult, sensitivityResult, null);
+        assertEquals(0, coreProblemFiller.getUpdatedCoefficientsCount());
+        assertEquals(0, coreProblemFiller.getUpdatedBoundsCount());
+
+        // new sensitivity and new reference flow
+        updateLinearProblem();
+        assertEquals(1, coreProblemFiller.getUpdatedCoefficientsCount());
+        assertEquals(1, coreProblemFiller.getUpdatedBoundsCount());
+
+        // only the reference flow changes
+        when(flowResult.getFlow(cnec1, Unit.MEGAWATT)).thenReturn(REF_FLOW_CNEC1_IT1);
+        linearProblem.update(flowResult, sensitivityResult, null);
+        assertEquals(0, coreProblemFiller.getUpdatedCoefficientsCount());
+        assertEquals(1, coreProblemFiller.getUpdatedBoundsCount());
+        assertEquals(REF_FLOW_CNEC1_IT1 - initialAlpha * SENSI_CNEC1_IT2, linearProblem.getFlowConstraint(cnec1).lb(), DOUBLE_TOLERANCE);
+    }
+
+    @Test
+    public void updateWithSensitivityToleranceTest() {
+        coreProblemFiller = new CoreProblemFiller(
+                network,
+                Set.of(cnec1),
+                Set.of(pstRangeAction),
+                initialRangeActionResult,
+                0.,
+                0.,
+                false,
+                0.5
+        );
+        buildLinearProblem();
+        MPVariable setPointVariable = linearProblem.getRangeActionSetpointVariable(pstRangeAction);
+        MPConstraint flowConstraint = linearProblem.getFlowConstraint(cnec1);
+
+        // sensitivity variation below the tolerance: the coefficient is kept, and the bound remains consistent with it
+        when(sensitivityResult.getSensitivityValue(cnec1, pstRangeAction, Unit.MEGAWATT)).thenReturn(SENSI_CNEC1_IT1 + 0.2);
+        linearProblem.update(flowResult, sensitivityResult, null);
+        assertEquals(0, coreProblemFiller.getUpdatedCoefficientsCount());
+        assertEquals(-SENSI_CNEC1_IT1, flowConstraint.getCoefficient(setPointVariable), DOUBLE_TOLERANCE);
+        assertEquals(REF_FLOW_CNEC1_IT1 - initialAlpha * SENSI_CNEC1_IT1, flowConstraint.lb(), DOUBLE_TOLERANCE);
+
+        // sensitivity variation above the tolerance
+        when(sensitivityResult.getSensitivityValue(cnec1, pstRangeAction, Unit.MEGAWATT)).thenReturn(SENSI_CNEC1_IT2);
+        linearProblem.update(flowResult, sensitivityResult, null);
+        assertEquals(1, coreProblemFiller.getUpdatedCoefficientsCount());
+        assertEquals(-SENSI_CNEC1_IT2, flowConstraint.getCoefficient(setPointVariable), DOUBLE_TOLERANCE);
+        assertEquals(REF_FLOW_CNEC1_IT1 - initialAlpha * SENSI_CNEC1_IT2, flowConstraint.lb(), DOUBLE_TOLERANCE);
+    }
 }
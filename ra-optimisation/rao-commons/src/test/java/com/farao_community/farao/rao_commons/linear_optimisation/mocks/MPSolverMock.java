@@ -10,7 +10,9 @@ import com.google.ortools.linearsolver.MPSolver;
 import com.google.ortools.linearsolver.MPVariable;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertFalse;
@@ -29,6 +31,7 @@ public class MPSolverMock extends MPSolver {
     private MPObjectiveMock objective;
     private List<MPConstraintMock> constraints;
     private List<MPVariableMock> variables;
+    private Map<MPVariable, Double> hint = new HashMap<>();
 
     public MPSolverMock() {
         super(0, false);
@@ -128,6 +131,18 @@ public class MPSolverMock extends MPSolver {
         return constraints.size();
     }
 
+    @Override
+    public void setHint(MPVariable[] variables, double[] values) {
+        hint = new HashMap<>();
+        for (int i = 0; i < variables.length; i++) {
+            hint.put(variables[i], values[i]);
+        }
+    }
+
+    public Map<MPVariable, Double> getHint() {
+        return hint;
+    }
+
     public void randomSolve() {
         variables.forEach(MPVariableMock::setRandomSolutionValue);
     }
@@ -30,6 +30,7 @@ public class MinMarginEvaluatorTest {
     private FlowCnec cnec2;
     private FlowCnec cnec3;
     private FlowResult flowResult;
+    private MarginEvaluator marginEvaluator;
     private MinMarginEvaluator minMarginEvaluator;
 
     @Before
@@ -47,7 +48,7 @@ public class MinMarginEvaluatorTest {
         when(pureMnec.isMonitored()).thenReturn(true);
         when(pureMnec.isOptimized()).thenReturn(false);
 
-        MarginEvaluator marginEvaluator = Mockito.mock(MarginEvaluator.class);
+        marginEvaluator = Mockito.mock(MarginEvaluator.class);
         flowResult = Mockito.mock(FlowResult.class);
         when(marginEvaluator.getMargin(flowResult, cnec1, MEGAWATT)).thenReturn(-150.);
         when(marginEvaluator.getMargin(flowResult, cnec2, MEGAWATT)).thenReturn(200.);
@@ -94,6 +95,28 @@ public class MinMarginEvaluatorTest {
         assertEquals(250., minMarginEvaluator.computeCost(flowResult, Mockito.mock(ComputationStatus.class)), DOUBLE_TOLERANCE);
     }
 
+    @Test
+    public void marginsAreComputedOncePerEvaluation() {
+        CostEvaluatorResult result = minMarginEvaluator.evaluate(flowResult, Mockito.mock(ComputationStatus.class));
+        assertEquals(250., result.getCost(), DOUBLE_TOLERANCE);
+        assertEquals(List.of(cnec3), result.getCostlyElements(1));
+        assertEquals(List.of(cnec3, cnec1), result.getCostlyElements(2));
+        assertEquals(List.of(cnec3, cnec1, cnec2), result.getCostlyElements(5));
+        assertEquals(List.of(cnec3, cnec1, cnec2), result.getCostlyElements(10));
+        Mockito.verify(marginEvaluator, Mockito.times(1)).getMargin(flowResult, cnec1, MEGAWATT);
+        Mockito.verify(marginEvaluator, Mockito.times(1)).getMargin(flowResult, cnec2, MEGAWATT);
+        Mockito.verify(marginEvaluator, Mockito.times(1)).getMargin(flowResult, cnec3, MEGAWATT);
+    }
+
+    @Test
+    public void rankingIsExtendedUntilAllCnecsAreRanked() {
+        CostEvaluatorResult result = minMarginEvaluator.evaluate(flowResult, Mockito.mock(ComputationStatus.class));
+        assertEquals(List.of(cnec3, cnec1), result.getCostlyElements(2));
+        assertEquals(List.of(cnec3, cnec1, cnec2), result.getCostlyElements(3));
+        assertEquals(List.of(cnec3, cnec1, cnec2), result.getCostlyElements(4));
+        assertEquals(List.of(cnec3), result.getCostlyElements(1));
+    }
+
     @Test
     public void testWithPureMnecs() {
         FlowCnec mnec1 = Mockito.mock(FlowCnec.class);
@@ -103,7 +126,7 @@ public class MinMarginEvaluatorTest {
         when(mnec2.isMonitored()).thenReturn(true);
         when(mnec2.isOptimized()).thenReturn(false);
 
-        MarginEvaluator marginEvaluator = Mockito.mock(MarginEvaluator.class);
+        marginEvaluator = Mockito.mock(MarginEvaluator.class);
         flowResult = Mockito.mock(FlowResult.class);
         when(marginEvaluator.getMargin(flowResult, mnec1, MEGAWATT)).thenReturn(-150.);
         when(marginEvaluator.getMargin(flowResult, mnec2, MEGAWATT)).thenReturn(200.);
@@ -113,4 +136,31 @@ public class MinMarginEvaluatorTest {
         assertNull(minMarginEvaluator.getMostLimitingElement(flowResult));
         assertEquals(0, minMarginEvaluator.computeCost(flowResult, Mockito.mock(ComputationStatus.class)), DOUBLE_TOLERANCE);
     }
+
+    @Test
+    public void testRankingOfManyCnecs() {
+        marginEvaluator = Mockito.mock(MarginEvaluator.class);
+        Set<FlowCnec> flowCnecs = new HashSet<>();
+        Map<FlowCnec, Double> margins = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            FlowCnec flowCnec = Mockito.mock(FlowCnec.class);
+            when(flowCnec.isOptimized()).thenReturn(true);
+            double margin = (i * 37) % 100 - 50.;
+            when(marginEvaluator.getMargin(flowResult, flowCnec, MEGAWATT)).thenReturn(margin);
+            flowCnecs.add(flowCnec);
+            margins.put(flowCnec, margin);
+        }
+        minMarginEvaluator = new MinMarginEvaluator(flowCnecs, MEGAWATT, marginEvaluator);
+
+        List<FlowCnec> allElements = minMarginEvaluator.getCostlyElements(flowResult, Integer.MAX_VALUE);
+        assertEquals(100, allElements.size());
+        for (int i = 1; i < allElements.size(); i++) {
+            assertTrue(margins.get(allElements.get(i - 1)) <= margins.get(allElements.get(i)));
+        }
+        assertEquals(allElements.subList(0, 7), minMarginEvaluator.getCostlyElements(flowResult, 7));
+        assertSame(allElements.get(0), minMarginEvaluator.getMostLimitingElement(flowResult));
+        assertEquals(-50., margins.get(allElements.get(0)), DOUBLE_TOLERANCE);
+        assertEquals(50., minMarginEvaluator.computeCost(flowResult, Mockito.mock(ComputationStatus.class)), DOUBLE_TOLERANCE);
+        assertTrue(minMarginEvaluator.getCostlyElements(flowResult, 0).isEmpty());
+    }
 }
@@ -46,6 +46,11 @@ public class ObjectiveFunctionTest {
         minMarginEvaluator = Mockito.mock(MinMarginEvaluator.class);
         when(minMarginEvaluator.computeCost(flowResult, sensitivityStatus)).thenReturn(-300.);
         when(minMarginEvaluator.getCostlyElements(flowResult, 10)).thenReturn(List.of(cnec1, cnec2));
+        CostEvaluatorResult minMarginResult = Mockito.mock(CostEvaluatorResult.class);
+        when(minMarginResult.getCost()).thenReturn(-300.);
+        when(minMarginResult.getCostlyElements(10)).thenReturn(List.of(cnec1, cnec2));
+        when(minMarginResult.getCostlyElements(1)).thenReturn(List.of(cnec1));
+        when(minMarginEvaluator.evaluate(flowResult, sensitivityStatus)).thenReturn(minMarginResult);
 
         mnecViolationCostEvaluator = Mockito.mock(MnecViolationCostEvaluator.class);
         when(mnecViolationCostEvaluator.getName()).thenReturn("mnec-cost");
@@ -128,4 +133,19 @@ public class ObjectiveFunctionTest {
         assertEquals(100., result.getVirtualCost("loop-flow-cost"), DOUBLE_TOLERANCE);
         assertEquals(List.of(cnec2), result.getCostlyElements("loop-flow-cost", 10));
     }
+
+    @Test
+    public void testFunctionalCostIsEvaluatedOncePerResult() {
+        ObjectiveFunction objectiveFunction = ObjectiveFunction.create()
+                .withFunctionalCostEvaluator(minMarginEvaluator)
+                .build();
+        ObjectiveFunctionResult result = objectiveFunction.evaluate(flowResult, sensitivityStatus);
+
+        assertEquals(-300., result.getFunctionalCost(), DOUBLE_TOLERANCE);
+        assertEquals(List.of(cnec1, cnec2), result.getMostLimitingElements(10));
+        assertEquals(List.of(cnec1), result.getMostLimitingElements(1));
+        Mockito.verify(minMarginEvaluator, Mockito.times(1)).evaluate(flowResult, sensitivityStatus);
+        Mockito.verify(minMarginEvaluator, Mockito.never()).computeCost(Mockito.any(), Mockito.any());
+        Mockito.verify(minMarginEvaluator, Mockito.never()).getCostlyElements(Mockito.any(), Mockito.anyInt());
+    }
 }
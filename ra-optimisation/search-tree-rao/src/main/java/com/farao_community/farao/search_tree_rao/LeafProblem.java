@@ -19,6 +19,7 @@ import com.farao_community.farao.rao_commons.linear_optimisation.LinearProblem;
 import com.powsybl.iidm.network.Network;
 
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -35,11 +36,57 @@ public class LeafProblem extends SearchTreeProblem {
                        Set<FlowCnec> loopFlowCnecs,
                        LinearOptimizerParameters linearOptimizerParameters,
                        Set<RangeAction> rangeActions) {
-        super(initialFlowResult, prePerimeterFlowResult, prePerimeterSetPoints, flowCnecs, loopFlowCnecs, linearOptimizerParameters);
+        this(initialFlowResult, prePerimeterFlowResult, prePerimeterSetPoints, flowCnecs, loopFlowCnecs, linearOptimizerParameters, new LinearProblemTemplates(), rangeActions);
+    }
+
+    LeafProblem(FlowResult initialFlowResult,
+                FlowResult prePerimeterFlowResult,
+                RangeActionResult prePerimeterSetPoints,
+                Set<FlowCnec> flowCnecs,
+                Set<FlowCnec> loopFlowCnecs,
+                LinearOptimizerParameters linearOptimizerParameters,
+                LinearProblemTemplates linearProblemTemplates,
+                Set<RangeAction> rangeActions) {
+        super(initialFlowResult, prePerimeterFlowResult, prePerimeterSetPoints, flowCnecs, loopFlowCnecs, linearOptimizerParameters, linearProblemTemplates);
         this.rangeActions = rangeActions;
     }
 
+    /**
+     * Get the linear problem of the leaf. If a linear problem has already been built on the same network
+     * with the same range actions, by a previous leaf, it is reused: only its leaf dependant data (reference
+     * flows and sensitivities) are updated, instead of building all its variables and constraints again.
+     */
     public LinearProblem getLinearProblem(Network network, FlowResult preOptimFlowResult, SensitivityResult preOptimSensitivityResult) {
+        if (!isLinearProblemReusable()) {
+            return buildLinearProblem(network, preOptimFlowResult, preOptimSensitivityResult);
+        }
+        Optional<LinearProblem> linearProblemTemplate = linearProblemTemplates.get(network, rangeActions);
+        if (linearProblemTemplate.isPresent()) {
+            // range action results are only used by the discrete PST fillers, which are never in a reusable linear problem
+            linearProblemTemplate.get().update(preOptimFlowResult, preOptimSensitivityResult, null);
+            return linearProblemTemplate.get();
+        }
+        LinearProblem linearProblem = buildLinearProblem(network, preOptimFlowResult, preOptimSensitivityResult);
+        linearProblemTemplates.put(network, rangeActions, linearProblem);
+        return linearProblem;
+    }
+
+    /**
+     * Some fillers use leaf dependant data at build time, which are not refreshed by LinearProblem.update():
+     * the discrete PST taps fillers define their variables around the current taps of the network, the relative
+     * margin filler uses the PTDF sums of the leaf, and the loop-flow filler uses the commercial flows of the
+     * leaf when they are only updated after topological changes. Such linear problems are not reused.
+     */
+    private boolean isLinearProblemReusable() {
+        if (linearOptimizerParameters.getPstOptimizationApproximation() == RaoParameters.PstOptimizationApproximation.APPROXIMATED_INTEGERS
+            || linearOptimizerParameters.getObjectiveFunction().relativePositiveMargins()) {
+            return false;
+        }
+        return !linearOptimizerParameters.isRaoWithLoopFlowLimitation()
+            || linearOptimizerParameters.getLoopFlowParameters().getLoopFlowApproximationLevel() != RaoParameters.LoopFlowApproximationLevel.UPDATE_PTDF_WITH_TOPO;
+    }
+
+    private LinearProblem buildLinearProblem(Network network, FlowResult preOptimFlowResult, SensitivityResult preOptimSensitivityResult) {
         LinearProblem.LinearProblemBuilder linearProblemBuilder =  LinearProblem.create()
                 .withProblemFiller(createCoreProblemFiller(network, flowCnecs, rangeActions));
 
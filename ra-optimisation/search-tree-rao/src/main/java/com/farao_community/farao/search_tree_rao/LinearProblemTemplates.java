@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2021, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.farao_community.farao.search_tree_rao;
+
+import com.farao_community.farao.data.crac_api.range_action.RangeAction;
+import com.farao_community.farao.rao_commons.linear_optimisation.LinearProblem;
+import com.powsybl.iidm.network.Network;
+
+import java.util.*;
+
+/**
+ * Linear problems already built by the leaves of a search tree, so that they can be reused
+ * by the next leaves which optimize the same range actions on the same network.
+ *
+ * Linear problems are indexed by the network object on which they have been built, as their
+ * fillers read the current set points of the range actions on this network. As a network is
+ * used by only one leaf at a time, a linear problem is never used by two leaves in parallel.
+ *
+ * The solvers of the linear problems hold native memory, which is released as soon as a linear problem
+ * is dropped from the templates, and for all of them when the templates are cleared.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+class LinearProblemTemplates {
+    private static final int MAX_TEMPLATES_PER_NETWORK = 10;
+
+    private final Map<Network, Map<Set<RangeAction>, LinearProblem>> templates = new IdentityHashMap<>();
+
+    synchronized Optional<LinearProblem> get(Network network, Set<RangeAction> rangeActions) {
+        return Optional.ofNullable(templates.getOrDefault(network, Collections.emptyMap()).get(rangeActions));
+    }
+
+    synchronized void put(Network network, Set<RangeAction> rangeActions, LinearProblem linearProblem) {
+        templates.computeIfAbsent(network, n -> new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Set<RangeAction>, LinearProblem> eldest) {
+                // the least recently used linear problems are dropped, so that the solvers do not accumulate in memory
+                if (size() > MAX_TEMPLATES_PER_NETWORK) {
+                    eldest.getValue().release();
+                    return true;
+                }
+                return false;
+            }
+        }).put(new HashSet<>(rangeActions), linearProblem);
+    }
+
+    /**
+     * Release all the linear problems, which must not be used by any leaf anymore
+     */
+    synchronized void clear() {
+        templates.values().forEach(linearProblems -> linearProblems.values().forEach(LinearProblem::release));
+        templates.clear();
+    }
+
+    synchronized int size() {
+        return templates.values().stream().mapToInt(Map::size).sum();
+    }
+}
@@ -35,6 +35,9 @@ class RangeActionFilter {
     private final TreeParameters treeParameters;
     private final Map<RangeAction, Double> prePerimeterSetPoints;
     private final Set<RangeAction> leastPriorityRangeActions;
+    // the most limiting element and the potential gains of the range actions do not change during a filter run, they are computed once
+    private FlowCnec mostLimitingElement;
+    private final Map<RangeAction, Double> potentialGains = new HashMap<>();
 
     public RangeActionFilter(Leaf leaf, Set<RangeAction> availableRangeActions, State optimizedState, TreeParameters treeParameters, Map<RangeAction, Double> prePerimeterSetPoints, boolean deprioritizeIgnoredRangeActions) {
         this.leaf = leaf;
@@ -114,7 +117,7 @@ class RangeActionFilter {
 
     Set<String> sortTsosToKeepByPotentialGainAndGroupId(Set<String> activatedTsos, int maxTso) {
         List<RangeAction> rangeActionsSortedByPotentialGain = rangeActionsToOptimize.stream()
-                .sorted((ra1, ra2) -> -comparePotentialGain(ra1, ra2, leaf.getMostLimitingElements(1).get(0), leaf))
+                .sorted((ra1, ra2) -> -comparePotentialGain(ra1, ra2))
                 .collect(Collectors.toList());
 
         Set<String> tsosToKeep = new HashSet<>(activatedTsos);
@@ -210,7 +213,7 @@ class RangeActionFilter {
             return;
         }
         List<RangeAction> rangeActionsSortedByPotentialGain = rangeActions.stream()
-                .sorted((ra1, ra2) -> comparePrioritiesAndPotentialGains(ra1, ra2, leaf.getMostLimitingElements(1).get(0), leaf))
+                .sorted(this::comparePrioritiesAndPotentialGains)
                 .collect(Collectors.toList());
 
         Set<String> groupIdHasBeenExplored = new HashSet<>();
@@ -252,23 +255,32 @@ class RangeActionFilter {
      * it will be considered greater.
      * If both RAs have the same priority, then absolute sensitivities will be compared.
      */
-    private int comparePrioritiesAndPotentialGains(RangeAction ra1, RangeAction ra2, FlowCnec cnec, OptimizationResult optimizationResult) {
+    private int comparePrioritiesAndPotentialGains(RangeAction ra1, RangeAction ra2) {
         if (!leastPriorityRangeActions.contains(ra1) && leastPriorityRangeActions.contains(ra2)) {
             return -1;
         } else if (leastPriorityRangeActions.contains(ra1) && !leastPriorityRangeActions.contains(ra2)) {
             return 1;
         } else {
-            return -comparePotentialGain(ra1, ra2, cnec, optimizationResult);
+            return -comparePotentialGain(ra1, ra2);
         }
     }
 
-    private int comparePotentialGain(RangeAction ra1, RangeAction ra2, FlowCnec cnec, OptimizationResult optimizationResult) {
-        Double gain1 = computePotentialGain(ra1, cnec, optimizationResult);
-        Double gain2 = computePotentialGain(ra2, cnec, optimizationResult);
-        int comparison = gain1.compareTo(gain2);
+    private int comparePotentialGain(RangeAction ra1, RangeAction ra2) {
+        int comparison = getPotentialGain(ra1).compareTo(getPotentialGain(ra2));
         return comparison != 0 ? comparison : orderRangeActionsRandomly(ra1, ra2);
     }
 
+    private Double getPotentialGain(RangeAction rangeAction) {
+        return potentialGains.computeIfAbsent(rangeAction, ra -> computePotentialGain(ra, getMostLimitingElement(), leaf));
+    }
+
+    private FlowCnec getMostLimitingElement() {
+        if (mostLimitingElement == null) {
+            mostLimitingElement = leaf.getMostLimitingElements(1).get(0);
+        }
+        return mostLimitingElement;
+    }
+
     private Double computePotentialGain(RangeAction rangeAction, FlowCnec cnec, OptimizationResult optimizationResult) {
         double directMargin = cnec.getUpperBound(Side.LEFT, Unit.MEGAWATT).orElse(Double.POSITIVE_INFINITY) - optimizationResult.getFlow(cnec, Unit.MEGAWATT);
         double oppositeMargin = optimizationResult.getFlow(cnec, Unit.MEGAWATT) - cnec.getLowerBound(Side.LEFT, Unit.MEGAWATT).orElse(Double.NEGATIVE_INFINITY);
@@ -121,6 +121,15 @@ public class SearchTree {
         this.iteratingLinearOptimizer = searchTreeInput.getIteratingLinearOptimizer();
         setTreeParameters(treeParameters);
         this.linearOptimizerParameters = linearOptimizerParameters;
+        try {
+            return optimize();
+        } finally {
+            // the linear problems kept for the next leaves are not needed anymore once the tree has been explored
+            searchTreeProblem.releaseLinearProblems();
+        }
+    }
+
+    private CompletableFuture<OptimizationResult> optimize() {
         initLeaves();
 
         this.prePerimeterRangeActionSetPoints = new HashMap<>();
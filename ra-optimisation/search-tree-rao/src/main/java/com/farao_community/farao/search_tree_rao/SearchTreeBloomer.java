@@ -18,6 +18,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -36,6 +37,8 @@ final class SearchTreeBloomer {
     private final boolean filterFarElements;
     private final int maxNumberOfBoundariesForSkippingNetworkActions;
     private final List<NetworkActionCombination> preDefinedNaCombinations;
+    // locations of the network actions do not change during the optimization, they are computed once
+    private final Map<NetworkAction, Set<Optional<Country>>> networkActionsLocation = new ConcurrentHashMap<>();
 
     SearchTreeBloomer(Network network,
                              RangeActionResult prePerimeterRangeActionResult,
@@ -271,7 +274,7 @@ final class SearchTreeBloomer {
         if (locations.stream().anyMatch(Optional::isEmpty)) {
             return true;
         }
-        Set<Optional<Country>> networkActionCountries = networkAction.getLocation(network);
+        Set<Optional<Country>> networkActionCountries = networkActionsLocation.computeIfAbsent(networkAction, na -> na.getLocation(network));
         if (networkActionCountries.stream().anyMatch(Optional::isEmpty)) {
             return true;
         }
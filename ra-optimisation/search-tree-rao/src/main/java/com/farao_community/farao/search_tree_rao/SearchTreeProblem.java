@@ -30,6 +30,7 @@ public class SearchTreeProblem {
     protected final Set<FlowCnec> flowCnecs;
     protected final Set<FlowCnec> loopFlowCnecs;
     protected final LinearOptimizerParameters linearOptimizerParameters;
+    protected final LinearProblemTemplates linearProblemTemplates;
 
     public SearchTreeProblem(FlowResult initialFlowResult,
                              FlowResult prePerimeterFlowResult,
@@ -37,12 +38,23 @@ public class SearchTreeProblem {
                              Set<FlowCnec> flowCnecs,
                              Set<FlowCnec> loopFlowCnecs,
                              LinearOptimizerParameters linearOptimizerParameters) {
+        this(initialFlowResult, prePerimeterFlowResult, prePerimeterSetPoints, flowCnecs, loopFlowCnecs, linearOptimizerParameters, new LinearProblemTemplates());
+    }
+
+    SearchTreeProblem(FlowResult initialFlowResult,
+                      FlowResult prePerimeterFlowResult,
+                      RangeActionResult prePerimeterSetPoints,
+                      Set<FlowCnec> flowCnecs,
+                      Set<FlowCnec> loopFlowCnecs,
+                      LinearOptimizerParameters linearOptimizerParameters,
+                      LinearProblemTemplates linearProblemTemplates) {
         this.initialFlowResult = initialFlowResult;
         this.prePerimeterFlowResult = prePerimeterFlowResult;
         this.prePerimeterSetPoints = prePerimeterSetPoints;
         this.flowCnecs = flowCnecs;
         this.loopFlowCnecs = loopFlowCnecs;
         this.linearOptimizerParameters = linearOptimizerParameters;
+        this.linearProblemTemplates = linearProblemTemplates;
     }
 
     public LeafProblem getLeafProblem(Set<RangeAction> rangeActions) {
@@ -53,10 +65,18 @@ public class SearchTreeProblem {
                 flowCnecs,
                 loopFlowCnecs,
                 linearOptimizerParameters,
+                linearProblemTemplates,
                 rangeActions
         );
     }
 
+    /**
+     * Release the native memory of the linear problems kept for reuse by the leaves
+     */
+    public void releaseLinearProblems() {
+        linearProblemTemplates.clear();
+    }
+
     protected ProblemFiller createCoreProblemFiller(Network network, Set<FlowCnec> flowCnecs, Set<RangeAction> rangeActions) {
         return new CoreProblemFiller(
                 network,
@@ -65,7 +85,8 @@ public class SearchTreeProblem {
                 prePerimeterSetPoints,
                 linearOptimizerParameters.getPstSensitivityThreshold(),
                 linearOptimizerParameters.getHvdcSensitivityThreshold(),
-                linearOptimizerParameters.getObjectiveFunction().relativePositiveMargins()
+                linearOptimizerParameters.getObjectiveFunction().relativePositiveMargins(),
+                linearOptimizerParameters.getSensitivityUpdateTolerance()
         );
     }
 
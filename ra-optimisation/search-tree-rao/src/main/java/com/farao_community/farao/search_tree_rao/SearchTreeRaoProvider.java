@@ -20,6 +20,7 @@ import com.farao_community.farao.data.crac_api.usage_rule.UsageMethod;
 import com.farao_community.farao.data.rao_result_api.OptimizationState;
 import com.farao_community.farao.data.rao_result_api.RaoResult;
 import com.farao_community.farao.loopflow_computation.LoopFlowComputationWithXnodeGlskHandler;
+import com.farao_community.farao.loopflow_computation.XnodeGlskHandler;
 import com.farao_community.farao.rao_api.RaoInput;
 import com.farao_community.farao.rao_api.RaoProvider;
 import com.farao_community.farao.rao_api.parameters.*;
@@ -91,6 +92,11 @@ public class SearchTreeRaoProvider implements RaoProvider {
         ToolProvider.ToolProviderBuilder toolProviderBuilder = ToolProvider.create()
             .withNetwork(raoInput.getNetwork())
             .withRaoParameters(parameters);
+        // contingencies and GLSK do not change during the RAO, the XnodeGlskHandler is built once and shared
+        XnodeGlskHandler xnodeGlskHandler = null;
+        if (raoInput.getReferenceProgram() != null || parameters.getObjectiveFunction().relativePositiveMargins()) {
+            xnodeGlskHandler = new XnodeGlskHandler(raoInput.getGlskProvider(), raoInput.getCrac().getContingencies(), raoInput.getNetwork());
+        }
         if (raoInput.getReferenceProgram() != null) {
             toolProviderBuilder.withLoopFlowComputation(
                 raoInput.getReferenceProgram(),
@@ -98,8 +104,7 @@ public class SearchTreeRaoProvider implements RaoProvider {
                 new LoopFlowComputationWithXnodeGlskHandler(
                     raoInput.getGlskProvider(),
                     raoInput.getReferenceProgram(),
-                    raoInput.getCrac().getContingencies(),
-                    raoInput.getNetwork()
+                    xnodeGlskHandler
                 )
             );
         }
@@ -109,7 +114,7 @@ public class SearchTreeRaoProvider implements RaoProvider {
                 new AbsolutePtdfSumsComputation(
                     raoInput.getGlskProvider(),
                     parameters.getRelativeMarginPtdfBoundaries(),
-                    raoInput.getNetwork()
+                    xnodeGlskHandler
                 )
             );
         }
@@ -220,7 +225,8 @@ public class SearchTreeRaoProvider implements RaoProvider {
             .withSolver(raoParameters.getSolver())
             .withRelativeMipGap(raoParameters.getRelativeMipGap())
             .withSolverSpecificParameters(raoParameters.getSolverSpecificParameters())
-            .withPstOptimizationApproximation(raoParameters.getPstOptimizationApproximation());
+            .withPstOptimizationApproximation(raoParameters.getPstOptimizationApproximation())
+            .withSensitivityUpdateTolerance(raoParameters.getSensitivityUpdateTolerance());
 
         if (raoParameters.getObjectiveFunction() == RaoParameters.ObjectiveFunction.MAX_MIN_MARGIN_IN_AMPERE
             || raoParameters.getObjectiveFunction() == RaoParameters.ObjectiveFunction.MAX_MIN_MARGIN_IN_MEGAWATT) {
@@ -427,7 +433,7 @@ public class SearchTreeRaoProvider implements RaoProvider {
 
         // Apply network actions
         // First get forced network actions
-        Set<NetworkAction> appliedNetworkActions = crac.getNetworkActions(automatonState, UsageMethod.FORCED);
+        Set<NetworkAction> appliedNetworkActions = new HashSet<>(crac.getNetworkActions(automatonState, UsageMethod.FORCED));
         // Then add those with an OnFlowConstraint usage rule if their constraint is verified
         crac.getNetworkActions(automatonState, UsageMethod.TO_BE_EVALUATED).stream()
             .filter(na -> SearchTree.isRemedialActionAvailable(na, automatonState, prePerimeterSensitivityOutput))
@@ -442,7 +448,7 @@ public class SearchTreeRaoProvider implements RaoProvider {
         // Get curative range actions
         Set<RangeAction> curativeRangeActions = crac.getRangeActions(curativeState, UsageMethod.AVAILABLE, UsageMethod.TO_BE_EVALUATED, UsageMethod.FORCED);
         // Get cnecs
-        Set<FlowCnec> flowCnecs = crac.getFlowCnecs(automatonState);
+        Set<FlowCnec> flowCnecs = new HashSet<>(crac.getFlowCnecs(automatonState));
         flowCnecs.addAll(crac.getFlowCnecs(curativeState));
         PrePerimeterSensitivityAnalysis prePerimeterSensitivityAnalysis = new PrePerimeterSensitivityAnalysis(
             curativeRangeActions,
@@ -518,7 +524,7 @@ public class SearchTreeRaoProvider implements RaoProvider {
         searchTreeInput.setOptimizedState(optimizedState);
         searchTreeInput.setNetworkActions(crac.getNetworkActions(optimizedState, UsageMethod.AVAILABLE, UsageMethod.TO_BE_EVALUATED, UsageMethod.FORCED));
 
-        Set<RangeAction> rangeActions = crac.getRangeActions(optimizedState, UsageMethod.AVAILABLE, UsageMethod.TO_BE_EVALUATED, UsageMethod.FORCED);
+        Set<RangeAction> rangeActions = new HashSet<>(crac.getRangeActions(optimizedState, UsageMethod.AVAILABLE, UsageMethod.TO_BE_EVALUATED, UsageMethod.FORCED));
         removeRangeActionsWithWrongInitialSetpoint(rangeActions, prePerimeterOutput);
         removeAlignedRangeActionsWithDifferentInitialSetpoints(rangeActions, prePerimeterOutput);
         if (isSecondPreventiveRao) {
@@ -535,7 +541,7 @@ public class SearchTreeRaoProvider implements RaoProvider {
             toolProvider
         );
         searchTreeInput.setObjectiveFunction(objectiveFunction);
-        searchTreeInput.setIteratingLinearOptimizer(new IteratingLinearOptimizer(objectiveFunction, raoParameters.getMaxIterations(), raoParameters.getPstOptimizationApproximation()));
+        searchTreeInput.setIteratingLinearOptimizer(new IteratingLinearOptimizer(objectiveFunction, raoParameters.getMaxIterations(), raoParameters.getPstOptimizationApproximation(), raoParameters.getSolverWarmStart()));
 
         searchTreeInput.setSearchTreeProblem(new SearchTreeProblem(
             initialOutput,
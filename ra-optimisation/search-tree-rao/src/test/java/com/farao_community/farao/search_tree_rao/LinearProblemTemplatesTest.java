@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2021, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.search_tree_rao;
+
+import com.farao_community.farao.data.crac_api.range_action.RangeAction;
+import com.farao_community.farao.rao_commons.linear_optimisation.LinearProblem;
+import com.powsybl.iidm.network.Network;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+public class LinearProblemTemplatesTest {
+
+    @Test
+    public void templatesAreIndexedByNetworkAndRangeActions() {
+        Network network1 = Mockito.mock(Network.class);
+        Network network2 = Mockito.mock(Network.class);
+        RangeAction rangeAction1 = Mockito.mock(RangeAction.class);
+        RangeAction rangeAction2 = Mockito.mock(RangeAction.class);
+        LinearProblem linearProblem = Mockito.mock(LinearProblem.class);
+
+        LinearProblemTemplates templates = new LinearProblemTemplates();
+        Set<RangeAction> rangeActions = new HashSet<>(Set.of(rangeAction1, rangeAction2));
+        templates.put(network1, rangeActions, linearProblem);
+        // the key must not be affected by later modifications of the given set
+        rangeActions.remove(rangeAction2);
+
+        assertSame(linearProblem, templates.get(network1, Set.of(rangeAction1, rangeAction2)).orElseThrow());
+        assertTrue(templates.get(network1, Set.of(rangeAction1)).isEmpty());
+        assertTrue(templates.get(network2, Set.of(rangeAction1, rangeAction2)).isEmpty());
+    }
+
+    @Test
+    public void leastRecentlyUsedTemplatesAreDropped() {
+        Network network = Mockito.mock(Network.class);
+        LinearProblemTemplates templates = new LinearProblemTemplates();
+        RangeAction firstRangeAction = Mockito.mock(RangeAction.class);
+        templates.put(network, Set.of(firstRangeAction), Mockito.mock(LinearProblem.class));
+        for (int i = 0; i < 20; i++) {
+            templates.put(network, Set.of(Mockito.mock(RangeAction.class)), Mockito.mock(LinearProblem.class));
+        }
+        assertEquals(10, templates.size());
+        assertTrue(templates.get(network, Set.of(firstRangeAction)).isEmpty());
+    }
+
+    @Test
+    public void droppedTemplatesAreReleased() {
+        Network network = Mockito.mock(Network.class);
+        LinearProblemTemplates templates = new LinearProblemTemplates();
+        LinearProblem firstLinearProblem = Mockito.mock(LinearProblem.class);
+        templates.put(network, Set.of(Mockito.mock(RangeAction.class)), firstLinearProblem);
+        for (int i = 0; i < 10; i++) {
+            templates.put(network, Set.of(Mockito.mock(RangeAction.class)), Mockito.mock(LinearProblem.class));
+        }
+        Mockito.verify(firstLinearProblem).release();
+
+        LinearProblem otherNetworkLinearProblem = Mockito.mock(LinearProblem.class);
+        templates.put(Mockito.mock(Network.class), Set.of(Mockito.mock(RangeAction.class)), otherNetworkLinearProblem);
+        templates.clear();
+        Mockito.verify(otherNetworkLinearProblem).release();
+        assertEquals(0, templates.size());
+    }
+}
@@ -299,6 +299,25 @@ public class RangeActionFilterTest {
         assertEquals(Set.of(pstfr1, pstfr3), filteredRangeActions);
     }
 
+    @Test
+    public void testPotentialGainsAreComputedOncePerFilter() {
+        for (int i = 0; i < 20; i++) {
+            addPstRangeAction("fr", 0, 0, i);
+        }
+        setTreeParameters(5, 1, Map.of("fr", 10), new HashMap<>());
+
+        rangeActionFilter = new RangeActionFilter(leaf, availableRangeActions, Mockito.mock(State.class), treeParameters, prePerimeterSetPoints, false);
+        rangeActionFilter.filterPstPerTso();
+        rangeActionFilter.filterTsos();
+        rangeActionFilter.filterMaxRas();
+        assertEquals(5, rangeActionFilter.getRangeActionsToOptimize().size());
+
+        Mockito.verify(leaf, Mockito.times(1)).getMostLimitingElements(1);
+        for (RangeAction rangeAction : availableRangeActions) {
+            Mockito.verify(leaf, Mockito.atMost(1)).getSensitivityValue(cnec, rangeAction, Unit.MEGAWATT);
+        }
+    }
+
     @Test
     public void testFilterMaxRasWithAlignedPsts() {
         // We can only keep 3 psts because one network action was activated
@@ -386,6 +386,9 @@ public class SearchTreeBloomerTest {
         assertFalse(bloomer.isNetworkActionCloseToLocations(na1, Set.of(Optional.of(Country.DE)), countryGraph));
         assertFalse(bloomer.isNetworkActionCloseToLocations(na1, Set.of(Optional.of(Country.AT)), countryGraph));
         assertTrue(bloomer.isNetworkActionCloseToLocations(na2, Set.of(Optional.of(Country.AT)), countryGraph));
+        assertTrue(bloomer.isNetworkActionCloseToLocations(na2, Set.of(Optional.of(Country.BE)), countryGraph));
+        // the location of the network action is only computed once
+        Mockito.verify(na2, Mockito.times(1)).getLocation(network);
 
         bloomer = new SearchTreeBloomer(network, mock(RangeActionResult.class), 0, Integer.MAX_VALUE, null, null, true, 1, new ArrayList<>());
         assertTrue(bloomer.isNetworkActionCloseToLocations(na1, Set.of(Optional.of(Country.DE)), countryGraph));
@@ -243,6 +243,7 @@ public class SearchTreeRaoProviderTest {
         raoParameters.setRaoWithLoopFlowLimitation(false);
         raoParameters.setMnecViolationCost(0);
         raoParameters.setPstSensitivityThreshold(0.45);
+        raoParameters.setSensitivityUpdateTolerance(0.01);
 
         LinearOptimizerParameters linearOptimizerParameters = SearchTreeRaoProvider.createPreventiveLinearOptimizerParameters(raoParameters);
         assertNotNull(linearOptimizerParameters);
@@ -252,6 +253,7 @@ public class SearchTreeRaoProviderTest {
         assertNull(linearOptimizerParameters.getMaxMinRelativeMarginParameters());
         assertFalse(linearOptimizerParameters.hasRelativeMargins());
         assertEquals(0.45, linearOptimizerParameters.getPstSensitivityThreshold(), DOUBLE_TOLERANCE);
+        assertEquals(0.01, linearOptimizerParameters.getSensitivityUpdateTolerance(), DOUBLE_TOLERANCE);
         assertFalse(linearOptimizerParameters.isRaoWithLoopFlowLimitation());
         assertNull(linearOptimizerParameters.getLoopFlowParameters());
         assertFalse(linearOptimizerParameters.isRaoWithMnecLimitation());
@@ -13,10 +13,7 @@ import com.farao_community.farao.data.crac_api.network_action.NetworkAction;
 import com.farao_community.farao.data.crac_api.range_action.RangeAction;
 import com.powsybl.iidm.network.Network;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
 
 /**
  * @author Baptiste Seguinot {@literal <baptiste.seguinot at rte-france.com>}
@@ -28,6 +25,23 @@ public class AppliedRemedialActions {
     private class AppliedRemedialActionsPerState {
         private Set<NetworkAction> networkActions = new HashSet<>();
         private Map<RangeAction, Double> rangeActions = new HashMap<>();
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            AppliedRemedialActionsPerState other = (AppliedRemedialActionsPerState) o;
+            return networkActions.equals(other.networkActions) && rangeActions.equals(other.rangeActions);
+        }
+
+        @Override
+        public int hashCode() {
+            return networkActions.hashCode() * 31 + rangeActions.hashCode();
+        }
     }
 
     public void addAppliedNetworkAction(State state, NetworkAction networkAction) {
@@ -66,6 +80,17 @@ public class AppliedRemedialActions {
         return appliedRa.keySet();
     }
 
+    /**
+     * Get the states with remedial actions, grouped by identical sets of applied remedial actions.
+     * All the states of a group lead to the same network situation once their remedial actions are
+     * applied, and can therefore be handled within one single computation.
+     */
+    public Collection<Set<State>> getStatesWithRaGroupedByAppliedRa() {
+        Map<AppliedRemedialActionsPerState, Set<State>> statesPerAppliedRa = new HashMap<>();
+        appliedRa.forEach((state, appliedRaPerState) -> statesPerAppliedRa.computeIfAbsent(appliedRaPerState, k -> new HashSet<>()).add(state));
+        return statesPerAppliedRa.values();
+    }
+
     public void applyOnNetwork(State state, Network network) {
         if (appliedRa.containsKey(state)) {
             appliedRa.get(state).rangeActions.forEach((rangeAction, setPoint) -> rangeAction.apply(network, setPoint));
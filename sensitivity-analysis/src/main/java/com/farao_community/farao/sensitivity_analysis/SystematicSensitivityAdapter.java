@@ -10,6 +10,7 @@ import com.farao_community.farao.commons.FaraoException;
 import com.farao_community.farao.commons.RandomizedString;
 import com.farao_community.farao.data.crac_api.State;
 import com.farao_community.farao.data.crac_api.cnec.Cnec;
+import com.farao_community.farao.util.FaraoVariantsPool;
 import com.powsybl.contingency.Contingency;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.sensitivity.*;
@@ -17,6 +18,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinTask;
 import java.util.stream.Collectors;
 
 import static com.farao_community.farao.sensitivity_analysis.SensitivityAnalysisUtil.convertCracContingencyToPowsybl;
@@ -44,6 +47,14 @@ final class SystematicSensitivityAdapter {
                                                       CnecSensitivityProvider cnecSensitivityProvider,
                                                       AppliedRemedialActions appliedRemedialActions,
                                                       SensitivityAnalysisParameters sensitivityComputationParameters) {
+        return runSensitivity(network, cnecSensitivityProvider, appliedRemedialActions, sensitivityComputationParameters, 1);
+    }
+
+    static SystematicSensitivityResult runSensitivity(Network network,
+                                                      CnecSensitivityProvider cnecSensitivityProvider,
+                                                      AppliedRemedialActions appliedRemedialActions,
+                                                      SensitivityAnalysisParameters sensitivityComputationParameters,
+                                                      int statesWithRaInParallel) {
 
         if (appliedRemedialActions == null || appliedRemedialActions.isEmpty()) {
             return runSensitivity(network, cnecSensitivityProvider, sensitivityComputationParameters);
@@ -52,11 +63,17 @@ final class SystematicSensitivityAdapter {
         LOGGER.debug("Systematic sensitivity analysis with applied RA [start]");
 
         Set<State> statesWithRa = appliedRemedialActions.getStatesWithRa();
+        if (statesWithRa.stream().anyMatch(state -> state.getContingency().isEmpty())) {
+            throw new FaraoException("Sensitivity analysis with applied RA does not handled preventive RA.");
+        }
         Set<State> statesWithoutRa = cnecSensitivityProvider.getFlowCnecs().stream().map(Cnec::getState).collect(Collectors.toSet());
         statesWithoutRa.removeAll(statesWithRa);
 
+        // states sharing the same applied RA are handled within the same systematic analysis
+        List<Set<State>> statesGroupedByAppliedRa = new ArrayList<>(appliedRemedialActions.getStatesWithRaGroupedByAppliedRa());
+
         // systematic analysis for states without RA
-        LOGGER.debug("... (1/{}) {} state(s) without RA ", statesWithRa.size() + 1, statesWithoutRa.size());
+        LOGGER.debug("... (1/{}) {} state(s) without RA ", statesGroupedByAppliedRa.size() + 1, statesWithoutRa.size());
 
         List<Contingency> contingenciesWithoutRa = statesWithoutRa.stream()
             .filter(state -> state.getContingency().isPresent())
@@ -68,34 +85,88 @@ final class SystematicSensitivityAdapter {
 
         // systematic analyses for states with RA
         cnecSensitivityProvider.disableFactorsForBaseCaseSituation();
-        String workingVariantId = network.getVariantManager().getWorkingVariantId();
-        int counterForLogs = 2;
-        for (State state : appliedRemedialActions.getStatesWithRa()) {
-
-            Optional<com.farao_community.farao.data.crac_api.Contingency> optContingency = state.getContingency();
-
-            if (optContingency.isEmpty()) {
-                throw new FaraoException("Sensitivity analysis with applied RA does not handled preventive RA.");
-            }
-
-            LOGGER.debug("... ({}/{}) curative state {}", counterForLogs, appliedRemedialActions.getStatesWithRa().size() + 1, optContingency.get().getId());
+        if (statesWithRaInParallel > 1 && statesGroupedByAppliedRa.size() > 1) {
+            runSensitivityForStatesWithRaInParallel(network, cnecSensitivityProvider, appliedRemedialActions, statesGroupedByAppliedRa,
+                sensitivityComputationParameters, Math.min(statesWithRaInParallel, statesGroupedByAppliedRa.size()), result);
+        } else {
+            runSensitivityForStatesWithRa(network, cnecSensitivityProvider, appliedRemedialActions, statesGroupedByAppliedRa, sensitivityComputationParameters, result);
+        }
 
-            String variantForState = RandomizedString.getRandomizedString();
-            network.getVariantManager().cloneVariant(workingVariantId, variantForState);
-            network.getVariantManager().setWorkingVariant(variantForState);
+        LOGGER.debug("Systematic sensitivity analysis with applied RA [end]");
 
-            appliedRemedialActions.applyOnNetwork(state, network);
+        return result.postTreatIntensities();
+    }
 
-            List<Contingency> contingencyList = Collections.singletonList(convertCracContingencyToPowsybl(optContingency.get(), network));
+    private static void runSensitivityForStatesWithRa(Network network,
+                                                      CnecSensitivityProvider cnecSensitivityProvider,
+                                                      AppliedRemedialActions appliedRemedialActions,
+                                                      List<Set<State>> statesGroupedByAppliedRa,
+                                                      SensitivityAnalysisParameters sensitivityComputationParameters,
+                                                      SystematicSensitivityResult result) {
+        String workingVariantId = network.getVariantManager().getWorkingVariantId();
+        int counterForLogs = 2;
+        for (Set<State> states : statesGroupedByAppliedRa) {
+            LOGGER.debug("... ({}/{}) {} curative state(s) with the same RA", counterForLogs, statesGroupedByAppliedRa.size() + 1, states.size());
 
-            result.completeData(SensitivityAnalysis.run(network, variantForState, cnecSensitivityProvider, contingencyList, sensitivityComputationParameters), true);
-            network.getVariantManager().removeVariant(variantForState);
+            String variantForStates = RandomizedString.getRandomizedString();
+            network.getVariantManager().cloneVariant(workingVariantId, variantForStates);
+            runSensitivityForStatesWithSameRa(network, variantForStates, cnecSensitivityProvider, appliedRemedialActions, states, sensitivityComputationParameters, result);
+            network.getVariantManager().removeVariant(variantForStates);
             counterForLogs++;
         }
+        network.getVariantManager().setWorkingVariant(workingVariantId);
+    }
 
-        LOGGER.debug("Systematic sensitivity analysis with applied RA [end]");
+    private static void runSensitivityForStatesWithRaInParallel(Network network,
+                                                                CnecSensitivityProvider cnecSensitivityProvider,
+                                                                AppliedRemedialActions appliedRemedialActions,
+                                                                List<Set<State>> statesGroupedByAppliedRa,
+                                                                SensitivityAnalysisParameters sensitivityComputationParameters,
+                                                                int parallelism,
+                                                                SystematicSensitivityResult result) {
+        LOGGER.debug("... {} group(s) of curative states with the same RA, {} in parallel", statesGroupedByAppliedRa.size(), parallelism);
+        String workingVariantId = network.getVariantManager().getWorkingVariantId();
+        boolean wasMultiThreadAccessAllowed = network.getVariantManager().isVariantMultiThreadAccessAllowed();
+        try (FaraoVariantsPool variantsPool = new FaraoVariantsPool(network, workingVariantId, parallelism)) {
+            List<ForkJoinTask<?>> tasks = statesGroupedByAppliedRa.stream()
+                .map(states -> variantsPool.submit(() -> {
+                    String variantForStates = variantsPool.getAvailableVariant();
+                    try {
+                        runSensitivityForStatesWithSameRa(network, variantForStates, cnecSensitivityProvider, appliedRemedialActions, states, sensitivityComputationParameters, result);
+                    } finally {
+                        variantsPool.releaseUsedVariant(variantForStates);
+                    }
+                    return null;
+                }))
+                .collect(Collectors.toList());
+            for (ForkJoinTask<?> task : tasks) {
+                task.get();
+            }
+        } catch (ExecutionException e) {
+            throw new SensitivityAnalysisException("Sensitivity analysis failed on a curative state with applied RA.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SensitivityAnalysisException("Sensitivity analysis on curative states with applied RA was interrupted.", e);
+        } finally {
+            network.getVariantManager().allowVariantMultiThreadAccess(wasMultiThreadAccessAllowed);
+            network.getVariantManager().setWorkingVariant(workingVariantId);
+        }
+    }
 
-        network.getVariantManager().setWorkingVariant(workingVariantId);
-        return result.postTreatIntensities();
+    private static void runSensitivityForStatesWithSameRa(Network network,
+                                                          String variantForStates,
+                                                          CnecSensitivityProvider cnecSensitivityProvider,
+                                                          AppliedRemedialActions appliedRemedialActions,
+                                                          Set<State> states,
+                                                          SensitivityAnalysisParameters sensitivityComputationParameters,
+                                                          SystematicSensitivityResult result) {
+        network.getVariantManager().setWorkingVariant(variantForStates);
+        appliedRemedialActions.applyOnNetwork(states.iterator().next(), network);
+
+        List<Contingency> contingencyList = states.stream()
+            .map(state -> convertCracContingencyToPowsybl(state.getContingency().orElseThrow(), network))
+            .collect(Collectors.toList());
+
+        result.completeData(SensitivityAnalysis.run(network, variantForStates, cnecSensitivityProvider, contingencyList, sensitivityComputationParameters), true);
     }
 }
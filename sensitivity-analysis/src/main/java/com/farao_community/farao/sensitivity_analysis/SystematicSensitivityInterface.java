@@ -55,6 +55,12 @@ public final class SystematicSensitivityInterface {
      */
     private AppliedRemedialActions appliedRemedialActions;
 
+    /**
+     * The number of curative states with applied remedial actions whose sensitivity analyses
+     * can be run in parallel
+     */
+    private int statesWithRaInParallel = 1;
+
     /**
      * Builder
      */
@@ -63,6 +69,7 @@ public final class SystematicSensitivityInterface {
         private SensitivityAnalysisParameters fallbackParameters;
         private MultipleSensitivityProvider multipleSensitivityProvider = new MultipleSensitivityProvider();
         private AppliedRemedialActions appliedRemedialActions;
+        private int statesWithRaInParallel = 1;
         private boolean providerInitialised = false;
 
         private SystematicSensitivityInterfaceBuilder() {
@@ -102,6 +109,11 @@ public final class SystematicSensitivityInterface {
             return this;
         }
 
+        public SystematicSensitivityInterfaceBuilder withStatesWithRaInParallel(int statesWithRaInParallel) {
+            this.statesWithRaInParallel = statesWithRaInParallel;
+            return this;
+        }
+
         public SystematicSensitivityInterface build() {
 
             if (!providerInitialised) {
@@ -115,6 +127,7 @@ public final class SystematicSensitivityInterface {
             systematicSensitivityInterface.fallbackParameters = fallbackParameters;
             systematicSensitivityInterface.cnecSensitivityProvider = multipleSensitivityProvider;
             systematicSensitivityInterface.appliedRemedialActions = appliedRemedialActions;
+            systematicSensitivityInterface.statesWithRaInParallel = statesWithRaInParallel;
             return systematicSensitivityInterface;
         }
     }
@@ -182,7 +195,7 @@ public final class SystematicSensitivityInterface {
     private SystematicSensitivityResult runWithConfig(Network network, SensitivityAnalysisParameters sensitivityAnalysisParameters) {
         try {
             SystematicSensitivityResult tempSystematicSensitivityAnalysisResult = SystematicSensitivityAdapter
-                .runSensitivity(network, cnecSensitivityProvider, appliedRemedialActions, sensitivityAnalysisParameters);
+                .runSensitivity(network, cnecSensitivityProvider, appliedRemedialActions, sensitivityAnalysisParameters, statesWithRaInParallel);
 
             if (!tempSystematicSensitivityAnalysisResult.isSuccess()) {
                 throw new SensitivityAnalysisException("Some output data of the sensitivity analysis are missing.");
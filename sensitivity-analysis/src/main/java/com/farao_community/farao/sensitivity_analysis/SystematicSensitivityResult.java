@@ -6,6 +6,7 @@
  */
 package com.farao_community.farao.sensitivity_analysis;
 
+import com.farao_community.farao.commons.FaraoException;
 import com.farao_community.farao.data.crac_api.Contingency;
 import com.farao_community.farao.data.crac_api.Instant;
 import com.farao_community.farao.data.crac_api.NetworkElement;
@@ -17,36 +18,90 @@ import com.powsybl.sensitivity.factors.functions.BranchFlow;
 import com.powsybl.sensitivity.factors.functions.BranchIntensity;
 import com.powsybl.sensitivity.factors.variables.LinearGlsk;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Optional;
-import java.util.Set;
+import java.util.*;
 
 /**
  * @author Pengbo Wang {@literal <pengbo.wang at rte-international.com>}
  */
 public class SystematicSensitivityResult {
 
-    private static class StateResult {
-        private final Map<String, Double> referenceFlows = new HashMap<>();
-        private final Map<String, Double> referenceIntensities = new HashMap<>();
-        private final Map<String, Map<String, Double>> flowSensitivities = new HashMap<>();
-        private final Map<String, Map<String, Double>> intensitySensitivities = new HashMap<>();
+    private static final int NOT_INDEXED = -1;
 
-        private Map<String, Double> getReferenceFlows() {
-            return referenceFlows;
+    /**
+     * Results of one sensitivity function (i.e. one network element) in one state. Sensitivities are
+     * indexed by the index of their variable.
+     *
+     * As a value can legitimately be NaN, the presence of each reference value and of each
+     * sensitivity is tracked separately. Only the first value given for a function, or for a
+     * couple of function and variable, is kept.
+     */
+    private static final class FunctionResult {
+        private double referenceFlow;
+        private double referenceIntensity;
+        private boolean hasReferenceFlow;
+        private boolean hasReferenceIntensity;
+        private double[] flowSensitivities;
+        private double[] intensitySensitivities;
+        private final BitSet hasFlowSensitivity = new BitSet();
+        private final BitSet hasIntensitySensitivity = new BitSet();
+
+        private FunctionResult(int variableCount) {
+            flowSensitivities = new double[variableCount];
+            intensitySensitivities = new double[variableCount];
+        }
+
+        private void fillReferenceFlowIfAbsent(double reference) {
+            if (!hasReferenceFlow) {
+                referenceFlow = reference;
+                hasReferenceFlow = true;
+            }
         }
 
-        private Map<String, Double> getReferenceIntensities() {
-            return referenceIntensities;
+        private void fillReferenceIntensityIfAbsent(double reference) {
+            if (!hasReferenceIntensity) {
+                referenceIntensity = reference;
+                hasReferenceIntensity = true;
+            }
+        }
+
+        private void fillFlowSensitivityIfAbsent(int variableIndex, double sensitivity) {
+            if (!hasFlowSensitivity.get(variableIndex)) {
+                flowSensitivities = ensureCapacity(flowSensitivities, variableIndex);
+                flowSensitivities[variableIndex] = sensitivity;
+                hasFlowSensitivity.set(variableIndex);
+            }
+        }
+
+        private void fillIntensitySensitivityIfAbsent(int variableIndex, double sensitivity) {
+            if (!hasIntensitySensitivity.get(variableIndex)) {
+                intensitySensitivities = ensureCapacity(intensitySensitivities, variableIndex);
+                intensitySensitivities[variableIndex] = sensitivity;
+                hasIntensitySensitivity.set(variableIndex);
+            }
         }
 
-        private Map<String, Map<String, Double>> getFlowSensitivities() {
-            return flowSensitivities;
+        private static double[] ensureCapacity(double[] values, int index) {
+            return index < values.length ? values : Arrays.copyOf(values, index + 1);
         }
 
-        private Map<String, Map<String, Double>> getIntensitySensitivities() {
-            return intensitySensitivities;
+        private static double getValue(double[] values, BitSet isPresent, int variableIndex) {
+            return variableIndex != NOT_INDEXED && isPresent.get(variableIndex) ? values[variableIndex] : 0.0;
+        }
+    }
+
+    /**
+     * Results of one state. A state only holds the results of the functions it monitors, indexed by the
+     * index of their function, so that its footprint does not depend on the functions of the other states.
+     */
+    private static final class StateResult {
+        private final Map<Integer, FunctionResult> functionResults = new HashMap<>();
+
+        private FunctionResult getOrCreateFunctionResult(int functionIndex, int variableCount) {
+            return functionResults.computeIfAbsent(functionIndex, index -> new FunctionResult(variableCount));
+        }
+
+        private FunctionResult getFunctionResult(int functionIndex) {
+            return functionResults.get(functionIndex);
         }
     }
 
@@ -57,6 +112,14 @@ public class SystematicSensitivityResult {
     }
 
     private SensitivityComputationStatus status;
+
+    /*
+     Ids of the sensitivity functions and variables are interned once into dense indices, shared by all the
+     states of the result, so that the sensitivities of each function can be stored in primitive arrays.
+     */
+    private final Map<String, Integer> functionIndices = new HashMap<>();
+    private final Map<String, Integer> variableIndices = new HashMap<>();
+
     private final StateResult nStateResult = new StateResult();
     private final Map<String, StateResult> postContingencyResults = new HashMap<>();
     private final Map<String, StateResult> postCraResults = new HashMap<>();
@@ -65,13 +128,20 @@ public class SystematicSensitivityResult {
         this.status = SensitivityComputationStatus.SUCCESS;
     }
 
-    public SystematicSensitivityResult completeData(SensitivityAnalysisResult results, boolean afterCra) {
+    /**
+     * Complete the result with the values of a sensitivity analysis. This method is synchronized so that
+     * the results of several analyses run in parallel can be merged into the same object.
+     */
+    public synchronized SystematicSensitivityResult completeData(SensitivityAnalysisResult results, boolean afterCra) {
 
         if (results == null || !results.isOk()) {
             this.status = SensitivityComputationStatus.FAILURE;
             return this;
         }
 
+        results.getSensitivityValues().forEach(this::indexValue);
+        results.getSensitivityValuesContingencies().values().forEach(sensitivityValues -> sensitivityValues.forEach(this::indexValue));
+
         Map<String, StateResult> contingencyResultsToFill = afterCra ? postCraResults : postContingencyResults;
         results.getSensitivityValues().forEach(sensitivityValue -> fillIndividualValue(sensitivityValue, nStateResult));
         results.getSensitivityValuesContingencies().forEach((contingencyId, sensitivityValues) -> {
@@ -91,16 +161,20 @@ public class SystematicSensitivityResult {
     }
 
     private void postTreatIntensitiesOnState(StateResult stateResult) {
-        stateResult.getReferenceIntensities().forEach((cnecId, value) -> {
-            if (stateResult.getReferenceFlows().containsKey(cnecId) && stateResult.getReferenceFlows().get(cnecId) < 0) {
-                stateResult.getReferenceIntensities().put(cnecId, -value);
-            }
-        });
-        stateResult.getIntensitySensitivities().forEach((cnecId, sensitivities) -> {
-            if (stateResult.getReferenceFlows().containsKey(cnecId) && stateResult.getReferenceFlows().get(cnecId) < 0) {
-                sensitivities.forEach((actionId, sensi) -> sensitivities.put(actionId, -sensi));
+        for (FunctionResult functionResult : stateResult.functionResults.values()) {
+            if (functionResult.hasReferenceFlow && functionResult.referenceFlow < 0) {
+                functionResult.referenceIntensity = -functionResult.referenceIntensity;
+                double[] sensitivities = functionResult.intensitySensitivities;
+                for (int variableIndex = 0; variableIndex < sensitivities.length; variableIndex++) {
+                    sensitivities[variableIndex] = -sensitivities[variableIndex];
+                }
             }
-        });
+        }
+    }
+
+    private void indexValue(SensitivityValue value) {
+        functionIndices.computeIfAbsent(value.getFactor().getFunction().getId(), id -> functionIndices.size());
+        variableIndices.computeIfAbsent(value.getFactor().getVariable().getId(), id -> variableIndices.size());
     }
 
     private void fillIndividualValue(SensitivityValue value, StateResult stateResult) {
@@ -111,14 +185,17 @@ public class SystematicSensitivityResult {
             reference = 0.;
         }
 
+        int functionIndex = functionIndices.get(value.getFactor().getFunction().getId());
+        int variableIndex = variableIndices.get(value.getFactor().getVariable().getId());
+
         if (value.getFactor().getFunction() instanceof BranchFlow) {
-            stateResult.getReferenceFlows().putIfAbsent(value.getFactor().getFunction().getId(), reference);
-            stateResult.getFlowSensitivities().computeIfAbsent(value.getFactor().getFunction().getId(), k -> new HashMap<>())
-                .putIfAbsent(value.getFactor().getVariable().getId(), sensitivity);
+            FunctionResult functionResult = stateResult.getOrCreateFunctionResult(functionIndex, variableIndices.size());
+            functionResult.fillReferenceFlowIfAbsent(reference);
+            functionResult.fillFlowSensitivityIfAbsent(variableIndex, sensitivity);
         } else if (value.getFactor().getFunction() instanceof BranchIntensity) {
-            stateResult.getReferenceIntensities().putIfAbsent(value.getFactor().getFunction().getId(), reference);
-            stateResult.getIntensitySensitivities().computeIfAbsent(value.getFactor().getFunction().getId(), k -> new HashMap<>())
-                .putIfAbsent(value.getFactor().getVariable().getId(), sensitivity);
+            FunctionResult functionResult = stateResult.getOrCreateFunctionResult(functionIndex, variableIndices.size());
+            functionResult.fillReferenceIntensityIfAbsent(reference);
+            functionResult.fillIntensitySensitivityIfAbsent(variableIndex, sensitivity);
         }
     }
 
@@ -135,29 +212,31 @@ public class SystematicSensitivityResult {
     }
 
     public double getReferenceFlow(Cnec<?> cnec) {
-        StateResult stateResult = getCnecStateResult(cnec);
-        if (stateResult == null) {
+        FunctionResult functionResult = getCnecFunctionResult(cnec);
+        if (functionResult == null || !functionResult.hasReferenceFlow) {
             return 0.0;
         }
-        return stateResult.getReferenceFlows().getOrDefault(cnec.getNetworkElement().getId(), 0.0);
+        return functionResult.referenceFlow;
     }
 
     public double getReferenceIntensity(Cnec<?> cnec) {
-        StateResult stateResult = getCnecStateResult(cnec);
-        if (stateResult == null) {
+        FunctionResult functionResult = getCnecFunctionResult(cnec);
+        if (functionResult == null || !functionResult.hasReferenceIntensity) {
             return 0.0;
         }
-        return stateResult.getReferenceIntensities().getOrDefault(cnec.getNetworkElement().getId(), 0.0);
+        return functionResult.referenceIntensity;
     }
 
     public double getSensitivityOnFlow(RangeAction rangeAction, Cnec<?> cnec) {
-        StateResult stateResult = getCnecStateResult(cnec);
-        Set<NetworkElement> networkElements = rangeAction.getNetworkElements();
-        if (stateResult == null || !stateResult.getFlowSensitivities().containsKey(cnec.getNetworkElement().getId())) {
+        FunctionResult functionResult = getCnecFunctionResult(cnec);
+        if (functionResult == null) {
             return 0.0;
         }
-        Map<String, Double> sensitivities = stateResult.getFlowSensitivities().get(cnec.getNetworkElement().getId());
-        return networkElements.stream().mapToDouble(netEl -> sensitivities.getOrDefault(netEl.getId(), 0.0)).sum();
+        double sensitivity = 0.0;
+        for (NetworkElement networkElement : rangeAction.getNetworkElements()) {
+            sensitivity += FunctionResult.getValue(functionResult.flowSensitivities, functionResult.hasFlowSensitivity, getVariableIndex(networkElement.getId()));
+        }
+        return sensitivity;
     }
 
     public double getSensitivityOnFlow(LinearGlsk glsk, Cnec<?> cnec) {
@@ -165,24 +244,40 @@ public class SystematicSensitivityResult {
     }
 
     public double getSensitivityOnFlow(String variableId, Cnec<?> cnec) {
-        StateResult stateResult = getCnecStateResult(cnec);
-        if (stateResult == null ||
-            !stateResult.getFlowSensitivities().containsKey(cnec.getNetworkElement().getId()) ||
-            !stateResult.getFlowSensitivities().get(cnec.getNetworkElement().getId()).containsKey(variableId)) {
+        FunctionResult functionResult = getCnecFunctionResult(cnec);
+        if (functionResult == null) {
             return 0.0;
         }
-        Map<String, Double> sensitivities = stateResult.getFlowSensitivities().get(cnec.getNetworkElement().getId());
-        return sensitivities.getOrDefault(variableId, 0.0);
+        return FunctionResult.getValue(functionResult.flowSensitivities, functionResult.hasFlowSensitivity, getVariableIndex(variableId));
     }
 
     public double getSensitivityOnIntensity(RangeAction rangeAction, Cnec<?> cnec) {
-        StateResult stateResult = getCnecStateResult(cnec);
-        Set<NetworkElement> networkElements = rangeAction.getNetworkElements();
-        if (stateResult == null || !stateResult.getIntensitySensitivities().containsKey(cnec.getNetworkElement().getId())) {
+        FunctionResult functionResult = getCnecFunctionResult(cnec);
+        if (functionResult == null || !functionResult.hasReferenceIntensity) {
             return 0.0;
         }
-        Map<String, Double> sensitivities = stateResult.getIntensitySensitivities().get(cnec.getNetworkElement().getId());
-        return networkElements.stream().mapToDouble(netEl -> sensitivities.get(netEl.getId())).sum();
+        double sensitivity = 0.0;
+        for (NetworkElement networkElement : rangeAction.getNetworkElements()) {
+            int variableIndex = getVariableIndex(networkElement.getId());
+            if (variableIndex == NOT_INDEXED || !functionResult.hasIntensitySensitivity.get(variableIndex)) {
+                throw new FaraoException(String.format("Sensitivity of the intensity on %s with respect to %s has not been computed", cnec.getNetworkElement().getId(), networkElement.getId()));
+            }
+            sensitivity += functionResult.intensitySensitivities[variableIndex];
+        }
+        return sensitivity;
+    }
+
+    private FunctionResult getCnecFunctionResult(Cnec<?> cnec) {
+        StateResult stateResult = getCnecStateResult(cnec);
+        return stateResult == null ? null : stateResult.getFunctionResult(getFunctionIndex(cnec));
+    }
+
+    private int getFunctionIndex(Cnec<?> cnec) {
+        return functionIndices.getOrDefault(cnec.getNetworkElement().getId(), NOT_INDEXED);
+    }
+
+    private int getVariableIndex(String variableId) {
+        return variableIndices.getOrDefault(variableId, NOT_INDEXED);
     }
 
     private StateResult getCnecStateResult(Cnec<?> cnec) {
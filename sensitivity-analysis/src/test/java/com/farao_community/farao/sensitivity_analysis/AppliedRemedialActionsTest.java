@@ -9,6 +9,7 @@ package com.farao_community.farao.sensitivity_analysis;
 import com.farao_community.farao.commons.FaraoException;
 import com.farao_community.farao.data.crac_api.Crac;
 import com.farao_community.farao.data.crac_api.Instant;
+import com.farao_community.farao.data.crac_api.State;
 import com.farao_community.farao.data.crac_api.network_action.ActionType;
 import com.farao_community.farao.data.crac_api.network_action.NetworkAction;
 import com.farao_community.farao.data.crac_api.range_action.PstRangeAction;
@@ -19,6 +20,8 @@ import com.powsybl.iidm.network.Network;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Set;
+
 import static org.junit.Assert.*;
 
 /**
@@ -85,6 +88,28 @@ public class AppliedRemedialActionsTest {
         assertEquals(0, network.getTwoWindingsTransformer("BBE2AA1  BBE3AA1  1").getPhaseTapChanger().getTapPosition(), 0);
     }
 
+    @Test
+    public void testStatesGroupedByAppliedRa() {
+        State stateFr1Fr3 = crac.getState("Contingency FR1 FR3", Instant.CURATIVE);
+        State stateFr1Fr2 = crac.getState("Contingency FR1 FR2", Instant.CURATIVE);
+        AppliedRemedialActions appliedRemedialActions = new AppliedRemedialActions();
+        appliedRemedialActions.addAppliedNetworkAction(stateFr1Fr3, networkAction);
+        appliedRemedialActions.addAppliedRangeAction(stateFr1Fr3, pstRangeAction, 3.2);
+        appliedRemedialActions.addAppliedRangeAction(stateFr1Fr2, pstRangeAction, 3.2);
+
+        // different network actions, two groups
+        assertEquals(2, appliedRemedialActions.getStatesWithRaGroupedByAppliedRa().size());
+
+        // same remedial actions, one group
+        appliedRemedialActions.addAppliedNetworkAction(stateFr1Fr2, networkAction);
+        assertEquals(1, appliedRemedialActions.getStatesWithRaGroupedByAppliedRa().size());
+        assertEquals(Set.of(stateFr1Fr3, stateFr1Fr2), appliedRemedialActions.getStatesWithRaGroupedByAppliedRa().iterator().next());
+
+        // different setpoints, two groups
+        appliedRemedialActions.addAppliedRangeAction(stateFr1Fr2, pstRangeAction, 2.1);
+        assertEquals(2, appliedRemedialActions.getStatesWithRaGroupedByAppliedRa().size());
+    }
+
     @Test
     public void testEmptyAppliedRemedialActions() {
         AppliedRemedialActions appliedRemedialActions = new AppliedRemedialActions();
@@ -19,6 +19,7 @@ import org.junit.Test;
 import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
 /**
  * @author Sebastien Murgey {@literal <sebastien.murgey at rte-france.com>}
@@ -95,4 +96,33 @@ public class SystematicSensitivityAdapterTest {
         assertEquals(-200, result.getReferenceIntensity(crac.getFlowCnec("cnec2stateOutageContingency1")), 1e-3);
         assertEquals(-5, result.getSensitivityOnFlow(crac.getRangeAction("pst"), crac.getCnec("cnec2stateOutageContingency1")), 1e-3);
     }
+
+    @Test
+    public void testWithAppliedRaInParallel() {
+        Network network = NetworkImportsUtil.import12NodesNetwork();
+        Crac crac = CommonCracCreation.createWithPreventivePstRange();
+        RangeActionSensitivityProvider factorProvider = new RangeActionSensitivityProvider(crac.getRangeActions(), crac.getFlowCnecs(), Set.of(Unit.MEGAWATT, Unit.AMPERE));
+        AppliedRemedialActions appliedRemedialActions = new AppliedRemedialActions();
+        appliedRemedialActions.addAppliedRangeAction(crac.getState("Contingency FR1 FR3", Instant.CURATIVE), crac.getPstRangeAction("pst"), -3.1);
+        appliedRemedialActions.addAppliedRangeAction(crac.getState("Contingency FR1 FR2", Instant.CURATIVE), crac.getPstRangeAction("pst"), 2.4);
+        String initialVariant = network.getVariantManager().getWorkingVariantId();
+
+        SystematicSensitivityResult result = SystematicSensitivityAdapter.runSensitivity(network, factorProvider, appliedRemedialActions, new SensitivityAnalysisParameters(), 2);
+
+        // after initial state, "standard results" of the MockSensiProvider are expected
+        assertEquals(10, result.getReferenceFlow(crac.getFlowCnec("cnec2basecase")), 1e-3);
+        assertEquals(0.5, result.getSensitivityOnFlow(crac.getRangeAction("pst"), crac.getCnec("cnec2basecase")), 1e-3);
+
+        // after both contingencies with CRA, "alternative" results of the MockSensiProvider are expected
+        assertEquals(-40, result.getReferenceFlow(crac.getFlowCnec("cnec2stateCurativeContingency1")), 1e-3);
+        assertEquals(-180, result.getReferenceIntensity(crac.getFlowCnec("cnec2stateCurativeContingency1")), 1e-3);
+        assertEquals(-2.5, result.getSensitivityOnFlow(crac.getRangeAction("pst"), crac.getCnec("cnec2stateCurativeContingency1")), 1e-3);
+        assertEquals(-40, result.getReferenceFlow(crac.getFlowCnec("cnec1stateCurativeContingency2")), 1e-3);
+        assertEquals(-2.5, result.getSensitivityOnFlow(crac.getRangeAction("pst"), crac.getCnec("cnec1stateCurativeContingency2")), 1e-3);
+
+        // the network is left as it was before the computation
+        assertEquals(initialVariant, network.getVariantManager().getWorkingVariantId());
+        assertEquals(1, network.getVariantManager().getVariantIds().size());
+        assertFalse(network.getVariantManager().isVariantMultiThreadAccessAllowed());
+    }
 }
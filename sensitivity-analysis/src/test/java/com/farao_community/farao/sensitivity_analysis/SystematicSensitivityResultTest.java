@@ -6,9 +6,13 @@
  */
 package com.farao_community.farao.sensitivity_analysis;
 
+import com.farao_community.farao.commons.FaraoException;
 import com.farao_community.farao.commons.Unit;
 import com.farao_community.farao.commons.ZonalData;
+import com.farao_community.farao.data.crac_api.Contingency;
 import com.farao_community.farao.data.crac_api.Crac;
+import com.farao_community.farao.data.crac_api.NetworkElement;
+import com.farao_community.farao.data.crac_api.State;
 import com.farao_community.farao.data.crac_api.cnec.FlowCnec;
 import com.farao_community.farao.data.crac_api.range_action.RangeAction;
 import com.farao_community.farao.data.crac_impl.utils.CommonCracCreation;
@@ -16,13 +20,18 @@ import com.farao_community.farao.data.crac_impl.utils.NetworkImportsUtil;
 import com.farao_community.farao.data.glsk.ucte.UcteGlskDocument;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.sensitivity.*;
+import com.powsybl.sensitivity.factors.BranchFlowPerPSTAngle;
+import com.powsybl.sensitivity.factors.BranchIntensityPerPSTAngle;
+import com.powsybl.sensitivity.factors.functions.BranchFlow;
+import com.powsybl.sensitivity.factors.functions.BranchIntensity;
+import com.powsybl.sensitivity.factors.variables.PhaseTapChangerAngle;
 import com.powsybl.sensitivity.factors.variables.LinearGlsk;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 
 import java.time.Instant;
-import java.util.Collections;
+import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -119,6 +128,113 @@ public class SystematicSensitivityResultTest {
         assertEquals(6, result.getSensitivityOnFlow(linearGlsk, contingencyCnec), EPSILON);
     }
 
+    @Test
+    public void testCompleteDataWithNewVariables() {
+        // When
+        SensitivityAnalysisResult pstSensitivityResult = SensitivityAnalysis.run(network, network.getVariantManager().getWorkingVariantId(), rangeActionSensitivityProvider, rangeActionSensitivityProvider.getContingencies(network), SensitivityAnalysisParameters.load());
+        SensitivityAnalysisResult ptdfSensitivityResult = SensitivityAnalysis.run(network, network.getVariantManager().getWorkingVariantId(), ptdfSensitivityProvider, ptdfSensitivityProvider.getContingencies(network), SensitivityAnalysisParameters.load());
+        SystematicSensitivityResult result = new SystematicSensitivityResult()
+            .completeData(pstSensitivityResult, false)
+            .completeData(ptdfSensitivityResult, false)
+            .postTreatIntensities();
+
+        // Then
+        assertTrue(result.isSuccess());
+
+        //  in basecase, results of both computations are available
+        assertEquals(10, result.getReferenceFlow(nStateCnec), EPSILON);
+        assertEquals(25, result.getReferenceIntensity(nStateCnec), EPSILON);
+        assertEquals(0.5, result.getSensitivityOnFlow(rangeAction, nStateCnec), EPSILON);
+        assertEquals(0.140, result.getSensitivityOnFlow(linearGlsk, nStateCnec), EPSILON);
+
+        //  after contingency, the post-contingency state of the second computation replaces the one of the first computation
+        assertEquals(-20, result.getReferenceFlow(contingencyCnec), EPSILON);
+        assertEquals(6, result.getSensitivityOnFlow(linearGlsk, contingencyCnec), EPSILON);
+        assertEquals(0, result.getSensitivityOnFlow(rangeAction, contingencyCnec), EPSILON);
+
+        //  unknown variables have a null sensitivity
+        assertEquals(0, result.getSensitivityOnFlow("unknownVariable", nStateCnec), EPSILON);
+    }
+
+    @Test
+    public void testFirstValueIsKept() {
+        // When
+        SensitivityAnalysisResult pstSensitivityResult = SensitivityAnalysis.run(network, network.getVariantManager().getWorkingVariantId(), rangeActionSensitivityProvider, rangeActionSensitivityProvider.getContingencies(network), SensitivityAnalysisParameters.load());
+        List<SensitivityValue> nStateValues = new ArrayList<>(pstSensitivityResult.getSensitivityValues());
+        pstSensitivityResult.getSensitivityValues().forEach(value -> nStateValues.add(new SensitivityValue(value.getFactor(), 99, 999, 0)));
+        SensitivityAnalysisResult duplicatedSensitivityResult = new SensitivityAnalysisResult(true, Collections.emptyMap(), "", nStateValues, pstSensitivityResult.getSensitivityValuesContingencies());
+        SystematicSensitivityResult result = new SystematicSensitivityResult().completeData(duplicatedSensitivityResult, false).postTreatIntensities();
+
+        // Then
+        assertEquals(10, result.getReferenceFlow(nStateCnec), EPSILON);
+        assertEquals(25, result.getReferenceIntensity(nStateCnec), EPSILON);
+        assertEquals(0.5, result.getSensitivityOnFlow(rangeAction, nStateCnec), EPSILON);
+        assertEquals(0.25, result.getSensitivityOnIntensity(rangeAction, nStateCnec), EPSILON);
+    }
+
+    @Test
+    public void testMissingIntensitySensitivity() {
+        // When
+        SensitivityAnalysisResult pstSensitivityResult = SensitivityAnalysis.run(network, network.getVariantManager().getWorkingVariantId(), rangeActionSensitivityProvider, rangeActionSensitivityProvider.getContingencies(network), SensitivityAnalysisParameters.load());
+        List<SensitivityValue> nStateValues = pstSensitivityResult.getSensitivityValues().stream()
+            .map(value -> value.getFactor().getFunction() instanceof BranchIntensity ?
+                new SensitivityValue(new BranchIntensityPerPSTAngle((BranchIntensity) value.getFactor().getFunction(), new PhaseTapChangerAngle("otherPst", "otherPst", "otherPst")), value.getValue(), value.getFunctionReference(), 0) :
+                value)
+            .collect(Collectors.toList());
+        SensitivityAnalysisResult sensitivityResult = new SensitivityAnalysisResult(true, Collections.emptyMap(), "", nStateValues, Collections.emptyMap());
+        SystematicSensitivityResult result = new SystematicSensitivityResult().completeData(sensitivityResult, false).postTreatIntensities();
+
+        // Then
+        assertEquals(25, result.getReferenceIntensity(nStateCnec), EPSILON);
+        assertEquals(0.5, result.getSensitivityOnFlow(rangeAction, nStateCnec), EPSILON);
+        assertThrows(FaraoException.class, () -> result.getSensitivityOnIntensity(rangeAction, nStateCnec));
+    }
+
+    private static FlowCnec mockContingencyCnec(String contingencyId, String branchId) {
+        Contingency contingency = Mockito.mock(Contingency.class);
+        Mockito.when(contingency.getId()).thenReturn(contingencyId);
+        State state = Mockito.mock(State.class);
+        Mockito.when(state.getContingency()).thenReturn(Optional.of(contingency));
+        Mockito.when(state.getInstant()).thenReturn(com.farao_community.farao.data.crac_api.Instant.OUTAGE);
+        NetworkElement networkElement = Mockito.mock(NetworkElement.class);
+        Mockito.when(networkElement.getId()).thenReturn(branchId);
+        FlowCnec cnec = Mockito.mock(FlowCnec.class);
+        Mockito.when(cnec.getState()).thenReturn(state);
+        Mockito.when(cnec.getNetworkElement()).thenReturn(networkElement);
+        return cnec;
+    }
+
+    @Test
+    public void testManyContingenciesMonitoringDifferentBranches() {
+        // each contingency monitors its own two branches, which are not monitored by the other contingencies
+        int numberOfContingencies = 500;
+        PhaseTapChangerAngle pstAngle = new PhaseTapChangerAngle("pst", "pst", "pst");
+        Map<String, List<SensitivityValue>> contingencyValues = new HashMap<>();
+        for (int contingency = 0; contingency < numberOfContingencies; contingency++) {
+            List<SensitivityValue> values = new ArrayList<>();
+            for (int branch = 2 * contingency; branch < 2 * contingency + 2; branch++) {
+                String branchId = "branch" + branch;
+                values.add(new SensitivityValue(new BranchFlowPerPSTAngle(new BranchFlow(branchId, branchId, branchId), pstAngle), branch + 0.5, branch, 0));
+            }
+            contingencyValues.put("contingency" + contingency, values);
+        }
+        SensitivityAnalysisResult sensitivityResult = new SensitivityAnalysisResult(true, Collections.emptyMap(), "", Collections.emptyList(), contingencyValues);
+        SystematicSensitivityResult result = new SystematicSensitivityResult().completeData(sensitivityResult, false).postTreatIntensities();
+
+        // Then
+        for (int contingency = 0; contingency < numberOfContingencies; contingency++) {
+            for (int branch = 2 * contingency; branch < 2 * contingency + 2; branch++) {
+                FlowCnec cnec = mockContingencyCnec("contingency" + contingency, "branch" + branch);
+                assertEquals(branch, result.getReferenceFlow(cnec), EPSILON);
+                assertEquals(branch + 0.5, result.getSensitivityOnFlow("pst", cnec), EPSILON);
+            }
+        }
+        // the branches of the other contingencies have no value
+        FlowCnec otherBranchCnec = mockContingencyCnec("contingency0", "branch" + (2 * numberOfContingencies - 1));
+        assertEquals(0, result.getReferenceFlow(otherBranchCnec), EPSILON);
+        assertEquals(0, result.getSensitivityOnFlow("pst", otherBranchCnec), EPSILON);
+    }
+
     @Test
     public void testNokSensiResult() {
         // When
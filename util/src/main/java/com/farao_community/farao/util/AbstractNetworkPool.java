@@ -8,6 +8,8 @@ package com.farao_community.farao.util;
 
 import com.farao_community.farao.commons.RandomizedString;
 import com.powsybl.iidm.network.Network;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.Objects;
 import java.util.concurrent.ArrayBlockingQueue;
@@ -19,6 +21,9 @@ import java.util.concurrent.TimeUnit;
  * @author Peter Mitri {@literal <peter.mitri at rte-france.com>}
  */
 public abstract class AbstractNetworkPool extends ForkJoinPool implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AbstractNetworkPool.class);
+    private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
+
     protected final BlockingQueue<Network> networksQueue;
     protected final String targetVariant;
     protected final String workingVariant;
@@ -27,8 +32,20 @@ public abstract class AbstractNetworkPool extends ForkJoinPool implements AutoCl
     protected final String stateSaveVariant;
 
     public static AbstractNetworkPool create(Network network, String targetVariant, int parallelism) {
+        return create(network, targetVariant, parallelism, false);
+    }
+
+    /**
+     * Create a network pool. If useNetworkVariants is true, the parallel workers share the given network
+     * object and each of them works on its own variant, instead of working on a copy of the network.
+     * This pool is much lighter to initialize, but the workers must not create nor remove variants of
+     * the network, as these operations are not thread-safe.
+     */
+    public static AbstractNetworkPool create(Network network, String targetVariant, int parallelism, boolean useNetworkVariants) {
         if (parallelism == 1) {
             return new SingleNetworkPool(network, targetVariant);
+        } else if (useNetworkVariants) {
+            return new MultipleVariantsNetworkPool(network, targetVariant, parallelism);
         } else {
             return new MultipleNetworkPool(network, targetVariant, parallelism);
         }
@@ -41,7 +58,19 @@ public abstract class AbstractNetworkPool extends ForkJoinPool implements AutoCl
         this.stateSaveVariant = RandomizedString.getRandomizedString("FaraoNetworkPool state save ", network.getVariantManager().getVariantIds(), 5);
         this.workingVariant = RandomizedString.getRandomizedString("FaraoNetworkPool working variant ", network.getVariantManager().getVariantIds(), 5);
         this.networksQueue = new ArrayBlockingQueue<>(getParallelism());
+        long startTime = System.currentTimeMillis();
+        long usedMemoryBefore = getUsedMemory();
         initAvailableNetworks(network);
+        LOGGER.info("Network pool initialized in {} ms, approximate heap in use grew by {} MB per worker, including garbage not collected yet",
+            System.currentTimeMillis() - startTime, Math.max(0, getUsedMemory() - usedMemoryBefore) / BYTES_PER_MEGABYTE / getParallelism());
+    }
+
+    /**
+     * Approximate heap in use: it includes the garbage which has not been collected yet
+     */
+    private static long getUsedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
     }
 
     public Network getAvailableNetwork() throws InterruptedException {
@@ -6,18 +6,28 @@
  */
 package com.farao_community.farao.util;
 
+import com.powsybl.iidm.export.ExportOptions;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.VariantManagerConstants;
 import com.powsybl.iidm.xml.NetworkXml;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
+ * Network pool whose workers each work on their own copy of the network.
+ *
+ * The IIDM API of powsybl does not offer any in-memory clone of a network, nor any binary format, so the copies
+ * are still made through XML: the network is written once, without indentation, and each copy is read from this
+ * buffer. Pools created with network variants, see {@link AbstractNetworkPool#create(Network, String, int, boolean)},
+ * avoid these copies altogether.
+ *
  * @author Sebastien Murgey {@literal <sebastien.murgey at rte-france.com>}
  */
 public class MultipleNetworkPool extends AbstractNetworkPool {
@@ -32,9 +42,11 @@ public class MultipleNetworkPool extends AbstractNetworkPool {
         LOGGER.info("Filling network pool with copies of network '{}' on variant '{}'", network.getId(), targetVariant);
         String initialVariant = network.getVariantManager().getWorkingVariantId();
         network.getVariantManager().setWorkingVariant(targetVariant);
+        // The network is serialized only once in memory, then each copy is read from the same buffer
+        byte[] serializedNetwork = serialize(network);
         for (int i = 0; i < getParallelism(); i++) {
             LOGGER.info("Copy n°{}", i + 1);
-            Network copy = NetworkXml.copy(network);
+            Network copy = NetworkXml.read(new ByteArrayInputStream(serializedNetwork));
             // The initial network working variant is VariantManagerConstants.INITIAL_VARIANT_ID
             // in cloned network, so we need to copy it again.
             copy.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, Arrays.asList(stateSaveVariant, workingVariant), true);
@@ -46,6 +58,12 @@ public class MultipleNetworkPool extends AbstractNetworkPool {
         network.getVariantManager().setWorkingVariant(initialVariant);
     }
 
+    private static byte[] serialize(Network network) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        NetworkXml.write(network, new ExportOptions().setIndent(false), outputStream);
+        return outputStream.toByteArray();
+    }
+
     @Override
     protected void cleanVariants(Network networkClone) {
         List<String> variantsToBeRemoved = networkClone.getVariantManager().getVariantIds().stream()
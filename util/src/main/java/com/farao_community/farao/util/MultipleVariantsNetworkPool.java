@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2021, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.farao_community.farao.util;
+
+import com.powsybl.iidm.network.Network;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@code AbstractNetworkPool} implementation in which the parallel workers share the same network
+ * object, each of them working on its own variant of the network.
+ * Instead of copying the whole network for each worker, it relies on a {@code FaraoVariantsPool} and
+ * on the multi-thread access to the variants of the network.
+ *
+ * The workers must not create nor remove variants of the network, as these operations are not thread-safe.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+class MultipleVariantsNetworkPool extends AbstractNetworkPool {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MultipleVariantsNetworkPool.class);
+    private String networkInitialVariantId;
+    private boolean networkInitialMultiThreadAccess;
+    private Network network;
+    private FaraoVariantsPool variantsPool;
+    private boolean baseNetworkCleaned = false;
+
+    MultipleVariantsNetworkPool(Network network, String targetVariant, int parallelism) {
+        super(network, targetVariant, parallelism);
+    }
+
+    @Override
+    protected void initAvailableNetworks(Network network) {
+        this.networkInitialVariantId = network.getVariantManager().getWorkingVariantId();
+        this.networkInitialMultiThreadAccess = network.getVariantManager().isVariantMultiThreadAccessAllowed();
+        this.network = network;
+        LOGGER.info("Filling network pool with variants of network '{}' on variant '{}'", network.getId(), targetVariant);
+        network.getVariantManager().cloneVariant(targetVariant, stateSaveVariant);
+        this.variantsPool = new FaraoVariantsPool(network, stateSaveVariant, getParallelism());
+    }
+
+    @Override
+    public Network getAvailableNetwork() throws InterruptedException {
+        // the working variant is set for the calling thread only
+        network.getVariantManager().setWorkingVariant(variantsPool.getAvailableVariant());
+        return network;
+    }
+
+    @Override
+    public void releaseUsedNetwork(Network networkToRelease) throws InterruptedException {
+        variantsPool.releaseUsedVariant(networkToRelease.getVariantManager().getWorkingVariantId());
+    }
+
+    @Override
+    protected void cleanVariants(Network networkToRelease) {
+        // variants are reset by the variants pool when they are polled again
+    }
+
+    @Override
+    public void shutdownAndAwaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        super.shutdown();
+        super.awaitTermination(timeout, unit);
+        cleanBaseNetwork();
+    }
+
+    /**
+     * Closing the pool, for instance at the end of a try-with-resources block, also restores the base network
+     */
+    @Override
+    public void close() {
+        super.close();
+        cleanBaseNetwork();
+    }
+
+    private synchronized void cleanBaseNetwork() {
+        if (baseNetworkCleaned) {
+            return;
+        }
+        baseNetworkCleaned = true;
+        variantsPool.close();
+        network.getVariantManager().allowVariantMultiThreadAccess(networkInitialMultiThreadAccess);
+        network.getVariantManager().setWorkingVariant(networkInitialVariantId);
+        network.getVariantManager().removeVariant(stateSaveVariant);
+    }
+}
@@ -28,6 +28,8 @@ public class NetworkPoolTest {
     public void testCreate() {
         assertTrue(AbstractNetworkPool.create(network, otherVariant, 10) instanceof MultipleNetworkPool);
         assertTrue(AbstractNetworkPool.create(network, otherVariant, 1) instanceof SingleNetworkPool);
+        assertTrue(AbstractNetworkPool.create(network, otherVariant, 10, true) instanceof MultipleVariantsNetworkPool);
+        assertTrue(AbstractNetworkPool.create(network, otherVariant, 1, true) instanceof SingleNetworkPool);
     }
 
     @Test
@@ -61,4 +63,47 @@ public class NetworkPoolTest {
         pool.shutdownAndAwaitTermination(24, TimeUnit.HOURS);
         assertEquals(2, network.getVariantManager().getVariantIds().size());
     }
+
+    @Test
+    public void multipleVariantsNetworkPoolUsageTest() throws InterruptedException {
+        AbstractNetworkPool pool = AbstractNetworkPool.create(network, otherVariant, 3, true);
+        assertEquals(6, network.getVariantManager().getVariantIds().size());
+        assertTrue(network.getVariantManager().isVariantMultiThreadAccessAllowed());
+
+        Network networkVariant = pool.submit(() -> {
+            Network availableNetwork = pool.getAvailableNetwork();
+            assertTrue(availableNetwork.getVariantManager().getWorkingVariantId().contains("variant modified"));
+            pool.releaseUsedNetwork(availableNetwork);
+            return availableNetwork;
+        }).join();
+        assertSame(network, networkVariant);
+
+        pool.shutdownAndAwaitTermination(24, TimeUnit.HOURS);
+        assertEquals(2, network.getVariantManager().getVariantIds().size());
+        assertFalse(network.getVariantManager().isVariantMultiThreadAccessAllowed());
+        assertEquals(initialVariant, network.getVariantManager().getWorkingVariantId());
+    }
+
+    @Test
+    public void multipleVariantsNetworkPoolIsCleanedOnClose() {
+        try (AbstractNetworkPool pool = AbstractNetworkPool.create(network, otherVariant, 3, true)) {
+            assertEquals(6, network.getVariantManager().getVariantIds().size());
+            pool.submit(() -> {
+                pool.releaseUsedNetwork(pool.getAvailableNetwork());
+                return null;
+            }).join();
+        }
+        assertEquals(2, network.getVariantManager().getVariantIds().size());
+        assertFalse(network.getVariantManager().isVariantMultiThreadAccessAllowed());
+        assertEquals(initialVariant, network.getVariantManager().getWorkingVariantId());
+    }
+
+    @Test
+    public void multipleVariantsNetworkPoolCanBeClosedAfterShutdown() throws InterruptedException {
+        AbstractNetworkPool pool = AbstractNetworkPool.create(network, otherVariant, 3, true);
+        pool.shutdownAndAwaitTermination(24, TimeUnit.HOURS);
+        pool.close();
+        assertEquals(2, network.getVariantManager().getVariantIds().size());
+        assertEquals(initialVariant, network.getVariantManager().getWorkingVariantId());
+    }
 }